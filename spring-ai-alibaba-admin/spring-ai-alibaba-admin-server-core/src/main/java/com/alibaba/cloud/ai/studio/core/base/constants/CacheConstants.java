@@ -58,6 +58,15 @@ public interface CacheConstants {
 	/** Prefix for workflow task context */
 	String WORKFLOW_TASK_CONTEXT_PREFIX = "workflow_task_context_";
 
+	/** Prefix for the hash of workflow task node results, one field per node id */
+	String WORKFLOW_TASK_NODE_RESULT_PREFIX = "workflow_task_node_result_";
+
+	/** Prefix for the hash of workflow task node result versions, one field per node id */
+	String WORKFLOW_TASK_NODE_VERSION_PREFIX = "workflow_task_node_version_";
+
+	/** Prefix for the workflow task node result version counter */
+	String WORKFLOW_TASK_NODE_COUNTER_PREFIX = "workflow_task_node_counter_";
+
 	/** Prefix for workflow task execution flag */
 	String WORKFLOW_TASK_EXECUTE_FLAG_PREFIX = "workflow_task_execute_flag_";
 
@@ -20,13 +20,18 @@ import com.alibaba.cloud.ai.studio.core.base.entity.LimitEntity;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.redisson.api.*;
+import org.redisson.client.codec.StringCodec;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Redis manager for handling Redis operations. Provides methods for key-value storage,
@@ -41,6 +46,20 @@ public class RedisManager {
 	/** Default TTL for Redis keys (24 hours) */
 	private static final Duration DEFAULT_MAX_TTL = Duration.ofHours(24);
 
+	/**
+	 * KEYS[1] version counter, KEYS[2] version hash, ARGV[1] TTL in milliseconds, ARGV[2..]
+	 * fields
+	 */
+	private static final String INCREMENT_FIELD_VERSIONS_SCRIPT = """
+			local version = redis.call('INCR', KEYS[1])
+			for i = 2, #ARGV do
+				redis.call('HSET', KEYS[2], ARGV[i], version)
+			end
+			redis.call('PEXPIRE', KEYS[1], ARGV[1])
+			redis.call('PEXPIRE', KEYS[2], ARGV[1])
+			return version
+			""";
+
 	/** Redisson client for Redis operations */
 	private final RedissonClient redissonClient;
 
@@ -277,6 +296,81 @@ public class RedisManager {
 		return true;
 	}
 
+	/**
+	 * Writes entries into a Redis hash, one field per entry, and refreshes its TTL
+	 */
+	public <V> void putMapEntries(String key, Map<String, V> entries, Duration duration) {
+		if (entries == null || entries.isEmpty()) {
+			return;
+		}
+		RMap<String, V> map = redissonClient.getMap(getPrefix() + key);
+		map.putAll(entries);
+		map.expire(duration);
+	}
+
+	/**
+	 * Reads all entries of a Redis hash
+	 */
+	public <V> Map<String, V> getMapEntries(String key) {
+		RMap<String, V> map = redissonClient.getMap(getPrefix() + key);
+		return map.readAllMap();
+	}
+
+	/**
+	 * Reads the given fields of a Redis hash
+	 */
+	public <V> Map<String, V> getMapEntries(String key, Set<String> fields) {
+		if (fields == null || fields.isEmpty()) {
+			return new HashMap<>();
+		}
+		RMap<String, V> map = redissonClient.getMap(getPrefix() + key);
+		return map.getAll(fields);
+	}
+
+	/**
+	 * Reads a single field of a Redis hash
+	 */
+	public <V> V getMapEntry(String key, String field) {
+		RMap<String, V> map = redissonClient.getMap(getPrefix() + key);
+		return map.get(field);
+	}
+
+	/**
+	 * Atomically increments a version counter and records the new version for each field
+	 * in a version hash, so readers that saw version n can fetch exactly the fields
+	 * changed after it
+	 * @return the new version
+	 */
+	public long incrementFieldVersions(String counterKey, String versionKey, Collection<String> fields,
+			Duration duration) {
+		List<Object> args = new ArrayList<>(fields.size() + 1);
+		args.add(String.valueOf(duration.toMillis()));
+		args.addAll(fields);
+		RScript script = redissonClient.getScript(StringCodec.INSTANCE);
+		Long version = script.eval(RScript.Mode.READ_WRITE, INCREMENT_FIELD_VERSIONS_SCRIPT, RScript.ReturnType.INTEGER,
+				List.of(getPrefix() + counterKey, getPrefix() + versionKey), args.toArray());
+		return version;
+	}
+
+	/**
+	 * Reads a version counter written by
+	 * {@link #incrementFieldVersions(String, String, Collection, Duration)}
+	 */
+	public long getVersion(String counterKey) {
+		return redissonClient.getAtomicLong(getPrefix() + counterKey).get();
+	}
+
+	/**
+	 * Reads the field versions written by
+	 * {@link #incrementFieldVersions(String, String, Collection, Duration)}
+	 */
+	public Map<String, Long> getFieldVersions(String versionKey) {
+		RMap<String, String> map = redissonClient.getMap(getPrefix() + versionKey, StringCodec.INSTANCE);
+		Map<String, Long> versions = new HashMap<>();
+		map.readAllMap().forEach((field, version) -> versions.put(field, Long.parseLong(version)));
+		return versions;
+	}
+
 	/**
 	 * Acquires a distributed lock with specified duration Handles deadlock scenarios by
 	 * checking expiration time
@@ -39,9 +39,9 @@ import com.alibaba.cloud.ai.studio.core.base.service.AppService;
 import com.alibaba.cloud.ai.studio.core.base.service.WorkflowService;
 import com.alibaba.cloud.ai.studio.core.config.CommonConfig;
 import com.alibaba.cloud.ai.studio.core.context.RequestContextHolder;
-import com.alibaba.cloud.ai.studio.core.base.manager.RedisManager;
 import com.alibaba.cloud.ai.studio.core.workflow.WorkflowConfig;
 import com.alibaba.cloud.ai.studio.core.workflow.WorkflowContext;
+import com.alibaba.cloud.ai.studio.core.workflow.WorkflowInnerService;
 import com.alibaba.cloud.ai.studio.core.utils.common.BeanCopierUtils;
 import com.alibaba.cloud.ai.studio.core.utils.common.IdGenerator;
 import com.alibaba.cloud.ai.studio.core.utils.LogUtils;
@@ -70,7 +70,6 @@ import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
-import static com.alibaba.cloud.ai.studio.core.base.constants.CacheConstants.WORKFLOW_TASK_CONTEXT_PREFIX;
 import static com.alibaba.cloud.ai.studio.core.workflow.constants.WorkflowConstants.SYS_HISTORY_LIST_KEY;
 import static com.alibaba.cloud.ai.studio.core.utils.LogUtils.FAIL;
 import static com.alibaba.cloud.ai.studio.core.utils.LogUtils.SUCCESS;
@@ -90,7 +89,7 @@ public class WorkflowServiceImpl implements WorkflowService {
 	private WorkflowExecuteManager workflowExecuteManager;
 
 	@Resource
-	private RedisManager redisManager;
+	private WorkflowInnerService workflowInnerService;
 
 	@Resource
 	private AppService appService;
@@ -417,7 +416,7 @@ public class WorkflowServiceImpl implements WorkflowService {
 	}
 
 	private WorkflowContext getLatestContext(RequestContext context, String taskId) {
-		return redisManager.get(WORKFLOW_TASK_CONTEXT_PREFIX + context.getWorkspaceId() + "_" + taskId);
+		return workflowInnerService.getContextCache(context.getWorkspaceId(), taskId);
 	}
 
 	private void handleCompletedMsg(Sinks.Many<WorkflowResponse> sink, WorkflowContext context, String requestId,
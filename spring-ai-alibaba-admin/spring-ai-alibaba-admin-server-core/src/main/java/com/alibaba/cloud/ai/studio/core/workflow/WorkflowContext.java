@@ -30,6 +30,7 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -124,6 +125,18 @@ public class WorkflowContext extends RequestContext {
 	/** Version number for conflict detection and merging */
 	private long version = 1L;
 
+	/** Hash codes of the node results last published to the cache, by node id */
+	@JsonIgnore
+	private transient Map<String, Integer> publishedNodeResults = new ConcurrentHashMap<>();
+
+	/** Hash code of the context fields last published to the cache */
+	@JsonIgnore
+	private transient Integer publishedHeader;
+
+	/** Version of the cached node results this context has been loaded up to */
+	@JsonIgnore
+	private transient long nodeResultsVersion;
+
 	/**
 	 * Creates a deep copy of the workflow context
 	 * @param context The context to copy
@@ -139,6 +152,7 @@ public class WorkflowContext extends RequestContext {
 			WorkflowContext copy = (WorkflowContext) objectInputStream.readObject();
 			// Reinitialize lock object after deserialization
 			copy.lock = new ReentrantLock();
+			copy.publishedNodeResults = new ConcurrentHashMap<>();
 			// 确保版本号被正确复制
 			if (copy.getVersion() == 0) {
 				copy.setVersion(1L);
@@ -151,4 +165,52 @@ public class WorkflowContext extends RequestContext {
 		}
 	}
 
+	/**
+	 * Creates a context for running a sub-workflow, such as one iteration of a loop
+	 * body, without serializing the parent. The child gets its own variable, node result
+	 * and execution order collections, so results of the sub-workflow never leak into
+	 * the parent or into sibling sub-workflows. Variables that are maps, such as node
+	 * outputs or conversation variables, are copied one level deep, so that variable
+	 * assignments in the child stay in the child. Deeper values and node results are
+	 * shared with the parent and must be treated as read-only.
+	 * @param parent The context to derive the child from
+	 * @param taskId The task id of the child
+	 * @return The child context
+	 */
+	public static WorkflowContext childContext(WorkflowContext parent, String taskId) {
+		WorkflowContext child = new WorkflowContext();
+		child.setStartTime(parent.getStartTime());
+		child.setRequestId(parent.getRequestId());
+		child.setAccountId(parent.getAccountId());
+		child.setUsername(parent.getUsername());
+		child.setAccountType(parent.getAccountType());
+		child.setWorkspaceId(parent.getWorkspaceId());
+		child.setCallerIp(parent.getCallerIp());
+		child.setSource(parent.getSource());
+		child.appId = parent.appId;
+		child.taskId = taskId;
+		child.conversationId = parent.conversationId;
+		child.taskStatus = parent.taskStatus;
+		child.taskResult = parent.taskResult;
+		child.errorCode = parent.errorCode;
+		child.errorInfo = parent.errorInfo;
+		child.error = parent.error;
+		child.subWorkflowContextMap = new HashMap<>(parent.subWorkflowContextMap);
+		child.invokeSource = parent.invokeSource;
+		child.userMap = new HashMap<>(parent.userMap);
+		child.sysMap = new HashMap<>(parent.sysMap);
+		child.workflowConfig = parent.workflowConfig;
+		parent.variablesMap.forEach((key, value) -> child.variablesMap.put(key,
+				value instanceof Map<?, ?> map ? new HashMap<>(map) : value));
+		child.nodeResultMap.putAll(parent.nodeResultMap);
+		child.subTaskIdSet.addAll(parent.subTaskIdSet);
+		child.usages = parent.usages == null ? null : new ArrayList<>(parent.usages);
+		child.apikeyId = parent.apikeyId;
+		child.stream = parent.stream;
+		child.endTime = parent.endTime;
+		child.firstResponseTime = parent.firstResponseTime;
+		child.version = parent.version;
+		return child;
+	}
+
 }
@@ -26,6 +26,7 @@ import com.alibaba.cloud.ai.studio.runtime.enums.ErrorCode;
 import com.alibaba.cloud.ai.studio.runtime.exception.BizException;
 import com.alibaba.cloud.ai.studio.runtime.utils.JsonUtils;
 import com.alibaba.cloud.ai.studio.core.base.manager.RedisManager;
+import com.alibaba.cloud.ai.studio.core.utils.common.BeanCopierUtils;
 import com.alibaba.cloud.ai.studio.core.utils.common.VariableUtils;
 import com.alibaba.cloud.ai.studio.core.workflow.processor.impl.EndExecuteProcessor;
 import com.alibaba.cloud.ai.studio.core.workflow.processor.impl.OutputExecuteProcessor;
@@ -35,12 +36,18 @@ import org.jgrapht.graph.DirectedAcyclicGraph;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static com.alibaba.cloud.ai.studio.core.base.constants.CacheConstants.WORKFLOW_TASK_CONTEXT_PREFIX;
+import static com.alibaba.cloud.ai.studio.core.base.constants.CacheConstants.WORKFLOW_TASK_NODE_COUNTER_PREFIX;
+import static com.alibaba.cloud.ai.studio.core.base.constants.CacheConstants.WORKFLOW_TASK_NODE_RESULT_PREFIX;
+import static com.alibaba.cloud.ai.studio.core.base.constants.CacheConstants.WORKFLOW_TASK_NODE_VERSION_PREFIX;
 
 /**
  * Internal service for workflow management. This service handles workflow execution
@@ -57,6 +64,8 @@ public class WorkflowInnerService {
 	private static final Set<String> CAN_STREAM_NODE_TYPE_SET = Sets.newHashSet(NodeTypeEnum.LLM.getCode(),
 			NodeTypeEnum.COMPONENT.getCode());
 
+	private static final Duration CONTEXT_CACHE_TTL = Duration.ofHours(1);
+
 	private final RedisManager redisManager;
 
 	/**
@@ -68,16 +77,82 @@ public class WorkflowInnerService {
 	}
 
 	public WorkflowContext getContextCache(String workspaceId, String taskId) {
-		WorkflowContext context = redisManager.get(WORKFLOW_TASK_CONTEXT_PREFIX + workspaceId + "_" + taskId);
+		return getContextCache(workspaceId, taskId, null);
+	}
+
+	/**
+	 * Reads the workflow context from cache. Node results are kept in a separate hash;
+	 * when a previously read context is given, only the node results published after it
+	 * was read are fetched, the others are taken over from it. Polling clients pass the
+	 * context of their previous poll.
+	 * @param workspaceId Workspace of the task
+	 * @param taskId Task identifier
+	 * @param previous Context returned by the previous read of the same task, or null
+	 * @return The cached context, or null if the task is not cached
+	 */
+	public WorkflowContext getContextCache(String workspaceId, String taskId, WorkflowContext previous) {
+		String taskKey = workspaceId + "_" + taskId;
+		WorkflowContext context = redisManager.get(WORKFLOW_TASK_CONTEXT_PREFIX + taskKey);
 
 		// 确保返回的context有有效的版本号
 		if (context != null && context.getVersion() <= 0) {
 			context.setVersion(1L);
 		}
+		if (context == null) {
+			return null;
+		}
 
+		if (context.getPublishedNodeResults() == null) {
+			context.setPublishedNodeResults(new ConcurrentHashMap<>());
+		}
+		long since = previous == null ? 0 : previous.getNodeResultsVersion();
+		// Read the counter first, every version up to it is already in the version hash
+		long version = redisManager.getVersion(WORKFLOW_TASK_NODE_COUNTER_PREFIX + taskKey);
+		if (previous != null) {
+			context.getNodeResultMap().putAll(previous.getNodeResultMap());
+		}
+		if (version > since) {
+			Map<String, NodeResult> changed;
+			if (since == 0) {
+				changed = redisManager.getMapEntries(WORKFLOW_TASK_NODE_RESULT_PREFIX + taskKey);
+			}
+			else {
+				Set<String> fields = redisManager.getFieldVersions(WORKFLOW_TASK_NODE_VERSION_PREFIX + taskKey)
+					.entrySet()
+					.stream()
+					.filter(entry -> entry.getValue() > since)
+					.map(Map.Entry::getKey)
+					.collect(Collectors.toSet());
+				changed = redisManager.getMapEntries(WORKFLOW_TASK_NODE_RESULT_PREFIX + taskKey, fields);
+			}
+			context.getNodeResultMap().putAll(changed);
+		}
+		context.setNodeResultsVersion(Math.max(version, since));
+		// What was read is what the cache holds, only later changes need publishing
+		context.getNodeResultMap()
+			.forEach((nodeId, nodeResult) -> context.getPublishedNodeResults().put(nodeId, nodeResult.hashCode()));
+		context.setPublishedHeader(headerSignature(context));
 		return context;
 	}
 
+	/**
+	 * Reads a single node result from cache
+	 * @param workspaceId Workspace of the task
+	 * @param taskId Task identifier
+	 * @param nodeId Node identifier
+	 * @return The cached node result, or null if absent
+	 */
+	public NodeResult getNodeResultCache(String workspaceId, String taskId, String nodeId) {
+		NodeResult nodeResult = redisManager
+			.getMapEntry(WORKFLOW_TASK_NODE_RESULT_PREFIX + workspaceId + "_" + taskId, nodeId);
+		if (nodeResult != null) {
+			return nodeResult;
+		}
+		// Contexts cached before node results moved to their own hash
+		WorkflowContext context = redisManager.get(WORKFLOW_TASK_CONTEXT_PREFIX + workspaceId + "_" + taskId);
+		return context == null ? null : context.getNodeResultMap().get(nodeId);
+	}
+
 	/**
 	 * Updates the workflow context in cache with version conflict detection and merging.
 	 * Only console invocations require caching, API calls do not need cache refresh.
@@ -90,18 +165,60 @@ public class WorkflowInnerService {
 	}
 
 	/**
-	 * Forces the update of workflow context in cache with version conflict detection and
-	 * merging. This method bypasses the invocation source check and always updates the
-	 * cache. It retrieves the latest context from cache, compares versions, and merges if
-	 * necessary before saving.
+	 * Forces the update of workflow context in cache. This method bypasses the invocation
+	 * source check and always updates the cache. Node results that changed since the
+	 * last publish of this context are written to the node result hash, one field per
+	 * node, together with a new version for those fields. The remaining context fields
+	 * are written without node results, and only when they changed; they are compared
+	 * with the cached context by version and merged if necessary before saving.
 	 * @param context WorkflowContext to be cached
 	 */
 	public void forceRefreshContextCache(WorkflowContext context) {
-		String cacheKey = WORKFLOW_TASK_CONTEXT_PREFIX + context.getWorkspaceId() + "_" + context.getTaskId();
+		String taskKey = context.getWorkspaceId() + "_" + context.getTaskId();
+		if (context.getPublishedNodeResults() == null) {
+			context.setPublishedNodeResults(new ConcurrentHashMap<>());
+		}
+		synchronized (context.getPublishedNodeResults()) {
+			publishNodeResults(context, taskKey);
+			int signature = headerSignature(context);
+			if (context.getPublishedHeader() == null || context.getPublishedHeader() != signature) {
+				publishHeader(context, WORKFLOW_TASK_CONTEXT_PREFIX + taskKey);
+				context.setPublishedHeader(signature);
+			}
+		}
+	}
+
+	private void publishNodeResults(WorkflowContext context, String taskKey) {
+		Map<String, Integer> published = context.getPublishedNodeResults();
+		Map<String, NodeResult> changed = new HashMap<>();
+		Map<String, Integer> hashes = new HashMap<>();
+		context.getNodeResultMap().forEach((nodeId, nodeResult) -> {
+			int hash = nodeResult.hashCode();
+			Integer publishedHash = published.get(nodeId);
+			if (publishedHash == null || publishedHash != hash) {
+				changed.put(nodeId, nodeResult);
+				hashes.put(nodeId, hash);
+			}
+		});
+		if (changed.isEmpty()) {
+			return;
+		}
+		// Results go first, so a reader that sees a version also finds its results
+		redisManager.putMapEntries(WORKFLOW_TASK_NODE_RESULT_PREFIX + taskKey, changed, CONTEXT_CACHE_TTL);
+		long version = redisManager.incrementFieldVersions(WORKFLOW_TASK_NODE_COUNTER_PREFIX + taskKey,
+				WORKFLOW_TASK_NODE_VERSION_PREFIX + taskKey, changed.keySet(), CONTEXT_CACHE_TTL);
+		published.putAll(hashes);
+		log.debug("Node results published: taskId={}, nodes={}, version={}", context.getTaskId(), changed.keySet(),
+				version);
+	}
+
+	private void publishHeader(WorkflowContext context, String cacheKey) {
+		WorkflowContext header = BeanCopierUtils.copy(context, WorkflowContext.class);
+		header.setNodeResultMap(new ConcurrentHashMap<>());
 
 		// 确保context有有效的版本号
-		if (context.getVersion() <= 0) {
-			context.setVersion(1L);
+		if (header.getVersion() <= 0) {
+			header.setVersion(1L);
 		}
 
 		// 获取缓存中的最新context
@@ -114,41 +231,54 @@ public class WorkflowInnerService {
 			}
 
 			// 如果缓存中存在context，进行版本比较
-			if (existingContext.getVersion() > context.getVersion()) {
+			if (existingContext.getVersion() > header.getVersion()) {
 				// 缓存中的版本更新或相同，需要合并
 				log.debug("Version conflict detected: existing={}, new={}, taskId={}", existingContext.getVersion(),
-						context.getVersion(), context.getTaskId());
+						header.getVersion(), header.getTaskId());
 
 				// 合并context版本
-				WorkflowContext mergedContext = mergeContextVersions(existingContext, context);
+				WorkflowContext mergedContext = mergeContextVersions(existingContext, header);
 
 				// 更新版本号
-				mergedContext.setVersion(Math.max(existingContext.getVersion(), context.getVersion()) + 1);
+				mergedContext.setVersion(Math.max(existingContext.getVersion(), header.getVersion()) + 1);
 
 				// 保存合并后的context
-				redisManager.put(cacheKey, mergedContext, Duration.ofHours(1));
+				redisManager.put(cacheKey, mergedContext, CONTEXT_CACHE_TTL);
 
 				log.debug("Context merged and saved: taskId={}, newVersion={}", mergedContext.getTaskId(),
 						mergedContext.getVersion());
 			}
 			else {
 				// 新context版本更高，直接保存
-				context.setVersion(existingContext.getVersion() + 1);
-				redisManager.put(cacheKey, context, Duration.ofHours(1));
+				header.setVersion(existingContext.getVersion() + 1);
+				context.setVersion(header.getVersion());
+				redisManager.put(cacheKey, header, CONTEXT_CACHE_TTL);
 
-				log.debug("New context saved directly: taskId={}, newVersion={}", context.getTaskId(),
-						context.getVersion());
+				log.debug("New context saved directly: taskId={}, newVersion={}", header.getTaskId(),
+						header.getVersion());
 			}
 		}
 		else {
 			// 缓存中不存在context，直接保存
+			header.setVersion(1L);
 			context.setVersion(1L);
-			redisManager.put(cacheKey, context, Duration.ofHours(1));
+			redisManager.put(cacheKey, header, CONTEXT_CACHE_TTL);
 
-			log.debug("Initial context saved: taskId={}, version={}", context.getTaskId(), context.getVersion());
+			log.debug("Initial context saved: taskId={}, version={}", header.getTaskId(), header.getVersion());
 		}
 	}
 
+	/**
+	 * Hash of the context fields that change while a workflow runs, used to skip
+	 * rewriting an unchanged context
+	 */
+	private static int headerSignature(WorkflowContext context) {
+		return Objects.hash(context.getTaskStatus(), context.getTaskResult(), context.getErrorCode(),
+				context.getErrorInfo(), context.getError(), context.getVariablesMap(), context.getExecuteOrderList(),
+				context.getSubTaskIdSet(), context.getSubWorkflowContextMap().keySet(), context.getUsages(),
+				context.getSysMap(), context.getUserMap(), context.getEndTime(), context.getFirstResponseTime());
+	}
+
 	/**
 	 * Determines if Redis caching is necessary based on the invocation source. Currently,
 	 * only console invocations require caching.
@@ -35,7 +35,6 @@ import org.springframework.stereotype.Component;
 
 import java.util.List;
 
-import static com.alibaba.cloud.ai.studio.core.base.constants.CacheConstants.WORKFLOW_TASK_CONTEXT_PREFIX;
 
 /**
  * Input Node Processor
@@ -95,9 +94,8 @@ public class InputExecuteProcessor extends AbstractExecuteProcessor {
 
 		while (NodeStatusEnum.PAUSE.getCode().equals(nodeResult.getNodeStatus())) {
 			// Re-fetch node result
-			WorkflowContext wfContext = redisManager
-				.get(WORKFLOW_TASK_CONTEXT_PREFIX + context.getWorkspaceId() + "_" + context.getTaskId());
-			nodeResult = wfContext.getNodeResultMap().get(node.getId());
+			nodeResult = workflowInnerService.getNodeResultCache(context.getWorkspaceId(), context.getTaskId(),
+					node.getId());
 			try {
 				// Avoid CPU spinning, wait 500ms each time
 				Thread.sleep(500);
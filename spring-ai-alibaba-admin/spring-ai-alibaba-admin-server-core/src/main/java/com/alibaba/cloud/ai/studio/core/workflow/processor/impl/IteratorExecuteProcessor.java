@@ -53,6 +53,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -60,12 +61,18 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
 import java.util.stream.Collectors;
 
-import static com.alibaba.cloud.ai.studio.core.base.constants.CacheConstants.WORKFLOW_TASK_CONTEXT_PREFIX;
 
 /**
  * Iterator Node Processor
@@ -88,6 +95,12 @@ public class IteratorExecuteProcessor extends AbstractExecuteProcessor {
 
 	private static final int MAX_ITERATION_LIMIT = 500;
 
+	/** Maximum number of iterations that may run at once */
+	private static final int MAX_CONCURRENT_SIZE = 10;
+
+	/** Interval at which the results of running sub-task nodes are streamed */
+	private static final long REAL_TIME_RESULT_INTERVAL_MILLIS = 200;
+
 	private final WorkflowExecuteManager workflowExecuteManager;
 
 	public IteratorExecuteProcessor(WorkflowExecuteManager workflowExecuteManager, RedisManager redisManager,
@@ -176,6 +189,12 @@ public class IteratorExecuteProcessor extends AbstractExecuteProcessor {
 		// Initialize the nodes in the loop body
 		initNodeResult(nodeParam, context, resultMap);
 
+		int concurrentSize = concurrentSize(nodeParam, variableMap);
+		if (concurrentSize > 1 && maxIndex > 1) {
+			return executeConcurrently(node, context, nodeResult, nodeParam, itemListMap, variableMap, nodeIds,
+					finalCloneContext, maxIndex, concurrentSize, start);
+		}
+
 		for (int index = 0; index < maxIndex; index++) {
 
 			if (context.getTaskStatus().equals(NodeStatusEnum.FAIL.getCode())) {
@@ -227,42 +246,20 @@ public class IteratorExecuteProcessor extends AbstractExecuteProcessor {
 			}
 
 			// Update the context loop node configuration for sub-canvas reference
-			Map<String, Object> object = new HashMap<>();
-			for (String key : variableMap.keySet()) {
-				object.put(key, variableMap.get(key));
-			}
-			for (String key : itemListMap.keySet()) {
-				if (itemListMap.get(key).get(index) != null) {
-					object.put(key, itemListMap.get(key).get(index));
-				}
+			finalCloneContext.getVariablesMap().put(node.getId(), iterationVariables(variableMap, itemListMap, index));
 
+			if (log.isDebugEnabled()) {
+				log.debug(
+						"subWorkflow executing ,IteratorExecuteProcessor is executing requestId:{} ,batch:{},subVariablesMap:{}",
+						context.getRequestId(), index, JsonUtils.toJson(finalCloneContext.getVariablesMap()));
 			}
-			object.put("index", index + 1);
-			finalCloneContext.getVariablesMap().put(node.getId(), object);
-
-			log.info(
-					"subWorkflow executing ,IteratorExecuteProcessor is executing requestId:{} ,batch:{},subVariablesMap:{}",
-					context.getRequestId(), index, JsonUtils.toJson(finalCloneContext.getVariablesMap()));
 
 			// Configure sub-process information, add the sub-task id to
-			WorkflowContext cloneContext = WorkflowContext.deepCopy(finalCloneContext);
-
-			String newTaskId = finalCloneContext.getTaskId() + "-" + node.getId() + "-" + index;
-			cloneContext.setLock(new ReentrantLock());
-			cloneContext.setExecuteOrderList(new CopyOnWriteArrayList<>());
-			cloneContext.setTaskId(newTaskId);
-			context.getSubTaskIdSet().add(newTaskId);
+			WorkflowContext cloneContext = newIterationContext(node, context, finalCloneContext, index);
 
 			// Update context to cache
 			// workflowInnerService.refreshContextCache(context);
-			ThreadPoolUtils.nodeExecutorService.submit(() -> {
-				try {
-					workflowExecuteManager.syncExecute(WorkflowConfig, cloneContext);
-				}
-				catch (Exception e) {
-					log.info("IteratorExecuteProcessor innerExecute submit error:", e);
-				}
-			});
+			CompletableFuture<Void> iteration = executeIteration(WorkflowConfig, cloneContext);
 
 			// Record successful nodes in the sub-task
 			HashSet<String> nodeSet = new HashSet<>();
@@ -303,9 +300,8 @@ public class IteratorExecuteProcessor extends AbstractExecuteProcessor {
 					// workflowInnerService.forceRefreshContextCache(context);
 					long timeout = commonConfig.getInputTimeout();
 					while (NodeStatusEnum.PAUSE.getCode().equals(input.getNodeStatus())) {
-						WorkflowContext wfContext = redisManager
-							.get(WORKFLOW_TASK_CONTEXT_PREFIX + context.getWorkspaceId() + "_" + context.getTaskId());
-						input = wfContext.getNodeResultMap().get(input.getNodeId());
+						input = workflowInnerService.getNodeResultCache(context.getWorkspaceId(), context.getTaskId(),
+								input.getNodeId());
 						try {
 							// Avoid CPU idle, wait 500ms each time
 							Thread.sleep(500);
@@ -331,10 +327,12 @@ public class IteratorExecuteProcessor extends AbstractExecuteProcessor {
 				}
 				if (NodeStatusEnum.SUCCESS.getCode().equals(taskStatus)
 						|| NodeStatusEnum.FAIL.getCode().equals(taskStatus)) {
-					log.info(
-							"saveRealTimeNodeResult start , requestId:{} ,batchIndex:{},cloneContextVariableMap:{},cloneContextNodeResultMap:{}",
-							context.getRequestId(), index, JsonUtils.toJson(cloneContext.getVariablesMap()),
-							JsonUtils.toJson(cloneContext.getNodeResultMap()));
+					if (log.isDebugEnabled()) {
+						log.debug(
+								"saveRealTimeNodeResult start , requestId:{} ,batchIndex:{},cloneContextVariableMap:{},cloneContextNodeResultMap:{}",
+								context.getRequestId(), index, JsonUtils.toJson(cloneContext.getVariablesMap()),
+								JsonUtils.toJson(cloneContext.getNodeResultMap()));
+					}
 					// Construct real-time sub-canvas node result
 					saveRealTimeNodeResult(node, context, cloneContext, nodeSet, nodeIds, index, start);
 					if (NodeStatusEnum.FAIL.getCode().equals(taskStatus)) {
@@ -370,22 +368,21 @@ public class IteratorExecuteProcessor extends AbstractExecuteProcessor {
 					break;
 				}
 
-				// Timed get sub-task result, implement sub-task stream output
-				try {
-					Thread.sleep(200);
-				}
-				catch (InterruptedException e) {
-					throw new RuntimeException(e);
+				if (iteration.isDone() && NodeStatusEnum.EXECUTING.getCode().equals(cloneContext.getTaskStatus())) {
+					// The sub-task returned without reaching a final status
+					cloneContext.setTaskStatus(NodeStatusEnum.FAIL.getCode());
+					cloneContext.setErrorInfo("subTask execute error");
+					continue;
 				}
+
+				// Wait for the sub-task to finish, waking up periodically to stream the
+				// results of its nodes
+				awaitIteration(iteration, REAL_TIME_RESULT_INTERVAL_MILLIS);
 			}
 			// Update intermediate variable
 			updateVariable(node, context, cloneContext);
 			// Synchronize the value of intermediate variables
-			for (String key : variableMap.keySet()) {
-				Map<Object, Object> variableMapObject = JsonUtils
-					.fromJsonToMap(JsonUtils.toJson(context.getVariablesMap().get(node.getId())));
-				variableMap.put(key, variableMapObject.get(key));
-			}
+			syncVariables(node, context, variableMap);
 
 		}
 
@@ -395,6 +392,320 @@ public class IteratorExecuteProcessor extends AbstractExecuteProcessor {
 		return nodeResult;
 	}
 
+	/**
+	 * Executes the iterations concurrently, at most concurrentSize at a time. Each slot
+	 * takes the next pending iteration as soon as its current one completes, and the
+	 * calling thread is woken by iteration completions, so an iteration's wall time
+	 * approaches that of its slowest item rather than the sum of all items. Only used for
+	 * loop bodies without intermediate variables, so iterations are independent and the
+	 * loop variables of the last item become the result of the node, as when run one at a
+	 * time.
+	 * @param node The iterator node
+	 * @param context The workflow context
+	 * @param nodeResult The result of the iterator node
+	 * @param nodeParam The node parameters
+	 * @param itemListMap The input lists to iterate over
+	 * @param variableMap The initial intermediate variables
+	 * @param nodeIds List of node IDs in the iteration block
+	 * @param finalCloneContext The context the iterations are derived from
+	 * @param maxIndex The number of iterations
+	 * @param concurrentSize The maximum number of iterations running at once
+	 * @param start Start time of the iteration
+	 * @return NodeResult containing the iteration results
+	 */
+	private NodeResult executeConcurrently(Node node, WorkflowContext context, NodeResult nodeResult,
+			NodeParam nodeParam, Map<String, List<Object>> itemListMap, Map<String, Object> variableMap,
+			List<String> nodeIds, WorkflowContext finalCloneContext, int maxIndex, int concurrentSize, long start) {
+		log.info("IteratorExecuteProcessor is executing concurrently requestId:{} ,maxIndex:{} ,concurrentSize:{}",
+				context.getRequestId(), maxIndex, concurrentSize);
+		ConcurrentIterations iterations = new ConcurrentIterations(nodeParam.getBlock(), maxIndex, index -> {
+			WorkflowContext cloneContext = newIterationContext(node, context, finalCloneContext, index);
+			cloneContext.getVariablesMap().put(node.getId(), iterationVariables(variableMap, itemListMap, index));
+			return cloneContext;
+		});
+		// Record successful nodes in each sub-task
+		List<HashSet<String>> nodeSetList = new ArrayList<>(maxIndex);
+		for (int i = 0; i < maxIndex; i++) {
+			nodeSetList.add(new HashSet<>());
+		}
+		for (int i = 0; i < Math.min(concurrentSize, maxIndex); i++) {
+			launchNextIteration(iterations);
+		}
+
+		int completedCount = 0;
+		while (completedCount < maxIndex) {
+			if (context.getTaskStatus().equals(NodeStatusEnum.FAIL.getCode())) {
+				iterations.stop();
+				nodeResult.setNodeStatus(NodeStatusEnum.FAIL.getCode());
+				nodeResult.setError(ErrorCode.WORKFLOW_EXECUTE_ERROR.toError("主流程已失败，循环节点失败"));
+				break;
+			}
+			if (context.getTaskStatus().equals(NodeStatusEnum.STOP.getCode())) {
+				iterations.stop();
+				nodeResult.setNodeStatus(NodeStatusEnum.STOP.getCode());
+				nodeResult.setError(ErrorCode.WORKFLOW_EXECUTE_ERROR.toError("Manually terminated"));
+				break;
+			}
+			long seconds = (System.currentTimeMillis() - context.getStartTime()) / 1000;
+			if (seconds > InvokeSourceEnum.valueOf(context.getInvokeSource()).getTimeoutSeconds()) {
+				iterations.stop();
+				NodeResult nodeResultFail = newFailResult(node, context, nodeIds);
+				nodeResultFail.setErrorInfo("task timeout");
+				log.info("Time out ,IteratorExecuteProcessor is fail requestId:{}", context.getRequestId());
+				return nodeResultFail;
+			}
+
+			Integer index;
+			try {
+				index = iterations.completed.poll(REAL_TIME_RESULT_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+			}
+			catch (InterruptedException e) {
+				iterations.stop();
+				throw new RuntimeException(e);
+			}
+			if (index == null) {
+				// Construct real-time sub-canvas node results of the running sub-tasks
+				for (int i = 0; i < maxIndex; i++) {
+					WorkflowContext cloneContext = iterations.contexts.get(i);
+					if (cloneContext != null) {
+						saveRealTimeNodeResult(node, context, cloneContext, nodeSetList.get(i), nodeIds, i, start);
+					}
+				}
+				continue;
+			}
+			while (index != null) {
+				completedCount++;
+				WorkflowContext cloneContext = iterations.contexts.get(index);
+				saveRealTimeNodeResult(node, context, cloneContext, nodeSetList.get(index), nodeIds, index, start);
+				if (!NodeStatusEnum.SUCCESS.getCode().equals(cloneContext.getTaskStatus())) {
+					// Sub-task fails, then the loop node execution fails
+					iterations.stop();
+					updateVariable(node, context, cloneContext);
+					NodeResult nodeResultFail = newFailResult(node, context, nodeIds);
+					nodeResultFail.setErrorInfo(StringUtils.defaultIfBlank(cloneContext.getErrorInfo(),
+							"subTask execute error"));
+					log.info("subWorkflow execute fail ,IteratorExecuteProcessor is fail requestId:{} ,batchIndex:{}",
+							context.getRequestId(), index);
+					return nodeResultFail;
+				}
+				index = iterations.completed.poll();
+			}
+		}
+
+		// The intermediate variables of the last item are the result of the node
+		WorkflowContext lastContext = iterations.contexts.get(maxIndex - 1);
+		if (completedCount == maxIndex && lastContext != null) {
+			updateVariable(node, context, lastContext);
+		}
+		Comparator<NodeResult> byIndex = Comparator.comparingInt(NodeResult::getIndex);
+		for (String nodeId : nodeIds) {
+			if (context.getNodeResultMap().containsKey(nodeId)) {
+				context.getNodeResultMap().get(nodeId).getBatches().sort(byIndex);
+			}
+		}
+		HashMap<String, Object> stringObjectHashMap = constructOutput(node, context, nodeIds);
+		nodeResult.setOutput(JsonUtils.toJson(stringObjectHashMap));
+		return nodeResult;
+	}
+
+	/**
+	 * Starts the next pending iteration, if any. When it completes, its index is
+	 * reported to the waiting thread and its slot starts the next pending iteration.
+	 * @param iterations The concurrently executed iterations
+	 */
+	private void launchNextIteration(ConcurrentIterations iterations) {
+		if (iterations.stopped) {
+			return;
+		}
+		int index = iterations.next.getAndIncrement();
+		if (index >= iterations.contexts.length()) {
+			return;
+		}
+		WorkflowContext cloneContext = iterations.contextFactory.apply(index);
+		iterations.contexts.set(index, cloneContext);
+		executeIteration(iterations.block, cloneContext).whenComplete((ignored, e) -> {
+			iterations.completed.add(index);
+			launchNextIteration(iterations);
+		});
+	}
+
+	/**
+	 * Executes the loop body for one iteration on the node executor
+	 * @param block The loop body configuration
+	 * @param cloneContext The context of the iteration
+	 * @return A future completed when the sub-task finished, successfully or not
+	 */
+	private CompletableFuture<Void> executeIteration(WorkflowConfig block, WorkflowContext cloneContext) {
+		return CompletableFuture.runAsync(() -> {
+			try {
+				workflowExecuteManager.syncExecute(block, cloneContext);
+			}
+			catch (Exception e) {
+				log.info("IteratorExecuteProcessor innerExecute submit error:", e);
+			}
+		}, ThreadPoolUtils.nodeExecutorService);
+	}
+
+	/**
+	 * Waits until an iteration completes or the timeout elapses
+	 * @param iteration The iteration future
+	 * @param timeoutMillis The maximum time to wait
+	 */
+	private void awaitIteration(CompletableFuture<Void> iteration, long timeoutMillis) {
+		try {
+			iteration.get(timeoutMillis, TimeUnit.MILLISECONDS);
+		}
+		catch (TimeoutException e) {
+			// Still running
+		}
+		catch (InterruptedException e) {
+			throw new RuntimeException(e);
+		}
+		catch (ExecutionException e) {
+			log.info("IteratorExecuteProcessor iteration error:", e.getCause());
+		}
+	}
+
+	/**
+	 * Creates the context of one iteration from the loop body context and registers its
+	 * sub-task id
+	 * @param node The iterator node
+	 * @param context The parent workflow context
+	 * @param finalCloneContext The context the iterations are derived from
+	 * @param index The iteration index
+	 * @return The context of the iteration
+	 */
+	private WorkflowContext newIterationContext(Node node, WorkflowContext context, WorkflowContext finalCloneContext,
+			int index) {
+		String newTaskId = finalCloneContext.getTaskId() + "-" + node.getId() + "-" + index;
+		WorkflowContext cloneContext = WorkflowContext.childContext(finalCloneContext, newTaskId);
+		context.getSubTaskIdSet().add(newTaskId);
+		return cloneContext;
+	}
+
+	/**
+	 * Builds the loop node variables seen by the loop body in one iteration
+	 * @param variableMap The intermediate variables
+	 * @param itemListMap The input lists to iterate over
+	 * @param index The iteration index
+	 * @return The variables of the iteration
+	 */
+	private Map<String, Object> iterationVariables(Map<String, Object> variableMap,
+			Map<String, List<Object>> itemListMap, int index) {
+		Map<String, Object> object = new HashMap<>(variableMap);
+		for (String key : itemListMap.keySet()) {
+			if (itemListMap.get(key).get(index) != null) {
+				object.put(key, itemListMap.get(key).get(index));
+			}
+		}
+		object.put("index", index + 1);
+		return object;
+	}
+
+	/**
+	 * Reads the intermediate variables updated by the last iteration back into the
+	 * variable map
+	 * @param node The iterator node
+	 * @param context The workflow context
+	 * @param variableMap The intermediate variables
+	 */
+	private void syncVariables(Node node, WorkflowContext context, Map<String, Object> variableMap) {
+		if (!(context.getVariablesMap().get(node.getId()) instanceof Map<?, ?> variables)) {
+			return;
+		}
+		for (String key : variableMap.keySet()) {
+			variableMap.put(key, variables.get(key));
+		}
+	}
+
+	/**
+	 * Creates a failed result of the iterator node carrying the output constructed so far
+	 * @param node The iterator node
+	 * @param context The workflow context
+	 * @param nodeIds List of node IDs in the iteration block
+	 * @return The failed node result
+	 */
+	private NodeResult newFailResult(Node node, WorkflowContext context, List<String> nodeIds) {
+		NodeResult nodeResultFail = new NodeResult();
+		nodeResultFail.setNodeId(node.getId());
+		nodeResultFail.setNodeName(node.getName());
+		nodeResultFail.setNodeType(node.getType());
+		nodeResultFail.setInput(JsonUtils.toJson(constructInputParamsMap(node, context)));
+		nodeResultFail.setNodeStatus(NodeStatusEnum.FAIL.getCode());
+		nodeResultFail.setOutput(JsonUtils.toJson(constructOutput(node, context, nodeIds)));
+		return nodeResultFail;
+	}
+
+	/**
+	 * Resolves how many iterations may run at once. Iterations run one at a time when
+	 * they depend on each other: when termination conditions are configured, since they
+	 * are evaluated between iterations, when intermediate variables are configured or the
+	 * loop body assigns variables, since each iteration sees the variables left by the
+	 * previous one, or when the loop body waits for user input.
+	 * @param nodeParam The node parameters
+	 * @param variableMap The intermediate variables
+	 * @return The number of iterations that may run at once
+	 */
+	private int concurrentSize(NodeParam nodeParam, Map<String, Object> variableMap) {
+		Integer concurrentSize = nodeParam.getConcurrentSize();
+		if (concurrentSize == null || concurrentSize <= 1) {
+			return 1;
+		}
+		if (CollectionUtils.isNotEmpty(nodeParam.getTerminations()) || !variableMap.isEmpty()) {
+			return 1;
+		}
+		if (nodeParam.getBlock()
+			.getNodes()
+			.stream()
+			.anyMatch(blockNode -> NodeTypeEnum.INPUT.getCode().equals(blockNode.getType())
+					|| NodeTypeEnum.VARIABLE_ASSIGN.getCode().equals(blockNode.getType()))) {
+			return 1;
+		}
+		return Math.min(concurrentSize, MAX_CONCURRENT_SIZE);
+	}
+
+	/**
+	 * State of the iterations of one node executed concurrently
+	 */
+	private static class ConcurrentIterations {
+
+		private final WorkflowConfig block;
+
+		private final IntFunction<WorkflowContext> contextFactory;
+
+		/** Context of each started iteration, by index */
+		private final AtomicReferenceArray<WorkflowContext> contexts;
+
+		/** Index of the next iteration to start */
+		private final AtomicInteger next = new AtomicInteger();
+
+		/** Indexes of the completed iterations, in completion order */
+		private final BlockingQueue<Integer> completed = new LinkedBlockingQueue<>();
+
+		private volatile boolean stopped;
+
+		ConcurrentIterations(WorkflowConfig block, int maxIndex, IntFunction<WorkflowContext> contextFactory) {
+			this.block = block;
+			this.contextFactory = contextFactory;
+			this.contexts = new AtomicReferenceArray<>(maxIndex);
+		}
+
+		/**
+		 * Stops starting new iterations and asks the running ones to stop
+		 */
+		void stop() {
+			stopped = true;
+			for (int i = 0; i < contexts.length(); i++) {
+				WorkflowContext cloneContext = contexts.get(i);
+				if (cloneContext != null
+						&& NodeStatusEnum.EXECUTING.getCode().equals(cloneContext.getTaskStatus())) {
+					cloneContext.setTaskStatus(NodeStatusEnum.STOP.getCode());
+				}
+			}
+		}
+
+	}
+
 	/**
 	 * Checks if a sub-task is in pause state
 	 * @param cloneContext The cloned workflow context
@@ -1157,6 +1468,10 @@ public class IteratorExecuteProcessor extends AbstractExecuteProcessor {
 
 		private WorkflowConfig block;
 
+		/** Number of iterations run at once, iterations run one at a time by default */
+		@JsonProperty("concurrent_size")
+		private Integer concurrentSize;
+
 	}
 
 	/**
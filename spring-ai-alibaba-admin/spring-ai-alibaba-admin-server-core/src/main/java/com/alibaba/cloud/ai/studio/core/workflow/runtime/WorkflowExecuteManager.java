@@ -64,13 +64,11 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.alibaba.cloud.ai.studio.core.base.constants.CacheConstants.APPCODE_CONVERSATION_ID_TEMPLATE;
 import static com.alibaba.cloud.ai.studio.core.workflow.constants.WorkflowConstants.SYS_HISTORY_LIST_KEY;
-import static com.alibaba.cloud.ai.studio.core.workflow.constants.WorkflowConstants.WORKFLOW_TASK_FINISH_FLAG;
 import static com.alibaba.cloud.ai.studio.core.utils.LogUtils.FAIL;
 import static com.alibaba.cloud.ai.studio.core.utils.LogUtils.SUCCESS;
 
@@ -247,8 +245,13 @@ public class WorkflowExecuteManager {
 	}
 
 	/**
-	 * Synchronously executes the workflow Manages the execution queue, monitors node
-	 * execution, and handles task scheduling
+	 * Synchronously executes the workflow. Nodes are scheduled from completion events
+	 * instead of polling: each node keeps the number of incoming edges whose source has
+	 * not finished yet, and successors are evaluated the moment that count drops to zero.
+	 * Output and End nodes are also evaluated whenever a predecessor starts or finishes,
+	 * since streaming output may begin while an upstream node is still executing. The
+	 * calling thread dispatches nodes and waits for their events, so no monitor thread is
+	 * needed per workflow.
 	 * @param appOrchestraConfig The workflow configuration
 	 * @param context The execution context
 	 * @throws InterruptedException if execution is interrupted
@@ -257,47 +260,69 @@ public class WorkflowExecuteManager {
 		context.setStartTime(System.currentTimeMillis());
 		context.setWorkflowConfig(appOrchestraConfig);
 		DirectedAcyclicGraph<String, Edge> graph = constructGraph(appOrchestraConfig);
-		final BlockingQueue<String> taskQueue = new LinkedBlockingQueue<>();
-		BlockingQueue<String> nodeMonitorQueue = new LinkedBlockingQueue<>();
-		final HashSet<String> taskSet = new HashSet<>();
-		ThreadPoolUtils.taskExecutorService.submit(() -> {
-			try {
-				executeMonitorThread(graph, taskQueue, taskSet, context, nodeMonitorQueue);
+		String endNode = findEndNode(graph);
+		long deadline = context.getStartTime()
+				+ TimeUnit.SECONDS.toMillis(InvokeSourceEnum.valueOf(context.getInvokeSource()).getTimeoutSeconds());
+		// 根据invokeSource设置不同的刷新频率
+		Integer refreshInterval = getRefreshIntervalByInvokeSource(context.getInvokeSource());
+		long lastRefreshTime = System.currentTimeMillis();
+
+		Set<String> eagerNodes = appOrchestraConfig.getNodes()
+			.stream()
+			.filter(node -> NodeTypeEnum.OUTPUT.getCode().equals(node.getType())
+					|| NodeTypeEnum.END.getCode().equals(node.getType()))
+			.map(Node::getId)
+			.collect(Collectors.toSet());
+		Map<String, Integer> pendingPredecessors = new HashMap<>();
+		for (String node : graph.vertexSet()) {
+			pendingPredecessors.put(node, graph.inDegreeOf(node));
+		}
+		Set<String> scheduled = new HashSet<>();
+		BlockingQueue<NodeEvent> events = new LinkedBlockingQueue<>();
+
+		// Nodes restored with a result never run again, release their successors up front
+		for (String node : graph.vertexSet()) {
+			NodeResult result = context.getNodeResultMap().get(node);
+			if (result != null && !isRunning(result)) {
+				scheduled.add(node);
+				releaseSuccessors(graph, node, pendingPredecessors);
 			}
-			catch (Exception e) {
-				log.error("task Schedule execute error:{}", e.getMessage());
+		}
+		for (String node : graph.vertexSet()) {
+			if (pendingPredecessors.get(node) == 0 || eagerNodes.contains(node)) {
+				schedule(graph, node, context, scheduled, events);
 			}
-		});
+		}
 
-		AtomicBoolean needStop = new AtomicBoolean(needStop(graph, context));
-		while (!needStop.get()) {
-			String nodeId = taskQueue.poll(10, TimeUnit.SECONDS);
-			if (nodeId != null && !WORKFLOW_TASK_FINISH_FLAG.equals(nodeId)) {
-				ThreadPoolExecutor executor = ((RequestContextThreadPoolWrapper) ThreadPoolUtils.nodeExecutorService)
-					.getThreadPoolExecutor();
-				if (executor != null) {
-					int currentThreads = executor.getActiveCount();
-					long taskCount = executor.getTaskCount();
-					long completedTaskCount = executor.getCompletedTaskCount();
-					log.info("ThreadId:{} taskId:{} activeCount:{} taskCount:{} completedTaskCount:{} ",
-							Thread.currentThread().getId(), context.getTaskId(), currentThreads, taskCount,
-							completedTaskCount);
+		while (!needStop(endNode, context)) {
+			long now = System.currentTimeMillis();
+			long wait = deadline - now + 1;
+			if (refreshInterval != null) {
+				if (now - lastRefreshTime >= refreshInterval) {
+					// 定时刷新context缓存
+					workflowInnerService.refreshContextCache(context);
+					lastRefreshTime = now;
 				}
-				ThreadPoolUtils.nodeExecutorService.submit(() -> {
-					try {
-						// Execute node work
-						executeNodeWork(graph, nodeId, context);
-						nodeMonitorQueue.add("nodeExecuteSuccess");
+				wait = Math.min(wait, lastRefreshTime + refreshInterval - now);
+			}
+			NodeEvent event = events.poll(Math.max(wait, 1), TimeUnit.MILLISECONDS);
+			while (event != null) {
+				if (event.finished()) {
+					for (String successor : releaseSuccessors(graph, event.nodeId(), pendingPredecessors)) {
+						if (pendingPredecessors.get(successor) == 0 || eagerNodes.contains(successor)) {
+							schedule(graph, successor, context, scheduled, events);
+						}
 					}
-					catch (Exception e) {
-						Thread.currentThread().interrupt();
+				}
+				else {
+					for (Edge edge : graph.outgoingEdgesOf(event.nodeId())) {
+						if (eagerNodes.contains(edge.getTarget())) {
+							schedule(graph, edge.getTarget(), context, scheduled, events);
+						}
 					}
-				});
-			}
-			else if (WORKFLOW_TASK_FINISH_FLAG.equals(nodeId)) {
-				break;
+				}
+				event = events.poll();
 			}
-			needStop.set(needStop(graph, context));
 		}
 		// Maintain cache final consistency
 		if (context.getTaskStatus().equals(NodeStatusEnum.SUCCESS.getCode())) {
@@ -312,52 +337,64 @@ public class WorkflowExecuteManager {
 	}
 
 	/**
-	 * Monitors the execution of workflow nodes Continuously checks for executable nodes
-	 * and updates the task queue
-	 * @param graph The workflow graph
-	 * @param taskQueue Queue for pending tasks
-	 * @param taskSet Set of tasks that have been queued
-	 * @param context The execution context
-	 * @param nodeMonitorQueue Queue for node execution status updates
+	 * Node lifecycle notification sent from node executor threads to the scheduling
+	 * thread
+	 * @param nodeId The ID of the node
+	 * @param finished false when the node started executing, true when its work returned
 	 */
-	private void executeMonitorThread(DirectedAcyclicGraph<String, Edge> graph, BlockingQueue<String> taskQueue,
-			HashSet<String> taskSet, WorkflowContext context, BlockingQueue<String> nodeMonitorQueue) {
-		AtomicBoolean done = new AtomicBoolean(false);
+	private record NodeEvent(String nodeId, boolean finished) {
+	}
 
-		long lastRefreshTime = System.currentTimeMillis();
+	private static boolean isRunning(NodeResult result) {
+		return result.getNodeStatus().equals(NodeStatusEnum.EXECUTING.getCode())
+				|| result.getNodeStatus().equals(NodeStatusEnum.PAUSE.getCode());
+	}
 
-		// 根据invokeSource设置不同的刷新频率
-		Integer refreshInterval = getRefreshIntervalByInvokeSource(context.getInvokeSource());
+	/**
+	 * Decrements the pending predecessor count of the successors of a finished node, once
+	 * per connecting edge
+	 * @return The successors of the node
+	 */
+	private static Set<String> releaseSuccessors(DirectedAcyclicGraph<String, Edge> graph, String nodeId,
+			Map<String, Integer> pendingPredecessors) {
+		Set<String> successors = new HashSet<>();
+		for (Edge edge : graph.outgoingEdgesOf(nodeId)) {
+			pendingPredecessors.merge(edge.getTarget(), -1, Integer::sum);
+			successors.add(edge.getTarget());
+		}
+		return successors;
+	}
 
-		while (!done.get()) {
-			// Find executable nodes
-			for (String node : graph.vertexSet()) {
-				boolean b = workflowInnerService.canExecute(graph, node, context);
-				if (b && !taskSet.contains(node)) {
-					log.info("nodeAnalysis canExecute:{}  taskID:{}  result:{}", node, context.getTaskId(), b);
-					taskQueue.add(node);
-					taskSet.add(node);
-				}
+	/**
+	 * Submits a node to the node executor when it has not been scheduled yet and its
+	 * predecessors allow it to run
+	 */
+	private void schedule(DirectedAcyclicGraph<String, Edge> graph, String nodeId, WorkflowContext context,
+			Set<String> scheduled, BlockingQueue<NodeEvent> events) {
+		if (scheduled.contains(nodeId) || !workflowInnerService.canExecute(graph, nodeId, context)) {
+			return;
+		}
+		log.info("nodeAnalysis canExecute:{}  taskID:{}  result:{}", nodeId, context.getTaskId(), true);
+		scheduled.add(nodeId);
+		ThreadPoolExecutor executor = ((RequestContextThreadPoolWrapper) ThreadPoolUtils.nodeExecutorService)
+			.getThreadPoolExecutor();
+		if (executor != null) {
+			log.info("ThreadId:{} taskId:{} activeCount:{} taskCount:{} completedTaskCount:{} ",
+					Thread.currentThread().getId(), context.getTaskId(), executor.getActiveCount(),
+					executor.getTaskCount(), executor.getCompletedTaskCount());
+		}
+		ThreadPoolUtils.nodeExecutorService.submit(() -> {
+			try {
+				// Execute node work
+				executeNodeWork(graph, nodeId, context, () -> events.add(new NodeEvent(nodeId, false)));
 			}
-			done.set(needStop(graph, context));
-			if (!done.get()) {
-				try {
-					nodeMonitorQueue.poll(100, TimeUnit.MILLISECONDS);
-
-					// 定时刷新context缓存
-					long currentTime = System.currentTimeMillis();
-					if (refreshInterval != null && currentTime - lastRefreshTime >= refreshInterval) {
-						workflowInnerService.refreshContextCache(context);
-						lastRefreshTime = currentTime;
-					}
-				}
-				catch (InterruptedException e) {
-					Thread.currentThread().interrupt();
-					break;
-				}
+			catch (Exception e) {
+				Thread.currentThread().interrupt();
 			}
-		}
-		taskQueue.add(WORKFLOW_TASK_FINISH_FLAG);
+			finally {
+				events.add(new NodeEvent(nodeId, true));
+			}
+		});
 	}
 
 	/**
@@ -481,32 +518,35 @@ public class WorkflowExecuteManager {
 		return findReachableNodes(graph, startNode, false);
 	}
 
+	/**
+	 * Finds the end node whose success completes the workflow
+	 * @param graph The workflow graph
+	 * @return The ID of the end node, or null if the graph has none
+	 */
+	private static String findEndNode(DirectedAcyclicGraph<String, Edge> graph) {
+		return graph.vertexSet()
+			.stream()
+			.filter(node -> node.startsWith("End_") || node.startsWith("IteratorEnd_")
+					|| node.startsWith("ParallelEnd_"))
+			.findFirst()
+			.orElse(null);
+	}
+
 	/**
 	 * Checks if the workflow execution should stop Considers execution status, end node
 	 * state, and timeout conditions
-	 * @param graph The workflow graph
+	 * @param endNode The ID of the end node
 	 * @param context The execution context
 	 * @return true if execution should stop, false otherwise
 	 */
-	private boolean needStop(DirectedAcyclicGraph<String, Edge> graph, WorkflowContext context) {
+	private boolean needStop(String endNode, WorkflowContext context) {
 		// Manually terminated
 		boolean stopFlag = context.getTaskStatus().equals(NodeStatusEnum.STOP.getCode());
 		if (stopFlag) {
 			return true;
 		}
 		boolean containFail = context.getTaskStatus().equals(NodeStatusEnum.FAIL.getCode());
-		Optional<String> endNodeOptional = graph.vertexSet()
-			.stream()
-			.filter(node -> node.startsWith("End_") || node.startsWith("IteratorEnd_")
-					|| node.startsWith("ParallelEnd_"))
-			.findFirst();
-		String endNode = null;
-		if (endNodeOptional.isPresent()) {
-			endNode = endNodeOptional.get();
-		}
-		// End execution when there are no executable nodes and no nodes currently
-		// executing
-		NodeResult endNodeResult = context.getNodeResultMap().get(endNode);
+		NodeResult endNodeResult = endNode == null ? null : context.getNodeResultMap().get(endNode);
 		// Calculate execution time in seconds
 		long seconds = (System.currentTimeMillis() - context.getStartTime()) / 1000;
 		if (seconds > InvokeSourceEnum.valueOf(context.getInvokeSource()).getTimeoutSeconds()) {
@@ -525,8 +565,10 @@ public class WorkflowExecuteManager {
 	 * @param graph The workflow graph
 	 * @param nodeId The ID of the node to execute
 	 * @param context The execution context
+	 * @param onStarted Callback invoked once the node is marked as executing
 	 */
-	private void executeNodeWork(DirectedAcyclicGraph<String, Edge> graph, String nodeId, WorkflowContext context) {
+	private void executeNodeWork(DirectedAcyclicGraph<String, Edge> graph, String nodeId, WorkflowContext context,
+			Runnable onStarted) {
 		try {
 			// Lock before execution to prevent race conditions and multiple executions of
 			// the same node
@@ -552,6 +594,7 @@ public class WorkflowExecuteManager {
 			finally {
 				context.getLock().unlock();
 			}
+			onStarted.run();
 
 			log.info("ThreadId:{} requestId:{} taskId:{} executeNodeWork monitor nodeId :{} NodeResultMap:{}",
 					Thread.currentThread().getId(), context.getRequestId(), context.getTaskId(), nodeId,
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.cloud.ai.studio.core.workflow;
+
+import com.alibaba.cloud.ai.studio.runtime.domain.workflow.NodeResult;
+import com.alibaba.cloud.ai.studio.runtime.domain.workflow.NodeStatusEnum;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link WorkflowContext}.
+ */
+class WorkflowContextTests {
+
+	@Test
+	void childContextCopiesParentState() {
+		WorkflowContext parent = newParent();
+
+		WorkflowContext child = WorkflowContext.childContext(parent, "task-1-iterator-0");
+
+		assertThat(child.getTaskId()).isEqualTo("task-1-iterator-0");
+		assertThat(child.getRequestId()).isEqualTo("request-1");
+		assertThat(child.getWorkspaceId()).isEqualTo("workspace-1");
+		assertThat(child.getTaskStatus()).isEqualTo(NodeStatusEnum.EXECUTING.getCode());
+		assertThat(child.getVariablesMap()).isEqualTo(parent.getVariablesMap());
+		assertThat(child.getNodeResultMap()).containsOnlyKeys("llm");
+		assertThat(child.getExecuteOrderList()).isEmpty();
+		assertThat(child.getLock()).isNotSameAs(parent.getLock());
+	}
+
+	@Test
+	void childContextChangesStayInChild() {
+		WorkflowContext parent = newParent();
+
+		WorkflowContext child = WorkflowContext.childContext(parent, "task-1-iterator-0");
+		((Map<String, Object>) child.getVariablesMap().get("conversation")).put("topic", "changed");
+		child.getVariablesMap().put("llm", Map.of("output", "child"));
+		child.getNodeResultMap().put("script", new NodeResult());
+		child.getExecuteOrderList().add("script");
+
+		assertThat(parent.getVariablesMap().get("conversation")).isEqualTo(Map.of("topic", "initial"));
+		assertThat(parent.getVariablesMap().get("llm")).isEqualTo(Map.of("output", "parent"));
+		assertThat(parent.getNodeResultMap()).containsOnlyKeys("llm");
+		assertThat(parent.getExecuteOrderList()).containsExactly("llm");
+	}
+
+	private static WorkflowContext newParent() {
+		WorkflowContext parent = new WorkflowContext();
+		parent.setRequestId("request-1");
+		parent.setWorkspaceId("workspace-1");
+		parent.setTaskId("task-1");
+		parent.setTaskStatus(NodeStatusEnum.EXECUTING.getCode());
+		Map<String, Object> conversation = new HashMap<>();
+		conversation.put("topic", "initial");
+		parent.getVariablesMap().put("conversation", conversation);
+		parent.getVariablesMap().put("llm", Map.of("output", "parent"));
+		parent.getVariablesMap().put("items", List.of(1, 2, 3));
+		parent.getNodeResultMap().put("llm", new NodeResult());
+		parent.getExecuteOrderList().add("llm");
+		return parent;
+	}
+
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.cloud.ai.studio.core.workflow.processor.impl;
+
+import com.alibaba.cloud.ai.studio.core.base.manager.RedisManager;
+import com.alibaba.cloud.ai.studio.core.config.CommonConfig;
+import com.alibaba.cloud.ai.studio.core.workflow.WorkflowConfig;
+import com.alibaba.cloud.ai.studio.core.workflow.WorkflowContext;
+import com.alibaba.cloud.ai.studio.core.workflow.WorkflowInnerService;
+import com.alibaba.cloud.ai.studio.core.workflow.runtime.WorkflowExecuteManager;
+import com.alibaba.cloud.ai.studio.runtime.domain.workflow.InvokeSourceEnum;
+import com.alibaba.cloud.ai.studio.runtime.domain.workflow.Node;
+import com.alibaba.cloud.ai.studio.runtime.domain.workflow.NodeResult;
+import com.alibaba.cloud.ai.studio.runtime.domain.workflow.NodeStatusEnum;
+import com.alibaba.cloud.ai.studio.runtime.domain.workflow.NodeTypeEnum;
+import com.alibaba.cloud.ai.studio.runtime.domain.workflow.ValueFromEnum;
+import com.alibaba.cloud.ai.studio.runtime.utils.JsonUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.memory.ChatMemory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for the concurrent mode of {@link IteratorExecuteProcessor}.
+ */
+class IteratorExecuteProcessorTests {
+
+	private static final String ITERATOR_ID = "iterator";
+
+	private static final String BODY_NODE_ID = "script";
+
+	private WorkflowExecuteManager workflowExecuteManager;
+
+	private IteratorExecuteProcessor processor;
+
+	private final AtomicInteger running = new AtomicInteger();
+
+	private final AtomicInteger maxRunning = new AtomicInteger();
+
+	private final Map<Integer, WorkflowContext> started = new ConcurrentHashMap<>();
+
+	@BeforeEach
+	void setUp() {
+		workflowExecuteManager = mock(WorkflowExecuteManager.class);
+		processor = new IteratorExecuteProcessor(workflowExecuteManager, mock(RedisManager.class),
+				mock(WorkflowInnerService.class), mock(ChatMemory.class), new CommonConfig());
+	}
+
+	@Test
+	void concurrentIterationsKeepInputOrderAndRefillSlots() throws Exception {
+		int size = 6;
+		// Later items finish first
+		onIteration((index, cloneContext) -> {
+			Thread.sleep((size - index) * 30L);
+			succeed(cloneContext, index);
+		});
+		WorkflowContext context = newContext();
+
+		NodeResult result = processor.innerExecute(null, newIteratorNode(items(size), 3, null, BODY_NODE_ID), context);
+
+		assertThat(result.getNodeStatus()).isEqualTo(NodeStatusEnum.EXECUTING.getCode());
+		assertThat(started).hasSize(size);
+		assertThat(maxRunning.get()).isBetween(2, 3);
+		List<NodeResult> batches = context.getNodeResultMap().get(BODY_NODE_ID).getBatches();
+		assertThat(batches).extracting(NodeResult::getIndex).containsExactly(0, 1, 2, 3, 4, 5);
+		assertThat(batches).extracting(NodeResult::getOutput)
+			.containsExactly("{\"output\":0}", "{\"output\":1}", "{\"output\":2}", "{\"output\":3}",
+					"{\"output\":4}", "{\"output\":5}");
+	}
+
+	@Test
+	void failedIterationStopsTheOthers() throws Exception {
+		onIteration((index, cloneContext) -> {
+			if (index == 1) {
+				cloneContext.setErrorInfo("boom");
+				cloneContext.setTaskStatus(NodeStatusEnum.FAIL.getCode());
+				return;
+			}
+			awaitStop(cloneContext);
+		});
+		WorkflowContext context = newContext();
+
+		NodeResult result = processor.innerExecute(null, newIteratorNode(items(10), 2, null, BODY_NODE_ID), context);
+
+		assertThat(result.getNodeStatus()).isEqualTo(NodeStatusEnum.FAIL.getCode());
+		assertThat(result.getErrorInfo()).isEqualTo("boom");
+		assertThat(started.get(0).getTaskStatus()).isEqualTo(NodeStatusEnum.STOP.getCode());
+		assertThat(started.size()).isLessThan(10);
+	}
+
+	@Test
+	void manualStopStopsRunningIterations() throws Exception {
+		WorkflowContext context = newContext();
+		onIteration((index, cloneContext) -> {
+			if (running.get() == 2) {
+				context.setTaskStatus(NodeStatusEnum.STOP.getCode());
+			}
+			awaitStop(cloneContext);
+		});
+
+		NodeResult result = processor.innerExecute(null, newIteratorNode(items(5), 2, null, BODY_NODE_ID), context);
+
+		assertThat(result.getNodeStatus()).isEqualTo(NodeStatusEnum.STOP.getCode());
+		Thread.sleep(100);
+		// No slot is refilled once stopped
+		assertThat(started).hasSize(2);
+		assertThat(started.values()).allMatch(c -> NodeStatusEnum.STOP.getCode().equals(c.getTaskStatus()));
+	}
+
+	@Test
+	void timeoutFailsTheNode() throws Exception {
+		onIteration((index, cloneContext) -> awaitStop(cloneContext));
+		WorkflowContext context = newContext();
+		long timeoutMillis = InvokeSourceEnum.api.getTimeoutSeconds() * 1000L;
+
+		Thread timeout = new Thread(() -> {
+			while (started.size() < 2) {
+				Thread.onSpinWait();
+			}
+			context.setStartTime(System.currentTimeMillis() - timeoutMillis - 2000);
+		});
+		timeout.start();
+		NodeResult result = processor.innerExecute(null, newIteratorNode(items(5), 2, null, BODY_NODE_ID), context);
+		timeout.join();
+
+		assertThat(result.getNodeStatus()).isEqualTo(NodeStatusEnum.FAIL.getCode());
+		assertThat(result.getErrorInfo()).isEqualTo("task timeout");
+		assertThat(started.values()).allMatch(c -> NodeStatusEnum.STOP.getCode().equals(c.getTaskStatus()));
+	}
+
+	@Test
+	void intermediateVariablesRunSequentially() throws Exception {
+		// The body adds the item to the "sum" intermediate variable
+		onIteration((index, cloneContext) -> {
+			Map<String, Object> variables = (Map<String, Object>) cloneContext.getVariablesMap().get(ITERATOR_ID);
+			variables.put("sum", ((Number) variables.get("sum")).intValue() + index);
+			Thread.sleep(20);
+			succeed(cloneContext, index);
+		});
+		WorkflowContext context = newContext();
+		Node.InputParam sum = new Node.InputParam();
+		sum.setKey("sum");
+		sum.setValueFrom(ValueFromEnum.input.name());
+		sum.setValue(0);
+
+		NodeResult result = processor.innerExecute(null, newIteratorNode(items(5), 3, sum, BODY_NODE_ID), context);
+
+		assertThat(result.getNodeStatus()).isEqualTo(NodeStatusEnum.EXECUTING.getCode());
+		assertThat(maxRunning.get()).isEqualTo(1);
+		assertThat(((Map<?, ?>) context.getVariablesMap().get(ITERATOR_ID)).get("sum")).isEqualTo(10);
+	}
+
+	@Test
+	void variableAssignBodyRunsSequentially() throws Exception {
+		onIteration((index, cloneContext) -> {
+			Thread.sleep(20);
+			succeed(cloneContext, index);
+		});
+
+		processor.innerExecute(null, newIteratorNode(items(4), 3, null, NodeTypeEnum.VARIABLE_ASSIGN.getCode()),
+				newContext());
+
+		assertThat(started).hasSize(4);
+		assertThat(maxRunning.get()).isEqualTo(1);
+	}
+
+	private void onIteration(IterationBody body) throws Exception {
+		doAnswer(invocation -> {
+			WorkflowContext cloneContext = invocation.getArgument(1);
+			int index = ((Number) ((Map<?, ?>) cloneContext.getVariablesMap().get(ITERATOR_ID)).get("index"))
+				.intValue() - 1;
+			started.put(index, cloneContext);
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			try {
+				body.run(index, cloneContext);
+			}
+			finally {
+				running.decrementAndGet();
+			}
+			return null;
+		}).when(workflowExecuteManager).syncExecute(any(), any());
+	}
+
+	private static void succeed(WorkflowContext cloneContext, int index) {
+		NodeResult nodeResult = new NodeResult();
+		nodeResult.setNodeId(BODY_NODE_ID);
+		nodeResult.setNodeStatus(NodeStatusEnum.SUCCESS.getCode());
+		nodeResult.setNodeExecTime("1ms");
+		nodeResult.setOutput(JsonUtils.toJson(Map.of("output", index)));
+		cloneContext.getNodeResultMap().put(BODY_NODE_ID, nodeResult);
+		cloneContext.setTaskStatus(NodeStatusEnum.SUCCESS.getCode());
+	}
+
+	private static void awaitStop(WorkflowContext cloneContext) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (NodeStatusEnum.EXECUTING.getCode().equals(cloneContext.getTaskStatus())
+				&& System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+	}
+
+	private static List<Integer> items(int size) {
+		return IntStream.range(0, size).boxed().toList();
+	}
+
+	private static WorkflowContext newContext() {
+		WorkflowContext context = new WorkflowContext();
+		context.setRequestId("request-1");
+		context.setWorkspaceId("workspace-1");
+		context.setTaskId("task-1");
+		context.setTaskStatus(NodeStatusEnum.EXECUTING.getCode());
+		context.setInvokeSource(InvokeSourceEnum.api.getCode());
+		context.setStartTime(System.currentTimeMillis());
+		return context;
+	}
+
+	private static Node newIteratorNode(List<Integer> items, int concurrentSize, Node.InputParam variable,
+			String bodyNodeType) {
+		Node bodyNode = new Node();
+		bodyNode.setId(BODY_NODE_ID);
+		bodyNode.setName(BODY_NODE_ID);
+		bodyNode.setType(bodyNodeType);
+		WorkflowConfig block = new WorkflowConfig();
+		block.setNodes(List.of(bodyNode));
+		block.setEdges(new ArrayList<>());
+
+		IteratorExecuteProcessor.NodeParam nodeParam = new IteratorExecuteProcessor.NodeParam();
+		nodeParam.setBlock(block);
+		nodeParam.setConcurrentSize(concurrentSize);
+		nodeParam.setTerminations(new ArrayList<>());
+		nodeParam.setVariableParameters(variable == null ? new ArrayList<>() : List.of(variable));
+
+		Node.InputParam itemsParam = new Node.InputParam();
+		itemsParam.setKey("item");
+		itemsParam.setValueFrom(ValueFromEnum.input.name());
+		itemsParam.setValue(items);
+
+		Node.NodeCustomConfig config = new Node.NodeCustomConfig();
+		config.setInputParams(List.of(itemsParam));
+		config.setOutputParams(new ArrayList<>());
+		config.setNodeParam(JsonUtils.fromObjectToMap(nodeParam));
+
+		Node node = new Node();
+		node.setId(ITERATOR_ID);
+		node.setName(ITERATOR_ID);
+		node.setType(NodeTypeEnum.ITERATOR.getCode());
+		node.setConfig(config);
+		return node;
+	}
+
+	@FunctionalInterface
+	private interface IterationBody {
+
+		void run(int index, WorkflowContext cloneContext) throws Exception;
+
+	}
+
+}
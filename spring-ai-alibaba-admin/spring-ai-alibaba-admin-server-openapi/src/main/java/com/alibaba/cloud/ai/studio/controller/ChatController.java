@@ -37,8 +37,8 @@ import com.alibaba.cloud.ai.studio.runtime.utils.ExceptionUtils;
 import com.alibaba.cloud.ai.studio.runtime.utils.JsonUtils;
 import com.alibaba.cloud.ai.studio.core.base.service.AgentService;
 import com.alibaba.cloud.ai.studio.core.base.service.WorkflowService;
-import com.alibaba.cloud.ai.studio.core.base.manager.RedisManager;
 import com.alibaba.cloud.ai.studio.core.workflow.WorkflowContext;
+import com.alibaba.cloud.ai.studio.core.workflow.WorkflowInnerService;
 import com.alibaba.cloud.ai.studio.core.context.RequestContextHolder;
 import com.alibaba.cloud.ai.studio.core.utils.LogUtils;
 import com.google.common.collect.Lists;
@@ -48,7 +48,6 @@ import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
-import static com.alibaba.cloud.ai.studio.core.base.constants.CacheConstants.WORKFLOW_TASK_CONTEXT_PREFIX;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -85,13 +84,14 @@ public class ChatController {
 	/** Service for handling workflow-related operations */
 	private final WorkflowService workflowService;
 
-	/** Redis manager for cache operations */
-	private final RedisManager redisManager;
+	/** Service for reading cached workflow contexts */
+	private final WorkflowInnerService workflowInnerService;
 
-	public ChatController(AgentService agentService, WorkflowService workflowService, RedisManager redisManager) {
+	public ChatController(AgentService agentService, WorkflowService workflowService,
+			WorkflowInnerService workflowInnerService) {
 		this.agentService = agentService;
 		this.workflowService = workflowService;
-		this.redisManager = redisManager;
+		this.workflowInnerService = workflowInnerService;
 	}
 
 	/**
@@ -330,8 +330,8 @@ public class ChatController {
 			}
 
 			// 从Redis中获取工作流上下文
-			String cacheKey = WORKFLOW_TASK_CONTEXT_PREFIX + context.getWorkspaceId() + "_" + request.getTaskId();
-			WorkflowContext wfContext = redisManager.get(cacheKey);
+			WorkflowContext wfContext = workflowInnerService.getContextCache(context.getWorkspaceId(),
+					request.getTaskId());
 
 			if (wfContext == null) {
 				log.info("Async task not found: taskId={}, workspaceId={}, requestId={}", request.getTaskId(),
@@ -81,7 +81,6 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
-import static com.alibaba.cloud.ai.studio.core.base.constants.CacheConstants.WORKFLOW_TASK_CONTEXT_PREFIX;
 import static com.alibaba.cloud.ai.studio.core.workflow.constants.WorkflowConstants.SYS_QUERY_KEY;
 import static com.alibaba.cloud.ai.studio.core.utils.LogUtils.FAIL;
 
@@ -167,8 +166,8 @@ public class WorkflowController {
 		context.setStartTime(System.currentTimeMillis());
 
 		try {
-			WorkflowContext wfContext = redisManager
-				.get(WORKFLOW_TASK_CONTEXT_PREFIX + context.getWorkspaceId() + "_" + request.getTaskId());
+			WorkflowContext wfContext = workflowInnerService.getContextCache(context.getWorkspaceId(),
+					request.getTaskId());
 			if (wfContext == null) {
 				log.info(
 						"log used for query debug task result, taskId:{}, RequestId:{}, costTime:{}, getProcessStatus:{}",
@@ -372,8 +371,8 @@ public class WorkflowController {
 			if (request == null || request.getTaskId() == null || request.getResumeNodeId() == null) {
 				throw new BizException(ErrorCode.MISSING_PARAMS.toError("request or appId is null"));
 			}
-			WorkflowContext wfContext = redisManager
-				.get(WORKFLOW_TASK_CONTEXT_PREFIX + context.getWorkspaceId() + "_" + request.getTaskId());
+			WorkflowContext wfContext = workflowInnerService.getContextCache(context.getWorkspaceId(),
+					request.getTaskId());
 			if (wfContext == null) {
 				return Result.error(IdGenerator.uuid(), ErrorCode.WORKFLOW_CONFIG_INVALID.toError("taskId not exists"));
 			}
@@ -600,6 +599,7 @@ public class WorkflowController {
 			long startTime) throws Exception {
 		List<NodeResult> lastNodeResults = Lists.newArrayList();
 		Map<String, AtomicInteger> recmsgSeqIdMap = Maps.newHashMap();
+		WorkflowContext previousContext = null;
 		while (true) {
 			// 检查超时
 			if (System.currentTimeMillis() - startTime > InvokeSourceEnum.api.getTimeoutSeconds() * 1000) {
@@ -607,11 +607,13 @@ public class WorkflowController {
 				break;
 			}
 
-			// 获取最新上下文
-			WorkflowContext latestContext = getLatestContext(context, taskId);
+			// 获取最新上下文，只拉取上次之后变化的节点结果
+			WorkflowContext latestContext = workflowInnerService.getContextCache(context.getWorkspaceId(), taskId,
+					previousContext);
 			if (latestContext == null) {
 				throw new BizException(ErrorCode.WORKFLOW_NODE_DEBUG_FAIL.toError());
 			}
+			previousContext = latestContext;
 
 			List<NodeResult> currentNodeResults = Lists.newArrayList();
 			latestContext.getExecuteOrderList().stream().forEach(nodeId -> {
@@ -695,10 +697,6 @@ public class WorkflowController {
 		return diff;
 	}
 
-	private WorkflowContext getLatestContext(RequestContext context, String taskId) {
-		return redisManager.get(WORKFLOW_TASK_CONTEXT_PREFIX + context.getWorkspaceId() + "_" + taskId);
-	}
-
 	private boolean handleTaskStatus(SseEmitter emitter, WorkflowContext context, String taskId, String conversationId)
 			throws IOException {
 		String taskStatus = context.getTaskStatus();
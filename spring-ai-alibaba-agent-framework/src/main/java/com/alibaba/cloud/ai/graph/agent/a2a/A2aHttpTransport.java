@@ -0,0 +1,401 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.graph.agent.a2a;
+
+import com.alibaba.cloud.ai.graph.internal.node.ConcurrencyLimiter;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import reactor.adapter.JdkFlowAdapter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * HTTP transport to one remote A2A agent endpoint.
+ * <p>
+ * A transport keeps a single {@link HttpClient} whose pooled keep-alive connections are
+ * reused by every call to the endpoint, instead of paying TCP and TLS setup per request.
+ * Requests are sent asynchronously and streaming responses are decoded from the body
+ * publisher as chunks arrive, so no thread waits on the connection. At most
+ * {@code maxConnections} requests (each holding one HTTP/1.1 connection) are in flight;
+ * further requests queue without blocking.
+ * <p>
+ * Use {@link #forEndpoint(String)} to get the transport shared by all nodes calling an
+ * endpoint, and {@link #register(A2aHttpTransport)} to replace it with a customized one.
+ * How long idle connections are kept alive is governed by the JDK client's
+ * {@code jdk.httpclient.keepalive.timeout} system property (in seconds).
+ */
+public final class A2aHttpTransport {
+
+	private static final Map<String, A2aHttpTransport> SHARED = new ConcurrentHashMap<>();
+
+	// the body of an error response is discarded so that its connection returns to the pool
+	private static final HttpResponse.BodyHandler<Flow.Publisher<List<ByteBuffer>>> STREAM_BODY_HANDLER = info -> info
+		.statusCode() == 200 ? HttpResponse.BodySubscribers.ofPublisher() : HttpResponse.BodySubscribers.replacing(null);
+
+	private final String endpoint;
+
+	private final URI uri;
+
+	private final HttpClient httpClient;
+
+	private final Duration requestTimeout;
+
+	private final int maxConnections;
+
+	private final ConcurrencyLimiter limiter;
+
+	private final EndpointMetrics metrics = new EndpointMetrics();
+
+	private A2aHttpTransport(Builder builder) {
+		this.endpoint = builder.endpoint;
+		this.uri = URI.create(builder.endpoint);
+		this.httpClient = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_1_1)
+			.connectTimeout(builder.connectTimeout)
+			.build();
+		this.requestTimeout = builder.requestTimeout;
+		this.maxConnections = builder.maxConnections;
+		// tasks only start an asynchronous exchange, so they can run on the releasing thread
+		this.limiter = new ConcurrencyLimiter(builder.maxConnections, Runnable::run);
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Returns the transport shared by all callers of an endpoint, creating one with the
+	 * default settings on first use.
+	 * @param endpoint the agent URL
+	 * @return the shared transport
+	 */
+	public static A2aHttpTransport forEndpoint(String endpoint) {
+		requireNonNull(endpoint, "endpoint cannot be null!");
+		return SHARED.computeIfAbsent(endpoint, url -> builder().endpoint(url).build());
+	}
+
+	/**
+	 * Returns the transport shared for an endpoint without creating one.
+	 * @param endpoint the agent URL
+	 * @return the shared transport, or {@code null} if the endpoint has not been used
+	 */
+	public static A2aHttpTransport shared(String endpoint) {
+		requireNonNull(endpoint, "endpoint cannot be null!");
+		return SHARED.get(endpoint);
+	}
+
+	/**
+	 * Makes a transport the shared one for its endpoint, so that later calls to
+	 * {@link #forEndpoint(String)} use its settings.
+	 * @param transport the transport to share
+	 */
+	public static void register(A2aHttpTransport transport) {
+		requireNonNull(transport, "transport cannot be null!");
+		SHARED.put(transport.endpoint(), transport);
+	}
+
+	/**
+	 * Posts a JSON-RPC request and reads the whole response body.
+	 * @param payload the JSON request body
+	 * @return a future completed with the response body, or failed with an
+	 * {@link IllegalStateException} when the status is not 200
+	 */
+	public CompletableFuture<String> send(String payload) {
+		HttpRequest request = newRequest(payload, "application/json");
+		long start = System.nanoTime();
+		metrics.onStart();
+		return limiter.submit(() -> httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString()))
+			.thenApply(response -> {
+				checkStatus(response.statusCode());
+				return response.body();
+			})
+			.whenComplete((body, ex) -> metrics.onComplete(start, ex == null));
+	}
+
+	/**
+	 * Posts a JSON-RPC streaming request and decodes the response as it arrives.
+	 * <p>
+	 * For a {@code text/event-stream} response each item is the data of one event; any
+	 * other response is emitted as a single item holding the whole body. Cancelling the
+	 * subscription aborts the exchange and frees its connection slot.
+	 * @param payload the JSON request body
+	 * @return the event data, failing with an {@link IllegalStateException} when the
+	 * status is not 200
+	 */
+	public Flux<String> stream(String payload) {
+		return streamItems(payload).map(StreamItem::data);
+	}
+
+	/**
+	 * Same as {@link #stream(String)}, but tells the data of an event apart from the
+	 * whole body of a response that is not an event stream.
+	 * @param payload the JSON request body
+	 * @return the streamed items, failing with an {@link IllegalStateException} when the
+	 * status is not 200
+	 */
+	public Flux<StreamItem> streamItems(String payload) {
+		return Flux.defer(() -> {
+			HttpRequest request = newRequest(payload, "text/event-stream");
+			long start = System.nanoTime();
+			metrics.onStart();
+			AtomicBoolean recorded = new AtomicBoolean();
+			AtomicReference<CompletableFuture<?>> exchange = new AtomicReference<>();
+			CompletableFuture<Void> released = new CompletableFuture<>();
+			CompletableFuture<HttpResponse<Flow.Publisher<List<ByteBuffer>>>> response = new CompletableFuture<>();
+			CompletableFuture<Void> slot = limiter.submit(() -> {
+				CompletableFuture<HttpResponse<Flow.Publisher<List<ByteBuffer>>>> sent = httpClient
+					.sendAsync(request, STREAM_BODY_HANDLER);
+				exchange.set(sent);
+				sent.whenComplete((value, ex) -> {
+					if (ex != null) {
+						response.completeExceptionally(ex);
+					}
+					else {
+						response.complete(value);
+					}
+				});
+				return released;
+			});
+			return Mono.fromFuture(response, true)
+				.flatMapMany(value -> {
+					metrics.onComplete(start, value.statusCode() == 200);
+					recorded.set(true);
+					checkStatus(value.statusCode());
+					Flux<List<ByteBuffer>> body = JdkFlowAdapter.flowPublisherToFlux(value.body());
+					boolean eventStream = value.headers()
+						.firstValue("Content-Type")
+						.map(contentType -> contentType.contains("text/event-stream"))
+						.orElse(false);
+					return eventStream ? decodeEvents(body).map(data -> new StreamItem(data, true))
+							: readBody(body).map(data -> new StreamItem(data, false));
+				})
+				.doFinally(signal -> {
+					if (!recorded.get()) {
+						metrics.onComplete(start, false);
+					}
+					slot.cancel(false);
+					CompletableFuture<?> sent = exchange.get();
+					if (sent != null && !response.isDone()) {
+						sent.cancel(true);
+					}
+					released.complete(null);
+				});
+		});
+	}
+
+	public String endpoint() {
+		return endpoint;
+	}
+
+	public int maxConnections() {
+		return maxConnections;
+	}
+
+	/**
+	 * Returns the request metrics of this endpoint.
+	 * @return the live metrics
+	 */
+	public EndpointMetrics metrics() {
+		return metrics;
+	}
+
+	private HttpRequest newRequest(String payload, String accept) {
+		HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+			.header("Content-Type", "application/json")
+			.header("Accept", accept)
+			.POST(HttpRequest.BodyPublishers.ofString(payload, StandardCharsets.UTF_8));
+		if (requestTimeout != null) {
+			builder.timeout(requestTimeout);
+		}
+		return builder.build();
+	}
+
+	private static void checkStatus(int statusCode) {
+		if (statusCode != 200) {
+			throw new IllegalStateException("HTTP request failed, status: " + statusCode);
+		}
+	}
+
+	private static Flux<String> decodeEvents(Flux<List<ByteBuffer>> body) {
+		return Flux.defer(() -> {
+			SseEventDecoder decoder = new SseEventDecoder();
+			return body.concatMapIterable(decoder::decode).concatWith(Flux.defer(() -> Flux.fromIterable(decoder.finish())));
+		});
+	}
+
+	private static Flux<String> readBody(Flux<List<ByteBuffer>> body) {
+		return body.collect(ByteArrayOutputStream::new, (out, buffers) -> {
+			for (ByteBuffer buffer : buffers) {
+				byte[] bytes = new byte[buffer.remaining()];
+				buffer.get(bytes);
+				out.write(bytes, 0, bytes.length);
+			}
+		}).map(out -> out.toString(StandardCharsets.UTF_8)).flux();
+	}
+
+	/**
+	 * One item of a streamed response.
+	 * @param data the data of an event, or the whole body of a response that is not an
+	 * event stream
+	 * @param event whether the response is a {@code text/event-stream}
+	 */
+	public record StreamItem(String data, boolean event) {
+	}
+
+	/**
+	 * Request metrics of one endpoint. The response time is measured from sending a
+	 * request until its response body is read, or until the response headers of a
+	 * streaming request arrive, and includes time spent waiting for a free connection.
+	 */
+	public static final class EndpointMetrics {
+
+		private final LongAdder requests = new LongAdder();
+
+		private final LongAdder failures = new LongAdder();
+
+		private final AtomicInteger active = new AtomicInteger();
+
+		private final LongAdder totalNanos = new LongAdder();
+
+		private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+		private EndpointMetrics() {
+		}
+
+		private void onStart() {
+			active.incrementAndGet();
+		}
+
+		private void onComplete(long startNanos, boolean success) {
+			long elapsed = System.nanoTime() - startNanos;
+			active.decrementAndGet();
+			requests.increment();
+			if (!success) {
+				failures.increment();
+			}
+			totalNanos.add(elapsed);
+			maxNanos.accumulate(elapsed);
+		}
+
+		/**
+		 * Returns the number of completed requests, including failed ones.
+		 * @return the request count
+		 */
+		public long requestCount() {
+			return requests.sum();
+		}
+
+		public long failureCount() {
+			return failures.sum();
+		}
+
+		/**
+		 * Returns the number of requests waiting for a response.
+		 * @return the active request count
+		 */
+		public int activeRequests() {
+			return active.get();
+		}
+
+		public Duration averageResponseTime() {
+			long count = requests.sum();
+			return count == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos.sum() / count);
+		}
+
+		public Duration maxResponseTime() {
+			return Duration.ofNanos(maxNanos.get());
+		}
+
+	}
+
+	public static class Builder {
+
+		private String endpoint;
+
+		private int maxConnections = 64;
+
+		private Duration connectTimeout = Duration.ofSeconds(10);
+
+		private Duration requestTimeout;
+
+		public Builder endpoint(String endpoint) {
+			this.endpoint = endpoint;
+			return this;
+		}
+
+		/**
+		 * Sets how many requests may be in flight to the endpoint at once.
+		 * @param maxConnections the maximum number of connections, 64 by default
+		 * @return this builder
+		 */
+		public Builder maxConnections(int maxConnections) {
+			if (maxConnections <= 0) {
+				throw new IllegalArgumentException("maxConnections must be positive");
+			}
+			this.maxConnections = maxConnections;
+			return this;
+		}
+
+		/**
+		 * Sets the timeout for opening a new connection.
+		 * @param connectTimeout the connect timeout, 10 seconds by default
+		 * @return this builder
+		 */
+		public Builder connectTimeout(Duration connectTimeout) {
+			this.connectTimeout = requireNonNull(connectTimeout, "connectTimeout cannot be null!");
+			return this;
+		}
+
+		/**
+		 * Sets the timeout for receiving the response headers.
+		 * @param requestTimeout the request timeout, none by default
+		 * @return this builder
+		 */
+		public Builder requestTimeout(Duration requestTimeout) {
+			this.requestTimeout = requestTimeout;
+			return this;
+		}
+
+		public A2aHttpTransport build() {
+			if (endpoint == null || endpoint.isBlank()) {
+				throw new IllegalArgumentException("endpoint must be provided");
+			}
+			return new A2aHttpTransport(this);
+		}
+
+	}
+
+}
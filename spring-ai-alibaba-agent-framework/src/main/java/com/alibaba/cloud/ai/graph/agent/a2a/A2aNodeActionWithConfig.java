@@ -31,31 +31,19 @@ import org.springframework.ai.chat.prompt.PromptTemplate;
 
 import org.springframework.util.StringUtils;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.LinkedBlockingQueue;
 
 import com.alibaba.fastjson.JSON;
 import com.alibaba.fastjson.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.apache.http.HttpEntity;
-import org.apache.http.client.methods.CloseableHttpResponse;
-import org.apache.http.client.methods.HttpPost;
-import org.apache.http.entity.ContentType;
-import org.apache.http.entity.StringEntity;
-import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
-import org.apache.http.util.EntityUtils;
-import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
-import reactor.core.publisher.FluxSink;
-import reactor.core.scheduler.Schedulers;
+import reactor.core.publisher.Mono;
 
 import static java.lang.String.format;
 
@@ -100,9 +88,7 @@ public class A2aNodeActionWithConfig implements NodeActionWithConfig {
 	public Map<String, Object> apply(OverAllState state, RunnableConfig config) throws Exception {
 		RunnableConfig subGraphRunnableConfig = getSubGraphRunnableConfig(config);
 		if (streaming) {
-			AsyncGenerator<NodeOutput> generator = createStreamingGenerator(state, subGraphRunnableConfig);
-			// Convert AsyncGenerator to Flux using the new toFlux() method
-			Flux<GraphResponse<NodeOutput>> flux = toFlux(generator);
+			Flux<GraphResponse<NodeOutput>> flux = streamMessageFromServer(state, subGraphRunnableConfig);
 			return Map.of(StringUtils.hasLength(this.outputKeyToParent) ? this.outputKeyToParent : "messages", flux);
 		}
 		else {
@@ -133,194 +119,68 @@ public class A2aNodeActionWithConfig implements NodeActionWithConfig {
 	}
 
 	/**
-	 * Converts this AsyncGenerator to a Project Reactor Flux. This method provides
-	 * forward compatibility for converting AsyncGenerator to reactive streams.
-	 * @return a Flux that emits the elements from this AsyncGenerator
+	 * Stream the reply of the remote agent. SSE events are decoded as they arrive on the
+	 * shared transport of the endpoint; the final {@link GraphResponse#done} carries the
+	 * accumulated text.
 	 */
-	private <E> Flux<GraphResponse<E>> toFlux(AsyncGenerator<E> generator) {
-		return Flux.create(sink -> {
-			Disposable disposable = Schedulers.boundedElastic().schedule(() -> drainGenerator(generator, sink));
-			sink.onCancel(disposable::dispose);
-			sink.onDispose(disposable::dispose);
-		});
-	}
-
-	private <E> void drainGenerator(AsyncGenerator<E> generator, FluxSink<GraphResponse<E>> sink) {
-		while (!sink.isCancelled()) {
-			final AsyncGenerator.Data<E> data;
-			try {
-				data = generator.next();
-			}
-			catch (Exception ex) {
-				sink.error(ex);
-				return;
-			}
-
-			if (data.isDone()) {
-				data.resultValue().ifPresent(result -> {
-					if (!sink.isCancelled()) {
-						sink.next(GraphResponse.done(result));
-					}
-				});
-				if (!sink.isCancelled()) {
-					sink.complete();
-				}
-				return;
-			}
-
-			var future = data.getData();
-			if (future == null) {
-				sink.error(new IllegalStateException("AsyncGenerator data is null without completion signal"));
-				return;
-			}
-
-			if (future.isDone()) {
-				try {
-					E value = future.join();
-					if (!sink.isCancelled()) {
-						sink.next(GraphResponse.of(value));
-					}
-				}
-				catch (Exception ex) {
-					sink.error(unwrapCompletionException(ex));
-					return;
-				}
-				continue;
-			}
-
-			future.whenComplete((value, throwable) -> {
-				if (sink.isCancelled()) {
-					return;
-				}
-
-				if (throwable != null) {
-					Throwable actual = unwrapCompletionException(throwable);
-					sink.error(actual);
-					return;
-				}
-
-				if (!sink.isCancelled()) {
-					sink.next(GraphResponse.of(value));
-				}
-
-				drainGenerator(generator, sink);
-			});
-			return;
-		}
-	}
-
-	private Throwable unwrapCompletionException(Throwable throwable) {
-		if (throwable instanceof java.util.concurrent.CompletionException completionException
-				&& completionException.getCause() != null) {
-			return completionException.getCause();
-		}
-		return throwable;
-	}
-
-	/**
-	 * Create a streaming generator.
-	 */
-	private AsyncGenerator<NodeOutput> createStreamingGenerator(OverAllState state, RunnableConfig config) throws Exception {
+	private Flux<GraphResponse<NodeOutput>> streamMessageFromServer(OverAllState state, RunnableConfig config) {
 		final String requestPayload = buildSendStreamingMessageRequest(state, config);
-		final BlockingQueue<AsyncGenerator.Data<NodeOutput>> queue = new LinkedBlockingQueue<>(1000);
 		final String outputKey = StringUtils.hasLength(this.outputKeyToParent) ? this.outputKeyToParent : "messages";
-		final StringBuilder accumulated = new StringBuilder();
-
-		return AsyncGeneratorQueue.of(queue, q -> {
-			String baseUrl = resolveAgentBaseUrl(this.agentCard);
-			if (baseUrl == null || baseUrl.isBlank()) {
-				StreamingOutput errorOutput = buildStreamingOutput("Error: AgentCard.url is empty", state);
-				queue.add(AsyncGenerator.Data.of(errorOutput));
-				return;
-			}
-
-			try (CloseableHttpClient httpClient = HttpClients.createDefault()) {
-				HttpPost post = new HttpPost(baseUrl);
-				post.setHeader("Content-Type", "application/json");
-				post.setHeader("Accept", "text/event-stream");
-				post.setEntity(new StringEntity(requestPayload, ContentType.APPLICATION_JSON));
-
-				try (CloseableHttpResponse response = httpClient.execute(post)) {
-					int statusCode = response.getStatusLine().getStatusCode();
-					if (statusCode != 200) {
-						StreamingOutput errorOutput = buildStreamingOutput("HTTP request failed, status: " + statusCode, state);
-						queue.add(AsyncGenerator.Data.of(errorOutput));
-						return;
-					}
+		String baseUrl = resolveAgentBaseUrl(this.agentCard);
+		if (baseUrl == null || baseUrl.isBlank()) {
+			return Flux.just(GraphResponse.of(buildStreamingOutput("Error: AgentCard.url is empty", state)),
+					GraphResponse.done(Map.of(outputKey, "")));
+		}
 
-					HttpEntity entity = response.getEntity();
-					if (entity == null) {
-						StreamingOutput errorOutput = buildStreamingOutput("Empty HTTP entity", state);
-						queue.add(AsyncGenerator.Data.of(errorOutput));
-						return;
-					}
-
-					String contentType = entity.getContentType() != null ? entity.getContentType().getValue() : "";
-					boolean isEventStream = contentType.contains("text/event-stream");
-
-					if (isEventStream) {
-						try (BufferedReader reader = new BufferedReader(
-								new InputStreamReader(entity.getContent(), StandardCharsets.UTF_8))) {
-							String line;
-							while ((line = reader.readLine()) != null) {
-								String trimmed = line.trim();
-								if (!trimmed.startsWith("data:")) {
-									continue;
-								}
-								String jsonContent = trimmed.substring(5).trim();
-								if ("[DONE]".equals(jsonContent)) {
-									break;
-								}
-								try {
-									Map<String, Object> parsed = JSON.parseObject(jsonContent,
-											new TypeReference<Map<String, Object>>() {
-											});
-									Map<String, Object> result = (Map<String, Object>) parsed.get("result");
-									if (result != null) {
-										String text = extractResponseText(result);
-										if (text != null && !text.isEmpty()) {
-											accumulated.append(text);
-											queue.add(AsyncGenerator.Data
-												.of(buildStreamingOutput(text, state)));
-										}
-									}
-								}
-								catch (Exception ignore) {
-								}
-							}
-						}
+		return Flux.defer(() -> {
+			StringBuilder accumulated = new StringBuilder();
+			return A2aHttpTransport.forEndpoint(baseUrl)
+				.streamItems(requestPayload)
+				.takeWhile(item -> !"[DONE]".equals(item.data().trim()))
+				.<GraphResponse<NodeOutput>>handle((item, sink) -> {
+					String text;
+					if (item.event()) {
+						text = extractStreamingText(item.data());
 					}
 					else {
-						// Non-SSE: read the full body and emit a single output
-						String body = EntityUtils.toString(entity, "UTF-8");
+						// Non-SSE: the whole body is one response, report it if it cannot be parsed
 						try {
-							Map<String, Object> resultMap = JSON.parseObject(body,
+							Map<String, Object> resultMap = JSON.parseObject(item.data(),
 									new TypeReference<Map<String, Object>>() {
 									});
-							Map<String, Object> result = (Map<String, Object>) resultMap.get("result");
-							String text = extractResponseText(result);
-							if (text != null && !text.isEmpty()) {
-								accumulated.append(text);
-								queue.add(AsyncGenerator.Data.of(buildStreamingOutput(text, state)));
-							}
+							text = extractResponseText((Map<String, Object>) resultMap.get("result"));
 						}
 						catch (Exception ex) {
-							queue.add(AsyncGenerator.Data
-								.of(buildStreamingOutput("Error: " + ex.getMessage(), state)));
+							sink.next(GraphResponse.of(buildStreamingOutput("Error: " + ex.getMessage(), state)));
+							return;
 						}
 					}
-				}
-			}
-			catch (Exception e) {
-				StreamingOutput errorOutput = buildStreamingOutput("Error: " + e.getMessage(), state);
-				queue.add(AsyncGenerator.Data.of(errorOutput));
-			}
-			finally {
-				queue.add(AsyncGenerator.Data.done(Map.of(outputKey, accumulated.toString())));
-			}
+					if (text != null && !text.isEmpty()) {
+						accumulated.append(text);
+						sink.next(GraphResponse.of(buildStreamingOutput(text, state)));
+					}
+				})
+				.onErrorResume(ex -> Flux.just(GraphResponse.of(buildStreamingOutput("Error: " + ex.getMessage(), state))))
+				.concatWith(Mono.fromSupplier(() -> GraphResponse.done(Map.of(outputKey, accumulated.toString()))));
 		});
 	}
 
+	/**
+	 * Extract the text of one streamed JSON-RPC response, or {@code null} if it carries
+	 * none or cannot be parsed.
+	 */
+	private String extractStreamingText(String data) {
+		try {
+			Map<String, Object> parsed = JSON.parseObject(data, new TypeReference<Map<String, Object>>() {
+			});
+			Map<String, Object> result = (Map<String, Object>) parsed.get("result");
+			return result != null ? extractResponseText(result) : null;
+		}
+		catch (Exception ignore) {
+			return null;
+		}
+	}
+
 	/**
 	 * Check whether the given text looks like an SSE response.
 	 */
@@ -771,28 +631,18 @@ public class A2aNodeActionWithConfig implements NodeActionWithConfig {
 	 */
 	private String sendMessageToServer(AgentCardWrapper agentCard, String requestPayload) throws Exception {
 		String baseUrl = resolveAgentBaseUrl(agentCard);
-		System.out.println(baseUrl);
-		System.out.println(requestPayload);
 		if (baseUrl == null || baseUrl.isBlank()) {
 			throw new IllegalStateException("AgentCard.url is empty");
 		}
 
-		try (CloseableHttpClient httpClient = HttpClients.createDefault()) {
-			HttpPost post = new HttpPost(baseUrl);
-			post.setHeader("Content-Type", "application/json");
-			post.setEntity(new StringEntity(requestPayload, ContentType.APPLICATION_JSON));
-
-			try (CloseableHttpResponse response = httpClient.execute(post)) {
-				int statusCode = response.getStatusLine().getStatusCode();
-				if (statusCode != 200) {
-					throw new IllegalStateException("HTTP request failed, status: " + statusCode);
-				}
-				HttpEntity entity = response.getEntity();
-				if (entity == null) {
-					throw new IllegalStateException("Empty HTTP entity");
-				}
-				return EntityUtils.toString(entity, "UTF-8");
+		try {
+			return A2aHttpTransport.forEndpoint(baseUrl).send(requestPayload).get();
+		}
+		catch (ExecutionException ex) {
+			if (ex.getCause() instanceof Exception cause) {
+				throw cause;
 			}
+			throw ex;
 		}
 	}
 
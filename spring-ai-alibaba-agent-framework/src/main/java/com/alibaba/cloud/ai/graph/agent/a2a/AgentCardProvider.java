@@ -16,6 +16,8 @@
 
 package com.alibaba.cloud.ai.graph.agent.a2a;
 
+import java.util.function.Consumer;
+
 /**
  * A2A Agent Card Provider.
  *
@@ -51,4 +53,16 @@ public interface AgentCardProvider {
 		return false;
 	}
 
+	/**
+	 * Register a listener notified with the agent name whenever the registry pushes a
+	 * change of that agent's card, so that caches can drop what they hold for it.
+	 *
+	 * <p>
+	 * Providers without change notifications ignore the listener.
+	 * </p>
+	 * @param listener the listener to notify
+	 */
+	default void addAgentCardChangeListener(Consumer<String> listener) {
+	}
+
 }
@@ -33,7 +33,7 @@ import io.a2a.spec.SecurityScheme;
  */
 public class AgentCardWrapper {
 
-	private AgentCard agentCard;
+	private volatile AgentCard agentCard;
 
 	public AgentCardWrapper(AgentCard agentCard) {
 		this.agentCard = agentCard;
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.graph.agent.a2a;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link AgentCardProvider} decorator that keeps resolved agent cards in memory, so that
+ * routing to a remote agent does not pay a discovery lookup in steady state.
+ *
+ * <p>
+ * A card is fresh for {@code ttl}. After that it is stale: it is still returned
+ * immediately while a background refresh fetches the current card
+ * (stale-while-revalidate), and a successful refresh updates the returned
+ * {@link AgentCardWrapper} in place, so agents built earlier see the new card too. A
+ * stale card whose refreshes keep failing is dropped {@code maxStale} after it was last
+ * fetched. Lookup failures are cached for {@code negativeTtl}, so a missing agent does
+ * not hit the registry on every call. Change notifications of the delegate (such as
+ * Nacos pushes) trigger an immediate background refresh.
+ * </p>
+ */
+public class CachingAgentCardProvider implements AgentCardProvider {
+
+	private static final Logger logger = LoggerFactory.getLogger(CachingAgentCardProvider.class);
+
+	/**
+	 * Cache key of {@link #getAgentCard()}; agent names are never empty.
+	 */
+	private static final String DEFAULT_KEY = "";
+
+	private final AgentCardProvider delegate;
+
+	private final LoadingCache<String, CachedCard> cache;
+
+	private CachingAgentCardProvider(Builder builder) {
+		this.delegate = builder.delegate;
+		long cardNanos = builder.ttl.plus(builder.maxStale).toNanos();
+		long failureNanos = builder.negativeTtl.toNanos();
+		this.cache = Caffeine.newBuilder()
+			.executor(builder.executor)
+			.ticker(builder.ticker)
+			.refreshAfterWrite(builder.ttl)
+			.expireAfter(new Expiry<String, CachedCard>() {
+				@Override
+				public long expireAfterCreate(String key, CachedCard value, long currentTime) {
+					return value.failure() == null ? cardNanos : failureNanos;
+				}
+
+				@Override
+				public long expireAfterUpdate(String key, CachedCard value, long currentTime,
+						long currentDuration) {
+					return expireAfterCreate(key, value, currentTime);
+				}
+
+				@Override
+				public long expireAfterRead(String key, CachedCard value, long currentTime, long currentDuration) {
+					return currentDuration;
+				}
+			})
+			.build(new CacheLoader<>() {
+				@Override
+				public CachedCard load(String key) {
+					try {
+						return new CachedCard(fetch(key), null);
+					}
+					catch (RuntimeException ex) {
+						logger.warn("Failed to resolve agent card of '{}', caching the failure", key, ex);
+						return new CachedCard(null, ex);
+					}
+				}
+
+				@Override
+				public CachedCard reload(String key, CachedCard oldValue) {
+					// a failed refresh throws, so that the stale card is kept until it expires
+					AgentCardWrapper card = fetch(key);
+					if (oldValue.card() != null && oldValue.card() != card) {
+						oldValue.card().setAgentCard(card.getAgentCard());
+						return new CachedCard(oldValue.card(), null);
+					}
+					return new CachedCard(card, null);
+				}
+			});
+		this.delegate.addAgentCardChangeListener(this::refresh);
+	}
+
+	public static Builder builder(AgentCardProvider delegate) {
+		return new Builder(delegate);
+	}
+
+	@Override
+	public AgentCardWrapper getAgentCard() {
+		return get(DEFAULT_KEY);
+	}
+
+	@Override
+	public AgentCardWrapper getAgentCard(String agentName) {
+		if (!delegate.supportGetAgentCardByName()) {
+			throw new UnsupportedOperationException();
+		}
+		requireNonNull(agentName, "agentName cannot be null!");
+		return get(agentName);
+	}
+
+	@Override
+	public boolean supportGetAgentCardByName() {
+		return delegate.supportGetAgentCardByName();
+	}
+
+	@Override
+	public void addAgentCardChangeListener(Consumer<String> listener) {
+		delegate.addAgentCardChangeListener(listener);
+	}
+
+	/**
+	 * Refresh the card of an agent in the background, replacing a cached failure once it
+	 * succeeds.
+	 * @param agentName agent name
+	 */
+	public void refresh(String agentName) {
+		if (cache.getIfPresent(agentName) != null) {
+			cache.refresh(agentName);
+		}
+	}
+
+	/**
+	 * Drop the cached card or failure of an agent, so that the next call resolves it
+	 * again.
+	 * @param agentName agent name
+	 */
+	public void invalidate(String agentName) {
+		cache.invalidate(agentName);
+	}
+
+	public void invalidateAll() {
+		cache.invalidateAll();
+	}
+
+	private AgentCardWrapper get(String key) {
+		CachedCard cached = cache.get(key);
+		if (cached.failure() != null) {
+			throw cached.failure();
+		}
+		return cached.card();
+	}
+
+	private AgentCardWrapper fetch(String key) {
+		AgentCardWrapper card = DEFAULT_KEY.equals(key) ? delegate.getAgentCard() : delegate.getAgentCard(key);
+		if (card == null) {
+			throw new IllegalStateException("No agent card found for '" + key + "'");
+		}
+		return card;
+	}
+
+	private record CachedCard(AgentCardWrapper card, RuntimeException failure) {
+	}
+
+	public static class Builder {
+
+		private final AgentCardProvider delegate;
+
+		private Duration ttl = Duration.ofMinutes(1);
+
+		private Duration maxStale = Duration.ofHours(1);
+
+		private Duration negativeTtl = Duration.ofSeconds(5);
+
+		private Executor executor = ForkJoinPool.commonPool();
+
+		private Ticker ticker = Ticker.systemTicker();
+
+		private Builder(AgentCardProvider delegate) {
+			this.delegate = requireNonNull(delegate, "delegate cannot be null!");
+		}
+
+		/**
+		 * Set how long a card is served without refreshing it.
+		 * @param ttl the time to live, 1 minute by default
+		 * @return this builder
+		 */
+		public Builder ttl(Duration ttl) {
+			this.ttl = requirePositive(ttl, "ttl");
+			return this;
+		}
+
+		/**
+		 * Set how long a stale card may still be served while its refresh fails.
+		 * @param maxStale the maximum staleness, 1 hour by default
+		 * @return this builder
+		 */
+		public Builder maxStale(Duration maxStale) {
+			requireNonNull(maxStale, "maxStale cannot be null!");
+			if (maxStale.isNegative()) {
+				throw new IllegalArgumentException("maxStale must not be negative");
+			}
+			this.maxStale = maxStale;
+			return this;
+		}
+
+		/**
+		 * Set how long a failed lookup is cached.
+		 * @param negativeTtl the time to live of failures, 5 seconds by default
+		 * @return this builder
+		 */
+		public Builder negativeTtl(Duration negativeTtl) {
+			this.negativeTtl = requirePositive(negativeTtl, "negativeTtl");
+			return this;
+		}
+
+		/**
+		 * Set the executor running background refreshes.
+		 * @param executor the executor, the common pool by default
+		 * @return this builder
+		 */
+		public Builder executor(Executor executor) {
+			this.executor = requireNonNull(executor, "executor cannot be null!");
+			return this;
+		}
+
+		Builder ticker(Ticker ticker) {
+			this.ticker = ticker;
+			return this;
+		}
+
+		public CachingAgentCardProvider build() {
+			return new CachingAgentCardProvider(this);
+		}
+
+		private static Duration requirePositive(Duration duration, String name) {
+			requireNonNull(duration, name + " cannot be null!");
+			if (duration.isNegative() || duration.isZero()) {
+				throw new IllegalArgumentException(name + " must be positive");
+			}
+			return duration;
+		}
+
+	}
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.graph.agent.a2a;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+import io.a2a.spec.AgentCard;
+import io.a2a.spec.AgentInterface;
+
+/**
+ * Agent card wrapper that spreads calls across the endpoints of an agent.
+ *
+ * <p>
+ * The endpoints are the {@link AgentCard#additionalInterfaces() additional interfaces}
+ * using the card's preferred transport; when there are none the card URL is used. Each
+ * {@link #url()} call picks two endpoints at random and returns the one with fewer
+ * requests in flight on its shared {@link A2aHttpTransport} ("power of two choices"), so
+ * a slow or overloaded instance receives less traffic without any coordination.
+ * </p>
+ */
+public class LoadBalancedAgentCardWrapper extends AgentCardWrapper {
+
+	private volatile List<String> endpoints;
+
+	public LoadBalancedAgentCardWrapper(AgentCard agentCard) {
+		super(agentCard);
+		this.endpoints = resolveEndpoints(agentCard);
+	}
+
+	@Override
+	public String url() {
+		List<String> candidates = this.endpoints;
+		if (candidates.isEmpty()) {
+			return super.url();
+		}
+		if (1 == candidates.size()) {
+			return candidates.get(0);
+		}
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		int first = random.nextInt(candidates.size());
+		int second = random.nextInt(candidates.size() - 1);
+		if (second >= first) {
+			second++;
+		}
+		String firstUrl = candidates.get(first);
+		String secondUrl = candidates.get(second);
+		return activeRequests(secondUrl) < activeRequests(firstUrl) ? secondUrl : firstUrl;
+	}
+
+	/**
+	 * Get the endpoints calls are spread across.
+	 * @return the endpoint URLs, empty when the card URL is used
+	 */
+	public List<String> endpoints() {
+		return endpoints;
+	}
+
+	@Override
+	public void setAgentCard(AgentCard agentCard) {
+		super.setAgentCard(agentCard);
+		this.endpoints = resolveEndpoints(agentCard);
+	}
+
+	private static int activeRequests(String url) {
+		// An endpoint without a transport has never been called
+		A2aHttpTransport transport = A2aHttpTransport.shared(url);
+		return transport == null ? 0 : transport.metrics().activeRequests();
+	}
+
+	private static List<String> resolveEndpoints(AgentCard agentCard) {
+		if (agentCard == null || agentCard.additionalInterfaces() == null) {
+			return List.of();
+		}
+		return agentCard.additionalInterfaces()
+			.stream()
+			.filter(agentInterface -> agentInterface != null
+					&& Objects.equals(agentCard.preferredTransport(), agentInterface.transport()))
+			.map(AgentInterface::url)
+			.distinct()
+			.toList();
+	}
+
+}
@@ -29,22 +29,23 @@ public class RemoteAgentCardProvider implements AgentCardProvider {
 
 	private final String url;
 
-	private AgentCard agentCard;
-
 	private RemoteAgentCardProvider(String url) {
 		this.url = url;
 	}
 
+	/**
+	 * Create a provider for the agent card at the given well-known URL. The card is cached
+	 * and refreshed in the background, see {@link CachingAgentCardProvider}.
+	 * @param url agent card URL
+	 * @return the provider
+	 */
 	public static AgentCardProvider newProvider(String url) {
-		return new RemoteAgentCardProvider(url);
+		return CachingAgentCardProvider.builder(new RemoteAgentCardProvider(url)).build();
 	}
 
 	@Override
 	public AgentCardWrapper getAgentCard() {
-		if (null == agentCard) {
-			agentCard = getAgentCardFromUrl();
-		}
-		return new AgentCardWrapper(agentCard);
+		return new LoadBalancedAgentCardWrapper(getAgentCardFromUrl());
 	}
 
 	private AgentCard getAgentCardFromUrl() {
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.graph.agent.a2a;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Incremental decoder for a {@code text/event-stream} body that yields the {@code data}
+ * of each event as soon as the chunk completing it arrives.
+ * <p>
+ * Lines are split on {@code \n} at the byte level, which is safe for UTF-8 because the
+ * newline byte never occurs inside a multi-byte sequence, so characters split across
+ * chunks are decoded correctly. A trailing {@code \r} is stripped. Comment lines and
+ * fields other than {@code data} are ignored. Not thread-safe: use one decoder per
+ * response.
+ */
+final class SseEventDecoder {
+
+	private byte[] line = new byte[256];
+
+	private int lineLength;
+
+	private StringBuilder data;
+
+	/**
+	 * Decodes the next chunk of the body.
+	 * @param buffers the chunk
+	 * @return the data of the events completed by this chunk
+	 */
+	List<String> decode(List<ByteBuffer> buffers) {
+		List<String> events = new ArrayList<>(1);
+		for (ByteBuffer buffer : buffers) {
+			while (buffer.hasRemaining()) {
+				byte b = buffer.get();
+				if (b == '\n') {
+					processLine(events);
+				}
+				else {
+					append(b);
+				}
+			}
+		}
+		return events;
+	}
+
+	/**
+	 * Ends the body, dispatching a last event that was not followed by a blank line.
+	 * @return the data of the remaining event, if any
+	 */
+	List<String> finish() {
+		List<String> events = new ArrayList<>(1);
+		if (lineLength > 0) {
+			processLine(events);
+		}
+		dispatch(events);
+		return events;
+	}
+
+	private void append(byte b) {
+		if (lineLength == line.length) {
+			line = Arrays.copyOf(line, line.length * 2);
+		}
+		line[lineLength++] = b;
+	}
+
+	private void processLine(List<String> events) {
+		int length = lineLength;
+		if (length > 0 && line[length - 1] == '\r') {
+			length--;
+		}
+		lineLength = 0;
+		if (length == 0) {
+			dispatch(events);
+			return;
+		}
+		String text = new String(line, 0, length, StandardCharsets.UTF_8);
+		if (!text.startsWith("data")) {
+			return;
+		}
+		String value;
+		if (text.length() == 4) {
+			value = "";
+		}
+		else if (text.charAt(4) == ':') {
+			value = text.startsWith(" ", 5) ? text.substring(6) : text.substring(5);
+		}
+		else {
+			// a field such as "dataset", not data
+			return;
+		}
+		if (data == null) {
+			data = new StringBuilder(value);
+		}
+		else {
+			data.append('\n').append(value);
+		}
+	}
+
+	private void dispatch(List<String> events) {
+		if (data != null) {
+			events.add(data.toString());
+			data = null;
+		}
+	}
+
+}
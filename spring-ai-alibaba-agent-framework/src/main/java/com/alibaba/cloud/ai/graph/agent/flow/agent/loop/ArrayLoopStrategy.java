@@ -25,27 +25,88 @@ import org.springframework.core.convert.converter.Converter;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * JSON array loop strategy that retrieves a JSON array from the current message state,
  * sends each array element as a message to the model, and returns the result.
  * By default, the text of the last message is treated as a JSON array, but users can customize the converter.
  *
+ * <p>By default the elements are processed one after another, each iteration seeing the messages of the
+ * previous ones. In parallel mode (see {@link Builder#parallel(int)}) the sub-agent runs for up to
+ * {@code maxConcurrency} elements at once, each on its own copy of the state holding the messages from before
+ * the loop plus its element. The outputs are stored in element order under {@link #outputKey()}, and the
+ * messages of every element are appended to the messages in element order.</p>
+ *
  * @author vlsmb
  * @since 2025/11/1
  */
 public class ArrayLoopStrategy implements LoopStrategy {
 
+    public static final String DEFAULT_OUTPUT_KEY = "loop_results";
+
     private final Converter<List<Message>, List<?>> converter;
 
+    private final int maxConcurrency;
+
+    private final FailurePolicy failurePolicy;
+
+    private final String outputKey;
+
     public ArrayLoopStrategy(Converter<List<Message>, List<?>> converter) {
         this.converter = converter;
+        this.maxConcurrency = 0;
+        this.failurePolicy = FailurePolicy.FAIL_FAST;
+        this.outputKey = DEFAULT_OUTPUT_KEY;
     }
 
     public ArrayLoopStrategy() {
         this(DEFAULT_MESSAGE_CONVERTER);
     }
 
+    private ArrayLoopStrategy(Builder builder) {
+        this.converter = builder.converter;
+        this.maxConcurrency = builder.maxConcurrency;
+        this.failurePolicy = builder.failurePolicy;
+        this.outputKey = builder.outputKey;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Whether the elements are processed concurrently instead of by graph loop edges.
+     */
+    public boolean isParallel() {
+        return maxConcurrency > 0;
+    }
+
+    /**
+     * The maximum number of elements processed at once in parallel mode, 0 in sequential mode.
+     */
+    public int maxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public FailurePolicy failurePolicy() {
+        return failurePolicy;
+    }
+
+    /**
+     * The state key holding the ordered outputs of the elements in parallel mode.
+     */
+    public String outputKey() {
+        return outputKey;
+    }
+
+    /**
+     * The state key holding the failed elements when {@link FailurePolicy#COLLECT_ERRORS} is used.
+     */
+    public String errorsKey() {
+        return outputKey + "_errors";
+    }
+
     @Override
     public Map<String, Object> loopInit(OverAllState state) {
         @SuppressWarnings("unchecked")
@@ -71,6 +132,70 @@ public class ArrayLoopStrategy implements LoopStrategy {
         }
     }
 
+    /**
+     * How a parallel loop handles an element whose sub-agent run fails.
+     */
+    public enum FailurePolicy {
+
+        /**
+         * Fail the loop with the first error; elements that have not started yet are skipped.
+         */
+        FAIL_FAST,
+
+        /**
+         * Run every element; a failed element has a {@code null} output and is recorded under
+         * {@link ArrayLoopStrategy#errorsKey()} with its index, element and error message.
+         */
+        COLLECT_ERRORS
+
+    }
+
+    public static class Builder {
+
+        private Converter<List<Message>, List<?>> converter = DEFAULT_MESSAGE_CONVERTER;
+
+        private int maxConcurrency;
+
+        private FailurePolicy failurePolicy = FailurePolicy.FAIL_FAST;
+
+        private String outputKey = DEFAULT_OUTPUT_KEY;
+
+        public Builder converter(Converter<List<Message>, List<?>> converter) {
+            this.converter = Objects.requireNonNull(converter, "converter cannot be null!");
+            return this;
+        }
+
+        /**
+         * Process the elements concurrently, running the sub-agent for at most {@code maxConcurrency}
+         * elements at once on the graph's parallel executor.
+         */
+        public Builder parallel(int maxConcurrency) {
+            if (maxConcurrency <= 0) {
+                throw new IllegalArgumentException("maxConcurrency must be positive, got " + maxConcurrency);
+            }
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        public Builder failurePolicy(FailurePolicy failurePolicy) {
+            this.failurePolicy = Objects.requireNonNull(failurePolicy, "failurePolicy cannot be null!");
+            return this;
+        }
+
+        public Builder outputKey(String outputKey) {
+            if (outputKey == null || outputKey.isBlank()) {
+                throw new IllegalArgumentException("outputKey must not be blank");
+            }
+            this.outputKey = outputKey;
+            return this;
+        }
+
+        public ArrayLoopStrategy build() {
+            return new ArrayLoopStrategy(this);
+        }
+
+    }
+
     /**
      * 默认的转换器，将最后一个消息的文本作为json数组
      */
@@ -45,6 +45,10 @@ public final class LoopMode {
         return new ArrayLoopStrategy(converter);
     }
 
+    public static ArrayLoopStrategy parallelArray(int maxConcurrency) {
+        return ArrayLoopStrategy.builder().parallel(maxConcurrency).build();
+    }
+
     public static ConditionLoopStrategy condition(Predicate<List<Message>> messagePredicate) {
         return new ConditionLoopStrategy(messagePredicate);
     }
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.graph.agent.flow.node;
+
+import com.alibaba.cloud.ai.graph.OverAllState;
+import com.alibaba.cloud.ai.graph.RunnableConfig;
+import com.alibaba.cloud.ai.graph.action.AsyncNodeActionWithConfig;
+import com.alibaba.cloud.ai.graph.agent.Agent;
+import com.alibaba.cloud.ai.graph.agent.BaseAgent;
+import com.alibaba.cloud.ai.graph.agent.flow.agent.loop.ArrayLoopStrategy;
+import com.alibaba.cloud.ai.graph.agent.flow.agent.loop.LoopStrategy;
+import com.alibaba.cloud.ai.graph.checkpoint.BaseCheckpointSaver;
+import com.alibaba.cloud.ai.graph.exception.GraphRunnerException;
+import com.alibaba.cloud.ai.graph.internal.node.ConcurrencyLimiter;
+import com.alibaba.cloud.ai.graph.internal.node.ParallelNode;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.UserMessage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import static java.lang.String.format;
+
+/**
+ * Runs the sub-agent of a parallel {@link ArrayLoopStrategy} once per element of the loop list, at most
+ * {@link ArrayLoopStrategy#maxConcurrency()} elements at a time.
+ *
+ * <p>Each element gets its own copy of the state: the messages from before the loop plus the element as a
+ * user message, without the loop's temporary keys. It runs on its own checkpoint thread, released when the
+ * element completes, so elements never see each other's messages. The elements run on the executor
+ * configured for this node or the default parallel executor of the {@link RunnableConfig}, and a waiting
+ * element holds no thread.</p>
+ */
+public class ParallelArrayLoopNode implements AsyncNodeActionWithConfig {
+
+	private static final Logger logger = LoggerFactory.getLogger(ParallelArrayLoopNode.class);
+
+	private final String nodeId;
+
+	private final ArrayLoopStrategy loopStrategy;
+
+	private final Agent subAgent;
+
+	public ParallelArrayLoopNode(String nodeId, ArrayLoopStrategy loopStrategy, Agent subAgent) {
+		this.nodeId = nodeId;
+		this.loopStrategy = loopStrategy;
+		this.subAgent = subAgent;
+	}
+
+	@Override
+	public CompletableFuture<Map<String, Object>> apply(OverAllState state, RunnableConfig config) {
+		List<?> items = state.value(loopStrategy.loopListKey(), List.class).orElse(List.of());
+		List<Message> messages = messages(state);
+
+		Map<String, Object> sharedState = new HashMap<>(state.data());
+		loopStrategy.tempKeys().forEach(sharedState::remove);
+		sharedState.remove(loopStrategy.outputKey());
+		sharedState.remove(loopStrategy.errorsKey());
+
+		Executor executor = ParallelNode.getExecutor(config, nodeId);
+		ConcurrencyLimiter limiter = new ConcurrencyLimiter(loopStrategy.maxConcurrency(), executor);
+		logger.debug("Loop node {} will process {} elements with max concurrency: {}", nodeId, items.size(),
+				loopStrategy.maxConcurrency());
+
+		List<CompletableFuture<ElementResult>> futures = new ArrayList<>(items.size());
+		for (int i = 0; i < items.size(); i++) {
+			int index = i;
+			Object item = items.get(i);
+			futures.add(limiter.submit(() -> CompletableFuture
+				.completedFuture(runElement(index, item, sharedState, messages, config))));
+		}
+
+		CompletableFuture<Map<String, Object>> result = new CompletableFuture<>();
+		if (loopStrategy.failurePolicy() == ArrayLoopStrategy.FailurePolicy.FAIL_FAST) {
+			for (int i = 0; i < futures.size(); i++) {
+				int index = i;
+				futures.get(i).whenComplete((value, ex) -> {
+					if (ex != null && result.completeExceptionally(new IllegalStateException(
+							format("Loop element %d of %s failed", index, nodeId), unwrap(ex)))) {
+						// elements waiting for a slot are skipped by the limiter
+						futures.forEach(future -> future.cancel(false));
+					}
+				});
+			}
+		}
+		CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).whenComplete((ignored, ex) -> {
+			if (!result.isDone()) {
+				result.complete(collect(items, futures));
+			}
+		});
+		return result;
+	}
+
+	private ElementResult runElement(int index, Object item, Map<String, Object> sharedState,
+			List<Message> messages, RunnableConfig config) {
+		List<Message> input = new ArrayList<>(messages.size() + 1);
+		input.addAll(messages);
+		input.add(new UserMessage(item.toString()));
+		Map<String, Object> inputs = new HashMap<>(sharedState);
+		inputs.put(LoopStrategy.MESSAGE_KEY, input);
+
+		RunnableConfig elementConfig = RunnableConfig.builder(config)
+			.threadId(config.threadId()
+				.map(threadId -> format("%s_%s_%d", threadId, nodeId, index))
+				.orElseGet(() -> format("%s_%d", nodeId, index)))
+			.checkPointId(null)
+			.nextNode(null)
+			.clearContext()
+			.build();
+		try {
+			OverAllState finalState = subAgent.invoke(inputs, elementConfig).orElseThrow(
+					() -> new IllegalStateException("Sub-agent " + subAgent.name() + " returned no state"));
+			// The sub-agent appends to the history it was given
+			List<Message> finalMessages = messages(finalState);
+			List<Message> produced = new ArrayList<>(
+					finalMessages.subList(Math.min(messages.size(), finalMessages.size()), finalMessages.size()));
+			return new ElementResult(produced, output(finalState, produced));
+		}
+		catch (GraphRunnerException ex) {
+			throw new CompletionException(ex);
+		}
+		finally {
+			release(elementConfig);
+		}
+	}
+
+	private Object output(OverAllState finalState, List<Message> produced) {
+		if (subAgent instanceof BaseAgent baseAgent && baseAgent.getOutputKey() != null) {
+			Optional<Object> value = finalState.value(baseAgent.getOutputKey());
+			if (value.isPresent()) {
+				return value.get();
+			}
+		}
+		return produced.isEmpty() ? null : produced.get(produced.size() - 1);
+	}
+
+	private Map<String, Object> collect(List<?> items, List<CompletableFuture<ElementResult>> futures) {
+		List<Message> messages = new ArrayList<>();
+		Object[] outputs = new Object[futures.size()];
+		List<Map<String, Object>> errors = new ArrayList<>();
+		for (int i = 0; i < futures.size(); i++) {
+			CompletableFuture<ElementResult> future = futures.get(i);
+			if (future.isCompletedExceptionally()) {
+				Throwable error = unwrap(future.handle((value, ex) -> ex).join());
+				logger.warn("Loop element {} of {} failed", i, nodeId, error);
+				Map<String, Object> entry = new LinkedHashMap<>();
+				entry.put("index", i);
+				entry.put("item", String.valueOf(items.get(i)));
+				entry.put("error", String.valueOf(error.getMessage()));
+				errors.add(entry);
+				continue;
+			}
+			ElementResult result = future.join();
+			messages.addAll(result.messages());
+			outputs[i] = result.output();
+		}
+
+		Map<String, Object> update = new HashMap<>();
+		update.put(LoopStrategy.MESSAGE_KEY, messages);
+		update.put(loopStrategy.outputKey(), new ArrayList<>(Arrays.asList(outputs)));
+		update.put(loopStrategy.loopCountKey(), futures.size());
+		update.put(loopStrategy.loopFlagKey(), false);
+		if (loopStrategy.failurePolicy() == ArrayLoopStrategy.FailurePolicy.COLLECT_ERRORS) {
+			update.put(loopStrategy.errorsKey(), errors);
+		}
+		return update;
+	}
+
+	private void release(RunnableConfig elementConfig) {
+		Optional<BaseCheckpointSaver> saver = subAgent.getAndCompileGraph().compileConfig.checkpointSaver();
+		if (saver.isEmpty()) {
+			return;
+		}
+		try {
+			saver.get().release(elementConfig);
+		}
+		catch (Exception ex) {
+			logger.warn("Failed to release checkpoint thread {} of {}", elementConfig.threadId().orElse(null),
+					nodeId, ex);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<Message> messages(OverAllState state) {
+		return (List<Message>) state.value(LoopStrategy.MESSAGE_KEY).orElse(List.of());
+	}
+
+	private static Throwable unwrap(Throwable ex) {
+		return ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+	}
+
+	private record ElementResult(List<Message> messages, Object output) {
+	}
+
+}
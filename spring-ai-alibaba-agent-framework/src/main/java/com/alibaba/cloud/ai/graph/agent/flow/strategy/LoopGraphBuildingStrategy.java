@@ -20,9 +20,11 @@ import com.alibaba.cloud.ai.graph.KeyStrategy;
 import com.alibaba.cloud.ai.graph.KeyStrategyFactory;
 import com.alibaba.cloud.ai.graph.agent.Agent;
 import com.alibaba.cloud.ai.graph.agent.flow.agent.LoopAgent;
+import com.alibaba.cloud.ai.graph.agent.flow.agent.loop.ArrayLoopStrategy;
 import com.alibaba.cloud.ai.graph.agent.flow.agent.loop.LoopStrategy;
 import com.alibaba.cloud.ai.graph.agent.flow.builder.FlowGraphBuilder;
 import com.alibaba.cloud.ai.graph.agent.flow.enums.FlowAgentEnum;
+import com.alibaba.cloud.ai.graph.agent.flow.node.ParallelArrayLoopNode;
 import com.alibaba.cloud.ai.graph.agent.flow.node.TransparentNode;
 import com.alibaba.cloud.ai.graph.exception.GraphStateException;
 import com.alibaba.cloud.ai.graph.state.strategy.ReplaceStrategy;
@@ -40,6 +42,10 @@ import static com.alibaba.cloud.ai.graph.action.AsyncNodeAction.node_async;
  * <p>
  * Structure of the loop graph: START -> LoopInitLoop -> LoopDispatchNode (condition met -> SubAgentNode -> LoopDispatchNode; condition not met -> END)
  * </p>
+ * <p>
+ * A parallel {@link ArrayLoopStrategy} has no dispatch node: START -> LoopInitNode -> SubAgentNode -> END, where the
+ * sub-agent node runs every element concurrently.
+ * </p>
  *
  * @author vlsmb
  * @since 2025/8/25
@@ -59,6 +65,11 @@ public class LoopGraphBuildingStrategy extends AbstractFlowGraphBuildingStrategy
 		this.graph.addNode(loopStrategy.loopInitNodeName(), node_async(loopStrategy::loopInit));
 		this.graph.addEdge(rootAgent.name(), loopStrategy.loopInitNodeName());
 
+		if (loopStrategy instanceof ArrayLoopStrategy arrayLoopStrategy && arrayLoopStrategy.isParallel()) {
+			buildParallelArrayGraph(arrayLoopStrategy, subAgent);
+			return;
+		}
+
 		this.graph.addNode(loopStrategy.loopDispatchNodeName(), node_async(loopStrategy::loopDispatch));
 		this.graph.addEdge(loopStrategy.loopInitNodeName(), loopStrategy.loopDispatchNodeName());
 
@@ -93,6 +104,22 @@ public class LoopGraphBuildingStrategy extends AbstractFlowGraphBuildingStrategy
 		}), Map.of("continue", loopEntryNode, "break", this.exitNode));
 	}
 
+	/**
+	 * Parallel array loop: LoopInitNode -> SubAgentNode (all elements) -> exit. The sub-agent node runs every
+	 * element itself, so beforeModel and afterModel hooks run once around the whole batch.
+	 */
+	private void buildParallelArrayGraph(ArrayLoopStrategy loopStrategy, Agent subAgent) throws GraphStateException {
+		this.graph.addNode(subAgent.name(), new ParallelArrayLoopNode(subAgent.name(), loopStrategy, subAgent));
+
+		String loopEntryNode = !this.beforeModelHooks.isEmpty()
+				? connectBeforeModelHookEdges(this.graph, subAgent.name(), this.beforeModelHooks) : subAgent.name();
+		String afterSubAgentNode = !this.afterModelHooks.isEmpty()
+				? connectAfterModelHookEdges(this.graph, subAgent.name(), this.afterModelHooks) : subAgent.name();
+
+		this.graph.addEdge(loopStrategy.loopInitNodeName(), loopEntryNode);
+		this.graph.addEdge(afterSubAgentNode, this.exitNode);
+	}
+
 	/**
 	 * Connects beforeAgent hooks directly to the loop processor.
 	 * In loop scenarios, beforeAgent hooks execute once before the loop starts,
@@ -138,6 +165,10 @@ public class LoopGraphBuildingStrategy extends AbstractFlowGraphBuildingStrategy
 			Map<String, KeyStrategy> loopStrategies = loopStrategy.tempKeys()
 					.stream()
 					.collect(Collectors.toMap(key -> key, key -> new ReplaceStrategy(), (k1, k2) -> k1));
+			if (loopStrategy instanceof ArrayLoopStrategy arrayLoopStrategy && arrayLoopStrategy.isParallel()) {
+				loopStrategies.put(arrayLoopStrategy.outputKey(), new ReplaceStrategy());
+				loopStrategies.put(arrayLoopStrategy.errorsKey(), new ReplaceStrategy());
+			}
 
 			return Stream.of(baseStrategies, loopStrategies)
 					.flatMap(map -> map.entrySet().stream())
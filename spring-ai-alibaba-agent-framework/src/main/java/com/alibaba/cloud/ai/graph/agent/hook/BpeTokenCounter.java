@@ -0,0 +1,137 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.graph.agent.hook;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.knuddels.jtokkit.Encodings;
+import com.knuddels.jtokkit.api.Encoding;
+import com.knuddels.jtokkit.api.EncodingType;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.ToolResponseMessage;
+
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Token counter that encodes message text with a BPE tokenizer (JTokkit) instead of
+ * estimating from the character count.
+ *
+ * <p>It counts the same parts of each message as
+ * {@link TokenCounter#approximateMsgCounter()}: the text, the arguments of tool calls
+ * and the data of tool responses. Special tokens in the text are counted as ordinary
+ * text. Encoding is far more expensive than a length division, so the counts of
+ * recently used strings are cached, bounded by the total length of the cached strings;
+ * combine it with
+ * {@link TokenCounter#cached(TokenCounter)} to also avoid revisiting the history.</p>
+ */
+public class BpeTokenCounter implements TokenCounter {
+
+	private final Encoding encoding;
+
+	private final Cache<String, Integer> cache;
+
+	private BpeTokenCounter(Builder builder) {
+		this.encoding = Encodings.newLazyEncodingRegistry().getEncoding(builder.encodingType);
+		this.cache = builder.maxCachedChars > 0 ? Caffeine.newBuilder()
+			.maximumWeight(builder.maxCachedChars)
+			.<String, Integer>weigher((text, tokens) -> text.length())
+			.build() : null;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	@Override
+	public int countTokens(List<Message> messages) {
+		int total = 0;
+		for (Message msg : messages) {
+			if (msg instanceof ToolResponseMessage toolResponseMessage) {
+				for (ToolResponseMessage.ToolResponse response : toolResponseMessage.getResponses()) {
+					total += countText(response.responseData());
+				}
+			}
+			else if (msg instanceof AssistantMessage assistantMessage) {
+				total += countText(msg.getText());
+				for (AssistantMessage.ToolCall toolCall : assistantMessage.getToolCalls()) {
+					total += countText(toolCall.arguments());
+				}
+			}
+			else {
+				total += countText(msg.getText());
+			}
+		}
+		return total;
+	}
+
+	/**
+	 * Count the tokens of a text.
+	 *
+	 * @param text The text to encode
+	 * @return The number of tokens, 0 for {@code null} or empty text
+	 */
+	public int countText(String text) {
+		if (text == null || text.isEmpty()) {
+			return 0;
+		}
+		if (cache == null) {
+			return encoding.countTokensOrdinary(text);
+		}
+		return cache.get(text, encoding::countTokensOrdinary);
+	}
+
+	public static class Builder {
+
+		private EncodingType encodingType = EncodingType.CL100K_BASE;
+
+		private long maxCachedChars = 4L * 1024 * 1024;
+
+		/**
+		 * Set the BPE encoding, {@code cl100k_base} by default.
+		 *
+		 * @param encodingType The encoding
+		 * @return this builder
+		 */
+		public Builder encodingType(EncodingType encodingType) {
+			this.encodingType = requireNonNull(encodingType, "encodingType cannot be null!");
+			return this;
+		}
+
+		/**
+		 * Set the total length, in characters, of the strings whose counts are cached,
+		 * 4M characters by default; 0 disables the cache.
+		 *
+		 * @param maxCachedChars The maximum total length of the cached strings
+		 * @return this builder
+		 */
+		public Builder maxCachedChars(long maxCachedChars) {
+			if (maxCachedChars < 0) {
+				throw new IllegalArgumentException("maxCachedChars must not be negative");
+			}
+			this.maxCachedChars = maxCachedChars;
+			return this;
+		}
+
+		public BpeTokenCounter build() {
+			return new BpeTokenCounter(this);
+		}
+
+	}
+
+}
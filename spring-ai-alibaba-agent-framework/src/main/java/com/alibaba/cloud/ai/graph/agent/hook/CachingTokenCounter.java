@@ -0,0 +1,130 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.graph.agent.hook;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.ai.chat.messages.Message;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Token counter that keeps per-message counts and running totals, so that hooks calling
+ * it on every model call do not re-tokenize the whole message history.
+ *
+ * <p>Counts are cached per message instance; messages are immutable once they are in
+ * the {@code messages} channel, and entries are dropped when a message is garbage
+ * collected. For each conversation, keyed by its first message, the counter remembers
+ * the last counted history with its prefix sums: a history that extends it is counted
+ * by comparing references and counting only the appended messages, while a rewritten
+ * history (for example after summarization) is recounted from the first changed
+ * message. Share one instance between hooks to share the accounting.</p>
+ *
+ * <p>The delegate must count a message list as the sum of its messages, as
+ * {@link TokenCounter#approximateMsgCounter()} and {@link BpeTokenCounter} do.</p>
+ */
+public class CachingTokenCounter implements TokenCounter {
+
+	private static final int MAX_CACHED_MESSAGES = 100_000;
+
+	private static final int MAX_TRACKED_CONVERSATIONS = 10_000;
+
+	private final TokenCounter delegate;
+
+	// weak keys compare by identity and let collected messages drop out
+	private final Cache<Message, Integer> counts = Caffeine.newBuilder()
+		.weakKeys()
+		.maximumSize(MAX_CACHED_MESSAGES)
+		.build();
+
+	private final Cache<Message, RunningTotal> totals = Caffeine.newBuilder()
+		.weakKeys()
+		.maximumSize(MAX_TRACKED_CONVERSATIONS)
+		.build();
+
+	public CachingTokenCounter(TokenCounter delegate) {
+		this.delegate = requireNonNull(delegate, "delegate cannot be null!");
+	}
+
+	@Override
+	public int countTokens(List<Message> messages) {
+		if (messages.isEmpty()) {
+			return 0;
+		}
+		RunningTotal total = totals.get(messages.get(0), first -> new RunningTotal());
+		return total.update(messages, this);
+	}
+
+	@Override
+	public int countTokens(Message message) {
+		Integer cached = counts.getIfPresent(message);
+		if (cached != null) {
+			return cached;
+		}
+		int tokens = delegate.countTokens(List.of(message));
+		counts.put(message, tokens);
+		return tokens;
+	}
+
+	public TokenCounter getDelegate() {
+		return delegate;
+	}
+
+	/**
+	 * The last counted history of one conversation. The first message is the cache key,
+	 * so only the following ones are referenced here; otherwise the entry would keep its
+	 * own weak key reachable.
+	 */
+	private static final class RunningTotal {
+
+		private Message[] messages = new Message[16];
+
+		// prefix[i] is the token count of the first i + 1 messages
+		private int[] prefix = new int[16];
+
+		private int size;
+
+		synchronized int update(List<Message> history, CachingTokenCounter counter) {
+			int common = size == 0 ? 0 : 1;
+			int limit = Math.min(size, history.size());
+			while (common < limit && messages[common] == history.get(common)) {
+				common++;
+			}
+			Arrays.fill(messages, common, size, null);
+			size = common;
+			for (int i = common; i < history.size(); i++) {
+				Message message = history.get(i);
+				append(i == 0 ? null : message, counter.countTokens(message));
+			}
+			return prefix[size - 1];
+		}
+
+		private void append(Message message, int tokens) {
+			if (size == messages.length) {
+				messages = Arrays.copyOf(messages, size * 2);
+				prefix = Arrays.copyOf(prefix, size * 2);
+			}
+			messages[size] = message;
+			prefix[size] = (size == 0 ? 0 : prefix[size - 1]) + tokens;
+			size++;
+		}
+
+	}
+
+}
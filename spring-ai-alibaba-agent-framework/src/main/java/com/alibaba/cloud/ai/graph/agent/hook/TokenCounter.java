@@ -44,6 +44,30 @@ public interface TokenCounter {
 		return approximateMsgCounter(DEFAULT_CHARS_PER_TOKEN);
 	}
 
+	/**
+	 * Creates a token counter that encodes text with the {@code cl100k_base} BPE
+	 * tokenizer, caching the counts of recently seen strings.
+	 *
+	 * @return A BPE token counter
+	 * @see BpeTokenCounter
+	 */
+	static TokenCounter bpeCounter() {
+		return BpeTokenCounter.builder().build();
+	}
+
+	/**
+	 * Wraps a token counter so that each message is counted once and the running total
+	 * of a growing message history only counts the newly appended messages.
+	 * The wrapped counter must count a message list as the sum of its messages.
+	 *
+	 * @param counter The token counter to wrap
+	 * @return A caching token counter, or the given counter if it already caches
+	 * @see CachingTokenCounter
+	 */
+	static TokenCounter cached(TokenCounter counter) {
+		return counter instanceof CachingTokenCounter ? counter : new CachingTokenCounter(counter);
+	}
+
 	/**
 	 * Creates a token counter with a custom character-to-token ratio.
 	 * Handles ToolResponseMessage (processing ToolResponse) and AssistantMessage (processing ToolCall).
@@ -90,5 +114,15 @@ public interface TokenCounter {
 	 * @return The estimated token count
 	 */
 	int countTokens(List<Message> messages);
+
+	/**
+	 * Count the approximate number of tokens in a single message.
+	 *
+	 * @param message The message to count tokens for
+	 * @return The estimated token count
+	 */
+	default int countTokens(Message message) {
+		return countTokens(List.of(message));
+	}
 }
 
@@ -23,6 +23,8 @@ import com.alibaba.cloud.ai.graph.agent.hook.messages.AgentCommand;
 import com.alibaba.cloud.ai.graph.agent.hook.messages.MessagesModelHook;
 import com.alibaba.cloud.ai.graph.agent.hook.messages.UpdatePolicy;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.ai.chat.messages.AssistantMessage;
 import org.springframework.ai.chat.messages.Message;
 import org.springframework.ai.chat.messages.ToolResponseMessage;
@@ -39,6 +41,9 @@ import java.util.List;
  * to handle them. It can detect emails, credit cards, IP addresses,
  * MAC addresses, and URLs in both user input and agent output.
  *
+ * Each message instance is scanned once: messages kept in the conversation
+ * are remembered, so later model calls only scan the messages added since.
+ *
  * Example:
  * PIIDetectionHook pii = PIIDetectionHook.builder()
  *     .piiType(PIIType.EMAIL)
@@ -49,6 +54,8 @@ import java.util.List;
 @HookPositions({HookPosition.BEFORE_MODEL, HookPosition.AFTER_MODEL})
 public class PIIDetectionHook extends MessagesModelHook {
 
+	private static final int MAX_SCANNED_MESSAGES = 100_000;
+
 	private final PIIType piiType;
 	private final RedactionStrategy strategy;
 	private final PIIDetector detector;
@@ -56,6 +63,12 @@ public class PIIDetectionHook extends MessagesModelHook {
 	private final boolean applyToOutput;
 	private final boolean applyToToolResults;
 
+	// messages already scanned, or produced by redaction; weak keys compare by identity
+	private final Cache<Message, Boolean> scannedMessages = Caffeine.newBuilder()
+		.weakKeys()
+		.maximumSize(MAX_SCANNED_MESSAGES)
+		.build();
+
 	private PIIDetectionHook(Builder builder) {
 		this.piiType = builder.piiType;
 		this.strategy = builder.strategy;
@@ -71,18 +84,24 @@ public class PIIDetectionHook extends MessagesModelHook {
 
 	@Override
 	public AgentCommand beforeModel(List<Message> previousMessages, RunnableConfig config) {
-		List<Message> processedMessages = new ArrayList<>();
-		boolean hasChanges = false;
+		List<Message> processedMessages = null;
 
-		for (Message message : previousMessages) {
+		for (int i = 0; i < previousMessages.size(); i++) {
+			Message message = previousMessages.get(i);
+			if (isScanned(message)) {
+				continue;
+			}
 			Message processed = processMessage(message);
-			processedMessages.add(processed);
+			markScanned(processed);
 			if (processed != message) {
-				hasChanges = true;
+				if (processedMessages == null) {
+					processedMessages = new ArrayList<>(previousMessages);
+				}
+				processedMessages.set(i, processed);
 			}
 		}
 
-		if (hasChanges) {
+		if (processedMessages != null) {
 			return new AgentCommand(processedMessages, UpdatePolicy.REPLACE);
 		}
 
@@ -111,7 +130,7 @@ public class PIIDetectionHook extends MessagesModelHook {
 			}
 		}
 
-		if (aiMessage == null) {
+		if (aiMessage == null || isScanned(aiMessage)) {
 			return new AgentCommand(previousMessages);
 		}
 
@@ -125,6 +144,7 @@ public class PIIDetectionHook extends MessagesModelHook {
 		ProcessResult result = processText(content);
 
 		if (!result.hasMatches) {
+			markScanned(aiMessage);
 			return new AgentCommand(previousMessages);
 		}
 
@@ -134,6 +154,7 @@ public class PIIDetectionHook extends MessagesModelHook {
 		}
 
 		if (result.redactedText.equals(content)) {
+			markScanned(aiMessage);
 			return new AgentCommand(previousMessages);
 		}
 
@@ -145,12 +166,21 @@ public class PIIDetectionHook extends MessagesModelHook {
 			.media(aiMessage.getMedia())
 			.build();
 
+		markScanned(updatedMessage);
 		List<Message> updatedMessages = new ArrayList<>(previousMessages);
 		updatedMessages.set(lastIndex, updatedMessage);
 
 		return new AgentCommand(updatedMessages, UpdatePolicy.REPLACE);
 	}
 
+	private boolean isScanned(Message message) {
+		return scannedMessages.getIfPresent(message) != null;
+	}
+
+	private void markScanned(Message message) {
+		scannedMessages.put(message, Boolean.TRUE);
+	}
+
 	private Message processMessage(Message message) {
 		if (applyToInput && message instanceof UserMessage) {
 			return processContent((UserMessage) message);
@@ -17,12 +17,17 @@ package com.alibaba.cloud.ai.graph.agent.hook.pii;
 
 import java.net.InetAddress;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
  * Built-in PII detectors for common types.
+ *
+ * <p>The built-in detectors first scan the text once for literal anchors, such as the
+ * {@code @} of an email, and only run their regular expression when one is found, so
+ * that text without PII costs a single pass over its characters.</p>
  */
 public class PIIDetectors {
 
@@ -42,20 +47,69 @@ public class PIIDetectors {
 			Pattern.compile("\\bhttps?://[\\w\\-]+(\\.[\\w\\-]+)+[/#?]?.*?\\b");
 
 	public static PIIDetector emailDetector() {
+		return content -> detect(content, PIIPrefilter.EMAIL);
+	}
+
+	public static PIIDetector creditCardDetector() {
+		return content -> detect(content, PIIPrefilter.CREDIT_CARD);
+	}
+
+	public static PIIDetector ipDetector() {
+		return content -> detect(content, PIIPrefilter.IP);
+	}
+
+	public static PIIDetector macAddressDetector() {
+		return content -> detect(content, PIIPrefilter.MAC_ADDRESS);
+	}
+
+	public static PIIDetector urlDetector() {
+		return content -> detect(content, PIIPrefilter.URL);
+	}
+
+	/**
+	 * Create a detector for several built-in PII types that scans the text once for the
+	 * anchors of all types and only runs the regular expressions of the types found.
+	 * Where matches of different types overlap, the one starting first is kept.
+	 *
+	 * @param types The built-in PII types to detect
+	 * @return A detector for all given types
+	 * @throws IllegalArgumentException if no type or {@link PIIType#CUSTOM} is given
+	 */
+	public static PIIDetector combinedDetector(PIIType... types) {
+		if (types == null || types.length == 0) {
+			throw new IllegalArgumentException("At least one PII type must be specified");
+		}
+		int requested = 0;
+		for (PIIType type : types) {
+			requested |= PIIPrefilter.bit(type);
+		}
+		int combined = requested;
+		return content -> removeOverlaps(detect(content, combined));
+	}
+
+	public static PIIDetector regexDetector(String type, String pattern) {
+		Pattern compiledPattern = Pattern.compile(pattern);
 		return content -> {
 			List<PIIMatch> matches = new ArrayList<>();
-			Matcher matcher = EMAIL_PATTERN.matcher(content);
+			Matcher matcher = compiledPattern.matcher(content);
 			while (matcher.find()) {
-				matches.add(new PIIMatch("email", matcher.group(),
+				matches.add(new PIIMatch(type, matcher.group(),
 						matcher.start(), matcher.end()));
 			}
 			return matches;
 		};
 	}
 
-	public static PIIDetector creditCardDetector() {
-		return content -> {
-			List<PIIMatch> matches = new ArrayList<>();
+	private static List<PIIMatch> detect(String content, int requested) {
+		List<PIIMatch> matches = new ArrayList<>();
+		if (content == null || content.isEmpty()) {
+			return matches;
+		}
+		int found = PIIPrefilter.scan(content, requested);
+		if ((found & PIIPrefilter.EMAIL) != 0) {
+			find(EMAIL_PATTERN, "email", content, matches);
+		}
+		if ((found & PIIPrefilter.CREDIT_CARD) != 0) {
 			Matcher matcher = CREDIT_CARD_PATTERN.matcher(content);
 			while (matcher.find()) {
 				String cardNumber = matcher.group();
@@ -64,13 +118,8 @@ public class PIIDetectors {
 							matcher.start(), matcher.end()));
 				}
 			}
-			return matches;
-		};
-	}
-
-	public static PIIDetector ipDetector() {
-		return content -> {
-			List<PIIMatch> matches = new ArrayList<>();
+		}
+		if ((found & PIIPrefilter.IP) != 0) {
 			Matcher matcher = IPV4_PATTERN.matcher(content);
 			while (matcher.find()) {
 				String ip = matcher.group();
@@ -82,45 +131,38 @@ public class PIIDetectors {
 					// Invalid IP, skip
 				}
 			}
-			return matches;
-		};
+		}
+		if ((found & PIIPrefilter.MAC_ADDRESS) != 0) {
+			find(MAC_ADDRESS_PATTERN, "mac_address", content, matches);
+		}
+		if ((found & PIIPrefilter.URL) != 0) {
+			find(URL_PATTERN, "url", content, matches);
+		}
+		return matches;
 	}
 
-	public static PIIDetector macAddressDetector() {
-		return content -> {
-			List<PIIMatch> matches = new ArrayList<>();
-			Matcher matcher = MAC_ADDRESS_PATTERN.matcher(content);
-			while (matcher.find()) {
-				matches.add(new PIIMatch("mac_address", matcher.group(),
-						matcher.start(), matcher.end()));
-			}
-			return matches;
-		};
+	private static void find(Pattern pattern, String type, String content, List<PIIMatch> matches) {
+		Matcher matcher = pattern.matcher(content);
+		while (matcher.find()) {
+			matches.add(new PIIMatch(type, matcher.group(),
+					matcher.start(), matcher.end()));
+		}
 	}
 
-	public static PIIDetector urlDetector() {
-		return content -> {
-			List<PIIMatch> matches = new ArrayList<>();
-			Matcher matcher = URL_PATTERN.matcher(content);
-			while (matcher.find()) {
-				matches.add(new PIIMatch("url", matcher.group(),
-						matcher.start(), matcher.end()));
-			}
+	private static List<PIIMatch> removeOverlaps(List<PIIMatch> matches) {
+		if (matches.size() < 2) {
 			return matches;
-		};
-	}
-
-	public static PIIDetector regexDetector(String type, String pattern) {
-		Pattern compiledPattern = Pattern.compile(pattern);
-		return content -> {
-			List<PIIMatch> matches = new ArrayList<>();
-			Matcher matcher = compiledPattern.matcher(content);
-			while (matcher.find()) {
-				matches.add(new PIIMatch(type, matcher.group(),
-						matcher.start(), matcher.end()));
+		}
+		matches.sort(Comparator.comparingInt((PIIMatch m) -> m.start).thenComparingInt(m -> -m.end));
+		List<PIIMatch> result = new ArrayList<>(matches.size());
+		int lastEnd = -1;
+		for (PIIMatch match : matches) {
+			if (match.start >= lastEnd) {
+				result.add(match);
+				lastEnd = match.end;
 			}
-			return matches;
-		};
+		}
+		return result;
 	}
 
 	/**
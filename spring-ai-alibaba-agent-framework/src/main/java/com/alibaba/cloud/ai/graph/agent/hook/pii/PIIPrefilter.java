@@ -0,0 +1,138 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.graph.agent.hook.pii;
+
+/**
+ * Single-pass scan for the literal anchors that every match of a built-in detector
+ * contains, so that the regular expressions only run on text that can match.
+ *
+ * <p>The anchors are: {@code @} for emails, three dots each following one to three
+ * digits for IP addresses, five groups of two hex digits each followed by {@code :} or
+ * {@code -} for MAC addresses, {@code ://} for URLs and at least 16 digits for credit
+ * card numbers. They are necessary, not sufficient, conditions: a found anchor is
+ * confirmed by the regular expression of its type.</p>
+ */
+final class PIIPrefilter {
+
+	static final int EMAIL = 1;
+
+	static final int CREDIT_CARD = 1 << 1;
+
+	static final int IP = 1 << 2;
+
+	static final int MAC_ADDRESS = 1 << 3;
+
+	static final int URL = 1 << 4;
+
+	private static final int CARD_DIGITS = 16;
+
+	private PIIPrefilter() {
+	}
+
+	/**
+	 * Get the anchor bit of a built-in PII type.
+	 *
+	 * @param type The PII type
+	 * @return The anchor bit
+	 * @throws IllegalArgumentException for {@link PIIType#CUSTOM}
+	 */
+	static int bit(PIIType type) {
+		switch (type) {
+		case EMAIL:
+			return EMAIL;
+		case CREDIT_CARD:
+			return CREDIT_CARD;
+		case IP:
+			return IP;
+		case MAC_ADDRESS:
+			return MAC_ADDRESS;
+		case URL:
+			return URL;
+		default:
+			throw new IllegalArgumentException("No built-in detector for PII type: " + type);
+		}
+	}
+
+	/**
+	 * Scan a text for the anchors of the requested types.
+	 *
+	 * @param text The text to scan
+	 * @param requested The anchor bits to look for
+	 * @return The requested anchor bits found in the text
+	 */
+	static int scan(String text, int requested) {
+		int found = 0;
+		int digits = 0;
+		int digitRun = 0;
+		int hexRun = 0;
+		int ipDots = 0;
+		int macGroups = 0;
+		char prev = 0;
+		char prevPrev = 0;
+		for (int i = 0, n = text.length(); i < n && found != requested; i++) {
+			char c = text.charAt(i);
+			if (c >= '0' && c <= '9') {
+				digitRun++;
+				hexRun++;
+				if (++digits >= CARD_DIGITS) {
+					found |= CREDIT_CARD;
+				}
+			}
+			else if (isHexDigit(c)) {
+				digitRun = 0;
+				ipDots = 0;
+				hexRun++;
+			}
+			else {
+				if (c == '.') {
+					ipDots = digitRun >= 1 && digitRun <= 3 ? ipDots + 1 : 0;
+					if (ipDots == 3) {
+						found |= IP;
+					}
+				}
+				else {
+					ipDots = 0;
+				}
+				if (c == ':' || c == '-') {
+					macGroups = hexRun == 2 ? macGroups + 1 : 0;
+					if (macGroups == 5) {
+						found |= MAC_ADDRESS;
+					}
+				}
+				else {
+					macGroups = 0;
+				}
+				if (c == '@') {
+					found |= EMAIL;
+				}
+				else if (c == '/' && prev == '/' && prevPrev == ':') {
+					found |= URL;
+				}
+				digitRun = 0;
+				hexRun = 0;
+			}
+			found &= requested;
+			prevPrev = prev;
+			prev = c;
+		}
+		return found;
+	}
+
+	private static boolean isHexDigit(char c) {
+		return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+	}
+
+}
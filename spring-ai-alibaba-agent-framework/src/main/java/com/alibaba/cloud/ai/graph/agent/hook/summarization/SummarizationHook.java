@@ -19,6 +19,7 @@ import com.alibaba.cloud.ai.graph.RunnableConfig;
 import com.alibaba.cloud.ai.graph.agent.hook.HookPosition;
 import com.alibaba.cloud.ai.graph.agent.hook.HookPositions;
 import com.alibaba.cloud.ai.graph.agent.hook.JumpTo;
+import com.alibaba.cloud.ai.graph.agent.hook.BpeTokenCounter;
 import com.alibaba.cloud.ai.graph.agent.hook.TokenCounter;
 import com.alibaba.cloud.ai.graph.agent.hook.messages.AgentCommand;
 import com.alibaba.cloud.ai.graph.agent.hook.messages.UpdatePolicy;
@@ -89,7 +90,7 @@ public class SummarizationHook extends MessagesModelHook {
 		this.model = builder.model;
 		this.maxTokensBeforeSummary = builder.maxTokensBeforeSummary;
 		this.messagesToKeep = builder.messagesToKeep;
-		this.tokenCounter = builder.tokenCounter;
+		this.tokenCounter = builder.resolveTokenCounter();
 		this.summaryPrompt = builder.summaryPrompt;
 		this.summaryPrefix = builder.summaryPrefix;
 		this.keepFirstUserMessage = builder.keepFirstUserMessage;
@@ -317,6 +318,8 @@ public class SummarizationHook extends MessagesModelHook {
 		private Integer maxTokensBeforeSummary;
 		private int messagesToKeep = DEFAULT_MESSAGES_TO_KEEP;
 		private TokenCounter tokenCounter = TokenCounter.approximateMsgCounter();
+		private boolean customTokenCounter = false;
+		private Boolean cacheTokenCounts;
 		private String summaryPrompt = DEFAULT_SUMMARY_PROMPT;
 		private String summaryPrefix = SUMMARY_PREFIX;
 		private boolean keepFirstUserMessage = DEFAULT_KEEP_FIRST_USER_MESSAGE;
@@ -348,9 +351,29 @@ public class SummarizationHook extends MessagesModelHook {
 
 		public Builder tokenCounter(TokenCounter counter) {
 			this.tokenCounter = counter;
+			this.customTokenCounter = !(counter instanceof BpeTokenCounter);
 			return this;
 		}
 
+		/**
+		 * Cache per-message token counts and running totals with
+		 * {@link TokenCounter#cached(TokenCounter)}. Enabled by default for the built-in
+		 * counters; a custom counter is only cached when this is set, since caching is only
+		 * correct for counters that count a message list as the sum of its messages.
+		 *
+		 * @param cacheTokenCounts whether to cache token counts
+		 * @return this builder
+		 */
+		public Builder cacheTokenCounts(boolean cacheTokenCounts) {
+			this.cacheTokenCounts = cacheTokenCounts;
+			return this;
+		}
+
+		private TokenCounter resolveTokenCounter() {
+			boolean cache = cacheTokenCounts != null ? cacheTokenCounts : !customTokenCounter;
+			return cache ? TokenCounter.cached(tokenCounter) : tokenCounter;
+		}
+
 		public Builder keepFirstUserMessage(boolean keep) {
 			this.keepFirstUserMessage = keep;
 			return this;
@@ -15,6 +15,7 @@
  */
 package com.alibaba.cloud.ai.graph.agent.interceptor.contextediting;
 
+import com.alibaba.cloud.ai.graph.agent.hook.BpeTokenCounter;
 import com.alibaba.cloud.ai.graph.agent.hook.TokenCounter;
 import com.alibaba.cloud.ai.graph.agent.interceptor.ModelCallHandler;
 import com.alibaba.cloud.ai.graph.agent.interceptor.ModelInterceptor;
@@ -70,7 +71,7 @@ public class ContextEditingInterceptor extends ModelInterceptor {
 				? new HashSet<>(builder.excludeTools)
 				: new HashSet<>();
 		this.placeholder = builder.placeholder;
-		this.tokenCounter = builder.tokenCounter;
+		this.tokenCounter = builder.resolveTokenCounter();
 	}
 
 	public static Builder builder() {
@@ -204,7 +205,7 @@ public class ContextEditingInterceptor extends ModelInterceptor {
 					continue;
 				}
 
-				int tokens = tokenCounter.countTokens(List.of(toolMsg));
+				int tokens = tokenCounter.countTokens(toolMsg);
 				candidates.add(new ClearableToolMessage(i, tokens));
 			}
 			else if (msg instanceof AssistantMessage assistantMsg) {
@@ -240,7 +241,7 @@ public class ContextEditingInterceptor extends ModelInterceptor {
 					continue;
 				}
 
-				int tokens = tokenCounter.countTokens(List.of(assistantMsg));
+				int tokens = tokenCounter.countTokens(assistantMsg);
 				candidates.add(new ClearableToolMessage(i, tokens));
 			}
 		}
@@ -280,6 +281,8 @@ public class ContextEditingInterceptor extends ModelInterceptor {
 		private Set<String> excludeTools;
 		private String placeholder = DEFAULT_PLACEHOLDER;
 		private TokenCounter tokenCounter = TokenCounter.approximateMsgCounter();
+		private boolean customTokenCounter = false;
+		private Boolean cacheTokenCounts;
 
 		public Builder trigger(int trigger) {
 			this.trigger = trigger;
@@ -318,9 +321,29 @@ public class ContextEditingInterceptor extends ModelInterceptor {
 
 		public Builder tokenCounter(TokenCounter tokenCounter) {
 			this.tokenCounter = tokenCounter;
+			this.customTokenCounter = !(tokenCounter instanceof BpeTokenCounter);
 			return this;
 		}
 
+		/**
+		 * Cache per-message token counts and running totals with
+		 * {@link TokenCounter#cached(TokenCounter)}. Enabled by default for the built-in
+		 * counters; a custom counter is only cached when this is set, since caching is only
+		 * correct for counters that count a message list as the sum of its messages.
+		 *
+		 * @param cacheTokenCounts whether to cache token counts
+		 * @return this builder
+		 */
+		public Builder cacheTokenCounts(boolean cacheTokenCounts) {
+			this.cacheTokenCounts = cacheTokenCounts;
+			return this;
+		}
+
+		private TokenCounter resolveTokenCounter() {
+			boolean cache = cacheTokenCounts != null ? cacheTokenCounts : !customTokenCounter;
+			return cache ? TokenCounter.cached(tokenCounter) : tokenCounter;
+		}
+
 		public ContextEditingInterceptor build() {
 			return new ContextEditingInterceptor(this);
 		}
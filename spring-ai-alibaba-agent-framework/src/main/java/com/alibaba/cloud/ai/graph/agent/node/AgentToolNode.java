@@ -31,6 +31,7 @@ import com.alibaba.cloud.ai.graph.agent.tool.DefaultCancellationToken;
 import com.alibaba.cloud.ai.graph.agent.tool.StateAwareToolCallback;
 import com.alibaba.cloud.ai.graph.agent.tool.ToolCancelledException;
 import com.alibaba.cloud.ai.graph.agent.tool.ToolStateCollector;
+import com.alibaba.cloud.ai.graph.internal.node.ConcurrencyLimiter;
 import com.alibaba.cloud.ai.graph.internal.node.ParallelNode;
 import com.alibaba.cloud.ai.graph.state.RemoveByHash;
 
@@ -61,7 +62,6 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReferenceArray;
@@ -316,35 +316,20 @@ public class AgentToolNode implements NodeActionWithConfig {
 		// from the exceptionally handler when outer timeout triggers
 		Map<Integer, DefaultCancellationToken> cancellationTokens = new ConcurrentHashMap<>();
 
-		// Use Semaphore to limit concurrency
-		Semaphore semaphore = new Semaphore(maxParallelTools);
+		// Limit concurrency without blocking executor threads on queued tools
+		ConcurrencyLimiter limiter = new ConcurrencyLimiter(maxParallelTools, executor);
 
 		List<CompletableFuture<Void>> futures = IntStream.range(0, toolCalls.size()).mapToObj(index -> {
 			AssistantMessage.ToolCall toolCall = toolCalls.get(index);
 			Map<String, Object> toolSpecificUpdate = stateCollector.createToolUpdateMap(index);
 
-			return CompletableFuture.runAsync(() -> {
-				try {
-					// Acquire permit to limit concurrent executions
-					semaphore.acquire();
-					try {
-						ToolCallResponse response = executeToolCallWithInterceptors(toolCall, stateSnapshot, config,
-								toolSpecificUpdate, true, cancellationTokens, index);
-						// CAS: only set if still null (not already timed out)
-						orderedResponses.compareAndSet(index, null, response);
-					}
-					finally {
-						semaphore.release();
-					}
-				}
-				catch (InterruptedException e) {
-					Thread.currentThread().interrupt();
-					failures.add(e);
-					// CAS: only set error if still null
-					orderedResponses.compareAndSet(index, null,
-							ToolCallResponse.error(toolCall.id(), toolCall.name(), "Tool execution was interrupted"));
-				}
-			}, executor)
+			return limiter.<Void>submit(() -> {
+				ToolCallResponse response = executeToolCallWithInterceptors(toolCall, stateSnapshot, config,
+						toolSpecificUpdate, true, cancellationTokens, index);
+				// CAS: only set if still null (not already timed out)
+				orderedResponses.compareAndSet(index, null, response);
+				return CompletableFuture.completedFuture(null);
+			})
 				.orTimeout(toolExecutionTimeout.toMillis(), TimeUnit.MILLISECONDS)
 				.exceptionally(ex -> {
 					// CAS: only set error if still null (tool hasn't completed successfully)
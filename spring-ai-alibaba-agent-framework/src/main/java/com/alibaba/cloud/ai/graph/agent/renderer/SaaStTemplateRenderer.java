@@ -1,5 +1,5 @@
 /*
- * Copyright 2024-2025 the original author or authors.
+ * Copyright 2024-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,10 +20,14 @@ import org.springframework.ai.template.ValidationMode;
 
 import org.springframework.util.Assert;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.antlr.runtime.Token;
 import org.antlr.runtime.TokenStream;
 import org.slf4j.Logger;
@@ -31,8 +35,18 @@ import org.slf4j.LoggerFactory;
 import org.stringtemplate.v4.ST;
 import org.stringtemplate.v4.STGroup;
 import org.stringtemplate.v4.compiler.Compiler;
+import org.stringtemplate.v4.compiler.FormalArgument;
 import org.stringtemplate.v4.compiler.STLexer;
 
+/**
+ * {@link TemplateRenderer} backed by StringTemplate, supporting single-character and
+ * multi-character delimiters.
+ * <p>
+ * Compiled templates are kept in a bounded cache shared by all renderers, so a prompt
+ * rendered repeatedly is parsed and compiled once. Each render works on its own
+ * {@link ST} instance copied from the cached prototype, so renderers are safe to use
+ * from multiple threads. See {@link #templateCacheStats()} for the cache hit rate.
+ */
 public class SaaStTemplateRenderer implements TemplateRenderer {
 
 	private static final Logger logger = LoggerFactory.getLogger(SaaStTemplateRenderer.class);
@@ -56,6 +70,13 @@ public class SaaStTemplateRenderer implements TemplateRenderer {
 
 	private static final char TEMP_END_DELIMITER = '\u0002';
 
+	private static final int TEMPLATE_CACHE_MAXIMUM_SIZE = 256;
+
+	private static final Cache<TemplateKey, CompiledTemplate> TEMPLATE_CACHE = Caffeine.newBuilder()
+		.maximumSize(TEMPLATE_CACHE_MAXIMUM_SIZE)
+		.recordStats()
+		.build();
+
 	private final char startDelimiterToken;
 
 	private final char endDelimiterToken;
@@ -131,12 +152,15 @@ public class SaaStTemplateRenderer implements TemplateRenderer {
 		Assert.notNull(variables, "variables cannot be null");
 		Assert.noNullElements(variables.keySet(), "variables keys cannot be null");
 
-		ST st = createST(template);
+		CompiledTemplate compiled = TEMPLATE_CACHE.get(new TemplateKey(template, Set.copyOf(variables.keySet()),
+				this.startDelimiterString, this.endDelimiterString, this.useStringDelimiters, this.validateStFunctions),
+				key -> compile(template, key.variableNames()));
+		ST st = compiled.newInstance();
 		for (Map.Entry<String, Object> entry : variables.entrySet()) {
 			st.add(entry.getKey(), entry.getValue());
 		}
 		if (this.validationMode != ValidationMode.NONE) {
-			validate(st, variables);
+			validate(compiled.inputVariables(), variables);
 		}
 		String result = st.render();
 		// Restore protected JSON content in the result
@@ -146,6 +170,27 @@ public class SaaStTemplateRenderer implements TemplateRenderer {
 		return result;
 	}
 
+	/**
+	 * Returns the statistics of the compiled template cache shared by all renderers.
+	 * @return the cache statistics, including the hit rate
+	 */
+	public static CacheStats templateCacheStats() {
+		return TEMPLATE_CACHE.stats();
+	}
+
+	private CompiledTemplate compile(String template, Set<String> variableNames) {
+		ST prototype = createST(template);
+		// Declare the variables up front: ST otherwise declares them on the shared compiled
+		// template while adding attributes, which is not safe across concurrent renders.
+		for (String name : variableNames) {
+			if (name.indexOf('.') < 0 && (prototype.impl.formalArguments == null
+					|| !prototype.impl.formalArguments.containsKey(name))) {
+				prototype.impl.addArg(new FormalArgument(name));
+			}
+		}
+		return new CompiledTemplate(prototype, Collections.unmodifiableSet(getInputVariables(prototype)));
+	}
+
 	private ST createST(String template) {
 		try {
 			String processedTemplate = template;
@@ -444,12 +489,11 @@ public class SaaStTemplateRenderer implements TemplateRenderer {
 	/**
 	 * Validates that all required template variables are provided in the model. Returns
 	 * the set of missing variables for further handling or logging.
-	 * @param st the StringTemplate instance
+	 * @param templateTokens the variables required by the template
 	 * @param templateVariables the provided variables
 	 * @return set of missing variable names, or empty set if none are missing
 	 */
-	private Set<String> validate(ST st, Map<String, Object> templateVariables) {
-		Set<String> templateTokens = getInputVariables(st);
+	private Set<String> validate(Set<String> templateTokens, Map<String, Object> templateVariables) {
 		Set<String> modelKeys = templateVariables.keySet();
 		Set<String> missingVariables = new HashSet<>(templateTokens);
 		missingVariables.removeAll(modelKeys);
@@ -512,6 +556,29 @@ public class SaaStTemplateRenderer implements TemplateRenderer {
 		return inputVariables;
 	}
 
+	/**
+	 * Cache key of a compiled template. The variable names are part of the key because
+	 * they are declared on the compiled template, and the validation flag because it
+	 * determines the cached input variables.
+	 */
+	private record TemplateKey(String template, Set<String> variableNames, String startDelimiter,
+			String endDelimiter, boolean useStringDelimiters, boolean validateStFunctions) {
+	}
+
+	/**
+	 * A compiled template together with the input variables found in it.
+	 */
+	private record CompiledTemplate(ST prototype, Set<String> inputVariables) {
+
+		ST newInstance() {
+			// copying an ST writes to the prototype's compiled template
+			synchronized (this.prototype) {
+				return new ST(this.prototype);
+			}
+		}
+
+	}
+
 	public static SaaStTemplateRenderer.Builder builder() {
 		return new SaaStTemplateRenderer.Builder();
 	}
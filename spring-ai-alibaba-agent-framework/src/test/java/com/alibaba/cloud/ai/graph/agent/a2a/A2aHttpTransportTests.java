@@ -0,0 +1,206 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.graph.agent.a2a;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class A2aHttpTransportTests {
+
+	private HttpServer server;
+
+	private String endpoint;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.setExecutor(Executors.newCachedThreadPool());
+		server.start();
+		endpoint = "http://127.0.0.1:" + server.getAddress().getPort();
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.stop(0);
+	}
+
+	@Test
+	void sendReusesPooledConnection() throws Exception {
+		Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+		server.createContext("/json", exchange -> {
+			clientPorts.add(exchange.getRemoteAddress().getPort());
+			respond(exchange, 200, "application/json", "{\"result\":{}}");
+		});
+		A2aHttpTransport transport = A2aHttpTransport.builder().endpoint(endpoint + "/json").build();
+
+		for (int i = 0; i < 3; i++) {
+			assertEquals("{\"result\":{}}", transport.send("{}").get(5, TimeUnit.SECONDS));
+		}
+
+		assertEquals(1, clientPorts.size(), "Sequential requests should share one keep-alive connection");
+		assertEquals(3, transport.metrics().requestCount());
+		assertEquals(0, transport.metrics().failureCount());
+		assertEquals(0, transport.metrics().activeRequests());
+	}
+
+	@Test
+	void sendFailsOnErrorStatus() {
+		server.createContext("/error", exchange -> respond(exchange, 500, "text/plain", "boom"));
+		A2aHttpTransport transport = A2aHttpTransport.builder().endpoint(endpoint + "/error").build();
+
+		ExecutionException ex = assertThrows(ExecutionException.class,
+				() -> transport.send("{}").get(5, TimeUnit.SECONDS));
+
+		assertInstanceOf(IllegalStateException.class, ex.getCause());
+		assertEquals("HTTP request failed, status: 500", ex.getCause().getMessage());
+		assertEquals(1, transport.metrics().failureCount());
+	}
+
+	@Test
+	void streamEmitsEventsAsTheyArrive() {
+		CountDownLatch firstEventReceived = new CountDownLatch(1);
+		server.createContext("/sse", exchange -> {
+			exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+			exchange.sendResponseHeaders(200, 0);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write("data: {\"n\":1}\n\n".getBytes(StandardCharsets.UTF_8));
+				out.flush();
+				// the second event is only written once the client has seen the first one
+				firstEventReceived.await(5, TimeUnit.SECONDS);
+				out.write(": keep-alive\n\ndata: {\"n\":2}\r\n\r\ndata: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		A2aHttpTransport transport = A2aHttpTransport.builder().endpoint(endpoint + "/sse").build();
+
+		List<String> events = transport.stream("{}")
+			.doOnNext(data -> firstEventReceived.countDown())
+			.collectList()
+			.block(Duration.ofSeconds(5));
+
+		assertEquals(List.of("{\"n\":1}", "{\"n\":2}", "[DONE]"), events);
+		assertEquals(1, transport.metrics().requestCount());
+	}
+
+	@Test
+	void streamEmitsNonEventStreamBodyOnce() {
+		server.createContext("/json", exchange -> respond(exchange, 200, "application/json", "{\"result\":{}}"));
+		A2aHttpTransport transport = A2aHttpTransport.builder().endpoint(endpoint + "/json").build();
+
+		List<String> events = transport.stream("{}").collectList().block(Duration.ofSeconds(5));
+
+		assertEquals(List.of("{\"result\":{}}"), events);
+	}
+
+	@Test
+	void streamLimitsConcurrentRequestsAndReleasesOnCancel() throws Exception {
+		AtomicInteger active = new AtomicInteger();
+		CountDownLatch cancelled = new CountDownLatch(1);
+		server.createContext("/slow", exchange -> {
+			active.incrementAndGet();
+			exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+			exchange.sendResponseHeaders(200, 0);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write("data: first\n\n".getBytes(StandardCharsets.UTF_8));
+				out.flush();
+				cancelled.await(5, TimeUnit.SECONDS);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			finally {
+				active.decrementAndGet();
+			}
+		});
+		A2aHttpTransport transport = A2aHttpTransport.builder().endpoint(endpoint + "/slow").maxConnections(1).build();
+
+		CountDownLatch firstEvent = new CountDownLatch(1);
+		Disposable first = transport.stream("{}").subscribe(data -> firstEvent.countDown());
+		assertTrue(firstEvent.await(5, TimeUnit.SECONDS));
+		var second = transport.stream("{}").next().toFuture();
+
+		// the second request waits for the connection held by the first stream
+		Thread.sleep(200);
+		assertEquals(1, active.get());
+		assertFalse(second.isDone());
+
+		first.dispose();
+		cancelled.countDown();
+		assertEquals("first", second.get(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void forEndpointSharesTransport() {
+		A2aHttpTransport custom = A2aHttpTransport.builder().endpoint(endpoint + "/shared").maxConnections(2).build();
+		A2aHttpTransport.register(custom);
+
+		assertSame(custom, A2aHttpTransport.forEndpoint(endpoint + "/shared"));
+		assertSame(A2aHttpTransport.forEndpoint(endpoint + "/other"), A2aHttpTransport.forEndpoint(endpoint + "/other"));
+	}
+
+	@Test
+	void decoderHandlesChunkBoundaries() {
+		SseEventDecoder decoder = new SseEventDecoder();
+		byte[] body = "data: {\"text\":\"你好\"}\ndata: more\n\nid: 7\ndata:last".getBytes(StandardCharsets.UTF_8);
+
+		// split inside the multi-byte characters and between the two data lines
+		List<String> first = decoder.decode(List.of(ByteBuffer.wrap(body, 0, 17)));
+		List<String> second = decoder.decode(List.of(ByteBuffer.wrap(body, 17, 20), ByteBuffer.wrap(body, 37, body.length - 37)));
+		List<String> last = decoder.finish();
+
+		assertTrue(first.isEmpty());
+		assertEquals(List.of("{\"text\":\"你好\"}\nmore"), second);
+		assertEquals(List.of("last"), last);
+	}
+
+	private static void respond(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", contentType);
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+}
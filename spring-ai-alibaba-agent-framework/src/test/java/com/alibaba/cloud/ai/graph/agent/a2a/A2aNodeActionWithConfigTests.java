@@ -18,147 +18,72 @@ package com.alibaba.cloud.ai.graph.agent.a2a;
 import com.alibaba.cloud.ai.graph.GraphResponse;
 import com.alibaba.cloud.ai.graph.NodeOutput;
 import com.alibaba.cloud.ai.graph.OverAllState;
-import com.alibaba.cloud.ai.graph.async.AsyncGenerator;
+import com.alibaba.cloud.ai.graph.RunnableConfig;
 import com.alibaba.cloud.ai.graph.streaming.OutputType;
 import com.alibaba.cloud.ai.graph.streaming.StreamingOutput;
 
 import org.springframework.ai.chat.messages.AssistantMessage;
-import org.springframework.ai.chat.metadata.EmptyUsage;
 
+import com.sun.net.httpserver.HttpServer;
 import io.a2a.spec.AgentCard;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import reactor.core.publisher.Flux;
 
+import java.io.OutputStream;
 import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 class A2aNodeActionWithConfigTests {
 
-	private static final Method TO_FLUX = initToFluxMethod();
-
 	private final A2aNodeActionWithConfig action = new A2aNodeActionWithConfig(createAgentCardWrapper(), "", false,
 			"messages", "instruction", true);
 
 	@Test
-	void toFluxEmitsAsyncData() throws Exception {
-		AsyncGenerator<NodeOutput> generator = new AsyncGenerator<>() {
-			private final AtomicInteger index = new AtomicInteger();
-
-			@Override
-			public Data<NodeOutput> next() {
-				int step = index.getAndIncrement();
-				if (step == 0) {
-					// Use completedFuture to avoid timing issues with async execution
-					return Data.of(
-							CompletableFuture.completedFuture(NodeOutput.of("node-1", "", new OverAllState(), new EmptyUsage())));
-				}
-				if (step == 1) {
-					return Data.done(Map.of("result", "ok"));
-				}
-				return Data.done();
-			}
-		};
-
-		Flux<GraphResponse<NodeOutput>> flux = invokeToFlux(generator);
-
-		List<GraphResponse<NodeOutput>> responses = flux.collectList().block(Duration.ofSeconds(5));
-
-		assertNotNull(responses);
-		assertEquals(2, responses.size());
-
-		GraphResponse<NodeOutput> first = responses.get(0);
-		assertFalse(first.isDone());
-		NodeOutput output = first.getOutput().getNow(null);
-		assertNotNull(output);
-		assertEquals("node-1", output.node());
-
-		GraphResponse<NodeOutput> second = responses.get(1);
-		assertTrue(second.isDone());
-		Map<?, ?> resultValue = (Map<?, ?>) second.resultValue().orElseThrow();
-		assertEquals("ok", resultValue.get("result"));
-	}
-
-	@Test
-	void toFluxDrainsCompletedFuturesWithoutRecursiveStackGrowth() throws Exception {
-		int count = 20_000;
-		AsyncGenerator<NodeOutput> generator = new AsyncGenerator<>() {
-			private final AtomicInteger index = new AtomicInteger();
-
-			@Override
-			public Data<NodeOutput> next() {
-				int step = index.getAndIncrement();
-				if (step < count) {
-					return Data.of(NodeOutput.of("node-" + step, "", new OverAllState(), new EmptyUsage()));
-				}
-				return Data.done(Map.of("result", "ok"));
+	void streamingReportsUnparsableNonEventStreamBody() throws Exception {
+		HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/", exchange -> {
+			byte[] body = "not json".getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().set("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
 			}
-		};
-
-		Flux<GraphResponse<NodeOutput>> flux = invokeToFlux(generator);
-
-		List<GraphResponse<NodeOutput>> responses = flux.collectList().block(Duration.ofSeconds(5));
-
-		assertNotNull(responses);
-		assertEquals(count + 1, responses.size());
-		assertEquals("node-0", responses.get(0).getOutput().getNow(null).node());
-		assertEquals("node-" + (count - 1), responses.get(count - 1).getOutput().getNow(null).node());
-		assertTrue(responses.get(count).isDone());
-	}
-
-	@Test
-	void toFluxPropagatesErrors() throws Exception {
-		AsyncGenerator<NodeOutput> generator = new AsyncGenerator<>() {
-			private final AtomicInteger index = new AtomicInteger();
-
-			@Override
-			public Data<NodeOutput> next() {
-				int step = index.getAndIncrement();
-				if (step == 0) {
-					// Use a completed exceptionally future to avoid timing issues
-					CompletableFuture<NodeOutput> failedFuture = new CompletableFuture<>();
-					failedFuture.completeExceptionally(new IllegalStateException("boom"));
-					return Data.of(failedFuture);
-				}
-				return Data.done();
-			}
-		};
-
-		Flux<GraphResponse<NodeOutput>> flux = invokeToFlux(generator);
-
-		IllegalStateException exception = assertThrows(IllegalStateException.class,
-				() -> flux.collectList().block(Duration.ofSeconds(5)));
-		assertEquals("boom", exception.getMessage());
-	}
-
-	@SuppressWarnings("unchecked")
-	private Flux<GraphResponse<NodeOutput>> invokeToFlux(AsyncGenerator<NodeOutput> generator) throws Exception {
-		return (Flux<GraphResponse<NodeOutput>>) TO_FLUX.invoke(this.action, generator);
-	}
-
-	private static Method initToFluxMethod() {
+		});
+		server.start();
 		try {
-			Method method = A2aNodeActionWithConfig.class.getDeclaredMethod("toFlux", AsyncGenerator.class);
-			method.setAccessible(true);
-			return method;
+			String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+			A2aNodeActionWithConfig streamingAction = new A2aNodeActionWithConfig(
+					new AgentCardWrapper(CachingAgentCardProviderTests.createAgentCard("agent", url)), "agent", false,
+					"messages", "instruction", true);
+
+			Map<String, Object> result = streamingAction.apply(new OverAllState(), RunnableConfig.builder().build());
+
+			@SuppressWarnings("unchecked")
+			List<GraphResponse<NodeOutput>> responses = ((Flux<GraphResponse<NodeOutput>>) result.get("messages"))
+				.collectList()
+				.block(Duration.ofSeconds(5));
+			assertNotNull(responses);
+			assertEquals(2, responses.size());
+			StreamingOutput<?> error = (StreamingOutput<?>) responses.get(0).getOutput().join();
+			assertTrue(error.chunk().startsWith("Error: "));
+			assertTrue(responses.get(1).isDone());
 		}
-		catch (NoSuchMethodException ex) {
-			throw new IllegalStateException(ex);
+		finally {
+			server.stop(0);
 		}
 	}
 
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.graph.agent.a2a;
+
+import io.a2a.spec.AgentCapabilities;
+import io.a2a.spec.AgentCard;
+import io.a2a.spec.AgentInterface;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CachingAgentCardProviderTests {
+
+	private final AtomicLong nanos = new AtomicLong();
+
+	private final FakeProvider delegate = new FakeProvider();
+
+	private final CachingAgentCardProvider provider = CachingAgentCardProvider.builder(delegate)
+		.ttl(Duration.ofSeconds(30))
+		.maxStale(Duration.ofMinutes(5))
+		.negativeTtl(Duration.ofSeconds(5))
+		.executor(Runnable::run)
+		.ticker(nanos::get)
+		.build();
+
+	@Test
+	void servesCachedCardWithinTtl() {
+		delegate.urls.put("agent", "http://a:1");
+
+		AgentCardWrapper first = provider.getAgentCard("agent");
+		advance(Duration.ofSeconds(29));
+		AgentCardWrapper second = provider.getAgentCard("agent");
+
+		assertSame(first, second);
+		assertEquals(1, delegate.lookups.get());
+	}
+
+	@Test
+	void refreshesStaleCardInPlaceWhileServingIt() {
+		delegate.urls.put("agent", "http://a:1");
+		AgentCardWrapper card = provider.getAgentCard("agent");
+
+		delegate.urls.put("agent", "http://a:2");
+		advance(Duration.ofSeconds(31));
+		AgentCardWrapper stale = provider.getAgentCard("agent");
+
+		// the stale wrapper is returned and updated by the background refresh
+		assertSame(card, stale);
+		assertEquals(2, delegate.lookups.get());
+		assertEquals("http://a:2", card.url());
+	}
+
+	@Test
+	void keepsStaleCardWhenRefreshFailsUntilMaxStale() {
+		delegate.urls.put("agent", "http://a:1");
+		AgentCardWrapper card = provider.getAgentCard("agent");
+
+		delegate.urls.remove("agent");
+		advance(Duration.ofSeconds(31));
+		assertSame(card, provider.getAgentCard("agent"));
+		assertEquals("http://a:1", card.url());
+
+		advance(Duration.ofMinutes(5));
+		assertThrows(IllegalStateException.class, () -> provider.getAgentCard("agent"));
+	}
+
+	@Test
+	void cachesFailedLookupsForNegativeTtl() {
+		assertThrows(IllegalStateException.class, () -> provider.getAgentCard("missing"));
+		assertThrows(IllegalStateException.class, () -> provider.getAgentCard("missing"));
+		assertEquals(1, delegate.lookups.get());
+
+		delegate.urls.put("missing", "http://m:1");
+		advance(Duration.ofSeconds(6));
+		assertEquals("http://m:1", provider.getAgentCard("missing").url());
+		assertEquals(2, delegate.lookups.get());
+	}
+
+	@Test
+	void changeNotificationReplacesCachedFailure() {
+		assertThrows(IllegalStateException.class, () -> provider.getAgentCard("agent"));
+
+		delegate.urls.put("agent", "http://a:1");
+		delegate.listeners.forEach(listener -> listener.accept("agent"));
+
+		assertEquals("http://a:1", provider.getAgentCard("agent").url());
+		assertEquals(2, delegate.lookups.get());
+	}
+
+	@Test
+	void invalidateForcesLookup() {
+		delegate.urls.put("agent", "http://a:1");
+		provider.getAgentCard("agent");
+
+		provider.invalidate("agent");
+		provider.getAgentCard("agent");
+
+		assertEquals(2, delegate.lookups.get());
+	}
+
+	private void advance(Duration duration) {
+		nanos.addAndGet(duration.toNanos());
+	}
+
+	private static final class FakeProvider implements AgentCardProvider {
+
+		private final Map<String, String> urls = new HashMap<>();
+
+		private final AtomicInteger lookups = new AtomicInteger();
+
+		private final List<Consumer<String>> listeners = new ArrayList<>();
+
+		@Override
+		public AgentCardWrapper getAgentCard() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public AgentCardWrapper getAgentCard(String agentName) {
+			lookups.incrementAndGet();
+			String url = urls.get(agentName);
+			if (url == null) {
+				throw new IllegalStateException("Agent not found: " + agentName);
+			}
+			return new AgentCardWrapper(createAgentCard(agentName, url));
+		}
+
+		@Override
+		public boolean supportGetAgentCardByName() {
+			return true;
+		}
+
+		@Override
+		public void addAgentCardChangeListener(Consumer<String> listener) {
+			listeners.add(listener);
+		}
+
+	}
+
+	static AgentCard createAgentCard(String name, String url, AgentInterface... additionalInterfaces) {
+		return new AgentCard.Builder().name(name)
+			.description("Test Agent")
+			.url(url)
+			.version("1.0.0")
+			.protocolVersion("0.3.0")
+			.preferredTransport("JSONRPC")
+			.defaultInputModes(List.of("text/plain"))
+			.defaultOutputModes(List.of("text/plain"))
+			.skills(List.of())
+			.capabilities(new AgentCapabilities.Builder().streaming(false).build())
+			.additionalInterfaces(List.of(additionalInterfaces))
+			.build();
+	}
+
+}
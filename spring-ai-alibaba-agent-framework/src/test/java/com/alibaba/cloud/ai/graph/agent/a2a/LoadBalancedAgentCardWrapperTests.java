@@ -0,0 +1,125 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.graph.agent.a2a;
+
+import com.sun.net.httpserver.HttpServer;
+import io.a2a.spec.AgentInterface;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.alibaba.cloud.ai.graph.agent.a2a.CachingAgentCardProviderTests.createAgentCard;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class LoadBalancedAgentCardWrapperTests {
+
+	@Test
+	void usesCardUrlWithoutMatchingInterfaces() {
+		LoadBalancedAgentCardWrapper wrapper = new LoadBalancedAgentCardWrapper(
+				createAgentCard("agent", "http://card:1", new AgentInterface("GRPC", "http://grpc:1")));
+
+		assertEquals("http://card:1", wrapper.url());
+		assertEquals(List.of(), wrapper.endpoints());
+	}
+
+	@Test
+	void spreadsCallsAcrossEndpoints() {
+		LoadBalancedAgentCardWrapper wrapper = new LoadBalancedAgentCardWrapper(createAgentCard("agent",
+				"http://card:1", new AgentInterface("JSONRPC", "http://lb-a:1"),
+				new AgentInterface("JSONRPC", "http://lb-b:1"), new AgentInterface("JSONRPC", "http://lb-c:1")));
+
+		Set<String> used = new HashSet<>();
+		for (int i = 0; i < 100; i++) {
+			used.add(wrapper.url());
+		}
+
+		assertEquals(Set.of("http://lb-a:1", "http://lb-b:1", "http://lb-c:1"), used);
+	}
+
+	@Test
+	void setAgentCardUpdatesEndpoints() {
+		LoadBalancedAgentCardWrapper wrapper = new LoadBalancedAgentCardWrapper(
+				createAgentCard("agent", "http://card:1", new AgentInterface("JSONRPC", "http://old:1")));
+
+		wrapper.setAgentCard(createAgentCard("agent", "http://card:1", new AgentInterface("JSONRPC", "http://new:1")));
+
+		assertEquals("http://new:1", wrapper.url());
+	}
+
+	@Test
+	void pickingEndpointsCreatesNoTransports() {
+		LoadBalancedAgentCardWrapper wrapper = new LoadBalancedAgentCardWrapper(
+				createAgentCard("agent", "http://card:1", new AgentInterface("JSONRPC", "http://unused-a:1"),
+						new AgentInterface("JSONRPC", "http://unused-b:1")));
+
+		wrapper.url();
+
+		assertNull(A2aHttpTransport.shared("http://unused-a:1"));
+		assertNull(A2aHttpTransport.shared("http://unused-b:1"));
+	}
+
+	@Test
+	void prefersEndpointWithFewerActiveRequests() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.setExecutor(Executors.newCachedThreadPool());
+		server.createContext("/", exchange -> {
+			// headers are only sent once released, so requests stay active
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
+			}
+		});
+		server.start();
+		try {
+			String base = "http://127.0.0.1:" + server.getAddress().getPort();
+			String busy = base + "/busy";
+			String idle = base + "/idle";
+			Disposable pending = A2aHttpTransport.forEndpoint(busy).stream("{}").subscribe();
+			assertEquals(1, A2aHttpTransport.forEndpoint(busy).metrics().activeRequests());
+
+			LoadBalancedAgentCardWrapper wrapper = new LoadBalancedAgentCardWrapper(createAgentCard("agent",
+					"http://card:1", new AgentInterface("JSONRPC", busy), new AgentInterface("JSONRPC", idle)));
+
+			for (int i = 0; i < 20; i++) {
+				assertEquals(idle, wrapper.url());
+			}
+			pending.dispose();
+		}
+		finally {
+			release.countDown();
+			server.stop(0);
+		}
+	}
+
+}
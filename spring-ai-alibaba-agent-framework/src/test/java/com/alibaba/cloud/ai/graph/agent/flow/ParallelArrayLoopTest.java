@@ -0,0 +1,192 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.graph.agent.flow;
+
+import com.alibaba.cloud.ai.graph.OverAllState;
+import com.alibaba.cloud.ai.graph.RunnableConfig;
+import com.alibaba.cloud.ai.graph.agent.ReactAgent;
+import com.alibaba.cloud.ai.graph.agent.flow.agent.LoopAgent;
+import com.alibaba.cloud.ai.graph.agent.flow.agent.loop.ArrayLoopStrategy;
+import com.alibaba.cloud.ai.graph.agent.flow.agent.loop.LoopMode;
+import com.alibaba.cloud.ai.graph.agent.hook.HookPosition;
+import com.alibaba.cloud.ai.graph.agent.hook.HookPositions;
+import com.alibaba.cloud.ai.graph.agent.hook.messages.AgentCommand;
+import com.alibaba.cloud.ai.graph.agent.hook.messages.MessagesModelHook;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the parallel mode of {@link ArrayLoopStrategy}, using a model that answers each element after a
+ * short delay and a hook that fails for the element {@code "fail"}.
+ */
+class ParallelArrayLoopTest {
+
+	@Test
+	void testParallelArrayLoopKeepsElementOrder() throws Exception {
+		EchoChatModel model = new EchoChatModel();
+		LoopAgent loopAgent = loopAgent(model, LoopMode.parallelArray(3));
+
+		OverAllState state = loopAgent.invoke("[\"a\", \"b\", \"c\", \"d\", \"e\", \"f\"]").orElseThrow();
+
+		List<?> results = state.value(ArrayLoopStrategy.DEFAULT_OUTPUT_KEY, List.class).orElseThrow();
+		assertEquals(List.of("echo: a", "echo: b", "echo: c", "echo: d", "echo: e", "echo: f"),
+				results.stream().map(result -> ((Message) result).getText()).toList());
+		assertTrue(model.maxActive.get() > 1, "elements should run concurrently");
+		assertTrue(model.maxActive.get() <= 3, "concurrency should be bounded, was " + model.maxActive.get());
+
+		// every element only saw the messages from before the loop and its own element
+		assertEquals(6, model.calls.get());
+		List<Message> messages = messages(state);
+		assertEquals(List.of("a", "b", "c", "d", "e", "f"), messages.stream()
+			.filter(message -> message instanceof UserMessage && message.getText().length() == 1)
+			.map(Message::getText)
+			.toList());
+	}
+
+	@Test
+	void testParallelArrayLoopKeepsMessagesEqualToEarlierOnes() throws Exception {
+		LoopAgent loopAgent = loopAgent(new EchoChatModel(), LoopMode.parallelArray(2));
+
+		// the history already holds the messages the element produces again
+		OverAllState state = loopAgent
+			.invoke(List.of(new UserMessage("a"), new AssistantMessage("echo: a"), new UserMessage("[\"a\"]")))
+			.orElseThrow();
+
+		List<?> results = state.value(ArrayLoopStrategy.DEFAULT_OUTPUT_KEY, List.class).orElseThrow();
+		assertEquals("echo: a", ((Message) results.get(0)).getText());
+	}
+
+	@Test
+	void testParallelArrayLoopCollectsErrors() throws Exception {
+		ArrayLoopStrategy strategy = ArrayLoopStrategy.builder()
+			.parallel(2)
+			.failurePolicy(ArrayLoopStrategy.FailurePolicy.COLLECT_ERRORS)
+			.outputKey("answers")
+			.build();
+		LoopAgent loopAgent = loopAgent(new EchoChatModel(), strategy);
+
+		OverAllState state = loopAgent.invoke("[\"a\", \"fail\", \"c\"]").orElseThrow();
+
+		List<?> results = state.value("answers", List.class).orElseThrow();
+		assertEquals(3, results.size());
+		assertEquals("echo: a", ((Message) results.get(0)).getText());
+		assertNull(results.get(1));
+		assertEquals("echo: c", ((Message) results.get(2)).getText());
+		List<?> errors = state.value(strategy.errorsKey(), List.class).orElseThrow();
+		assertEquals(1, errors.size());
+		assertEquals(1, ((Map<?, ?>) errors.get(0)).get("index"));
+		assertEquals("fail", ((Map<?, ?>) errors.get(0)).get("item"));
+	}
+
+	@Test
+	void testParallelArrayLoopFailsFast() throws Exception {
+		EchoChatModel model = new EchoChatModel();
+		LoopAgent loopAgent = loopAgent(model, LoopMode.parallelArray(1));
+
+		assertThrows(RuntimeException.class, () -> loopAgent.invoke("[\"fail\", \"b\", \"c\", \"d\"]"));
+		// at most the element handed to the executor as the failure released its slot may still run
+		assertTrue(model.calls.get() <= 1, "elements waiting for a slot should be skipped");
+	}
+
+	private static LoopAgent loopAgent(ChatModel model, ArrayLoopStrategy strategy) {
+		ReactAgent worker = ReactAgent.builder()
+			.name("worker_agent")
+			.model(model)
+			.description("echoes")
+			.hooks(new FailingElementHook())
+			.build();
+		return LoopAgent.builder()
+			.name("map_agent")
+			.description("maps the worker over a JSON array")
+			.subAgent(worker)
+			.loopStrategy(strategy)
+			.build();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<Message> messages(OverAllState state) {
+		return (List<Message>) state.value("messages").orElseThrow();
+	}
+
+	@HookPositions(HookPosition.BEFORE_MODEL)
+	private static class FailingElementHook extends MessagesModelHook {
+
+		@Override
+		public AgentCommand beforeModel(List<Message> previousMessages, RunnableConfig config) {
+			if ("fail".equals(previousMessages.get(previousMessages.size() - 1).getText())) {
+				throw new IllegalStateException("element failed");
+			}
+			return new AgentCommand(previousMessages);
+		}
+
+		@Override
+		public String getName() {
+			return "failing_element";
+		}
+
+	}
+
+	private static class EchoChatModel implements ChatModel {
+
+		private final AtomicInteger active = new AtomicInteger();
+
+		private final AtomicInteger maxActive = new AtomicInteger();
+
+		private final AtomicInteger calls = new AtomicInteger();
+
+		@Override
+		public ChatResponse call(Prompt prompt) {
+			calls.incrementAndGet();
+			maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+			try {
+				Thread.sleep(200);
+				String text = prompt.getInstructions().get(prompt.getInstructions().size() - 1).getText();
+				return new ChatResponse(List.of(new Generation(new AssistantMessage("echo: " + text))));
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(ex);
+			}
+			finally {
+				active.decrementAndGet();
+			}
+		}
+
+		@Override
+		public Flux<ChatResponse> stream(Prompt prompt) {
+			return Flux.just(call(prompt));
+		}
+
+	}
+
+}
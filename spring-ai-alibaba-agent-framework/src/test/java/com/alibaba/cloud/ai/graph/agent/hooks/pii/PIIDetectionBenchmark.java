@@ -0,0 +1,158 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.graph.agent.hooks.pii;
+
+import com.alibaba.cloud.ai.graph.RunnableConfig;
+import com.alibaba.cloud.ai.graph.agent.hook.messages.AgentCommand;
+import com.alibaba.cloud.ai.graph.agent.hook.pii.PIIDetectionHook;
+import com.alibaba.cloud.ai.graph.agent.hook.pii.PIIDetector;
+import com.alibaba.cloud.ai.graph.agent.hook.pii.PIIDetectors;
+import com.alibaba.cloud.ai.graph.agent.hook.pii.PIIMatch;
+import com.alibaba.cloud.ai.graph.agent.hook.pii.PIIType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.SystemMessage;
+import org.springframework.ai.chat.messages.UserMessage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs {@link PIIDetectionHook#beforeModel} on a conversation of {@code messages}
+ * messages, already free of PII, whose last message is a new one holding an email
+ * address. The hooks detect emails, credit cards, IP and MAC addresses and URLs.
+ * {@code rescanRegex} scans every message with one regular expression per type, as the
+ * hook did before it remembered scanned messages; {@code rescanCombined} scans every
+ * message with {@link PIIDetectors#combinedDetector}, which runs the regular expressions
+ * only after a single-pass anchor scan; {@code incremental} reuses one hook, so only the
+ * new message is scanned.
+ *
+ * <p>
+ * Run with {@code main} from the IDE, which adds the GC profiler, or through the JMH
+ * runner on the test classpath.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PIIDetectionBenchmark {
+
+	private static final PIIType[] TYPES = { PIIType.EMAIL, PIIType.CREDIT_CARD, PIIType.IP, PIIType.MAC_ADDRESS,
+			PIIType.URL };
+
+	@Param({ "500" })
+	public int messages;
+
+	private final RunnableConfig config = RunnableConfig.builder().build();
+
+	private final PIIDetector regexDetector = regexDetector();
+
+	private final PIIDetector combinedDetector = PIIDetectors.combinedDetector(TYPES);
+
+	private final PIIDetectionHook incrementalHook = newHook(combinedDetector);
+
+	private List<Message> history;
+
+	private int turn;
+
+	@Setup
+	public void setUp() {
+		history = new ArrayList<>(messages);
+		history.add(new SystemMessage("You are a support assistant. Never repeat personal data back to the user."));
+		for (int i = 1; i < messages; i++) {
+			history.add(i % 2 == 1 ? new UserMessage(text(i)) : AssistantMessage.builder().content(text(i)).build());
+		}
+		incrementalHook.beforeModel(history, config);
+	}
+
+	@Benchmark
+	public AgentCommand rescanRegex() {
+		return newHook(regexDetector).beforeModel(nextTurn(), config);
+	}
+
+	@Benchmark
+	public AgentCommand rescanCombined() {
+		return newHook(combinedDetector).beforeModel(nextTurn(), config);
+	}
+
+	@Benchmark
+	public AgentCommand incremental() {
+		return incrementalHook.beforeModel(nextTurn(), config);
+	}
+
+	public static void main(String[] args) throws Exception {
+		new Runner(new OptionsBuilder().include(PIIDetectionBenchmark.class.getSimpleName())
+			.addProfiler(GCProfiler.class)
+			.build()).run();
+	}
+
+	/**
+	 * Replaces the last message with a new one holding an email address, keeping the
+	 * size of the history stable.
+	 */
+	private List<Message> nextTurn() {
+		int i = ++turn;
+		history.set(history.size() - 1, new UserMessage("Please send the invoice for order " + i
+				+ " to customer" + i + "@example.com instead of the old address."));
+		return history;
+	}
+
+	private static PIIDetectionHook newHook(PIIDetector detector) {
+		return PIIDetectionHook.builder().piiType(PIIType.CUSTOM).detector(detector).applyToOutput(true).build();
+	}
+
+	private static PIIDetector regexDetector() {
+		List<PIIDetector> detectors = List.of(
+				PIIDetectors.regexDetector("email", "\\b[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Z|a-z]{2,}\\b"),
+				PIIDetectors.regexDetector("credit_card", "\\b\\d{4}[\\s-]?\\d{4}[\\s-]?\\d{4}[\\s-]?\\d{4}\\b"),
+				PIIDetectors.regexDetector("ip", "\\b(?:[0-9]{1,3}\\.){3}[0-9]{1,3}\\b"),
+				PIIDetectors.regexDetector("mac_address", "\\b([0-9A-Fa-f]{2}[:-]){5}([0-9A-Fa-f]{2})\\b"),
+				PIIDetectors.regexDetector("url", "\\bhttps?://[\\w\\-]+(\\.[\\w\\-]+)+[/#?]?.*?\\b"));
+		return content -> {
+			List<PIIMatch> matches = new ArrayList<>();
+			for (PIIDetector detector : detectors) {
+				matches.addAll(detector.detect(content));
+			}
+			return matches;
+		};
+	}
+
+	private static String text(int i) {
+		return "Turn " + i + ": my order from last week has not arrived yet. The tracking page says it left the "
+				+ "warehouse on day " + (i % 28 + 1) + ", but nothing has changed since. Could you check the status "
+				+ "and tell me whether I should expect it before the weekend?";
+	}
+
+}
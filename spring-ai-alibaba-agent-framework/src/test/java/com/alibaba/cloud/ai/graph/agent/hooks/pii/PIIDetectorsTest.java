@@ -0,0 +1,112 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.graph.agent.hooks.pii;
+
+import com.alibaba.cloud.ai.graph.RunnableConfig;
+import com.alibaba.cloud.ai.graph.agent.hook.pii.PIIDetectionException;
+import com.alibaba.cloud.ai.graph.agent.hook.pii.PIIDetectionHook;
+import com.alibaba.cloud.ai.graph.agent.hook.pii.PIIDetector;
+import com.alibaba.cloud.ai.graph.agent.hook.pii.PIIDetectors;
+import com.alibaba.cloud.ai.graph.agent.hook.pii.PIIMatch;
+import com.alibaba.cloud.ai.graph.agent.hook.pii.PIIType;
+import com.alibaba.cloud.ai.graph.agent.hook.pii.RedactionStrategy;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.SystemMessage;
+import org.springframework.ai.chat.messages.UserMessage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PIIDetectorsTest {
+
+	private static final String TEXT = "Mail john.doe@example.com from 192.168.1.10 (aa:bb:cc:dd:ee:ff), "
+			+ "card 4111 1111 1111 1111, see https://example.com/help for details.";
+
+	@Test
+	public void testBuiltInDetectorsMatchRegex() {
+		assertEquals(List.of("john.doe@example.com"), values(PIIDetectors.emailDetector(), TEXT));
+		assertEquals(List.of("192.168.1.10"), values(PIIDetectors.ipDetector(), TEXT));
+		assertEquals(List.of("aa:bb:cc:dd:ee:ff"), values(PIIDetectors.macAddressDetector(), TEXT));
+		assertEquals(List.of("4111 1111 1111 1111"), values(PIIDetectors.creditCardDetector(), TEXT));
+		assertEquals(1, PIIDetectors.urlDetector().detect(TEXT).size());
+		assertEquals(List.of("AA-BB-CC-DD-EE-FF"), values(PIIDetectors.macAddressDetector(), "nic AA-BB-CC-DD-EE-FF"));
+		assertEquals(List.of("10.0.0.1"), values(PIIDetectors.ipDetector(), "version 2.1 runs on 10.0.0.1."));
+
+		// text without anchors is not matched, and empty text is accepted
+		String plain = "Step 12: no personal data here, only words, 1.2.3 and 42 numbers.";
+		assertTrue(PIIDetectors.emailDetector().detect(plain).isEmpty());
+		assertTrue(PIIDetectors.ipDetector().detect(plain).isEmpty());
+		assertTrue(PIIDetectors.macAddressDetector().detect(plain).isEmpty());
+		assertTrue(PIIDetectors.creditCardDetector().detect(plain).isEmpty());
+		assertTrue(PIIDetectors.urlDetector().detect(plain).isEmpty());
+		assertTrue(PIIDetectors.emailDetector().detect("").isEmpty());
+	}
+
+	@Test
+	public void testCombinedDetectorDropsOverlappingMatches() {
+		PIIDetector combined = PIIDetectors.combinedDetector(PIIType.EMAIL, PIIType.IP, PIIType.URL);
+
+		List<PIIMatch> matches = combined.detect("Contact admin@example.com or http://10.0.0.1/status now");
+		assertEquals(List.of("email", "url"), matches.stream().map(match -> match.type).toList());
+		assertEquals("admin@example.com", matches.get(0).value);
+
+		assertEquals(List.of("john.doe@example.com", "192.168.1.10"),
+				values(PIIDetectors.combinedDetector(PIIType.EMAIL, PIIType.IP), TEXT));
+		assertThrows(IllegalArgumentException.class, () -> PIIDetectors.combinedDetector(PIIType.CUSTOM));
+		assertThrows(IllegalArgumentException.class, PIIDetectors::combinedDetector);
+	}
+
+	@Test
+	public void testHookOnlyScansNewMessages() {
+		List<String> scanned = new ArrayList<>();
+		PIIDetector email = PIIDetectors.emailDetector();
+		PIIDetectionHook hook = PIIDetectionHook.builder()
+			.piiType(PIIType.EMAIL)
+			.strategy(RedactionStrategy.BLOCK)
+			.detector(content -> {
+				scanned.add(content);
+				return email.detect(content);
+			})
+			.build();
+		RunnableConfig config = RunnableConfig.builder().build();
+
+		List<Message> history = new ArrayList<>(List.of(new SystemMessage("system"), new UserMessage("hello")));
+		hook.beforeModel(history, config);
+		assertEquals(List.of("hello"), scanned);
+
+		// the next turn only scans the appended messages, and a blocked message stays unscanned
+		history.add(new UserMessage("how are you?"));
+		history.add(new UserMessage("my mail is john@example.com"));
+		scanned.clear();
+		assertThrows(PIIDetectionException.class, () -> hook.beforeModel(history, config));
+		assertEquals(List.of("how are you?", "my mail is john@example.com"), scanned);
+
+		scanned.clear();
+		assertThrows(PIIDetectionException.class, () -> hook.beforeModel(history, config));
+		assertEquals(List.of("my mail is john@example.com"), scanned);
+	}
+
+	private static List<String> values(PIIDetector detector, String text) {
+		return detector.detect(text).stream().map(match -> match.value).toList();
+	}
+
+}
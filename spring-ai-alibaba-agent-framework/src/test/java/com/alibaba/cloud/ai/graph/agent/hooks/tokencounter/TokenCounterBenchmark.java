@@ -0,0 +1,129 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.graph.agent.hooks.tokencounter;
+
+import com.alibaba.cloud.ai.graph.agent.hook.BpeTokenCounter;
+import com.alibaba.cloud.ai.graph.agent.hook.TokenCounter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.SystemMessage;
+import org.springframework.ai.chat.messages.UserMessage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the tokens of a conversation of {@code messages} messages the way
+ * {@code SummarizationHook} does before each model call: the history is the previous one
+ * plus a new user message. {@code approximate} and {@code bpe} count the whole history
+ * with {@link TokenCounter#approximateMsgCounter()} and {@link BpeTokenCounter};
+ * {@code cachedApproximate} and {@code cachedBpe} wrap them with
+ * {@link TokenCounter#cached(TokenCounter)}, so that only the new message is counted.
+ *
+ * <p>
+ * Run with {@code main} from the IDE, which adds the GC profiler, or through the JMH
+ * runner on the test classpath.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenCounterBenchmark {
+
+	@Param({ "20", "100", "500" })
+	public int messages;
+
+	private final TokenCounter approximate = TokenCounter.approximateMsgCounter();
+
+	private final TokenCounter bpe = BpeTokenCounter.builder().maxCachedChars(0).build();
+
+	private final TokenCounter cachedApproximate = TokenCounter.cached(TokenCounter.approximateMsgCounter());
+
+	private final TokenCounter cachedBpe = TokenCounter.cached(BpeTokenCounter.builder().build());
+
+	private List<Message> history;
+
+	private int turn;
+
+	@Setup
+	public void setUp() {
+		history = new ArrayList<>(messages);
+		history.add(new SystemMessage("You are a travel assistant. Answer briefly and cite the sources you used."));
+		for (int i = 1; i < messages; i++) {
+			history.add(i % 2 == 1 ? new UserMessage(text(i)) : AssistantMessage.builder().content(text(i)).build());
+		}
+	}
+
+	@Benchmark
+	public int approximate() {
+		return approximate.countTokens(nextTurn());
+	}
+
+	@Benchmark
+	public int cachedApproximate() {
+		return cachedApproximate.countTokens(nextTurn());
+	}
+
+	@Benchmark
+	public int bpe() {
+		return bpe.countTokens(nextTurn());
+	}
+
+	@Benchmark
+	public int cachedBpe() {
+		return cachedBpe.countTokens(nextTurn());
+	}
+
+	public static void main(String[] args) throws Exception {
+		new Runner(new OptionsBuilder().include(TokenCounterBenchmark.class.getSimpleName())
+			.addProfiler(GCProfiler.class)
+			.build()).run();
+	}
+
+	/**
+	 * Replaces the last message with a new one, keeping the size of the history stable.
+	 */
+	private List<Message> nextTurn() {
+		history.set(history.size() - 1, new UserMessage(text(++turn)));
+		return history;
+	}
+
+	private static String text(int i) {
+		return "Message " + i + ": which flights leave Hangzhou for Beijing on day " + i
+				+ ", how long do they take, and which hotels near the Forbidden City have rooms left for "
+				+ (i % 7 + 1) + " nights? Please compare prices in RMB and list the three best options.";
+	}
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.graph.agent.hooks.tokencounter;
+
+import com.alibaba.cloud.ai.graph.agent.hook.BpeTokenCounter;
+import com.alibaba.cloud.ai.graph.agent.hook.CachingTokenCounter;
+import com.alibaba.cloud.ai.graph.agent.hook.TokenCounter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.SystemMessage;
+import org.springframework.ai.chat.messages.ToolResponseMessage;
+import org.springframework.ai.chat.messages.UserMessage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TokenCounterTest {
+
+	@Test
+	public void testCachedCounterCountsOnlyAppendedMessages() {
+		AtomicInteger counted = new AtomicInteger();
+		TokenCounter delegate = countingDelegate(counted);
+		TokenCounter counter = TokenCounter.cached(delegate);
+
+		List<Message> history = new ArrayList<>();
+		history.add(new SystemMessage("You are a helpful assistant"));
+		history.add(new UserMessage("What is the weather today?"));
+		int expected = delegate.countTokens(history);
+		counted.set(0);
+		assertEquals(expected, counter.countTokens(history));
+		assertEquals(2, counted.get());
+
+		// a new list holding the same messages plus one more, as the messages channel produces
+		history = new ArrayList<>(history);
+		history.add(AssistantMessage.builder().content("It is sunny").build());
+		expected = delegate.countTokens(history);
+		counted.set(0);
+		assertEquals(expected, counter.countTokens(new ArrayList<>(history)));
+		assertEquals(1, counted.get());
+	}
+
+	@Test
+	public void testCachedCounterRecountsRewrittenHistory() {
+		AtomicInteger counted = new AtomicInteger();
+		TokenCounter delegate = countingDelegate(counted);
+		TokenCounter counter = TokenCounter.cached(delegate);
+
+		Message system = new SystemMessage("system prompt");
+		List<Message> history = new ArrayList<>(List.of(system, new UserMessage("first question"),
+				AssistantMessage.builder().content("first answer").build(), new UserMessage("second question")));
+		counter.countTokens(history);
+
+		// summarization replaces everything after the system message
+		List<Message> summarized = List.of(system, new UserMessage("summary of the conversation"));
+		int expected = delegate.countTokens(summarized);
+		counted.set(0);
+		assertEquals(expected, counter.countTokens(summarized));
+		assertEquals(1, counted.get());
+
+		// another conversation starting with a different message is tracked on its own
+		List<Message> other = List.of(new UserMessage("unrelated"));
+		assertEquals(delegate.countTokens(other), counter.countTokens(other));
+		assertEquals(0, counter.countTokens(List.of()));
+	}
+
+	@Test
+	public void testCachedCounterCachesSingleMessages() {
+		AtomicInteger counted = new AtomicInteger();
+		TokenCounter counter = TokenCounter.cached(countingDelegate(counted));
+		Message message = new UserMessage("hello world");
+
+		assertEquals(counter.countTokens(message), counter.countTokens(message));
+		assertEquals(1, counted.get());
+		assertSame(counter, TokenCounter.cached(counter));
+		assertTrue(counter instanceof CachingTokenCounter);
+	}
+
+	@Test
+	public void testBpeCounterCountsMessageParts() {
+		BpeTokenCounter counter = BpeTokenCounter.builder().build();
+
+		assertEquals(0, counter.countText(null));
+		assertEquals(0, counter.countText(""));
+		assertEquals(2, counter.countText("hello world"));
+
+		AssistantMessage assistant = AssistantMessage.builder()
+			.content("hello world")
+			.toolCalls(List.of(new AssistantMessage.ToolCall("call_1", "function", "search", "hello world")))
+			.build();
+		ToolResponseMessage toolResponse = ToolResponseMessage.builder()
+			.responses(List.of(new ToolResponseMessage.ToolResponse("call_1", "search", "hello world")))
+			.build();
+		assertEquals(4, counter.countTokens(List.of(assistant)));
+		assertEquals(2, counter.countTokens(toolResponse));
+		assertEquals(8, counter.countTokens(List.of(new UserMessage("hello world"), assistant, toolResponse)));
+
+		// special tokens are counted as plain text instead of failing
+		assertTrue(counter.countText("<|endoftext|>") > 1);
+		assertEquals(counter.countTokens(List.of(assistant)),
+				BpeTokenCounter.builder().maxCachedChars(0).build().countTokens(List.of(assistant)));
+		assertThrows(IllegalArgumentException.class, () -> BpeTokenCounter.builder().maxCachedChars(-1));
+	}
+
+	private static TokenCounter countingDelegate(AtomicInteger counted) {
+		TokenCounter approximate = TokenCounter.approximateMsgCounter();
+		return messages -> {
+			counted.addAndGet(messages.size());
+			return approximate.countTokens(messages);
+		};
+	}
+
+}
@@ -118,6 +118,28 @@ class ContextEditingTest {
 		assertEquals(1, countClearedToolResponses(capturedRequest.get().getMessages()));
 	}
 
+	@Test
+	void testContextEditingPassesWholeHistoryToCustomTokenCounter() {
+		List<Integer> countedSizes = new ArrayList<>();
+		ContextEditingInterceptor contextEditingInterceptor = ContextEditingInterceptor.builder()
+				.trigger(50)
+				.tokenCounter(messages -> {
+					countedSizes.add(messages.size());
+					return 0;
+				})
+				.build();
+		List<Message> messages = List.of(
+				new UserMessage("Use the tool responses."),
+				toolResponse("call-1", "search", "a"),
+				toolResponse("call-2", "search", "b"));
+
+		contextEditingInterceptor.interceptModel(ModelRequest.builder().messages(messages).build(),
+				request -> ModelResponse.of(new AssistantMessage("Task completed.")));
+
+		// custom counters are not cached unless enabled, so they see the whole list
+		assertEquals(List.of(3), countedSizes);
+	}
+
 	@Test
 	void testContextEditingUsesConfiguredTokenCounterForToolCallBudget() {
 		ContextEditingInterceptor contextEditingInterceptor = ContextEditingInterceptor.builder()
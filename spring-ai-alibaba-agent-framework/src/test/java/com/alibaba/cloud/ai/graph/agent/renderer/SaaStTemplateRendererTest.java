@@ -18,7 +18,14 @@ package com.alibaba.cloud.ai.graph.agent.renderer;
 import org.junit.jupiter.api.Test;
 import org.springframework.ai.template.ValidationMode;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -421,5 +428,65 @@ class SaaStTemplateRendererTest {
 		assertTrue(result.contains("\"items\": [{\"a\": 1}"));
 	}
 
-}
+	@Test
+	void testCompiledTemplateIsReused() {
+		SaaStTemplateRenderer renderer = SaaStTemplateRenderer.builder().build();
+		String template = "Cached {greeting}, {name}!";
+
+		CacheStats before = SaaStTemplateRenderer.templateCacheStats();
+		assertEquals("Cached Hello, Alice!", renderer.apply(template, Map.of("greeting", "Hello", "name", "Alice")));
+		assertEquals("Cached Hi, Bob!", renderer.apply(template, Map.of("greeting", "Hi", "name", "Bob")));
+		assertEquals("Cached Hey, Carol!",
+				SaaStTemplateRenderer.builder().build().apply(template, Map.of("greeting", "Hey", "name", "Carol")));
+		CacheStats delta = SaaStTemplateRenderer.templateCacheStats().minus(before);
+
+		assertTrue(delta.hitCount() >= 2, "expected cache hits but got " + delta);
+	}
+
+	@Test
+	void testCachedTemplateWithDifferentVariables() {
+		SaaStTemplateRenderer renderer = SaaStTemplateRenderer.builder()
+				.validationMode(ValidationMode.NONE)
+				.build();
+		String template = "Variables {a} and {b}.";
+
+		assertEquals("Variables 1 and 2.", renderer.apply(template, Map.of("a", "1", "b", "2")));
+		assertEquals("Variables 3 and .", renderer.apply(template, Map.of("a", "3")));
+		assertEquals("Variables  and 4.", renderer.apply(template, Map.of("b", "4", "unused", "5")));
+		assertEquals("Variables 6 and 7.", renderer.apply(template, Map.of("a", "6", "b", "7")));
+	}
 
+	@Test
+	void testCachedTemplateStillValidates() {
+		SaaStTemplateRenderer renderer = SaaStTemplateRenderer.builder().build();
+		String template = "Validated {first} {second}";
+
+		assertEquals("Validated x y", renderer.apply(template, Map.of("first", "x", "second", "y")));
+		assertThrows(IllegalStateException.class, () -> renderer.apply(template, Map.of("first", "x")));
+		assertThrows(IllegalStateException.class, () -> renderer.apply(template, Map.of("first", "x")));
+	}
+
+	@Test
+	void testConcurrentRendering() throws Exception {
+		SaaStTemplateRenderer renderer = SaaStTemplateRenderer.builder()
+				.validationMode(ValidationMode.NONE)
+				.build();
+		String template = "Task {id} for {user}: {items; separator=\", \"}";
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<String>> results = new ArrayList<>();
+			for (int i = 0; i < 200; i++) {
+				int id = i;
+				results.add(executor.submit(() -> renderer.apply(template,
+						Map.of("id", id, "user", "user" + id, "items", List.of(id, id + 1)))));
+			}
+			for (int i = 0; i < results.size(); i++) {
+				assertEquals("Task " + i + " for user" + i + ": " + i + ", " + (i + 1), results.get(i).get());
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+}
@@ -56,6 +56,8 @@ public class CompileConfig {
 
 	private int recursionLimit = 100;
 
+	private boolean shareStateSnapshots = false;
+
 	// ================================================================================================================
 	// Getter Methods
 	// ================================================================================================================
@@ -64,6 +66,17 @@ public class CompileConfig {
 		return recursionLimit;
 	}
 
+	/**
+	 * Returns whether state snapshots taken for {@link NodeOutput}s, checkpoints and
+	 * interruptions share values with the running state instead of being deep copied
+	 * through the state serializer.
+	 * @return true if snapshots are structurally shared, false if they are deep copied
+	 * @see Builder#shareStateSnapshots(boolean)
+	 */
+	public boolean shareStateSnapshots() {
+		return shareStateSnapshots;
+	}
+
 	/**
 	 * Returns the current state of the thread release flag.
 	 *
@@ -196,6 +209,36 @@ public class CompileConfig {
 			return this;
 		}
 
+		/**
+		 * Sets whether state snapshots should share value references with the running
+		 * state.
+		 * <p>
+		 * By default every snapshot (node output, checkpoint, interruption) is a deep copy
+		 * produced by a serializer round-trip, whose cost grows with the whole state. When
+		 * enabled, snapshots are taken without serializing:
+		 * <ul>
+		 * <li>lists kept by {@code AppendStrategy}, such as {@code messages}, are shared
+		 * copy-on-write, so taking the snapshot is O(1) and later appends, removals or
+		 * replacements on the running state are not seen by it;</li>
+		 * <li>other lists and maps are copied shallowly;</li>
+		 * <li>every other value, and the elements of those lists and maps, is shared as
+		 * is.</li>
+		 * </ul>
+		 * Only the containers are protected: a node that mutates a shared element or any
+		 * other mutable value in place (a message's metadata, a POJO, an array, a
+		 * collection nested in a map) changes every snapshot that holds it, including
+		 * node outputs already emitted and checkpoints kept by in-memory savers. Enable
+		 * this only when nodes treat state values as immutable; the built-in
+		 * {@link KeyStrategy} implementations always produce new values on update.
+		 * Checkpoint savers that persist state still serialize it on {@code put}.
+		 * @param shareStateSnapshots if {@code true}, share values between snapshots
+		 * @return This builder instance for method chaining.
+		 */
+		public Builder shareStateSnapshots(boolean shareStateSnapshots) {
+			this.config.shareStateSnapshots = shareStateSnapshots;
+			return this;
+		}
+
 		/**
 		 * Sets the observation registry for monitoring and tracing.
 		 * @param observationRegistry The ObservationRegistry to use.
@@ -332,6 +375,7 @@ public class CompileConfig {
 		this.observationRegistry = config.observationRegistry;
 		this.interruptBeforeEdge = config.interruptBeforeEdge;
 		this.store = config.store;
+		this.shareStateSnapshots = config.shareStateSnapshots;
 	}
 
 }
@@ -29,12 +29,15 @@ import com.alibaba.cloud.ai.graph.internal.node.ConditionalParallelNode;
 import com.alibaba.cloud.ai.graph.internal.node.Node;
 import com.alibaba.cloud.ai.graph.scheduling.ScheduleConfig;
 import com.alibaba.cloud.ai.graph.scheduling.ScheduledAgentTask;
+import com.alibaba.cloud.ai.graph.state.ChunkedAppendList;
 import com.alibaba.cloud.ai.graph.state.StateSnapshot;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -475,8 +478,7 @@ public class CompiledGraph {
 	 */
 	OverAllState cloneState(Map<String, Object> data, OverAllState overAllState)
 			throws IOException, ClassNotFoundException {
-		return new OverAllState(stateGraph.getStateSerializer().cloneObject(data).data(), overAllState.keyStrategies(),
-				overAllState.getStore());
+		return new OverAllState(snapshotData(data), overAllState.keyStrategies(), overAllState.getStore());
 	}
 
 	/**
@@ -486,7 +488,45 @@ public class CompiledGraph {
 	 * @return the over all state
 	 */
 	public OverAllState cloneState(Map<String, Object> data) throws IOException, ClassNotFoundException {
-		return new OverAllState(stateGraph.getStateSerializer().cloneObject(data).data(), getKeyStrategyMap());
+		return new OverAllState(snapshotData(data), getKeyStrategyMap());
+	}
+
+	/**
+	 * Returns the data backing a state snapshot. When
+	 * {@link CompileConfig#shareStateSnapshots()} is enabled each value is snapshotted by
+	 * {@link #snapshotValue(Object)}, otherwise the data is deep copied through the state
+	 * serializer.
+	 * @param data the state data to snapshot
+	 * @return the snapshot data
+	 */
+	private Map<String, Object> snapshotData(Map<String, Object> data) throws IOException, ClassNotFoundException {
+		if (compileConfig.shareStateSnapshots()) {
+			Objects.requireNonNull(data, "data cannot be null");
+			Map<String, Object> snapshot = new HashMap<>(data.size());
+			data.forEach((key, value) -> snapshot.put(key, snapshotValue(value)));
+			return snapshot;
+		}
+		return stateGraph.getStateSerializer().cloneObject(data).data();
+	}
+
+	/**
+	 * Snapshots one state value without serializing it. A {@link ChunkedAppendList}
+	 * (the lists kept by {@code AppendStrategy}) is shared copy-on-write in O(1); other
+	 * lists and maps are copied shallowly, so adding or removing entries on either side is
+	 * not seen by the other. Any other value, and the elements of lists and maps, are
+	 * shared as they are.
+	 */
+	private static Object snapshotValue(Object value) {
+		if (value instanceof ChunkedAppendList<?> list) {
+			return list.appending(List.of());
+		}
+		if (value instanceof List<?> list) {
+			return new ArrayList<>(list);
+		}
+		if (value instanceof Map<?, ?> map) {
+			return new LinkedHashMap<>(map);
+		}
+		return value;
 	}
 
 	/**
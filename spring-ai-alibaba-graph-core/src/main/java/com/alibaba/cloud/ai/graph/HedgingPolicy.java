@@ -0,0 +1,195 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.graph;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Hedged execution for parallel nodes aggregated with
+ * {@link NodeAggregationStrategy#ANY_OF}.
+ * <p>
+ * When no branch has succeeded after the hedge delay, a duplicate of each still running
+ * branch is started (up to {@code maxHedges}, in branch order) and the first successful
+ * attempt wins; the others are cancelled. The delay is the {@code percentile} of the
+ * latencies recorded for earlier runs using this policy, or the fixed {@code delay}
+ * until {@code minSamples} runs have been recorded. Share one instance across runs so
+ * that it learns the latency distribution.
+ * <p>
+ * Only hedge branches whose actions are safe to run twice, such as idempotent model or
+ * search calls.
+ */
+public final class HedgingPolicy {
+
+	private final Duration delay;
+
+	private final double percentile;
+
+	private final int minSamples;
+
+	private final int maxHedges;
+
+	private final long[] samples;
+
+	private int sampleCount;
+
+	private int nextSample;
+
+	private HedgingPolicy(Builder builder) {
+		this.delay = builder.delay;
+		this.percentile = builder.percentile;
+		this.minSamples = builder.minSamples;
+		this.maxHedges = builder.maxHedges;
+		this.samples = new long[builder.window];
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Returns how long to wait for a successful branch before hedging.
+	 * @return the latency percentile of recorded runs, or the fixed delay while fewer
+	 * than {@code minSamples} runs were recorded
+	 */
+	public Duration hedgeDelay() {
+		long[] sorted;
+		synchronized (this) {
+			if (sampleCount == 0 || sampleCount < Math.min(minSamples, samples.length)) {
+				return delay;
+			}
+			sorted = Arrays.copyOf(samples, sampleCount);
+		}
+		Arrays.sort(sorted);
+		int index = (int) Math.ceil(percentile * sorted.length) - 1;
+		return Duration.ofNanos(sorted[Math.max(0, Math.min(index, sorted.length - 1))]);
+	}
+
+	/**
+	 * Records the time a run took to produce its first successful branch.
+	 * @param latency the latency of the run
+	 */
+	public synchronized void recordLatency(Duration latency) {
+		samples[nextSample] = latency.toNanos();
+		nextSample = (nextSample + 1) % samples.length;
+		if (sampleCount < samples.length) {
+			sampleCount++;
+		}
+	}
+
+	public Duration delay() {
+		return delay;
+	}
+
+	public double percentile() {
+		return percentile;
+	}
+
+	public int minSamples() {
+		return minSamples;
+	}
+
+	public int maxHedges() {
+		return maxHedges;
+	}
+
+	public static class Builder {
+
+		private Duration delay = Duration.ofSeconds(2);
+
+		private double percentile = 0.95;
+
+		private int minSamples = 20;
+
+		private int window = 100;
+
+		private int maxHedges = 1;
+
+		/**
+		 * Sets the hedge delay used until enough latencies are recorded.
+		 * @param delay the fixed delay, 2 seconds by default
+		 * @return this builder
+		 */
+		public Builder delay(Duration delay) {
+			requireNonNull(delay, "delay cannot be null!");
+			if (delay.isNegative()) {
+				throw new IllegalArgumentException("delay must not be negative");
+			}
+			this.delay = delay;
+			return this;
+		}
+
+		/**
+		 * Sets the latency percentile after which a run is hedged.
+		 * @param percentile a value in (0, 1], 0.95 by default
+		 * @return this builder
+		 */
+		public Builder percentile(double percentile) {
+			if (!(percentile > 0 && percentile <= 1)) {
+				throw new IllegalArgumentException("percentile must be in (0, 1], got " + percentile);
+			}
+			this.percentile = percentile;
+			return this;
+		}
+
+		/**
+		 * Sets how many recorded runs are needed before the percentile is used.
+		 * @param minSamples the minimum number of samples, 20 by default
+		 * @return this builder
+		 */
+		public Builder minSamples(int minSamples) {
+			if (minSamples < 0) {
+				throw new IllegalArgumentException("minSamples must not be negative");
+			}
+			this.minSamples = minSamples;
+			return this;
+		}
+
+		/**
+		 * Sets how many of the latest runs the percentile is computed over.
+		 * @param window the number of kept samples, 100 by default
+		 * @return this builder
+		 */
+		public Builder window(int window) {
+			if (window <= 0) {
+				throw new IllegalArgumentException("window must be positive");
+			}
+			this.window = window;
+			return this;
+		}
+
+		/**
+		 * Sets how many duplicate branches a run may start.
+		 * @param maxHedges the maximum number of hedges, 1 by default
+		 * @return this builder
+		 */
+		public Builder maxHedges(int maxHedges) {
+			if (maxHedges <= 0) {
+				throw new IllegalArgumentException("maxHedges must be positive");
+			}
+			this.maxHedges = maxHedges;
+			return this;
+		}
+
+		public HedgingPolicy build() {
+			return new HedgingPolicy(this);
+		}
+
+	}
+
+}
@@ -52,6 +52,8 @@ public final class RunnableConfig implements HasMetadata<RunnableConfig.Builder>
 	public static final String DEFAULT_PARALLEL_EXECUTOR_KEY = "_DEFAULT_PARALLEL_EXECUTOR_";
 	public static final String DEFAULT_PARALLEL_AGGREGATION_STRATEGY_KEY = "_DEFAULT_PARALLEL_AGGREGATION_STRATEGY_";
 
+	public static final String DEFAULT_PARALLEL_HEDGING_KEY = "_DEFAULT_PARALLEL_HEDGING_";
+
 	/**
 	 * Metadata key for dynamic tool callbacks ({@code List<org.springframework.ai.tool.ToolCallback>}).
 	 * Used internally by AgentLlmNode and AgentToolNode during ReactAgent inference (e.g. when
@@ -479,6 +481,19 @@ public final class RunnableConfig implements HasMetadata<RunnableConfig.Builder>
 			return addMetadata(DEFAULT_PARALLEL_EXECUTOR_KEY, requireNonNull(executor, "executor cannot be null!"));
 		}
 
+		/**
+		 * Runs the branches of all parallel nodes, and parallel tool calls, on a virtual
+		 * thread per task. Nodes configured via
+		 * {@link #addParallelNodeExecutor(String, Executor)} keep their executor.
+		 * <p>
+		 * Requires Java 21 or later; otherwise the default parallel executor is used.
+		 * @return this {@code Builder} instance for method chaining.
+		 * @see ParallelNode#virtualThreadExecutor()
+		 */
+		public Builder virtualThreadParallelExecutor() {
+			return defaultParallelExecutor(ParallelNode.virtualThreadExecutor());
+		}
+
 		/**
 		 * Adds an aggregation strategy for a specific parallel node's target node.
 		 * <p>
@@ -508,6 +523,29 @@ public final class RunnableConfig implements HasMetadata<RunnableConfig.Builder>
 					requireNonNull(strategy, "strategy cannot be null!"));
 		}
 
+		/**
+		 * Enables hedged execution for the parallel branches merged into a target node
+		 * aggregated with {@link NodeAggregationStrategy#ANY_OF}.
+		 * @param targetNodeId the ID of the merge node that follows the parallel branch nodes.
+		 * @param hedgingPolicy the {@link HedgingPolicy} to use, shared across runs.
+		 * @return this {@code Builder} instance for method chaining.
+		 */
+		public Builder addParallelNodeHedging(String targetNodeId, HedgingPolicy hedgingPolicy) {
+			return addMetadata(ParallelNode.formatHedgingKey(targetNodeId),
+					requireNonNull(hedgingPolicy, "hedgingPolicy cannot be null!"));
+		}
+
+		/**
+		 * Sets a default hedging policy for all parallel nodes aggregated with
+		 * {@link NodeAggregationStrategy#ANY_OF}.
+		 * @param hedgingPolicy the {@link HedgingPolicy} to use, shared across runs.
+		 * @return this {@code Builder} instance for method chaining.
+		 */
+		public Builder defaultParallelHedging(HedgingPolicy hedgingPolicy) {
+			return addMetadata(DEFAULT_PARALLEL_HEDGING_KEY,
+					requireNonNull(hedgingPolicy, "hedgingPolicy cannot be null!"));
+		}
+
 		public Builder store(Store store) {
 			this.store = store;
 			return this;
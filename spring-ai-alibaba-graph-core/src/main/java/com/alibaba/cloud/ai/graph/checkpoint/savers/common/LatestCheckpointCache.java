@@ -17,19 +17,28 @@ package com.alibaba.cloud.ai.graph.checkpoint.savers.common;
 
 import com.alibaba.cloud.ai.graph.checkpoint.Checkpoint;
 
-import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 
 /**
  * A bounded LRU cache that stores the latest checkpoint for each thread.
+ * <p>
+ * Large caches are split into segments selected by thread id, each one an independent
+ * LRU guarded by its own monitor, so that savers serving many threads do not serialize
+ * on a single cache lock. Eviction is therefore least-recently-used within a segment.
+ * Caches of up to {@value #MIN_ENTRIES_PER_SEGMENT} entries per segment keep a single
+ * segment and an exact LRU order.
  */
 public final class LatestCheckpointCache {
 
+	private static final int MAX_SEGMENTS = 16;
+
+	private static final int MIN_ENTRIES_PER_SEGMENT = 64;
+
 	private final int maxCachedThreads;
 
-	private final Map<String, Checkpoint> checkpoints;
+	private final Segment[] segments;
 
 	/**
 	 * Creates a latest-checkpoint cache with an LRU thread limit.
@@ -42,7 +51,7 @@ public final class LatestCheckpointCache {
 			throw new IllegalArgumentException("maxCachedThreads must be greater than or equal to 0");
 		}
 		this.maxCachedThreads = maxCachedThreads;
-		this.checkpoints = createCache(maxCachedThreads);
+		this.segments = createSegments(maxCachedThreads);
 	}
 
 	/**
@@ -51,11 +60,14 @@ public final class LatestCheckpointCache {
 	 * @param threadId thread name/id used by the owning saver
 	 * @return cached checkpoint when caching is enabled and the thread is present
 	 */
-	public synchronized Optional<Checkpoint> get(String threadId) {
+	public Optional<Checkpoint> get(String threadId) {
 		if (maxCachedThreads == 0) {
 			return Optional.empty();
 		}
-		return Optional.ofNullable(checkpoints.get(threadId));
+		Segment segment = segmentFor(threadId);
+		synchronized (segment) {
+			return Optional.ofNullable(segment.get(threadId));
+		}
 	}
 
 	/**
@@ -64,9 +76,12 @@ public final class LatestCheckpointCache {
 	 * @param threadId thread name/id used by the owning saver
 	 * @param checkpoint latest checkpoint to cache
 	 */
-	public synchronized void put(String threadId, Checkpoint checkpoint) {
+	public void put(String threadId, Checkpoint checkpoint) {
 		if (maxCachedThreads > 0) {
-			checkpoints.put(threadId, checkpoint);
+			Segment segment = segmentFor(threadId);
+			synchronized (segment) {
+				segment.put(threadId, checkpoint);
+			}
 		}
 	}
 
@@ -75,44 +90,69 @@ public final class LatestCheckpointCache {
 	 *
 	 * @param threadId thread name/id used by the owning saver
 	 */
-	public synchronized void remove(String threadId) {
+	public void remove(String threadId) {
 		if (maxCachedThreads > 0) {
-			checkpoints.remove(threadId);
+			Segment segment = segmentFor(threadId);
+			synchronized (segment) {
+				segment.remove(threadId);
+			}
 		}
 	}
 
 	/**
 	 * Clears all cached latest checkpoints.
 	 */
-	public synchronized void clear() {
-		if (maxCachedThreads > 0) {
-			checkpoints.clear();
+	public void clear() {
+		for (Segment segment : segments) {
+			synchronized (segment) {
+				segment.clear();
+			}
 		}
 	}
 
+	private Segment segmentFor(String threadId) {
+		int hash = threadId.hashCode();
+		return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+	}
+
 	/**
-	 * Creates either an empty disabled cache or an access-ordered LRU map.
+	 * Creates no segment for a disabled cache, otherwise a power-of-two number of
+	 * segments sharing the thread limit.
 	 *
 	 * @param maxCachedThreads maximum number of thread entries to keep
-	 * @return map backing the cache
+	 * @return segments backing the cache
 	 */
-	private static Map<String, Checkpoint> createCache(int maxCachedThreads) {
+	private static Segment[] createSegments(int maxCachedThreads) {
 		if (maxCachedThreads == 0) {
-			return Collections.emptyMap();
+			return new Segment[0];
 		}
-		return new LinkedHashMap<>(16, 0.75f, true) {
-			/**
-			 * Evicts the least recently used thread once the configured limit is
-			 * exceeded.
-			 *
-			 * @param eldest eldest entry tracked by the access-ordered map
-			 * @return true when the cache should evict the eldest entry
-			 */
-			@Override
-			protected boolean removeEldestEntry(Map.Entry<String, Checkpoint> eldest) {
-				return size() > maxCachedThreads;
-			}
-		};
+		int count = Integer.highestOneBit(Math.max(1, Math.min(MAX_SEGMENTS, maxCachedThreads / MIN_ENTRIES_PER_SEGMENT)));
+		int capacity = (maxCachedThreads + count - 1) / count;
+		Segment[] segments = new Segment[count];
+		for (int i = 0; i < count; i++) {
+			segments[i] = new Segment(capacity);
+		}
+		return segments;
+	}
+
+	/**
+	 * Access-ordered map that evicts its least recently used thread once the segment
+	 * limit is exceeded.
+	 */
+	private static final class Segment extends LinkedHashMap<String, Checkpoint> {
+
+		private final int capacity;
+
+		private Segment(int capacity) {
+			super(16, 0.75f, true);
+			this.capacity = capacity;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Checkpoint> eldest) {
+			return size() > capacity;
+		}
+
 	}
 
 }
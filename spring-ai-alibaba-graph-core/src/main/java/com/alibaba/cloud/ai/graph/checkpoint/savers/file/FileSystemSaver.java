@@ -23,26 +23,39 @@ import com.alibaba.cloud.ai.graph.serializer.Serializer;
 import com.alibaba.cloud.ai.graph.serializer.StateSerializer;
 import com.alibaba.cloud.ai.graph.serializer.check_point.CheckPointSerializer;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.IntStream;
+import java.util.zip.CRC32;
 
 import static java.lang.String.format;
 
@@ -54,21 +67,61 @@ import static java.lang.String.format;
  * "thread-$default.saver" if it doesn't.
  * </p>
  * <p>
- * Full checkpoint history is loaded from the file on demand. In memory this saver keeps
- * only a bounded latest-checkpoint cache.
+ * Each file is an append-only log: a header followed by length-prefixed, CRC-checked
+ * records that add, replace or remove one checkpoint. Writing a checkpoint appends a
+ * single record whatever the history length. Reads use an in-memory index of record
+ * offsets per thread, built by scanning record headers only, and deserialize just the
+ * checkpoints they return, either from a memory mapping of the file kept with its index
+ * and only remapped once the file has grown, or with positional reads. A torn record at
+ * the end of the file, left by a crash during a write, is ignored.
+ * </p>
+ * <p>
+ * Checkpoints dropped by retention or replaced stay in the file until it is compacted:
+ * once they take more space than the live checkpoints, the file is rewritten with the
+ * live ones only on the compaction executor, by default a background daemon thread.
+ * </p>
+ * <p>
+ * Files written by earlier versions as a single serialized list are still readable and
+ * are converted to the log format on their next write. In memory this saver keeps only a
+ * bounded latest-checkpoint cache and the record indexes of recently used threads.
  * </p>
  */
 public class FileSystemSaver implements BaseCheckpointSaver {
 
 	public static final String EXTENSION = ".saver";
 	private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(FileSystemSaver.class);
+
+	private static final byte[] LOG_MAGIC = { 'S', 'A', 'A', 'L', 1 };
+
+	private static final byte RECORD_PUT = 1;
+
+	private static final byte RECORD_REPLACE = 2;
+
+	private static final byte RECORD_REMOVE = 3;
+
+	/** Record length and CRC32 preceding every record body. */
+	private static final int RECORD_HEADER_SIZE = Integer.BYTES * 2;
+
+	/** Record indexes kept in memory even when the checkpoint cache is disabled. */
+	private static final int MIN_INDEXED_THREADS = 64;
+
+	private static final Executor DEFAULT_COMPACTION_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "file-system-saver-compaction");
+		thread.setDaemon(true);
+		return thread;
+	});
+
 	private final Path targetFolder;
 
 	private final Serializer<Checkpoint> serializer;
 
 	private final Map<String, Checkpoint> latestCheckpointCache;
+	private final Map<String, LogIndex> logIndexes;
 	private final ReentrantLock lock = new ReentrantLock();
 	private final int maxCachedThreads;
+	private final boolean memoryMappedReads;
+	private final Executor compactionExecutor;
+	private final Set<String> pendingCompactions = new HashSet<>();
 
 	/**
 	 * Protected constructor for FileSystemSaver.
@@ -94,6 +147,10 @@ public class FileSystemSaver implements BaseCheckpointSaver {
 		this.targetFolder = Objects.requireNonNull(builder.targetFolder, "targetFolder cannot be null");
 		this.maxCachedThreads = builder.maxCachedThreads;
 		this.latestCheckpointCache = createLatestCheckpointCache(builder.maxCachedThreads);
+		this.logIndexes = createLatestCheckpointCache(Math.max(builder.maxCachedThreads, MIN_INDEXED_THREADS));
+		this.memoryMappedReads = builder.memoryMappedReads;
+		this.compactionExecutor = builder.compactionExecutor != null ? builder.compactionExecutor
+				: DEFAULT_COMPACTION_EXECUTOR;
 
 		try {
 			if (Files.exists(this.targetFolder) && !Files.isDirectory(this.targetFolder)) {
@@ -124,26 +181,10 @@ public class FileSystemSaver implements BaseCheckpointSaver {
 		return Paths.get(targetFolder.toString(), getBaseName(config).concat(EXTENSION));
 	}
 
-	private File getFile(RunnableConfig config) {
-		return getPath(config).toFile();
-	}
-
 	private String getThreadId(RunnableConfig config) {
 		return config.threadId().orElse(THREAD_ID_DEFAULT);
 	}
 
-	private void serialize(LinkedList<Checkpoint> checkpoints, File outFile) throws IOException {
-		Objects.requireNonNull(checkpoints, "checkpoints cannot be null");
-		Objects.requireNonNull(outFile, "outFile cannot be null");
-		try (ObjectOutputStream oos = new ObjectOutputStream(Files.newOutputStream(outFile.toPath()))) {
-
-			oos.writeInt(checkpoints.size());
-			for (Checkpoint checkpoint : checkpoints) {
-				serializer.write(checkpoint, oos);
-			}
-		}
-	}
-
 	private void deserialize(File file, LinkedList<Checkpoint> result) throws IOException, ClassNotFoundException {
 		Objects.requireNonNull(file, "file cannot be null");
 		Objects.requireNonNull(result, "result cannot be null");
@@ -156,67 +197,325 @@ public class FileSystemSaver implements BaseCheckpointSaver {
 		}
 	}
 
-	private LinkedList<Checkpoint> deserialize(File file) throws IOException, ClassNotFoundException {
+	/**
+	 * Reads a whole file written by earlier versions as a single serialized list.
+	 */
+	private LinkedList<Checkpoint> deserializeLegacy(Path path) throws IOException, ClassNotFoundException {
 		LinkedList<Checkpoint> checkpoints = new LinkedList<>();
-		if (file.exists()) {
-			deserialize(file, checkpoints);
-		}
+		deserialize(path.toFile(), checkpoints);
 		return checkpoints;
 	}
 
-	private Optional<Checkpoint> deserializeLatest(File file) throws IOException, ClassNotFoundException {
-		if (!file.exists()) {
-			return Optional.empty();
+	private boolean isLegacyFile(String threadId, Path path) throws IOException {
+		if (logIndexes.containsKey(threadId)) {
+			return false;
+		}
+		try (InputStream in = Files.newInputStream(path)) {
+			byte[] header = in.readNBytes(LOG_MAGIC.length);
+			return header.length > 0 && !Arrays.equals(header, LOG_MAGIC);
 		}
+	}
 
-		try (ObjectInputStream ois = new ObjectInputStream(Files.newInputStream(file.toPath()))) {
-			int size = ois.readInt();
-			if (size == 0) {
-				return Optional.empty();
+	/**
+	 * Returns the record index of a thread file, scanning only the records appended since
+	 * the cached index was built.
+	 */
+	private LogIndex logIndex(String threadId, Path path) throws IOException {
+		long length = Files.exists(path) ? Files.size(path) : 0;
+		LogIndex index = logIndexes.get(threadId);
+		if (index == null || index.scannedLength > length) {
+			index = new LogIndex();
+		}
+		if (index.scannedLength < length) {
+			scan(path, index, length);
+		}
+		logIndexes.put(threadId, index);
+		return index;
+	}
+
+	private void scan(Path path, LogIndex index, long length) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long position = index.scannedLength;
+			if (position == 0) {
+				position = LOG_MAGIC.length;
+			}
+			ByteBuffer buffer = mapped(channel, index, length);
+			if (buffer != null) {
+				buffer = buffer.slice(Math.toIntExact(position), Math.toIntExact(length - position));
+			}
+			else {
+				buffer = read(channel, position, length - position);
+			}
+			CRC32 crc = new CRC32();
+			while (buffer.remaining() >= RECORD_HEADER_SIZE) {
+				int recordStart = buffer.position();
+				int bodyLength = buffer.getInt();
+				int checksum = buffer.getInt();
+				if (bodyLength <= 0 || bodyLength > buffer.remaining()) {
+					buffer.position(recordStart);
+					break;
+				}
+				ByteBuffer body = buffer.slice(buffer.position(), bodyLength);
+				crc.reset();
+				crc.update(body.duplicate());
+				if ((int) crc.getValue() != checksum) {
+					buffer.position(recordStart);
+					break;
+				}
+				index.apply(body, position + recordStart + RECORD_HEADER_SIZE);
+				buffer.position(buffer.position() + bodyLength);
+			}
+			long end = position + buffer.position();
+			if (end < length) {
+				log.warn("Ignoring {} trailing bytes of checkpoint file {}", length - end, path);
+			}
+			index.scannedLength = length;
+			index.validLength = end;
+		}
+	}
+
+	/**
+	 * Returns the memory mapping of the file kept with its index, mapping the file again
+	 * only when it does not cover the first {@code length} bytes yet. Returns
+	 * {@code null} when memory-mapped reads are disabled or the file is too large to be
+	 * mapped at once.
+	 */
+	private ByteBuffer mapped(FileChannel channel, LogIndex index, long length) throws IOException {
+		long size = Math.max(length, index.validLength);
+		if (!memoryMappedReads || size > Integer.MAX_VALUE) {
+			return null;
+		}
+		if (index.mapping == null || index.mapping.capacity() < length) {
+			index.mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+		}
+		return index.mapping;
+	}
+
+	private ByteBuffer read(FileChannel channel, long position, long size) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(size));
+		while (buffer.hasRemaining() && channel.read(buffer, position + buffer.position()) >= 0) {
+			// read until the buffer is full
+		}
+		return buffer.flip();
+	}
+
+	private Checkpoint readCheckpoint(Path path, LogIndex index, LogEntry entry)
+			throws IOException, ClassNotFoundException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			return readCheckpoint(channel, index, entry);
+		}
+	}
+
+	private Checkpoint readCheckpoint(FileChannel channel, LogIndex index, LogEntry entry)
+			throws IOException, ClassNotFoundException {
+		ByteBuffer mapping = mapped(channel, index, entry.offset() + entry.length());
+		ByteBuffer buffer = mapping != null ? mapping.slice(Math.toIntExact(entry.offset()), entry.length())
+				: read(channel, entry.offset(), entry.length());
+		try (ObjectInputStream ois = new ObjectInputStream(new ByteBufferInputStream(buffer))) {
+			return serializer.read(ois);
+		}
+	}
+
+	/**
+	 * Loads the checkpoints of a thread, latest first.
+	 */
+	private LinkedList<Checkpoint> loadCheckpoints(RunnableConfig config) throws IOException, ClassNotFoundException {
+		Path path = getPath(config);
+		if (!Files.exists(path)) {
+			return new LinkedList<>();
+		}
+		if (isLegacyFile(getThreadId(config), path)) {
+			return deserializeLegacy(path);
+		}
+		LogIndex index = logIndex(getThreadId(config), path);
+		LinkedList<Checkpoint> checkpoints = new LinkedList<>();
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			for (LogEntry entry : index.entries.values()) {
+				checkpoints.push(readCheckpoint(channel, index, entry));
 			}
-			return Optional.of(serializer.read(ois));
 		}
+		return checkpoints;
+	}
+
+	private Optional<Checkpoint> loadLatest(RunnableConfig config) throws IOException, ClassNotFoundException {
+		Path path = getPath(config);
+		if (!Files.exists(path)) {
+			return Optional.empty();
+		}
+		if (isLegacyFile(getThreadId(config), path)) {
+			return deserializeLegacy(path).stream().findFirst();
+		}
+		LogIndex index = logIndex(getThreadId(config), path);
+		LogEntry latest = index.latest();
+		return latest != null ? Optional.of(readCheckpoint(path, index, latest)) : Optional.empty();
 	}
 
-	private Optional<Checkpoint> deserializeCheckpoint(File file, String checkpointId)
+	private Optional<Checkpoint> loadCheckpoint(RunnableConfig config, String checkpointId)
 			throws IOException, ClassNotFoundException {
-		if (!file.exists()) {
+		Path path = getPath(config);
+		if (!Files.exists(path)) {
 			return Optional.empty();
 		}
+		if (isLegacyFile(getThreadId(config), path)) {
+			return deserializeLegacy(path).stream()
+					.filter(checkpoint -> checkpoint.getId().equals(checkpointId))
+					.findFirst();
+		}
+		LogIndex index = logIndex(getThreadId(config), path);
+		LogEntry entry = index.entries.get(checkpointId);
+		return entry != null ? Optional.of(readCheckpoint(path, index, entry)) : Optional.empty();
+	}
 
-		try (ObjectInputStream ois = new ObjectInputStream(Files.newInputStream(file.toPath()))) {
-			int size = ois.readInt();
-			for (int i = 0; i < size; i++) {
-				Checkpoint checkpoint = serializer.read(ois);
-				if (checkpoint.getId().equals(checkpointId)) {
-					return Optional.of(checkpoint);
+	/**
+	 * Returns the index of a thread file ready to be appended to, creating the file or
+	 * converting a file written by earlier versions first.
+	 */
+	private LogIndex prepareAppend(RunnableConfig config) throws IOException, ClassNotFoundException {
+		Path path = getPath(config);
+		String threadId = getThreadId(config);
+		if (Files.exists(path) && isLegacyFile(threadId, path)) {
+			LinkedList<Checkpoint> legacy = deserializeLegacy(path);
+			Collections.reverse(legacy);
+			rewrite(threadId, path, legacy);
+		}
+		else if (!Files.exists(path) || Files.size(path) == 0) {
+			Files.write(path, LOG_MAGIC);
+			logIndexes.remove(threadId);
+		}
+		LogIndex index = logIndex(threadId, path);
+		if (index.validLength < index.scannedLength) {
+			// drop a torn record left by an interrupted write before appending after it
+			try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+				channel.truncate(index.validLength);
+			}
+			index.scannedLength = index.validLength;
+			index.mapping = null;
+		}
+		return index;
+	}
+
+	private void append(Path path, LogIndex index, byte type, String id, String replacedId, Checkpoint checkpoint)
+			throws IOException {
+		ByteArrayOutputStream body = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(body)) {
+			out.writeByte(type);
+			out.writeUTF(id);
+			if (replacedId != null) {
+				out.writeUTF(replacedId);
+			}
+			if (checkpoint != null) {
+				try (ObjectOutputStream oos = new ObjectOutputStream(out)) {
+					serializer.write(checkpoint, oos);
 				}
 			}
-			return Optional.empty();
+		}
+		byte[] bytes = body.toByteArray();
+		CRC32 crc = new CRC32();
+		crc.update(bytes);
+		ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + bytes.length);
+		record.putInt(bytes.length).putInt((int) crc.getValue()).put(bytes).flip();
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+			long position = channel.size();
+			while (record.hasRemaining()) {
+				channel.write(record);
+			}
+			index.apply(ByteBuffer.wrap(bytes), position + RECORD_HEADER_SIZE);
+			index.scannedLength = position + record.limit();
+			index.validLength = index.scannedLength;
 		}
 	}
 
-	private LinkedList<Checkpoint> loadCheckpoints(RunnableConfig config) throws IOException, ClassNotFoundException {
-		return deserialize(getFile(config));
+	/**
+	 * Atomically replaces a thread file with a log holding the given checkpoints, oldest
+	 * first.
+	 */
+	private void rewrite(String threadId, Path path, List<Checkpoint> checkpoints) throws IOException {
+		Path tempFile = Files.createTempFile(targetFolder, path.getFileName().toString(), ".tmp");
+		try {
+			Files.write(tempFile, LOG_MAGIC);
+			LogIndex index = new LogIndex();
+			index.scannedLength = LOG_MAGIC.length;
+			for (Checkpoint checkpoint : checkpoints) {
+				append(tempFile, index, RECORD_PUT, checkpoint.getId(), null, checkpoint);
+			}
+			Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			logIndexes.put(threadId, index);
+		}
+		finally {
+			Files.deleteIfExists(tempFile);
+		}
 	}
 
 	private void insertCheckpoint(RunnableConfig config, Checkpoint checkpoint) throws Exception {
-		LinkedList<Checkpoint> checkpoints = loadCheckpoints(config);
-		checkpoints.push(checkpoint);
-		retainLatestCheckpoints(checkpoints, config);
-		File targetFile = getFile(config);
-		serialize(checkpoints, targetFile);
+		Path path = getPath(config);
+		LogIndex index = prepareAppend(config);
+		append(path, index, RECORD_PUT, checkpoint.getId(), null, checkpoint);
+		retainLatestCheckpoints(path, index, config);
+		scheduleCompaction(config, index);
 	}
 
 	private void updateCheckpoint(RunnableConfig config, String checkpointId, Checkpoint checkpoint) throws Exception {
+		Path path = getPath(config);
+		LogIndex index = prepareAppend(config);
+		if (!index.entries.containsKey(checkpointId)) {
+			throw new NoSuchElementException(format("Checkpoint with id %s not found!", checkpointId));
+		}
+		append(path, index, RECORD_REPLACE, checkpoint.getId(), checkpointId, checkpoint);
+		retainLatestCheckpoints(path, index, config);
+		scheduleCompaction(config, index);
+	}
+
+	/**
+	 * Appends a remove record for each checkpoint beyond the configured retention.
+	 */
+	private void retainLatestCheckpoints(Path path, LogIndex index, RunnableConfig config) throws IOException {
+		Optional<Integer> retained = checkpointsNumRetained(config);
+		if (retained.isEmpty()) {
+			return;
+		}
+		int excess = index.entries.size() - retained.get();
+		if (excess <= 0) {
+			return;
+		}
+		List<String> removed = index.entries.keySet().stream().limit(excess).toList();
+		for (String checkpointId : removed) {
+			append(path, index, RECORD_REMOVE, checkpointId, null, null);
+		}
+	}
+
+	/**
+	 * Schedules a rewrite of the thread file once the records no longer needed take more
+	 * space than the live checkpoints.
+	 */
+	private void scheduleCompaction(RunnableConfig config, LogIndex index) {
+		long deadBytes = index.validLength - LOG_MAGIC.length - index.liveBytes;
+		String threadId = getThreadId(config);
+		if (deadBytes <= index.liveBytes || !pendingCompactions.add(threadId)) {
+			return;
+		}
+		compactionExecutor.execute(() -> {
+			lock.lock();
+			try {
+				pendingCompactions.remove(threadId);
+				compact(config);
+			}
+			catch (Exception ex) {
+				log.warn("Failed to compact checkpoint file {}", getPath(config), ex);
+			}
+			finally {
+				lock.unlock();
+			}
+		});
+	}
+
+	private void compact(RunnableConfig config) throws IOException, ClassNotFoundException {
+		Path path = getPath(config);
+		if (!Files.exists(path) || isLegacyFile(getThreadId(config), path)) {
+			return;
+		}
 		LinkedList<Checkpoint> checkpoints = loadCheckpoints(config);
-		int index = IntStream.range(0, checkpoints.size())
-				.filter(i -> checkpoints.get(i).getId().equals(checkpointId))
-				.findFirst()
-				.orElseThrow(() -> new NoSuchElementException(format("Checkpoint with id %s not found!", checkpointId)));
-		checkpoints.set(index, checkpoint);
-		retainLatestCheckpoints(checkpoints, config);
-		serialize(checkpoints, getFile(config));
+		Collections.reverse(checkpoints);
+		rewrite(getThreadId(config), path, checkpoints);
 	}
 
 	/**
@@ -248,9 +547,8 @@ public class FileSystemSaver implements BaseCheckpointSaver {
 		lock.lock();
 		try {
 			String threadId = getThreadId(config);
-			File targetFile = getFile(config);
 			if (config.checkPointId().isPresent()) {
-				return deserializeCheckpoint(targetFile, config.checkPointId().get());
+				return loadCheckpoint(config, config.checkPointId().get());
 			}
 
 			Optional<Checkpoint> cached = getCachedLatest(threadId);
@@ -258,7 +556,7 @@ public class FileSystemSaver implements BaseCheckpointSaver {
 				return cached;
 			}
 
-			Optional<Checkpoint> latest = deserializeLatest(targetFile);
+			Optional<Checkpoint> latest = loadLatest(config);
 			latest.ifPresent(checkpoint -> cacheLatest(threadId, checkpoint));
 			return latest;
 		}
@@ -383,13 +681,13 @@ public class FileSystemSaver implements BaseCheckpointSaver {
 	/**
 	 * Creates a bounded LRU cache for latest checkpoints.
 	 */
-	private static Map<String, Checkpoint> createLatestCheckpointCache(int maxCachedThreads) {
+	private static <V> Map<String, V> createLatestCheckpointCache(int maxCachedThreads) {
 		if (maxCachedThreads == 0) {
 			return Collections.emptyMap();
 		}
 		return new LinkedHashMap<>(16, 0.75f, true) {
 			@Override
-			protected boolean removeEldestEntry(Map.Entry<String, Checkpoint> eldest) {
+			protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
 				return size() > maxCachedThreads;
 			}
 		};
@@ -412,6 +710,124 @@ public class FileSystemSaver implements BaseCheckpointSaver {
 		if (maxCachedThreads > 0) {
 			latestCheckpointCache.remove(threadId);
 		}
+		logIndexes.remove(threadId);
+	}
+
+	/**
+	 * Location of one live checkpoint in a thread file.
+	 * @param offset position of the serialized checkpoint in the file
+	 * @param length size of the serialized checkpoint
+	 * @param recordSize size of the whole record holding it
+	 */
+	private record LogEntry(long offset, int length, int recordSize) {
+	}
+
+	/**
+	 * Live checkpoints of a thread file in insertion order, as of the last scanned or
+	 * appended record.
+	 */
+	private static final class LogIndex {
+
+		private LinkedHashMap<String, LogEntry> entries = new LinkedHashMap<>();
+
+		/** Bytes of the file covered by this index, including a torn tail record. */
+		private long scannedLength;
+
+		/** Bytes of the file made of complete records. */
+		private long validLength;
+
+		private long liveBytes;
+
+		/** Read-only mapping of the start of the file, remapped once the file grows. */
+		private ByteBuffer mapping;
+
+		LogEntry latest() {
+			LogEntry latest = null;
+			for (LogEntry entry : entries.values()) {
+				latest = entry;
+			}
+			return latest;
+		}
+
+		/**
+		 * Applies one record to the index.
+		 * @param body record body, starting with its type
+		 * @param bodyOffset position of the record body in the file
+		 */
+		void apply(ByteBuffer body, long bodyOffset) throws IOException {
+			int bodyLength = body.remaining();
+			DataInputStream in = new DataInputStream(new ByteBufferInputStream(body.duplicate()));
+			byte type = in.readByte();
+			String id = in.readUTF();
+			String replacedId = type == RECORD_REPLACE ? in.readUTF() : null;
+			int checkpointOffset = bodyLength - in.available();
+			LogEntry entry = new LogEntry(bodyOffset + checkpointOffset, bodyLength - checkpointOffset,
+					bodyLength + RECORD_HEADER_SIZE);
+			switch (type) {
+				case RECORD_PUT -> {
+					remove(id);
+					entries.put(id, entry);
+					liveBytes += entry.recordSize();
+				}
+				case RECORD_REPLACE -> {
+					LinkedHashMap<String, LogEntry> replaced = new LinkedHashMap<>();
+					entries.forEach((key, value) -> {
+						if (key.equals(replacedId)) {
+							replaced.put(id, entry);
+						}
+						else if (!key.equals(id)) {
+							replaced.put(key, value);
+						}
+					});
+					entries = replaced;
+					liveBytes = 0;
+					entries.values().forEach(value -> liveBytes += value.recordSize());
+				}
+				case RECORD_REMOVE -> remove(id);
+				default -> throw new IOException("Unknown checkpoint record type " + type);
+			}
+		}
+
+		private void remove(String id) {
+			LogEntry removed = entries.remove(id);
+			if (removed != null) {
+				liveBytes -= removed.recordSize();
+			}
+		}
+
+	}
+
+	/**
+	 * Reads a byte buffer, possibly memory mapped, as an input stream.
+	 */
+	private static final class ByteBufferInputStream extends InputStream {
+
+		private final ByteBuffer buffer;
+
+		ByteBufferInputStream(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public int read() {
+			return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+		}
+
+		@Override
+		public int read(byte[] bytes, int offset, int length) {
+			if (!buffer.hasRemaining()) {
+				return -1;
+			}
+			int count = Math.min(length, buffer.remaining());
+			buffer.get(bytes, offset, count);
+			return count;
+		}
+
+		@Override
+		public int available() {
+			return buffer.remaining();
+		}
+
 	}
 
 	/**
@@ -421,6 +837,8 @@ public class FileSystemSaver implements BaseCheckpointSaver {
 		private Path targetFolder;
 		private StateSerializer stateSerializer;
 		private int maxCachedThreads = 1024;
+		private boolean memoryMappedReads = true;
+		private Executor compactionExecutor;
 
 		public Builder targetFolder(Path targetFolder) {
 			this.targetFolder = targetFolder;
@@ -433,7 +851,9 @@ public class FileSystemSaver implements BaseCheckpointSaver {
 		}
 
 		/**
-		 * Sets the maximum number of latest checkpoints retained in memory.
+		 * Sets the maximum number of latest checkpoints retained in memory. The record
+		 * indexes of at least the 64 most recently used threads are kept whatever this
+		 * value, so that writes never rescan a whole file.
 		 * @param maxCachedThreads max cached threads, or 0 to disable the cache
 		 * @return this builder
 		 */
@@ -445,6 +865,31 @@ public class FileSystemSaver implements BaseCheckpointSaver {
 			return this;
 		}
 
+		/**
+		 * Sets whether checkpoint files are read through memory-mapped buffers, the
+		 * default, or with positional channel reads. Each indexed file is mapped once and
+		 * remapped only after it has grown. Mapped regions are only unmapped once garbage
+		 * collected, which prevents deleting or replacing the file in the meantime on
+		 * some platforms such as Windows.
+		 * @param memoryMappedReads true to memory-map checkpoint files for reading
+		 * @return this builder
+		 */
+		public Builder memoryMappedReads(boolean memoryMappedReads) {
+			this.memoryMappedReads = memoryMappedReads;
+			return this;
+		}
+
+		/**
+		 * Sets the executor compacting checkpoint files. Defaults to a shared daemon
+		 * thread.
+		 * @param compactionExecutor the executor running compactions
+		 * @return this builder
+		 */
+		public Builder compactionExecutor(Executor compactionExecutor) {
+			this.compactionExecutor = Objects.requireNonNull(compactionExecutor, "compactionExecutor cannot be null");
+			return this;
+		}
+
 		/**
 		 * Builds a new FileSystemSaver instance.
 		 * @return a new FileSystemSaver instance
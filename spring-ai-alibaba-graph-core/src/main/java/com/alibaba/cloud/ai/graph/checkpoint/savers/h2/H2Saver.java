@@ -19,6 +19,8 @@ import com.alibaba.cloud.ai.graph.StateGraph;
 import com.alibaba.cloud.ai.graph.checkpoint.Checkpoint;
 import com.alibaba.cloud.ai.graph.checkpoint.savers.jdbc.AbstractJdbcCheckpointSaver;
 import com.alibaba.cloud.ai.graph.serializer.StateSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 
 import java.io.IOException;
 import java.io.PrintWriter;
@@ -90,7 +92,8 @@ import static java.util.Objects.requireNonNull;
  * <p>
  * A builder can be used to create an instance of H2Saver. The builder allows
  * configuring a DataSource or JDBC URL, CreateOption, StateSerializer, and the
- * maximum number of latest checkpoints retained in memory.
+ * maximum number of latest checkpoints retained in memory, and how many checkpoints
+ * are stored per full snapshot.
  * </p>
  * <p>
  * Ex:
@@ -226,6 +229,29 @@ public class H2Saver extends AbstractJdbcCheckpointSaver {
 			  AND c.checkpoint_id = ?
 			""";
 
+	private static final String SELECT_LATEST_CHECKPOINT_ID = """
+			SELECT
+			  c.checkpoint_id
+			FROM GRAPH_CHECKPOINT c
+			  INNER JOIN GRAPH_THREAD t ON c.thread_id = t.thread_id
+			WHERE t.thread_name = ? AND t.is_released = FALSE
+			ORDER BY c.checkpoint_seq DESC
+			LIMIT 1
+			""";
+
+	private static final String SELECT_CHECKPOINTS_BY_IDS = """
+			SELECT
+			  c.checkpoint_id,
+			  c.node_id,
+			  c.next_node_id,
+			  c.state_data,
+			  c.state_content_type
+			FROM GRAPH_CHECKPOINT c
+			  INNER JOIN GRAPH_THREAD t ON c.thread_id = t.thread_id
+			WHERE t.thread_name = ? AND t.is_released = FALSE
+			  AND c.checkpoint_id IN (%s)
+			""";
+
 	private static final String DELETE_CHECKPOINTS = """
 			DELETE FROM GRAPH_CHECKPOINT
 			WHERE checkpoint_id IN (%s)
@@ -247,7 +273,7 @@ public class H2Saver extends AbstractJdbcCheckpointSaver {
 	private final CreateOption createOption;
 
 	private H2Saver(Builder builder) throws SQLException {
-		super(builder.maxCachedThreads);
+		super(builder.maxCachedThreads, builder.fullCheckpointInterval, builder.meterRegistry);
 		this.dataSource = builder.dataSource;
 		this.stateSerializer = builder.stateSerializer;
 		this.createOption = builder.createOption;
@@ -357,6 +383,52 @@ public class H2Saver extends AbstractJdbcCheckpointSaver {
 		}
 	}
 
+	@Override
+	protected Optional<String> selectLatestCheckpointId(String threadId) throws Exception {
+		try (Connection connection = getConnection();
+				PreparedStatement ps = connection.prepareStatement(SELECT_LATEST_CHECKPOINT_ID)) {
+
+			ps.setString(1, threadId);
+			try (ResultSet rs = ps.executeQuery()) {
+				if (rs.next()) {
+					return Optional.of(rs.getString(1));
+				}
+				return Optional.empty();
+			}
+		}
+		catch (SQLException ex) {
+			throw new Exception("Unable to load latest checkpoint id", ex);
+		}
+	}
+
+	@Override
+	protected Collection<Checkpoint> selectCheckpointsByIds(String threadId, Collection<String> checkpointIds)
+			throws Exception {
+		LinkedList<Checkpoint> checkpoints = new LinkedList<>();
+		if (checkpointIds.isEmpty()) {
+			return checkpoints;
+		}
+		try (Connection connection = getConnection();
+				PreparedStatement ps = connection.prepareStatement(SELECT_CHECKPOINTS_BY_IDS
+					.formatted(String.join(", ", Collections.nCopies(checkpointIds.size(), "?"))))) {
+
+			ps.setString(1, threadId);
+			int index = 2;
+			for (String checkpointId : checkpointIds) {
+				ps.setString(index++, checkpointId);
+			}
+			try (ResultSet rs = ps.executeQuery()) {
+				while (rs.next()) {
+					checkpoints.add(readCheckpoint(rs));
+				}
+			}
+		}
+		catch (SQLException | IOException | ClassNotFoundException ex) {
+			throw new Exception("Unable to load checkpoints", ex);
+		}
+		return checkpoints;
+	}
+
 	@Override
 	protected void insertCheckpoint(String threadId, Checkpoint checkpoint) throws Exception {
 		Connection conn = null;
@@ -517,6 +589,10 @@ public class H2Saver extends AbstractJdbcCheckpointSaver {
 
 		private int maxCachedThreads = 1024;
 
+		private int fullCheckpointInterval = 1;
+
+		private MeterRegistry meterRegistry = Metrics.globalRegistry;
+
 		public Builder stateSerializer(StateSerializer stateSerializer) {
 			this.stateSerializer = stateSerializer;
 			return this;
@@ -561,6 +637,33 @@ public class H2Saver extends AbstractJdbcCheckpointSaver {
 			return this;
 		}
 
+		/**
+		 * Sets how often a checkpoint is stored as a full state. The checkpoints in
+		 * between only store the state keys changed since the previous checkpoint of the
+		 * thread, and are rebuilt from their full base checkpoint when read.
+		 * @param fullCheckpointInterval number of checkpoints per full snapshot, 1 (the
+		 * default) to store every checkpoint in full
+		 * @return this builder
+		 */
+		public Builder fullCheckpointInterval(int fullCheckpointInterval) {
+			if (fullCheckpointInterval < 1) {
+				throw new IllegalArgumentException("fullCheckpointInterval must be greater than or equal to 1");
+			}
+			this.fullCheckpointInterval = fullCheckpointInterval;
+			return this;
+		}
+
+		/**
+		 * Sets the registry receiving the checkpoint lock wait timer. Defaults to the
+		 * Micrometer global registry.
+		 * @param meterRegistry the meter registry
+		 * @return this builder
+		 */
+		public Builder meterRegistry(MeterRegistry meterRegistry) {
+			this.meterRegistry = requireNonNull(meterRegistry, "meterRegistry cannot be null");
+			return this;
+		}
+
 		private String requireNotBlank(String value, String name) {
 			if (requireNonNull(value, format("'%s' cannot be null", name)).isBlank()) {
 				throw new IllegalArgumentException(format("'%s' cannot be blank", name));
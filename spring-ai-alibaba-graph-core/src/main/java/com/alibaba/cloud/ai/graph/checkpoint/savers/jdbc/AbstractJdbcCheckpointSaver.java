@@ -21,12 +21,23 @@ import com.alibaba.cloud.ai.graph.checkpoint.Checkpoint;
 import com.alibaba.cloud.ai.graph.checkpoint.config.SaverConfig;
 import com.alibaba.cloud.ai.graph.checkpoint.savers.common.LatestCheckpointCache;
 import com.alibaba.cloud.ai.graph.checkpoint.savers.common.LatestCheckpointCacheConfigurable;
+import com.alibaba.cloud.ai.graph.observation.metric.SpringAiAlibabaObservationMetricNames;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
@@ -34,14 +45,48 @@ import java.util.concurrent.locks.ReentrantLock;
  * <p>
  * This class owns the common saver lifecycle and latest-checkpoint cache behavior.
  * Subclasses keep database-specific SQL, transaction details and row mapping logic.
+ * <p>
+ * When a full checkpoint interval greater than 1 is configured, only every
+ * {@code fullCheckpointInterval}-th checkpoint of a thread is stored as a full state;
+ * the ones in between store the keys that changed since the previous checkpoint, with
+ * list values grown by appending stored as the appended elements only. Deltas are
+ * regular state maps, so they use the subclass' serializer and tables unchanged, and
+ * every read resolves them back to full states. Checkpoints are always read back as
+ * full states, whatever the configured interval.
+ * <p>
+ * A delta is only written against the last state this saver wrote for the thread when
+ * that checkpoint is still the latest one in the database; otherwise, for example when
+ * another instance wrote to the same thread in between, a full snapshot is written.
+ * Each delta records the ids of its whole base chain, so reading a checkpoint loads the
+ * chain with a single {@link #selectCheckpointsByIds} query.
+ * <p>
+ * Operations are serialized per thread id only: each thread id maps to one of a fixed
+ * set of lock stripes, so independent threads read and write checkpoints in parallel.
+ * Time spent waiting for a stripe held by another caller is recorded by the
+ * {@code spring.ai.alibaba.graph.checkpoint.lock.wait} timer, tagged with the saver
+ * class; uncontended acquisitions are not recorded.
  */
 public abstract class AbstractJdbcCheckpointSaver implements BaseCheckpointSaver, LatestCheckpointCacheConfigurable {
 
 	private final LatestCheckpointCache latestCheckpointCache;
 
-	private final ReentrantLock lock = new ReentrantLock();
+	private static final int LOCK_STRIPES = 64;
+
+	private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+	private final Timer lockWaitTimer;
+
+	private volatile boolean latestCheckpointCacheEnabled = false;
 
-	private boolean latestCheckpointCacheEnabled = false;
+	private final int fullCheckpointInterval;
+
+	/**
+	 * Last state written for each thread in delta mode, bounded like the
+	 * latest-checkpoint cache. A thread without an entry, or whose entry is not the
+	 * latest checkpoint in the database, gets a full snapshot. Entries are only read and
+	 * written under the lock of their thread.
+	 */
+	private final Map<String, WrittenState> writtenStates;
 
 	/**
 	 * Creates a JDBC saver base with a bounded latest-checkpoint cache. The local
@@ -51,7 +96,53 @@ public abstract class AbstractJdbcCheckpointSaver implements BaseCheckpointSaver
 	 * cache, or 0 to disable the cache
 	 */
 	protected AbstractJdbcCheckpointSaver(int maxCachedThreads) {
+		this(maxCachedThreads, 1);
+	}
+
+	/**
+	 * Creates a JDBC saver base that stores a full state every
+	 * {@code fullCheckpointInterval} checkpoints of a thread and deltas in between.
+	 *
+	 * @param maxCachedThreads maximum number of thread latest-checkpoint entries to
+	 * cache, or 0 to disable the cache. Also bounds the number of threads whose last
+	 * written state is kept to compute deltas.
+	 * @param fullCheckpointInterval number of checkpoints per full snapshot, 1 to
+	 * store every checkpoint in full
+	 */
+	protected AbstractJdbcCheckpointSaver(int maxCachedThreads, int fullCheckpointInterval) {
+		this(maxCachedThreads, fullCheckpointInterval, Metrics.globalRegistry);
+	}
+
+	/**
+	 * Creates a JDBC saver base that reports lock contention to the given registry.
+	 *
+	 * @param maxCachedThreads maximum number of thread latest-checkpoint entries to
+	 * cache, or 0 to disable the cache. Also bounds the number of threads whose last
+	 * written state is kept to compute deltas.
+	 * @param fullCheckpointInterval number of checkpoints per full snapshot, 1 to
+	 * store every checkpoint in full
+	 * @param meterRegistry registry of the lock wait timer
+	 */
+	protected AbstractJdbcCheckpointSaver(int maxCachedThreads, int fullCheckpointInterval,
+			MeterRegistry meterRegistry) {
+		if (fullCheckpointInterval < 1) {
+			throw new IllegalArgumentException("fullCheckpointInterval must be greater than or equal to 1");
+		}
 		this.latestCheckpointCache = new LatestCheckpointCache(maxCachedThreads);
+		this.fullCheckpointInterval = fullCheckpointInterval;
+		this.writtenStates = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, WrittenState> eldest) {
+				return size() > maxCachedThreads;
+			}
+		});
+		for (int i = 0; i < LOCK_STRIPES; i++) {
+			locks[i] = new ReentrantLock();
+		}
+		this.lockWaitTimer = Timer.builder(SpringAiAlibabaObservationMetricNames.CHECKPOINT_LOCK_WAIT.value())
+				.description("Time spent waiting for a checkpoint saver thread lock held by another caller")
+				.tag("saver", getClass().getSimpleName())
+				.register(meterRegistry);
 	}
 
 	/**
@@ -63,10 +154,10 @@ public abstract class AbstractJdbcCheckpointSaver implements BaseCheckpointSaver
 	 */
 	@Override
 	public final Collection<Checkpoint> list(RunnableConfig config) {
-		lock.lock();
+		String threadId = threadId(config);
+		ReentrantLock lock = lock(threadId);
 		try {
-			String threadId = threadId(config);
-			LinkedList<Checkpoint> checkpoints = selectCheckpoints(threadId);
+			LinkedList<Checkpoint> checkpoints = resolveCheckpoints(threadId, selectCheckpoints(threadId));
 			if (latestCheckpointCacheEnabled && !checkpoints.isEmpty()) {
 				latestCheckpointCache.put(threadId, checkpoints.peek());
 			}
@@ -90,11 +181,11 @@ public abstract class AbstractJdbcCheckpointSaver implements BaseCheckpointSaver
 	 */
 	@Override
 	public final Optional<Checkpoint> get(RunnableConfig config) {
-		lock.lock();
+		String threadId = threadId(config);
+		ReentrantLock lock = lock(threadId);
 		try {
-			String threadId = threadId(config);
 			if (config.checkPointId().isPresent()) {
-				return selectCheckpointById(threadId, config.checkPointId().get());
+				return resolveCheckpoint(threadId, selectCheckpointById(threadId, config.checkPointId().get()));
 			}
 
 			if (latestCheckpointCacheEnabled) {
@@ -104,7 +195,7 @@ public abstract class AbstractJdbcCheckpointSaver implements BaseCheckpointSaver
 				}
 			}
 
-			Optional<Checkpoint> latest = selectLatestCheckpoint(threadId);
+			Optional<Checkpoint> latest = resolveCheckpoint(threadId, selectLatestCheckpoint(threadId));
 			if (latestCheckpointCacheEnabled) {
 				latest.ifPresent(checkpoint -> latestCheckpointCache.put(threadId, checkpoint));
 			}
@@ -131,12 +222,16 @@ public abstract class AbstractJdbcCheckpointSaver implements BaseCheckpointSaver
 	 */
 	@Override
 	public final RunnableConfig put(RunnableConfig config, Checkpoint checkpoint) throws Exception {
-		lock.lock();
+		String threadId = threadId(config);
+		ReentrantLock lock = lock(threadId);
 		try {
-			String threadId = threadId(config);
 			if (config.checkPointId().isPresent()) {
 				String checkpointId = config.checkPointId().get();
+				if (fullCheckpointInterval > 1) {
+					rewriteDependentCheckpoints(threadId, checkpointId);
+				}
 				updateCheckpoint(threadId, checkpointId, checkpoint);
+				trackUpdatedState(threadId, checkpointId, checkpoint);
 				deleteRetainedCheckpoints(threadId, config);
 				if (latestCheckpointCacheEnabled) {
 					latestCheckpointCache.get(threadId)
@@ -146,7 +241,7 @@ public abstract class AbstractJdbcCheckpointSaver implements BaseCheckpointSaver
 				return config;
 			}
 
-			insertCheckpoint(threadId, checkpoint);
+			insertCheckpoint(threadId, encodeCheckpoint(threadId, config, checkpoint));
 			deleteRetainedCheckpoints(threadId, config);
 			if (latestCheckpointCacheEnabled) {
 				latestCheckpointCache.put(threadId, checkpoint);
@@ -170,12 +265,13 @@ public abstract class AbstractJdbcCheckpointSaver implements BaseCheckpointSaver
 	 */
 	@Override
 	public final Tag release(RunnableConfig config) throws Exception {
-		lock.lock();
+		String threadId = threadId(config);
+		ReentrantLock lock = lock(threadId);
 		try {
-			String threadId = threadId(config);
-			LinkedList<Checkpoint> checkpoints = selectCheckpoints(threadId);
+			LinkedList<Checkpoint> checkpoints = resolveCheckpoints(threadId, selectCheckpoints(threadId));
 			releaseThread(threadId);
 			latestCheckpointCache.remove(threadId);
+			writtenStates.remove(threadId);
 			return new Tag(threadId, checkpoints);
 		}
 		finally {
@@ -185,15 +281,9 @@ public abstract class AbstractJdbcCheckpointSaver implements BaseCheckpointSaver
 
 	@Override
 	public final void latestCheckpointCacheEnabled(boolean enabled) {
-		lock.lock();
-		try {
-			this.latestCheckpointCacheEnabled = enabled;
-			if (!enabled) {
-				latestCheckpointCache.clear();
-			}
-		}
-		finally {
-			lock.unlock();
+		this.latestCheckpointCacheEnabled = enabled;
+		if (!enabled) {
+			latestCheckpointCache.clear();
 		}
 	}
 
@@ -225,6 +315,39 @@ public abstract class AbstractJdbcCheckpointSaver implements BaseCheckpointSaver
 	 */
 	protected abstract Optional<Checkpoint> selectCheckpointById(String threadId, String checkpointId) throws Exception;
 
+	/**
+	 * Selects the id of the latest active checkpoint for a thread, without loading its
+	 * state. Used in delta mode to check the base of the next delta. The default
+	 * implementation loads the latest checkpoint; subclasses should select only the id.
+	 *
+	 * @param threadId thread name/id used by the concrete saver schema
+	 * @return latest checkpoint id when one exists
+	 * @throws Exception when the concrete saver cannot read the latest checkpoint
+	 */
+	protected Optional<String> selectLatestCheckpointId(String threadId) throws Exception {
+		return selectLatestCheckpoint(threadId).map(Checkpoint::getId);
+	}
+
+	/**
+	 * Selects the active checkpoints of a thread with the given ids. Ids that do not
+	 * match an active checkpoint are ignored. Used to load the base chain of a delta at
+	 * once. The default implementation selects the checkpoints one by one; subclasses
+	 * should use a single query.
+	 *
+	 * @param threadId thread name/id used by the concrete saver schema
+	 * @param checkpointIds checkpoint ids to look up
+	 * @return matching checkpoints, in no particular order
+	 * @throws Exception when the concrete saver cannot read the checkpoints
+	 */
+	protected Collection<Checkpoint> selectCheckpointsByIds(String threadId, Collection<String> checkpointIds)
+			throws Exception {
+		List<Checkpoint> checkpoints = new ArrayList<>();
+		for (String checkpointId : checkpointIds) {
+			selectCheckpointById(threadId, checkpointId).ifPresent(checkpoints::add);
+		}
+		return checkpoints;
+	}
+
 	/**
 	 * Inserts a new active checkpoint for a thread.
 	 *
@@ -266,9 +389,150 @@ public abstract class AbstractJdbcCheckpointSaver implements BaseCheckpointSaver
 				.skip(retained.get())
 				.map(Checkpoint::getId)
 				.toList();
+		Set<String> deleted = new HashSet<>(checkpointIds);
+		Map<String, Checkpoint> resolved = new HashMap<>();
+		for (Checkpoint survivor : checkpoints.subList(0, retained.get())) {
+			Optional<String> baseId = DeltaCheckpointCodec.baseId(survivor.getState());
+			if (baseId.isPresent() && deleted.contains(baseId.get())) {
+				// the survivor would lose its base: store it in full before deleting
+				Checkpoint full = resolve(survivor, byId(checkpoints), resolved);
+				updateCheckpoint(threadId, survivor.getId(), full);
+				trackUpdatedState(threadId, survivor.getId(), full);
+			}
+		}
 		deleteCheckpoints(threadId, checkpointIds);
 	}
 
+	/**
+	 * Stores the checkpoints that are deltas of {@code checkpointId} in full, so that
+	 * replacing it does not change their state.
+	 */
+	private void rewriteDependentCheckpoints(String threadId, String checkpointId) throws Exception {
+		LinkedList<Checkpoint> checkpoints = selectCheckpoints(threadId);
+		Map<String, Checkpoint> storedById = byId(checkpoints);
+		Map<String, Checkpoint> resolved = new HashMap<>();
+		for (Checkpoint stored : checkpoints) {
+			Optional<String> baseId = DeltaCheckpointCodec.baseId(stored.getState());
+			if (baseId.isPresent() && baseId.get().equals(checkpointId)) {
+				updateCheckpoint(threadId, stored.getId(), resolve(stored, storedById, resolved));
+			}
+		}
+	}
+
+	/**
+	 * Returns the checkpoint to insert: a delta of the last state written for the
+	 * thread, or the checkpoint itself when a full snapshot is due or that state is no
+	 * longer the latest checkpoint in the database.
+	 */
+	private Checkpoint encodeCheckpoint(String threadId, RunnableConfig config, Checkpoint checkpoint)
+			throws Exception {
+		if (fullCheckpointInterval == 1) {
+			return checkpoint;
+		}
+		WrittenState previous = writtenStates.get(threadId);
+		// when only one checkpoint is retained the base is deleted right away
+		boolean baseRetained = checkpointsNumRetained(config).map(retained -> retained > 1).orElse(true);
+		if (previous == null || !baseRetained || previous.chain().size() >= fullCheckpointInterval
+				|| !selectLatestCheckpointId(threadId).filter(previous.checkpointId()::equals).isPresent()) {
+			writtenStates.put(threadId, new WrittenState(checkpoint.getId(),
+					DeltaCheckpointCodec.detach(checkpoint.getState()), List.of(checkpoint.getId())));
+			return checkpoint;
+		}
+		Map<String, Object> delta = DeltaCheckpointCodec.encode(previous.chain(), previous.state(),
+				checkpoint.getState());
+		List<String> chain = new ArrayList<>(previous.chain());
+		chain.add(checkpoint.getId());
+		writtenStates.put(threadId,
+				new WrittenState(checkpoint.getId(), DeltaCheckpointCodec.detach(checkpoint.getState()), chain));
+		return DeltaCheckpointCodec.withState(checkpoint, delta);
+	}
+
+	/**
+	 * Keeps the last written state coherent after {@code checkpointId} was replaced in
+	 * full by {@code checkpoint}.
+	 */
+	private void trackUpdatedState(String threadId, String checkpointId, Checkpoint checkpoint) {
+		if (fullCheckpointInterval == 1) {
+			return;
+		}
+		WrittenState previous = writtenStates.get(threadId);
+		if (previous != null && previous.checkpointId().equals(checkpointId)) {
+			writtenStates.put(threadId, new WrittenState(checkpoint.getId(),
+					DeltaCheckpointCodec.detach(checkpoint.getState()), List.of(checkpoint.getId())));
+		}
+	}
+
+	private Optional<Checkpoint> resolveCheckpoint(String threadId, Optional<Checkpoint> stored) throws Exception {
+		if (stored.isEmpty() || DeltaCheckpointCodec.baseId(stored.get().getState()).isEmpty()) {
+			return stored;
+		}
+		// load the recorded base chain at once, falling back to single lookups for
+		// bases it does not list
+		Map<String, Checkpoint> storedById = byId(
+				selectCheckpointsByIds(threadId, DeltaCheckpointCodec.chain(stored.get().getState())));
+		Map<String, Checkpoint> resolved = new HashMap<>();
+		return Optional.of(DeltaCheckpointCodec.resolve(stored.get(),
+				baseId -> resolveBase(threadId, baseId, storedById, resolved)));
+	}
+
+	private Checkpoint resolveBase(String threadId, String checkpointId, Map<String, Checkpoint> storedById,
+			Map<String, Checkpoint> resolved) throws Exception {
+		Checkpoint checkpoint = resolved.get(checkpointId);
+		if (checkpoint != null) {
+			return checkpoint;
+		}
+		Optional<Checkpoint> stored = Optional.ofNullable(storedById.get(checkpointId));
+		if (stored.isEmpty()) {
+			stored = selectCheckpointById(threadId, checkpointId);
+		}
+		if (stored.isEmpty()) {
+			return null;
+		}
+		checkpoint = DeltaCheckpointCodec.resolve(stored.get(),
+				baseId -> resolveBase(threadId, baseId, storedById, resolved));
+		resolved.put(checkpointId, checkpoint);
+		return checkpoint;
+	}
+
+	private LinkedList<Checkpoint> resolveCheckpoints(String threadId, LinkedList<Checkpoint> checkpoints)
+			throws Exception {
+		if (checkpoints.stream().allMatch(stored -> DeltaCheckpointCodec.baseId(stored.getState()).isEmpty())) {
+			return checkpoints;
+		}
+		Map<String, Checkpoint> storedById = byId(checkpoints);
+		Map<String, Checkpoint> resolved = new HashMap<>();
+		LinkedList<Checkpoint> result = new LinkedList<>();
+		for (Checkpoint stored : checkpoints) {
+			result.add(resolve(stored, storedById, resolved));
+		}
+		return result;
+	}
+
+	/**
+	 * Resolves a stored checkpoint against a loaded history, memoizing the full states
+	 * so that each one of a chain is only rebuilt once.
+	 */
+	private static Checkpoint resolve(Checkpoint stored, Map<String, Checkpoint> storedById,
+			Map<String, Checkpoint> resolved) throws Exception {
+		Checkpoint checkpoint = resolved.get(stored.getId());
+		if (checkpoint == null) {
+			checkpoint = DeltaCheckpointCodec.resolve(stored, baseId -> {
+				Checkpoint base = storedById.get(baseId);
+				return base != null ? resolve(base, storedById, resolved) : null;
+			});
+			resolved.put(stored.getId(), checkpoint);
+		}
+		return checkpoint;
+	}
+
+	private static Map<String, Checkpoint> byId(Collection<Checkpoint> checkpoints) {
+		Map<String, Checkpoint> storedById = new HashMap<>();
+		for (Checkpoint checkpoint : checkpoints) {
+			storedById.put(checkpoint.getId(), checkpoint);
+		}
+		return storedById;
+	}
+
 	/**
 	 * Marks the active thread as released in the backing database.
 	 *
@@ -287,4 +551,30 @@ public abstract class AbstractJdbcCheckpointSaver implements BaseCheckpointSaver
 		return config.threadId().orElse(THREAD_ID_DEFAULT);
 	}
 
+	/**
+	 * Acquires the lock stripe of a thread, recording the wait when the stripe is held
+	 * by another caller.
+	 *
+	 * @param threadId thread name/id
+	 * @return the acquired lock, to be released by the caller
+	 */
+	private ReentrantLock lock(String threadId) {
+		int hash = threadId.hashCode();
+		ReentrantLock lock = locks[(hash ^ (hash >>> 16)) & (LOCK_STRIPES - 1)];
+		if (!lock.tryLock()) {
+			long start = System.nanoTime();
+			lock.lock();
+			lockWaitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+		return lock;
+	}
+
+	/**
+	 * Full state of the last checkpoint inserted for a thread, with the ids of the
+	 * checkpoints since the last full snapshot, that snapshot first and this checkpoint
+	 * last.
+	 */
+	private record WrittenState(String checkpointId, Map<String, Object> state, List<String> chain) {
+	}
+
 }
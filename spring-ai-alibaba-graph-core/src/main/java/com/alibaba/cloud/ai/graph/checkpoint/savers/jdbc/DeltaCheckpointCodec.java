@@ -0,0 +1,236 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.graph.checkpoint.savers.jdbc;
+
+import com.alibaba.cloud.ai.graph.checkpoint.Checkpoint;
+import com.alibaba.cloud.ai.graph.state.ChunkedAppendList;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Encodes a checkpoint state as the difference from a previously written state, and
+ * applies such differences back.
+ * <p>
+ * A delta is a regular state map, so it goes through the saver's
+ * {@link com.alibaba.cloud.ai.graph.serializer.StateSerializer} and the existing table
+ * layout unchanged. It holds the keys whose value changed, plus reserved keys:
+ * <ul>
+ * <li>{@value #BASE_KEY}: id of the checkpoint the delta applies to</li>
+ * <li>{@value #CHAIN_KEY}: ids of the checkpoints the delta depends on, from the full
+ * snapshot to the base, so that they can be loaded at once</li>
+ * <li>{@value #REMOVED_KEY}: keys removed since the base state</li>
+ * <li>{@value #APPEND_KEY_PREFIX}{@code <key>}: elements appended to a list value that
+ * otherwise kept its previous elements, as produced by
+ * {@link com.alibaba.cloud.ai.graph.state.strategy.AppendStrategy}</li>
+ * </ul>
+ * A state without {@value #BASE_KEY} is a full snapshot.
+ */
+final class DeltaCheckpointCodec {
+
+	static final String BASE_KEY = "__checkpoint_delta_base__";
+
+	static final String CHAIN_KEY = "__checkpoint_delta_chain__";
+
+	static final String REMOVED_KEY = "__checkpoint_delta_removed__";
+
+	static final String APPEND_KEY_PREFIX = "__checkpoint_delta_append__:";
+
+	private DeltaCheckpointCodec() {
+	}
+
+	/**
+	 * Returns the id of the checkpoint a stored state depends on.
+	 * @param state stored state
+	 * @return base checkpoint id, or empty for a full snapshot
+	 */
+	static Optional<String> baseId(Map<String, Object> state) {
+		return Optional.ofNullable((String) state.get(BASE_KEY));
+	}
+
+	/**
+	 * Returns the ids of the checkpoints a stored state depends on.
+	 * @param state stored state
+	 * @return recorded base chain, empty for a full snapshot
+	 */
+	@SuppressWarnings("unchecked")
+	static List<String> chain(Map<String, Object> state) {
+		Object chain = state.get(CHAIN_KEY);
+		if (chain instanceof List<?> ids) {
+			return (List<String>) ids;
+		}
+		return baseId(state).map(List::of).orElse(List.of());
+	}
+
+	/**
+	 * Builds the state to store for {@code state}, relative to {@code baseState} which
+	 * was stored as the last checkpoint of {@code chain}.
+	 * @param chain ids of the checkpoints from the last full snapshot to the base
+	 * @param baseState full state of the base checkpoint
+	 * @param state full state to encode
+	 * @return delta state
+	 */
+	static Map<String, Object> encode(List<String> chain, Map<String, Object> baseState, Map<String, Object> state) {
+		Map<String, Object> delta = new HashMap<>();
+		delta.put(BASE_KEY, chain.get(chain.size() - 1));
+		delta.put(CHAIN_KEY, new ArrayList<>(chain));
+		for (Map.Entry<String, Object> entry : state.entrySet()) {
+			String key = entry.getKey();
+			Object value = entry.getValue();
+			if (!baseState.containsKey(key)) {
+				delta.put(key, value);
+				continue;
+			}
+			Object baseValue = baseState.get(key);
+			if (Objects.equals(baseValue, value)) {
+				continue;
+			}
+			List<Object> appended = appendedSuffix(baseValue, value);
+			if (appended != null) {
+				delta.put(APPEND_KEY_PREFIX + key, appended);
+			}
+			else {
+				delta.put(key, value);
+			}
+		}
+		ArrayList<String> removed = new ArrayList<>();
+		for (String key : baseState.keySet()) {
+			if (!state.containsKey(key)) {
+				removed.add(key);
+			}
+		}
+		if (!removed.isEmpty()) {
+			delta.put(REMOVED_KEY, removed);
+		}
+		return delta;
+	}
+
+	/**
+	 * Applies a stored delta to the full state of its base checkpoint.
+	 * @param baseState full state of the base checkpoint
+	 * @param delta stored delta state
+	 * @return full state
+	 */
+	@SuppressWarnings("unchecked")
+	static Map<String, Object> apply(Map<String, Object> baseState, Map<String, Object> delta) {
+		Map<String, Object> state = new HashMap<>(baseState);
+		Object removed = delta.get(REMOVED_KEY);
+		if (removed instanceof Collection<?> keys) {
+			keys.forEach(state::remove);
+		}
+		for (Map.Entry<String, Object> entry : delta.entrySet()) {
+			String key = entry.getKey();
+			if (BASE_KEY.equals(key) || CHAIN_KEY.equals(key) || REMOVED_KEY.equals(key)) {
+				continue;
+			}
+			if (key.startsWith(APPEND_KEY_PREFIX)) {
+				String target = key.substring(APPEND_KEY_PREFIX.length());
+				state.put(target, concat((List<Object>) state.get(target), (Collection<Object>) entry.getValue()));
+			}
+			else {
+				state.put(key, entry.getValue());
+			}
+		}
+		return state;
+	}
+
+	/**
+	 * Resolves the full state of a stored checkpoint whose base chain is looked up
+	 * through {@code lookup}.
+	 * @param stored stored checkpoint, possibly a delta
+	 * @param lookup resolves a checkpoint id to its full checkpoint
+	 * @return checkpoint with its full state
+	 * @throws Exception when a base checkpoint cannot be loaded
+	 */
+	static Checkpoint resolve(Checkpoint stored, BaseLookup lookup) throws Exception {
+		Optional<String> baseId = baseId(stored.getState());
+		if (baseId.isEmpty()) {
+			return stored;
+		}
+		Checkpoint base = lookup.find(baseId.get());
+		if (base == null) {
+			throw new IllegalStateException("Base checkpoint %s of checkpoint %s not found"
+					.formatted(baseId.get(), stored.getId()));
+		}
+		return withState(stored, apply(base.getState(), stored.getState()));
+	}
+
+	static Checkpoint withState(Checkpoint checkpoint, Map<String, Object> state) {
+		return Checkpoint.builder()
+				.id(checkpoint.getId())
+				.nodeId(checkpoint.getNodeId())
+				.nextNodeId(checkpoint.getNextNodeId())
+				.state(state)
+				.build();
+	}
+
+	/**
+	 * Takes a copy of a full state that is safe to diff against later, even when the
+	 * caller keeps mutating the lists it holds. {@link ChunkedAppendList} values, as kept
+	 * by {@link com.alibaba.cloud.ai.graph.state.strategy.AppendStrategy}, are snapshotted
+	 * in constant time by sharing their elements; other lists are copied.
+	 * @param state full state
+	 * @return detached copy of the state
+	 */
+	static Map<String, Object> detach(Map<String, Object> state) {
+		Map<String, Object> copy = new HashMap<>(state);
+		copy.replaceAll((key, value) -> {
+			if (value instanceof ChunkedAppendList<?> chunked) {
+				return chunked.appending(List.of());
+			}
+			return value instanceof List<?> list ? new ArrayList<>(list) : value;
+		});
+		return copy;
+	}
+
+	private static List<Object> appendedSuffix(Object baseValue, Object value) {
+		if (!(baseValue instanceof List<?> baseList) || !(value instanceof List<?> list)
+				|| list.size() <= baseList.size() || baseList.isEmpty()) {
+			return null;
+		}
+		for (int i = 0; i < baseList.size(); i++) {
+			if (!Objects.equals(baseList.get(i), list.get(i))) {
+				return null;
+			}
+		}
+		return new ArrayList<>(list.subList(baseList.size(), list.size()));
+	}
+
+	private static List<Object> concat(List<Object> prefix, Collection<Object> suffix) {
+		if (prefix instanceof ChunkedAppendList<Object> chunked) {
+			return chunked.appending(suffix);
+		}
+		ChunkedAppendList<Object> result = new ChunkedAppendList<>(prefix != null ? prefix : List.of());
+		result.addAll(suffix);
+		return result;
+	}
+
+	/**
+	 * Looks up the full checkpoint a delta is based on.
+	 */
+	@FunctionalInterface
+	interface BaseLookup {
+
+		Checkpoint find(String checkpointId) throws Exception;
+
+	}
+
+}
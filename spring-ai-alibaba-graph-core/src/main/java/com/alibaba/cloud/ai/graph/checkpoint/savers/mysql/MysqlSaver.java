@@ -19,6 +19,8 @@ import com.alibaba.cloud.ai.graph.StateGraph;
 import com.alibaba.cloud.ai.graph.checkpoint.Checkpoint;
 import com.alibaba.cloud.ai.graph.checkpoint.savers.jdbc.AbstractJdbcCheckpointSaver;
 import com.alibaba.cloud.ai.graph.serializer.StateSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 
 import java.io.IOException;
 import java.sql.Connection;
@@ -87,6 +89,8 @@ import static java.util.Objects.requireNonNull;
  * - CreateOption : indicates whether the tables should be created or
  * existing tables should be used.
  * - MaxCachedThreads: indicates how many latest checkpoints are kept in memory.
+ * - FullCheckpointInterval: indicates how many checkpoints are stored per full
+ * snapshot, the others storing only the changed state keys.
  * </p>
  * <p>
  * Ex:
@@ -239,6 +243,28 @@ public class MysqlSaver extends AbstractJdbcCheckpointSaver {
 			  AND c.checkpoint_id = ?
 			""";
 
+	private static final String SELECT_LATEST_CHECKPOINT_ID = """
+			SELECT
+			  c.checkpoint_id
+			FROM GRAPH_CHECKPOINT c
+			  INNER JOIN GRAPH_THREAD t ON c.thread_id = t.thread_id
+			WHERE t.thread_name = ? AND t.is_released != TRUE
+			ORDER BY c.checkpoint_seq DESC
+			LIMIT 1
+			""";
+
+	private static final String SELECT_CHECKPOINTS_BY_IDS = """
+			SELECT
+			  c.checkpoint_id,
+			  c.node_id,
+			  c.next_node_id,
+			  JSON_UNQUOTE(JSON_EXTRACT(c.state_data, '$.binaryPayload')) AS base64_data
+			FROM GRAPH_CHECKPOINT c
+			  INNER JOIN GRAPH_THREAD t ON c.thread_id = t.thread_id
+			WHERE t.thread_name = ? AND t.is_released != TRUE
+			  AND c.checkpoint_id IN (%s)
+			""";
+
 	// Configuration
 	private final DataSource dataSource;
 	private final CreateOption createOption;
@@ -251,7 +277,7 @@ public class MysqlSaver extends AbstractJdbcCheckpointSaver {
 	 * @param builder the builder
 	 */
 	private MysqlSaver(Builder builder) {
-		super(builder.maxCachedThreads);
+		super(builder.maxCachedThreads, builder.fullCheckpointInterval, builder.meterRegistry);
 		this.dataSource = builder.dataSource;
 		this.createOption = builder.createOption;
 		this.stateSerializer = builder.stateSerializer;
@@ -474,6 +500,52 @@ public class MysqlSaver extends AbstractJdbcCheckpointSaver {
 		}
 	}
 
+	@Override
+	protected Optional<String> selectLatestCheckpointId(String threadName) throws Exception {
+		try (Connection connection = dataSource.getConnection();
+				PreparedStatement preparedStatement = connection.prepareStatement(SELECT_LATEST_CHECKPOINT_ID)) {
+
+			preparedStatement.setString(1, threadName);
+			try (ResultSet resultSet = preparedStatement.executeQuery()) {
+				if (resultSet.next()) {
+					return Optional.of(resultSet.getString(1));
+				}
+				return Optional.empty();
+			}
+		}
+		catch (SQLException ex) {
+			throw new Exception("Unable to load latest checkpoint id", ex);
+		}
+	}
+
+	@Override
+	protected Collection<Checkpoint> selectCheckpointsByIds(String threadName, Collection<String> checkpointIds)
+			throws Exception {
+		LinkedList<Checkpoint> checkpoints = new LinkedList<>();
+		if (checkpointIds.isEmpty()) {
+			return checkpoints;
+		}
+		try (Connection connection = dataSource.getConnection();
+				PreparedStatement preparedStatement = connection.prepareStatement(SELECT_CHECKPOINTS_BY_IDS
+					.formatted(String.join(", ", Collections.nCopies(checkpointIds.size(), "?"))))) {
+
+			preparedStatement.setString(1, threadName);
+			int index = 2;
+			for (String checkpointId : checkpointIds) {
+				preparedStatement.setString(index++, checkpointId);
+			}
+			try (ResultSet resultSet = preparedStatement.executeQuery()) {
+				while (resultSet.next()) {
+					checkpoints.add(readCheckpoint(resultSet));
+				}
+			}
+		}
+		catch (SQLException | IOException | ClassNotFoundException ex) {
+			throw new Exception("Unable to load checkpoints", ex);
+		}
+		return checkpoints;
+	}
+
 	@Override
 	protected void insertCheckpoint(String threadName, Checkpoint checkpoint) throws Exception {
 		Connection conn = null;
@@ -589,6 +661,10 @@ public class MysqlSaver extends AbstractJdbcCheckpointSaver {
 		private StateSerializer stateSerializer;
 		private int maxCachedThreads = 1024;
 
+		private int fullCheckpointInterval = 1;
+
+		private MeterRegistry meterRegistry = Metrics.globalRegistry;
+
 		/**
 		 * Sets the maximum number of latest checkpoints retained in memory.
 		 *
@@ -603,6 +679,33 @@ public class MysqlSaver extends AbstractJdbcCheckpointSaver {
 			return this;
 		}
 
+		/**
+		 * Sets how often a checkpoint is stored as a full state. The checkpoints in
+		 * between only store the state keys changed since the previous checkpoint of the
+		 * thread, and are rebuilt from their full base checkpoint when read.
+		 * @param fullCheckpointInterval number of checkpoints per full snapshot, 1 (the
+		 * default) to store every checkpoint in full
+		 * @return this builder
+		 */
+		public Builder fullCheckpointInterval(int fullCheckpointInterval) {
+			if (fullCheckpointInterval < 1) {
+				throw new IllegalArgumentException("fullCheckpointInterval must be greater than or equal to 1");
+			}
+			this.fullCheckpointInterval = fullCheckpointInterval;
+			return this;
+		}
+
+		/**
+		 * Sets the registry receiving the checkpoint lock wait timer. Defaults to the
+		 * Micrometer global registry.
+		 * @param meterRegistry the meter registry
+		 * @return this builder
+		 */
+		public Builder meterRegistry(MeterRegistry meterRegistry) {
+			this.meterRegistry = requireNonNull(meterRegistry, "meterRegistry cannot be null");
+			return this;
+		}
+
 		/**
 		 * Sets the state serializer
 		 *
@@ -19,6 +19,8 @@ import com.alibaba.cloud.ai.graph.StateGraph;
 import com.alibaba.cloud.ai.graph.checkpoint.Checkpoint;
 import com.alibaba.cloud.ai.graph.checkpoint.savers.jdbc.AbstractJdbcCheckpointSaver;
 import com.alibaba.cloud.ai.graph.serializer.StateSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
@@ -95,6 +97,8 @@ import static java.lang.String.format;
  * existing tables should be used.
  * - StateSerializer: the serializer used to serialize/deserialize state data
  * - MaxCachedThreads: indicates how many latest checkpoints are kept in memory.
+ * - FullCheckpointInterval: indicates how many checkpoints are stored per full
+ * snapshot, the others storing only the changed state keys.
  * </p>
  * <p>
  * Ex:
@@ -217,6 +221,29 @@ public class OracleSaver extends AbstractJdbcCheckpointSaver {
 			  AND c.checkpoint_id = ?
 			""";
 
+	private static final String SELECT_LATEST_CHECKPOINT_ID = """
+			SELECT
+			  c.checkpoint_id
+			FROM GRAPH_CHECKPOINT c
+			  INNER JOIN GRAPH_THREAD t ON c.thread_id = t.thread_id
+			WHERE t.thread_name = ? AND t.is_released != TRUE
+			ORDER BY c.saved_at DESC
+			FETCH FIRST 1 ROW ONLY
+			""";
+
+	private static final String SELECT_CHECKPOINTS_BY_IDS = """
+			SELECT
+			  c.checkpoint_id,
+			  c.node_id,
+			  c.next_node_id,
+			  c.state_data,
+			  c.state_content_type
+			FROM GRAPH_CHECKPOINT c
+			  INNER JOIN GRAPH_THREAD t ON c.thread_id = t.thread_id
+			WHERE t.thread_name = ? AND t.is_released != TRUE
+			  AND c.checkpoint_id IN (%s)
+			""";
+
 	private static final String RELEASE_THREAD = """
 			UPDATE GRAPH_THREAD SET is_released = TRUE WHERE thread_name = ? AND is_released = FALSE
 			""";
@@ -244,7 +271,7 @@ public class OracleSaver extends AbstractJdbcCheckpointSaver {
 	 * @param builder the builder
 	 */
 	private OracleSaver(Builder builder) {
-		super(builder.maxCachedThreads);
+		super(builder.maxCachedThreads, builder.fullCheckpointInterval, builder.meterRegistry);
 		this.dataSource = builder.dataSource;
 		this.createOption = builder.createOption;
 		this.stateSerializer = Objects.requireNonNull(builder.stateSerializer, "stateSerializer cannot be null");
@@ -440,6 +467,54 @@ public class OracleSaver extends AbstractJdbcCheckpointSaver {
 		}
 	}
 
+	@Override
+	protected Optional<String> selectLatestCheckpointId(String threadName) throws Exception {
+		try (Connection connection = dataSource.getConnection();
+				PreparedStatement preparedStatement = connection.prepareStatement(SELECT_LATEST_CHECKPOINT_ID)) {
+
+			preparedStatement.setString(1, threadName);
+			try (ResultSet resultSet = preparedStatement.executeQuery()) {
+				if (resultSet.next()) {
+					return Optional.of(resultSet.getString(1));
+				}
+				return Optional.empty();
+			}
+		}
+		catch (SQLException ex) {
+			throw new Exception("Unable to load latest checkpoint id", ex);
+		}
+	}
+
+	@Override
+	protected Collection<Checkpoint> selectCheckpointsByIds(String threadName, Collection<String> checkpointIds)
+			throws Exception {
+		LinkedList<Checkpoint> checkpoints = new LinkedList<>();
+		if (checkpointIds.isEmpty()) {
+			return checkpoints;
+		}
+		ObjectMapper objectMapper = osonObjectMapper();
+		try (Connection connection = dataSource.getConnection();
+				PreparedStatement preparedStatement = connection.prepareStatement(SELECT_CHECKPOINTS_BY_IDS
+					.formatted(String.join(", ", Collections.nCopies(checkpointIds.size(), "?"))))) {
+
+			defineCheckpointColumns(preparedStatement);
+			preparedStatement.setString(1, threadName);
+			int index = 2;
+			for (String checkpointId : checkpointIds) {
+				preparedStatement.setString(index++, checkpointId);
+			}
+			try (ResultSet resultSet = preparedStatement.executeQuery()) {
+				while (resultSet.next()) {
+					checkpoints.add(readCheckpoint(resultSet, objectMapper));
+				}
+			}
+		}
+		catch (SQLException | IOException | ClassNotFoundException ex) {
+			throw new Exception("Unable to load checkpoints", ex);
+		}
+		return checkpoints;
+	}
+
 	@Override
 	protected void insertCheckpoint(String threadName, Checkpoint checkpoint) throws Exception {
 		Connection conn = null;
@@ -589,6 +664,10 @@ public class OracleSaver extends AbstractJdbcCheckpointSaver {
 		private StateSerializer stateSerializer;
 		private int maxCachedThreads = 1024;
 
+		private int fullCheckpointInterval = 1;
+
+		private MeterRegistry meterRegistry = Metrics.globalRegistry;
+
 		/**
 		 * Sets the datasource
 		 *
@@ -636,6 +715,33 @@ public class OracleSaver extends AbstractJdbcCheckpointSaver {
 			return this;
 		}
 
+		/**
+		 * Sets how often a checkpoint is stored as a full state. The checkpoints in
+		 * between only store the state keys changed since the previous checkpoint of the
+		 * thread, and are rebuilt from their full base checkpoint when read.
+		 * @param fullCheckpointInterval number of checkpoints per full snapshot, 1 (the
+		 * default) to store every checkpoint in full
+		 * @return this builder
+		 */
+		public Builder fullCheckpointInterval(int fullCheckpointInterval) {
+			if (fullCheckpointInterval < 1) {
+				throw new IllegalArgumentException("fullCheckpointInterval must be greater than or equal to 1");
+			}
+			this.fullCheckpointInterval = fullCheckpointInterval;
+			return this;
+		}
+
+		/**
+		 * Sets the registry receiving the checkpoint lock wait timer. Defaults to the
+		 * Micrometer global registry.
+		 * @param meterRegistry the meter registry
+		 * @return this builder
+		 */
+		public Builder meterRegistry(MeterRegistry meterRegistry) {
+			this.meterRegistry = Objects.requireNonNull(meterRegistry, "meterRegistry cannot be null");
+			return this;
+		}
+
 		/**
 		 * Creates a new instance of OracleSaver
 		 *
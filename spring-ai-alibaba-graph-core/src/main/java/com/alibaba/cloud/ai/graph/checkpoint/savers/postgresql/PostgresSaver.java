@@ -19,6 +19,8 @@ import com.alibaba.cloud.ai.graph.StateGraph;
 import com.alibaba.cloud.ai.graph.checkpoint.Checkpoint;
 import com.alibaba.cloud.ai.graph.checkpoint.savers.jdbc.AbstractJdbcCheckpointSaver;
 import com.alibaba.cloud.ai.graph.serializer.StateSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 
 import java.io.IOException;
 import java.sql.Connection;
@@ -88,6 +90,8 @@ import static java.util.Objects.requireNonNull;
  * - CreateOption : indicates whether the tables should be created or
  * existing tables should be used.
  * - MaxCachedThreads: indicates how many latest checkpoints are kept in memory.
+ * - FullCheckpointInterval: indicates how many checkpoints are stored per full
+ * snapshot, the others storing only the changed state keys.
  * </p>
  * <p>
  * Ex:
@@ -224,6 +228,29 @@ public class PostgresSaver extends AbstractJdbcCheckpointSaver {
 			  AND c.checkpoint_id = ?
 			""";
 
+	private static final String SELECT_LATEST_CHECKPOINT_ID = """
+			SELECT
+			  c.checkpoint_id
+			FROM GraphCheckpoint c
+			  JOIN GraphThread t ON c.thread_id = t.thread_id
+			WHERE t.thread_name = ? AND t.is_released = FALSE
+			ORDER BY c.saved_at DESC
+			LIMIT 1
+			""";
+
+	private static final String SELECT_CHECKPOINTS_BY_IDS = """
+			SELECT
+			  c.checkpoint_id,
+			  c.node_id,
+			  c.next_node_id,
+			  c.state_data->>'binaryPayload' AS base64_data,
+			  c.state_content_type
+			FROM GraphCheckpoint c
+			  JOIN GraphThread t ON c.thread_id = t.thread_id
+			WHERE t.thread_name = ? AND t.is_released = FALSE
+			  AND c.checkpoint_id IN (%s)
+			""";
+
 	private static final String RELEASE_THREAD = """
 			UPDATE GraphThread
 			SET is_released = TRUE
@@ -254,7 +281,7 @@ public class PostgresSaver extends AbstractJdbcCheckpointSaver {
 	 * @param builder the builder
 	 */
 	private PostgresSaver(Builder builder) throws SQLException {
-		super(builder.maxCachedThreads);
+		super(builder.maxCachedThreads, builder.fullCheckpointInterval, builder.meterRegistry);
 		this.datasource = builder.datasource;
 		this.stateSerializer = builder.stateSerializer;
 		this.createOption = builder.createOption;
@@ -418,6 +445,52 @@ public class PostgresSaver extends AbstractJdbcCheckpointSaver {
 		}
 	}
 
+	@Override
+	protected Optional<String> selectLatestCheckpointId(String threadId) throws Exception {
+		try (Connection connection = getConnection();
+				PreparedStatement ps = connection.prepareStatement(SELECT_LATEST_CHECKPOINT_ID)) {
+
+			ps.setString(1, threadId);
+			try (ResultSet rs = ps.executeQuery()) {
+				if (rs.next()) {
+					return Optional.of(rs.getString(1));
+				}
+				return Optional.empty();
+			}
+		}
+		catch (SQLException ex) {
+			throw new Exception("Unable to load latest checkpoint id", ex);
+		}
+	}
+
+	@Override
+	protected Collection<Checkpoint> selectCheckpointsByIds(String threadId, Collection<String> checkpointIds)
+			throws Exception {
+		LinkedList<Checkpoint> checkpoints = new LinkedList<>();
+		if (checkpointIds.isEmpty()) {
+			return checkpoints;
+		}
+		try (Connection connection = getConnection();
+				PreparedStatement ps = connection.prepareStatement(SELECT_CHECKPOINTS_BY_IDS
+					.formatted(String.join(", ", Collections.nCopies(checkpointIds.size(), "?"))))) {
+
+			ps.setString(1, threadId);
+			int index = 2;
+			for (String checkpointId : checkpointIds) {
+				ps.setObject(index++, UUID.fromString(checkpointId), Types.OTHER);
+			}
+			try (ResultSet rs = ps.executeQuery()) {
+				while (rs.next()) {
+					checkpoints.add(readCheckpoint(rs));
+				}
+			}
+		}
+		catch (SQLException | IOException | ClassNotFoundException ex) {
+			throw new Exception("Unable to load checkpoints", ex);
+		}
+		return checkpoints;
+	}
+
 	@Override
 	protected void insertCheckpoint(String threadId, Checkpoint checkpoint) throws Exception {
 		Connection conn = null;
@@ -591,6 +664,10 @@ public class PostgresSaver extends AbstractJdbcCheckpointSaver {
 
 		private int maxCachedThreads = 1024;
 
+		private int fullCheckpointInterval = 1;
+
+		private MeterRegistry meterRegistry = Metrics.globalRegistry;
+
 		// Legacy fields for backward compatibility
 		private boolean createTables;
 		private boolean dropTablesFirst;
@@ -608,6 +685,33 @@ public class PostgresSaver extends AbstractJdbcCheckpointSaver {
 			return this;
 		}
 
+		/**
+		 * Sets how often a checkpoint is stored as a full state. The checkpoints in
+		 * between only store the state keys changed since the previous checkpoint of the
+		 * thread, and are rebuilt from their full base checkpoint when read.
+		 * @param fullCheckpointInterval number of checkpoints per full snapshot, 1 (the
+		 * default) to store every checkpoint in full
+		 * @return this builder
+		 */
+		public Builder fullCheckpointInterval(int fullCheckpointInterval) {
+			if (fullCheckpointInterval < 1) {
+				throw new IllegalArgumentException("fullCheckpointInterval must be greater than or equal to 1");
+			}
+			this.fullCheckpointInterval = fullCheckpointInterval;
+			return this;
+		}
+
+		/**
+		 * Sets the registry receiving the checkpoint lock wait timer. Defaults to the
+		 * Micrometer global registry.
+		 * @param meterRegistry the meter registry
+		 * @return this builder
+		 */
+		public Builder meterRegistry(MeterRegistry meterRegistry) {
+			this.meterRegistry = requireNonNull(meterRegistry, "meterRegistry cannot be null");
+			return this;
+		}
+
 		public Builder stateSerializer(StateSerializer stateSerializer) {
 			this.stateSerializer = stateSerializer;
 			return this;
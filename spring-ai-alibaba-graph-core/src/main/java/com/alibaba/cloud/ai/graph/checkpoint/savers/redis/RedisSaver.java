@@ -28,29 +28,57 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.IntStream;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
+import org.redisson.api.RBatch;
 import org.redisson.api.RBucket;
 import org.redisson.api.RLock;
 import org.redisson.api.RMap;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RScript;
 import org.redisson.api.RedissonClient;
 import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.codec.StringCodec;
 
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 
 /**
  * The type Redis saver.
+ * <p>
+ * Each checkpoint is stored under its own key, and every thread version keeps a sorted
+ * set indexing its checkpoint ids by insertion order:
+ *
+ * <pre>
+ *     graph:checkpoint:item:{threadId}:checkpointId  -> serialized checkpoint
+ *     graph:checkpoint:index:{threadId}              -> sorted set of checkpoint ids
+ * </pre>
+ *
+ * Both keys of a thread share the {@code {threadId}} hash tag, so that the Lua scripts
+ * appending or replacing a checkpoint update them atomically, also on Redis Cluster.
+ * Writing a checkpoint therefore costs one round trip whatever the history length,
+ * {@link #get(RunnableConfig)} only reads the latest (or the requested) checkpoint, and
+ * the per-thread distributed lock is only taken to create, release or migrate a thread.
+ * </p>
+ * <p>
+ * Histories written by earlier versions as a single {@code graph:checkpoint:content:}
+ * value are moved to the new layout the first time the thread is accessed.
+ * </p>
  *
  * @author disaster
  * @since 1.0.0-M2
@@ -59,6 +87,8 @@ public class RedisSaver implements BaseCheckpointSaver {
 
 	// Redis key prefixes
 	private static final String CHECKPOINT_PREFIX = "graph:checkpoint:content:";
+	private static final String CHECKPOINT_ITEM_PREFIX = "graph:checkpoint:item:";
+	private static final String CHECKPOINT_INDEX_PREFIX = "graph:checkpoint:index:";
 	private static final String THREAD_META_PREFIX = "graph:thread:meta:";
 	private static final String THREAD_REVERSE_PREFIX = "graph:thread:reverse:";
 	private static final String LOCK_PREFIX = "graph:checkpoint:lock:";
@@ -67,11 +97,68 @@ public class RedisSaver implements BaseCheckpointSaver {
 	private static final String FIELD_IS_RELEASED = "is_released";
 	private static final String FIELD_THREAD_NAME = "thread_name";
 	private static final byte[] CHECKPOINT_FORMAT_MAGIC = { 'S', 'A', 'A', 'C', 1 };
+	private static final int MAX_CHECKED_THREADS = 1024;
+
+	/**
+	 * Appends a checkpoint after the highest indexed one.
+	 * KEYS: index, item. ARGV: checkpoint id, payload, ttl in milliseconds (-1 for none).
+	 */
+	private static final String APPEND_SCRIPT = """
+			local last = redis.call('ZREVRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+			local score = 1
+			if last[2] then
+			  score = tonumber(last[2]) + 1
+			end
+			redis.call('SET', KEYS[2], ARGV[2])
+			redis.call('ZADD', KEYS[1], score, ARGV[1])
+			local ttl = tonumber(ARGV[3])
+			if ttl > 0 then
+			  redis.call('PEXPIRE', KEYS[2], ttl)
+			  redis.call('PEXPIRE', KEYS[1], ttl)
+			end
+			return score
+			""";
+
+	/**
+	 * Replaces a checkpoint, keeping its position in the index.
+	 * KEYS: index, replaced item, new item. ARGV: replaced id, new id, payload, ttl in
+	 * milliseconds (-1 for none). Returns 0 when the replaced checkpoint is not indexed.
+	 */
+	private static final String REPLACE_SCRIPT = """
+			local score = redis.call('ZSCORE', KEYS[1], ARGV[1])
+			if not score then
+			  return 0
+			end
+			if ARGV[1] ~= ARGV[2] then
+			  redis.call('ZREM', KEYS[1], ARGV[1])
+			  redis.call('DEL', KEYS[2])
+			end
+			redis.call('SET', KEYS[3], ARGV[3])
+			redis.call('ZADD', KEYS[1], score, ARGV[2])
+			local ttl = tonumber(ARGV[4])
+			if ttl > 0 then
+			  redis.call('PEXPIRE', KEYS[3], ttl)
+			  redis.call('PEXPIRE', KEYS[1], ttl)
+			end
+			return 1
+			""";
+
 	private final Serializer<Checkpoint> checkpointSerializer;
 	private RedissonClient redisson;
 	private final long ttl;
 	private final TimeUnit ttlUnit;
 
+	/**
+	 * Thread ids already checked for a legacy single-value history in this JVM.
+	 */
+	private final Set<String> checkedThreadIds = Collections.synchronizedSet(
+			Collections.newSetFromMap(new LinkedHashMap<>(16, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+					return size() > MAX_CHECKED_THREADS;
+				}
+			}));
+
 	/**
 	 * Protected constructor for RedisSaver.
 	 * Use {@link #builder()} to create instances.
@@ -98,6 +185,18 @@ public class RedisSaver implements BaseCheckpointSaver {
 		return new Builder();
 	}
 
+	private static String indexKey(String threadId) {
+		return CHECKPOINT_INDEX_PREFIX + "{" + threadId + "}";
+	}
+
+	private static String itemKey(String threadId, String checkpointId) {
+		return CHECKPOINT_ITEM_PREFIX + "{" + threadId + "}:" + checkpointId;
+	}
+
+	private long ttlMillis() {
+		return ttl > 0 ? ttlUnit.toMillis(ttl) : -1;
+	}
+
 	private byte[] serializeCheckpoints(List<Checkpoint> checkpoints) throws IOException {
 		ByteArrayOutputStream baos = new ByteArrayOutputStream();
 		baos.write(CHECKPOINT_FORMAT_MAGIC);
@@ -111,6 +210,15 @@ public class RedisSaver implements BaseCheckpointSaver {
 		return baos.toByteArray();
 	}
 
+	private LinkedList<Checkpoint> decodeCheckpoints(byte[] content) throws IOException, ClassNotFoundException {
+		try (ByteArrayInputStream bais = new ByteArrayInputStream(content, CHECKPOINT_FORMAT_MAGIC.length,
+				content.length - CHECKPOINT_FORMAT_MAGIC.length);
+			 GZIPInputStream gzip = new GZIPInputStream(bais);
+			 ObjectInputStream ois = new ObjectInputStream(gzip)) {
+			return readCheckpoints(ois);
+		}
+	}
+
 	private LinkedList<Checkpoint> deserializeCheckpoints(String contentKey) throws IOException, ClassNotFoundException {
 		RBucket<byte[]> binaryBucket = redisson.getBucket(contentKey, ByteArrayCodec.INSTANCE);
 		byte[] content = binaryBucket.get();
@@ -118,12 +226,7 @@ public class RedisSaver implements BaseCheckpointSaver {
 			return new LinkedList<>();
 		}
 		if (hasVersionedHeader(content)) {
-			try (ByteArrayInputStream bais = new ByteArrayInputStream(content, CHECKPOINT_FORMAT_MAGIC.length,
-					content.length - CHECKPOINT_FORMAT_MAGIC.length);
-				 GZIPInputStream gzip = new GZIPInputStream(bais);
-				 ObjectInputStream ois = new ObjectInputStream(gzip)) {
-				return readCheckpoints(ois);
-			}
+			return decodeCheckpoints(content);
 		}
 
 		String legacyContent = redisson.<String>getBucket(contentKey).get();
@@ -158,6 +261,81 @@ public class RedisSaver implements BaseCheckpointSaver {
 			return checkpoints;
 	}
 
+	private Optional<Checkpoint> readCheckpoint(String threadId, String checkpointId)
+			throws IOException, ClassNotFoundException {
+		byte[] content = redisson.<byte[]>getBucket(itemKey(threadId, checkpointId), ByteArrayCodec.INSTANCE).get();
+		if (content == null || content.length == 0) {
+			return Optional.empty();
+		}
+		return decodeCheckpoints(content).stream().findFirst();
+	}
+
+	/**
+	 * Reads the checkpoints of a thread version, latest first.
+	 */
+	private LinkedList<Checkpoint> readCheckpoints(String threadId) throws IOException, ClassNotFoundException {
+		Collection<String> checkpointIds = redisson.<String>getScoredSortedSet(indexKey(threadId), StringCodec.INSTANCE)
+				.valueRangeReversed(0, -1);
+		LinkedList<Checkpoint> checkpoints = new LinkedList<>();
+		if (checkpointIds.isEmpty()) {
+			return checkpoints;
+		}
+		String[] keys = checkpointIds.stream().map(id -> itemKey(threadId, id)).toArray(String[]::new);
+		Map<String, byte[]> contents = redisson.getBuckets(ByteArrayCodec.INSTANCE).get(keys);
+		for (String key : keys) {
+			byte[] content = contents.get(key);
+			if (content != null && content.length > 0) {
+				checkpoints.addAll(decodeCheckpoints(content));
+			}
+		}
+		return checkpoints;
+	}
+
+	/**
+	 * Moves a history stored by earlier versions as one value into per-checkpoint keys,
+	 * ordered before any checkpoint already indexed. Checked once per thread version and
+	 * JVM.
+	 */
+	private void migrateLegacyCheckpoints(String threadName, String threadId)
+			throws IOException, ClassNotFoundException, InterruptedException {
+		if (checkedThreadIds.contains(threadId)) {
+			return;
+		}
+		String contentKey = CHECKPOINT_PREFIX + threadId;
+		if (redisson.getBucket(contentKey, ByteArrayCodec.INSTANCE).isExists()) {
+			RLock lock = redisson.getLock(LOCK_PREFIX + threadName);
+			if (!lock.tryLock(3, TimeUnit.SECONDS)) {
+				throw new RuntimeException("Failed to acquire lock for thread: " + threadName);
+			}
+			try {
+				LinkedList<Checkpoint> legacy = deserializeCheckpoints(contentKey);
+				RScoredSortedSet<String> index = redisson.getScoredSortedSet(indexKey(threadId), StringCodec.INSTANCE);
+				Double first = index.firstScore();
+				double score = first != null ? first : 1;
+				RBatch batch = redisson.createBatch();
+				// legacy histories are latest first: give the oldest the lowest score
+				for (Checkpoint checkpoint : legacy) {
+					score -= 1;
+					String itemKey = itemKey(threadId, checkpoint.getId());
+					batch.<byte[]>getBucket(itemKey, ByteArrayCodec.INSTANCE).setAsync(serializeCheckpoints(List.of(checkpoint)));
+					batch.<String>getScoredSortedSet(indexKey(threadId), StringCodec.INSTANCE).addAsync(score, checkpoint.getId());
+					if (ttl > 0) {
+						batch.getBucket(itemKey, ByteArrayCodec.INSTANCE).expireAsync(Duration.ofMillis(ttlMillis()));
+					}
+				}
+				if (ttl > 0) {
+					batch.getScoredSortedSet(indexKey(threadId), StringCodec.INSTANCE).expireAsync(Duration.ofMillis(ttlMillis()));
+				}
+				batch.getBucket(contentKey, ByteArrayCodec.INSTANCE).deleteAsync();
+				batch.execute();
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+		checkedThreadIds.add(threadId);
+	}
+
 	/**
 	 * Gets or creates a thread_id for the given thread_name.
 	 * If an active thread exists, returns its thread_id.
@@ -166,37 +344,52 @@ public class RedisSaver implements BaseCheckpointSaver {
 	 * @param threadName the thread name
 	 * @return the thread_id (UUID string)
 	 */
-	private String getOrCreateThreadId(String threadName) {
-		String metaKey = THREAD_META_PREFIX + threadName;
-		RMap<String, String> meta = redisson.getMap(metaKey);
-
-		// Check if an active thread exists
-		String threadId = meta.get(FIELD_THREAD_ID);
-		String isReleased = meta.get(FIELD_IS_RELEASED);
-
-		if (threadId != null && !"true".equals(isReleased)) {
-			// Active thread exists, return its thread_id
-			return threadId;
+	private String getOrCreateThreadId(String threadName) throws InterruptedException {
+		String activeThreadId = getActiveThreadId(threadName);
+		if (activeThreadId != null) {
+			return activeThreadId;
 		}
 
-		// No active thread exists or thread is released, create a new thread_id
-		String newThreadId = UUID.randomUUID().toString();
-		meta.put(FIELD_THREAD_ID, newThreadId);
-		meta.put(FIELD_IS_RELEASED, "false");
-		if (ttl > 0) {
-			meta.expire(java.time.Duration.ofMillis(ttlUnit.toMillis(ttl)));
+		RLock lock = redisson.getLock(LOCK_PREFIX + threadName);
+		if (!lock.tryLock(3, TimeUnit.SECONDS)) {
+			throw new RuntimeException("Failed to acquire lock for thread: " + threadName);
 		}
+		try {
+			String metaKey = THREAD_META_PREFIX + threadName;
+			RMap<String, String> meta = redisson.getMap(metaKey);
 
-		// Set reverse mapping
-		String reverseKey = THREAD_REVERSE_PREFIX + newThreadId;
-		RMap<String, String> reverse = redisson.getMap(reverseKey);
-		reverse.put(FIELD_THREAD_NAME, threadName);
-		reverse.put(FIELD_IS_RELEASED, "false");
-		if (ttl > 0) {
-			reverse.expire(java.time.Duration.ofMillis(ttlUnit.toMillis(ttl)));
-		}
+			// Check again: another caller may have created the thread meanwhile
+			String threadId = meta.get(FIELD_THREAD_ID);
+			String isReleased = meta.get(FIELD_IS_RELEASED);
+
+			if (threadId != null && !"true".equals(isReleased)) {
+				// Active thread exists, return its thread_id
+				return threadId;
+			}
+
+			// No active thread exists or thread is released, create a new thread_id
+			String newThreadId = UUID.randomUUID().toString();
+			meta.put(FIELD_THREAD_ID, newThreadId);
+			meta.put(FIELD_IS_RELEASED, "false");
+			if (ttl > 0) {
+				meta.expire(Duration.ofMillis(ttlMillis()));
+			}
 
-		return newThreadId;
+			// Set reverse mapping
+			String reverseKey = THREAD_REVERSE_PREFIX + newThreadId;
+			RMap<String, String> reverse = redisson.getMap(reverseKey);
+			reverse.put(FIELD_THREAD_NAME, threadName);
+			reverse.put(FIELD_IS_RELEASED, "false");
+			if (ttl > 0) {
+				reverse.expire(Duration.ofMillis(ttlMillis()));
+			}
+
+			checkedThreadIds.add(newThreadId);
+			return newThreadId;
+		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	/**
@@ -210,8 +403,9 @@ public class RedisSaver implements BaseCheckpointSaver {
 		String metaKey = THREAD_META_PREFIX + threadName;
 		RMap<String, String> meta = redisson.getMap(metaKey);
 
-		String threadId = meta.get(FIELD_THREAD_ID);
-		String isReleased = meta.get(FIELD_IS_RELEASED);
+		Map<String, String> fields = meta.getAll(Set.of(FIELD_THREAD_ID, FIELD_IS_RELEASED));
+		String threadId = fields.get(FIELD_THREAD_ID);
+		String isReleased = fields.get(FIELD_IS_RELEASED);
 
 		if (threadId != null && !"true".equals(isReleased)) {
 			return threadId;
@@ -228,36 +422,24 @@ public class RedisSaver implements BaseCheckpointSaver {
 		}
 
 		String threadName = threadNameOpt.get();
-		RLock lock = redisson.getLock(LOCK_PREFIX + threadName);
-		boolean tryLock = false;
 		try {
-			// 500ms timeout for read operations (list)
-			tryLock = lock.tryLock(500, TimeUnit.MILLISECONDS);
-			if (!tryLock) {
-				return List.of();
-			}
-
 			// Get active thread_id for the thread_name
 			String threadId = getActiveThreadId(threadName);
 			if (threadId == null) {
 				return List.of();
 			}
 
-			// Use thread_id to query checkpoints
-			return deserializeCheckpoints(CHECKPOINT_PREFIX + threadId);
+			migrateLegacyCheckpoints(threadName, threadId);
+			return readCheckpoints(threadId);
 
 		}
 		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
 			throw new RuntimeException(e);
 		}
 		catch (IOException | ClassNotFoundException e) {
 			throw new RuntimeException("Failed to deserialize checkpoints", e);
 		}
-		finally {
-			if (lock.isHeldByCurrentThread()) {
-				lock.unlock();
-			}
-		}
 	}
 
 	@Override
@@ -268,44 +450,31 @@ public class RedisSaver implements BaseCheckpointSaver {
 		}
 
 		String threadName = threadNameOpt.get();
-		RLock lock = redisson.getLock(LOCK_PREFIX + threadName);
-		boolean tryLock = false;
 		try {
-			// 500ms timeout for read operations (get)
-			tryLock = lock.tryLock(500, TimeUnit.MILLISECONDS);
-			if (!tryLock) {
-				return Optional.empty();
-			}
-
 			// Get active thread_id for the thread_name
 			String threadId = getActiveThreadId(threadName);
 			if (threadId == null) {
 				return Optional.empty();
 			}
 
-			// Use thread_id to query checkpoints
-			LinkedList<Checkpoint> checkpoints = deserializeCheckpoints(CHECKPOINT_PREFIX + threadId);
-
+			migrateLegacyCheckpoints(threadName, threadId);
 			if (config.checkPointId().isPresent()) {
-				return config.checkPointId()
-						.flatMap(id -> checkpoints.stream()
-								.filter(checkpoint -> checkpoint.getId().equals(id))
-								.findFirst());
+				return readCheckpoint(threadId, config.checkPointId().get());
 			}
-			return getLast(checkpoints, config);
+			String latestId = redisson.<String>getScoredSortedSet(indexKey(threadId), StringCodec.INSTANCE).last();
+			if (latestId == null) {
+				return Optional.empty();
+			}
+			return readCheckpoint(threadId, latestId);
 
 		}
 		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
 			throw new RuntimeException(e);
 		}
 		catch (IOException | ClassNotFoundException e) {
 			throw new RuntimeException("Failed to deserialize checkpoints", e);
 		}
-		finally {
-			if (lock.isHeldByCurrentThread()) {
-				lock.unlock();
-			}
-		}
 	}
 
 	@Override
@@ -316,56 +485,42 @@ public class RedisSaver implements BaseCheckpointSaver {
 		}
 
 		String threadName = threadNameOpt.get();
-		RLock lock = redisson.getLock(LOCK_PREFIX + threadName);
-		boolean tryLock = false;
 		try {
-			// 3 seconds timeout for write operations (put) - longer timeout for concurrent scenarios
-			tryLock = lock.tryLock(3, TimeUnit.SECONDS);
-			if (!tryLock) {
-				throw new RuntimeException("Failed to acquire lock for thread: " + threadName);
-			}
-
 			// Get or create thread_id
 			String threadId = getOrCreateThreadId(threadName);
+			migrateLegacyCheckpoints(threadName, threadId);
 
-			// Use thread_id as key for checkpoint storage
-			String contentKey = CHECKPOINT_PREFIX + threadId;
-			LinkedList<Checkpoint> checkpoints = deserializeCheckpoints(contentKey);
-
+			byte[] payload = serializeCheckpoints(List.of(checkpoint));
+			byte[] ttlArg = Long.toString(ttlMillis()).getBytes(StandardCharsets.UTF_8);
+			RScript script = redisson.getScript(ByteArrayCodec.INSTANCE);
 			if (config.checkPointId().isPresent()) {
 				// Replace Checkpoint
 				String checkPointId = config.checkPointId().get();
-				int index = IntStream.range(0, checkpoints.size())
-						.filter(i -> checkpoints.get(i).getId().equals(checkPointId))
-						.findFirst()
-						.orElseThrow(() -> new NoSuchElementException(
-								format("Checkpoint with id %s not found!", checkPointId)));
-				checkpoints.set(index, checkpoint);
+				Long replaced = script.eval(indexKey(threadId), RScript.Mode.READ_WRITE, REPLACE_SCRIPT,
+						RScript.ReturnType.INTEGER,
+						List.of(indexKey(threadId), itemKey(threadId, checkPointId), itemKey(threadId, checkpoint.getId())),
+						checkPointId.getBytes(StandardCharsets.UTF_8), checkpoint.getId().getBytes(StandardCharsets.UTF_8),
+						payload, ttlArg);
+				if (replaced == null || replaced == 0) {
+					throw new NoSuchElementException(format("Checkpoint with id %s not found!", checkPointId));
+				}
 			}
 			else {
 				// Add Checkpoint
-				checkpoints.push(checkpoint);
-			}
-
-			RBucket<byte[]> bucket = redisson.getBucket(contentKey, ByteArrayCodec.INSTANCE);
-			bucket.set(serializeCheckpoints(checkpoints));
-			if (ttl > 0) {
-				bucket.expire(java.time.Duration.ofMillis(ttlUnit.toMillis(ttl)));
+				script.eval(indexKey(threadId), RScript.Mode.READ_WRITE, APPEND_SCRIPT, RScript.ReturnType.INTEGER,
+						List.of(indexKey(threadId), itemKey(threadId, checkpoint.getId())),
+						checkpoint.getId().getBytes(StandardCharsets.UTF_8), payload, ttlArg);
 			}
 			return RunnableConfig.builder(config).checkPointId(checkpoint.getId()).build();
 
 		}
 		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
 			throw new RuntimeException(e);
 		}
 		catch (IOException | ClassNotFoundException e) {
 			throw new RuntimeException("Failed to serialize/deserialize checkpoints", e);
 		}
-		finally {
-			if (lock.isHeldByCurrentThread()) {
-				lock.unlock();
-			}
-		}
 	}
 
 	@Override
@@ -403,9 +558,9 @@ public class RedisSaver implements BaseCheckpointSaver {
 				reverse.put(FIELD_IS_RELEASED, "true");
 			}
 
-			// Get checkpoints for Tag (using thread_id)
-			String contentKey = CHECKPOINT_PREFIX + threadId;
-			Collection<Checkpoint> checkpoints = deserializeCheckpoints(contentKey);
+			// Get checkpoints for Tag (using thread_id), including a not yet migrated history
+			LinkedList<Checkpoint> checkpoints = readCheckpoints(threadId);
+			checkpoints.addAll(deserializeCheckpoints(CHECKPOINT_PREFIX + threadId));
 
 			return new Tag(threadName, checkpoints);
 
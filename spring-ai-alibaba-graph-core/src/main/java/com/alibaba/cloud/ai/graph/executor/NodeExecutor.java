@@ -34,19 +34,15 @@ import com.alibaba.cloud.ai.graph.streaming.StreamingOutput;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.ai.chat.messages.AssistantMessage;
-import org.springframework.ai.chat.messages.AssistantMessage.ToolCall;
 import org.springframework.ai.chat.messages.Message;
 import org.springframework.ai.chat.model.ChatResponse;
-import org.springframework.ai.chat.model.Generation;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -227,7 +223,7 @@ public class NodeExecutor extends BaseGraphExecutor {
 	 */
 	private Flux<GraphResponse<NodeOutput>> transformFluxToGraphResponse(
 			GraphRunnerContext context, Flux<?> rawFlux, String key, String nodeId) {
-		var lastChatResponseRef = new AtomicReference<ChatResponse>(null);
+		var aggregator = new StreamingChatResponseAggregator(context.getConfig().mergeReasoningContent());
 		var lastGraphResponseRef = new AtomicReference<GraphResponse<NodeOutput>>(null);
 		var upstreamAlreadyEmittedCompletion = new AtomicBoolean(false);
 
@@ -254,39 +250,7 @@ public class NodeExecutor extends BaseGraphExecutor {
 						lastGraphResponseRef.set(graphResponse);
 						return graphResponse;
 					}
-					ChatResponse lastResponse = lastChatResponseRef.get();
-					final var currentMessage = response.getResult().getOutput();
-
-					if (lastResponse == null) {
-						lastChatResponseRef.set(response);
-					} else {
-						var lastOutput = lastResponse.getResult().getOutput();
-						var lastMessageText = "";
-						if (lastOutput.getText() != null) {
-							lastMessageText = lastOutput.getText();
-						}
-
-						final var currentMessageText = currentMessage.getText();
-
-						boolean mergeReasoningContent = context.getConfig().mergeReasoningContent();
-						Map<String, Object> messageMetadata = mergeReasoningContent
-								? mergeMetadataWithReasoningContent(lastOutput.getMetadata(), currentMessage.getMetadata())
-								: currentMessage.getMetadata();
-
-						var newMessage = AssistantMessage.builder()
-								.content(currentMessageText != null ? lastMessageText.concat(currentMessageText) : lastMessageText)
-								.properties(messageMetadata)
-								.toolCalls(mergeToolCalls(lastOutput.getToolCalls(), currentMessage.getToolCalls()))
-								.media(currentMessage.getMedia())
-								.build();
-
-						var newGeneration = new Generation(newMessage,
-								response.getResult().getMetadata());
-
-						ChatResponse newResponse = new ChatResponse(
-								List.of(newGeneration), response.getMetadata());
-						lastChatResponseRef.set(newResponse);
-					}
+					aggregator.add(response);
 					GraphResponse<NodeOutput> lastGraphResponse = GraphResponse
 						.of(context.buildStreamingOutput(response.getResult().getOutput(), response, nodeId, true));
 					 lastGraphResponseRef.set(lastGraphResponse);
@@ -330,7 +294,7 @@ public class NodeExecutor extends BaseGraphExecutor {
 				if (upstreamAlreadyEmittedCompletion.get()) {
 					return Flux.empty();
 				}
-				if (lastChatResponseRef.get() == null) {
+				if (aggregator.isEmpty()) {
 					GraphResponse<NodeOutput> lastGraphResponse = lastGraphResponseRef.get();
 					if (lastGraphResponse != null && lastGraphResponse.resultValue().isPresent()) {
 						Object result = lastGraphResponse.resultValue().get();
@@ -353,7 +317,7 @@ public class NodeExecutor extends BaseGraphExecutor {
 					}
 					return Flux.empty();
 				} else {
-					ChatResponse lastChatResponse = lastChatResponseRef.get();
+					ChatResponse lastChatResponse = aggregator.toChatResponse();
 					// FINISHED StreamingOutput omits message for agent/graph LLM nodes (tool/hook unchanged); full text still in done(state).
 					Message messageForCompletion = lastChatResponse.getResult().getOutput();
 					if (shouldOmitMessageOnStreamCompletion(nodeId)) {
@@ -373,139 +337,6 @@ public class NodeExecutor extends BaseGraphExecutor {
 			}));
 	}
 
-	/**
-	 * Merges metadata from last and current streaming chunks, aggregating
-	 * {@code reasoningContent} by concatenation (each chunk carries partial content).
-	 * Other metadata keys are taken from current; fallback to last when absent.
-	 */
-	private static Map<String, Object> mergeMetadataWithReasoningContent(
-			Map<String, Object> lastMetadata, Map<String, Object> currentMetadata) {
-		Map<String, Object> merged = new LinkedHashMap<>();
-		if (lastMetadata != null) {
-			merged.putAll(lastMetadata);
-		}
-		if (currentMetadata != null) {
-			merged.putAll(currentMetadata);
-		}
-		// Aggregate reasoningContent: concatenate last + current (streaming chunks are incremental)
-		String key = "reasoningContent";
-		String last = (lastMetadata != null && lastMetadata.containsKey(key))
-				? String.valueOf(lastMetadata.get(key)) : "";
-		String current = (currentMetadata != null && currentMetadata.containsKey(key))
-				? String.valueOf(currentMetadata.get(key)) : "";
-		if (!last.isEmpty() || !current.isEmpty()) {
-			String aggregated = last.isEmpty() ? current : (current.isEmpty() ? last : last + current);
-			merged.put(key, aggregated);
-		}
-		return merged;
-	}
-
-    /**
-     * Merges tool calls from two streamed assistant messages.
-     * <p>
-     * Streaming chunks from some providers may split tool-call fields across multiple chunks
-     * (for example: first chunk has name, later chunk has only arguments and even no id).
-     * We merge by id when possible, and fall back to positional merge to keep a single
-     * tool call record complete.
-     *
-     * @return the merged list of tool calls
-     */
-    private List<ToolCall> mergeToolCalls(List<ToolCall> lastToolCalls, List<ToolCall> currentToolCalls) {
-        if (lastToolCalls == null || lastToolCalls.isEmpty()) {
-            return currentToolCalls != null ? currentToolCalls : List.of();
-        }
-        if (currentToolCalls == null || currentToolCalls.isEmpty()) {
-            return lastToolCalls;
-        }
-
-        List<ToolCall> merged = new ArrayList<>(lastToolCalls);
-        for (int i = 0; i < currentToolCalls.size(); i++) {
-            ToolCall current = currentToolCalls.get(i);
-            if (current == null) {
-                continue;
-            }
-            int mergeIndex = findToolCallMergeIndex(merged, current, i);
-            if (mergeIndex >= 0) {
-                merged.set(mergeIndex, mergeToolCallFields(merged.get(mergeIndex), current));
-            }
-            else {
-                merged.add(current);
-            }
-        }
-        return merged;
-    }
-
-    private int findToolCallMergeIndex(List<ToolCall> mergedCalls, ToolCall currentToolCall, int currentIndex) {
-        String currentId = normalized(currentToolCall.id());
-        if (StringUtils.hasText(currentId)) {
-            for (int i = 0; i < mergedCalls.size(); i++) {
-                if (currentId.equals(normalized(mergedCalls.get(i).id()))) {
-                    return i;
-                }
-            }
-        }
-
-        if (currentIndex < mergedCalls.size()) {
-            return currentIndex;
-        }
-
-        String currentName = normalized(currentToolCall.name());
-        if (StringUtils.hasText(currentName)) {
-            int matchedIndex = -1;
-            for (int i = 0; i < mergedCalls.size(); i++) {
-                if (currentName.equals(normalized(mergedCalls.get(i).name()))) {
-                    if (matchedIndex >= 0) {
-                        return -1;
-                    }
-                    matchedIndex = i;
-                }
-            }
-            if (matchedIndex >= 0) {
-                return matchedIndex;
-            }
-        }
-
-        return -1;
-    }
-
-    private ToolCall mergeToolCallFields(ToolCall previous, ToolCall current) {
-        return new AssistantMessage.ToolCall(
-                firstNonBlank(current.id(), previous.id()),
-                firstNonBlank(current.type(), previous.type()),
-                firstNonBlank(current.name(), previous.name()),
-                mergeToolArguments(previous.arguments(), current.arguments()));
-    }
-
-    private static String mergeToolArguments(String previousArguments, String currentArguments) {
-        if (!StringUtils.hasText(previousArguments)) {
-            return currentArguments;
-        }
-        if (!StringUtils.hasText(currentArguments)) {
-            return previousArguments;
-        }
-
-        if (currentArguments.equals(previousArguments)) {
-            return currentArguments;
-        }
-        if (currentArguments.startsWith(previousArguments) || currentArguments.contains(previousArguments)) {
-            return currentArguments;
-        }
-        if (previousArguments.startsWith(currentArguments) || previousArguments.contains(currentArguments)) {
-            return previousArguments;
-        }
-
-        // Typical streaming delta case: append incremental argument fragment.
-        return previousArguments + currentArguments;
-    }
-
-    private static String firstNonBlank(String primary, String fallback) {
-        return StringUtils.hasText(primary) ? primary : fallback;
-    }
-
-    private static String normalized(String value) {
-        return StringUtils.hasText(value) ? value : null;
-    }
-
 	/**
 	 * Whether the FINISHED {@link StreamingOutput} after a {@link ChatResponse} flux should omit
 	 * {@link Message} text (agent model and ordinary graph LLM nodes). Tool/hook streams keep the message.
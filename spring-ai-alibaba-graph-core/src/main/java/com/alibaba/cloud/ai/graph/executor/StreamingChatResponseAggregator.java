@@ -0,0 +1,294 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.cloud.ai.graph.executor;
+
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.AssistantMessage.ToolCall;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Accumulates the {@link ChatResponse} chunks of one streamed model call into a single
+ * response.
+ * <p>
+ * Text, {@code reasoningContent} and tool-call arguments are appended to
+ * {@link StringBuilder}s as chunks arrive, and the aggregated {@link AssistantMessage}
+ * is only built once in {@link #toChatResponse()}, so a stream of n chunks costs O(n)
+ * copies instead of rebuilding the message, its text and its tool calls per chunk.
+ * <p>
+ * Not thread-safe: a stream delivers its chunks sequentially.
+ */
+final class StreamingChatResponseAggregator {
+
+	static final String REASONING_CONTENT = "reasoningContent";
+
+	private final boolean mergeReasoningContent;
+
+	private final StringBuilder text = new StringBuilder();
+
+	private final List<ToolCallBuilder> toolCalls = new ArrayList<>();
+
+	private Map<String, Object> metadata;
+
+	private StringBuilder reasoningContent;
+
+	private ChatResponse first;
+
+	private ChatResponse last;
+
+	private int chunks;
+
+	StreamingChatResponseAggregator(boolean mergeReasoningContent) {
+		this.mergeReasoningContent = mergeReasoningContent;
+	}
+
+	/**
+	 * Adds a chunk carrying an assistant message.
+	 * @param response a chunk whose result and output are not null
+	 */
+	void add(ChatResponse response) {
+		AssistantMessage message = response.getResult().getOutput();
+		if (chunks++ == 0) {
+			first = response;
+		}
+		last = response;
+		if (message.getText() != null) {
+			text.append(message.getText());
+		}
+		if (mergeReasoningContent) {
+			mergeMetadata(message.getMetadata());
+		}
+		mergeToolCalls(message.getToolCalls());
+	}
+
+	boolean isEmpty() {
+		return chunks == 0;
+	}
+
+	/**
+	 * Builds the aggregated response. A single chunk is returned as is; otherwise the
+	 * message combines the text, tool calls and (when reasoning content is merged) the
+	 * metadata of all chunks with the media and metadata of the last one.
+	 * @return the aggregated response, or {@code null} when no chunk was added
+	 */
+	ChatResponse toChatResponse() {
+		if (chunks <= 1) {
+			return first;
+		}
+		AssistantMessage lastMessage = last.getResult().getOutput();
+		Map<String, Object> properties = lastMessage.getMetadata();
+		if (mergeReasoningContent) {
+			properties = new LinkedHashMap<>(metadata);
+			if (reasoningContent != null && !reasoningContent.isEmpty()) {
+				properties.put(REASONING_CONTENT, reasoningContent.toString());
+			}
+		}
+		List<ToolCall> calls = new ArrayList<>(toolCalls.size());
+		for (ToolCallBuilder toolCall : toolCalls) {
+			calls.add(toolCall.build());
+		}
+		AssistantMessage message = AssistantMessage.builder()
+			.content(text.toString())
+			.properties(properties)
+			.toolCalls(calls)
+			.media(lastMessage.getMedia())
+			.build();
+		return new ChatResponse(List.of(new Generation(message, last.getResult().getMetadata())), last.getMetadata());
+	}
+
+	/**
+	 * Later chunks override earlier metadata keys, except {@code reasoningContent} which
+	 * carries partial content per chunk and is concatenated.
+	 */
+	private void mergeMetadata(Map<String, Object> current) {
+		if (metadata == null) {
+			metadata = new LinkedHashMap<>();
+		}
+		if (current == null) {
+			return;
+		}
+		metadata.putAll(current);
+		if (current.containsKey(REASONING_CONTENT)) {
+			if (reasoningContent == null) {
+				reasoningContent = new StringBuilder();
+			}
+			reasoningContent.append(current.get(REASONING_CONTENT));
+		}
+	}
+
+	/**
+	 * Merges the tool calls of a chunk.
+	 * <p>
+	 * Streaming chunks from some providers may split tool-call fields across multiple
+	 * chunks (for example: first chunk has name, later chunk has only arguments and even
+	 * no id). We merge by id when possible, and fall back to positional merge to keep a
+	 * single tool call record complete.
+	 */
+	private void mergeToolCalls(List<ToolCall> current) {
+		if (current == null || current.isEmpty()) {
+			return;
+		}
+		boolean appendOnly = toolCalls.isEmpty();
+		for (int i = 0; i < current.size(); i++) {
+			ToolCall toolCall = current.get(i);
+			if (toolCall == null) {
+				continue;
+			}
+			int mergeIndex = appendOnly ? -1 : findToolCallMergeIndex(toolCall, i);
+			if (mergeIndex >= 0) {
+				toolCalls.get(mergeIndex).merge(toolCall);
+			}
+			else {
+				toolCalls.add(new ToolCallBuilder(toolCall));
+			}
+		}
+	}
+
+	private int findToolCallMergeIndex(ToolCall currentToolCall, int currentIndex) {
+		String currentId = normalized(currentToolCall.id());
+		if (currentId != null) {
+			for (int i = 0; i < toolCalls.size(); i++) {
+				if (currentId.equals(normalized(toolCalls.get(i).id))) {
+					return i;
+				}
+			}
+		}
+
+		if (currentIndex < toolCalls.size()) {
+			return currentIndex;
+		}
+
+		String currentName = normalized(currentToolCall.name());
+		if (currentName != null) {
+			int matchedIndex = -1;
+			for (int i = 0; i < toolCalls.size(); i++) {
+				if (currentName.equals(normalized(toolCalls.get(i).name))) {
+					if (matchedIndex >= 0) {
+						return -1;
+					}
+					matchedIndex = i;
+				}
+			}
+			return matchedIndex;
+		}
+
+		return -1;
+	}
+
+	private static String firstNonBlank(String primary, String fallback) {
+		return StringUtils.hasText(primary) ? primary : fallback;
+	}
+
+	private static String normalized(String value) {
+		return StringUtils.hasText(value) ? value : null;
+	}
+
+	/**
+	 * Mutable tool call whose arguments grow in place.
+	 */
+	private static final class ToolCallBuilder {
+
+		private String id;
+
+		private String type;
+
+		private String name;
+
+		private String arguments;
+
+		private StringBuilder argumentsBuilder;
+
+		private boolean argumentsHaveText;
+
+		ToolCallBuilder(ToolCall toolCall) {
+			this.id = toolCall.id();
+			this.type = toolCall.type();
+			this.name = toolCall.name();
+			this.arguments = toolCall.arguments();
+			this.argumentsHaveText = StringUtils.hasText(this.arguments);
+		}
+
+		void merge(ToolCall current) {
+			this.id = firstNonBlank(current.id(), this.id);
+			this.type = firstNonBlank(current.type(), this.type);
+			this.name = firstNonBlank(current.name(), this.name);
+			mergeArguments(current.arguments());
+		}
+
+		/**
+		 * Providers either stream argument fragments or resend the arguments so far;
+		 * fragments are appended, while repeated or growing snapshots replace the
+		 * accumulated value.
+		 */
+		private void mergeArguments(String current) {
+			if (!argumentsHaveText) {
+				replaceArguments(current);
+				return;
+			}
+			if (!StringUtils.hasText(current)) {
+				return;
+			}
+			int length = argumentsLength();
+			if (current.length() >= length) {
+				String previous = arguments();
+				if (current.contains(previous)) {
+					replaceArguments(current);
+					return;
+				}
+			}
+			else if (argumentsIndexOf(current) >= 0) {
+				return;
+			}
+			// Typical streaming delta case: append incremental argument fragment.
+			if (argumentsBuilder == null) {
+				argumentsBuilder = new StringBuilder(arguments.length() + current.length() * 4).append(arguments);
+				arguments = null;
+			}
+			argumentsBuilder.append(current);
+		}
+
+		private void replaceArguments(String current) {
+			this.arguments = current;
+			this.argumentsBuilder = null;
+			this.argumentsHaveText = StringUtils.hasText(current);
+		}
+
+		private int argumentsLength() {
+			return argumentsBuilder != null ? argumentsBuilder.length() : arguments.length();
+		}
+
+		private int argumentsIndexOf(String value) {
+			return argumentsBuilder != null ? argumentsBuilder.indexOf(value) : arguments.indexOf(value);
+		}
+
+		private String arguments() {
+			return argumentsBuilder != null ? argumentsBuilder.toString() : arguments;
+		}
+
+		ToolCall build() {
+			return new ToolCall(id, type, name, arguments());
+		}
+
+	}
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.graph.internal.node;
+
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Tracks one running branch of a parallel node so that it can be cancelled once its
+ * result is no longer needed, for example when another branch wins an
+ * {@link com.alibaba.cloud.ai.graph.NodeAggregationStrategy#ANY_OF ANY_OF} race.
+ * <p>
+ * Cancelling a branch skips it if it has not started yet, interrupts the thread running
+ * its action (the interrupt status is cleared again before the thread is reused), and
+ * cancels the future returned by the action, which stops cancellable asynchronous work
+ * such as a Reactor pipeline bridged with {@code Mono.toFuture()}.
+ */
+final class BranchExecution {
+
+	private final String nodeId;
+
+	private boolean cancelled;
+
+	private Thread runner;
+
+	private boolean interrupted;
+
+	private Future<?> scheduled;
+
+	private Future<?> running;
+
+	BranchExecution(String nodeId) {
+		this.nodeId = nodeId;
+	}
+
+	String nodeId() {
+		return nodeId;
+	}
+
+	synchronized boolean isCancelled() {
+		return cancelled;
+	}
+
+	/**
+	 * Registers the future of the task that will run the branch, so that a branch
+	 * cancelled before it starts is never run.
+	 */
+	void scheduled(Future<?> future) {
+		synchronized (this) {
+			if (!cancelled) {
+				scheduled = future;
+				return;
+			}
+		}
+		future.cancel(false);
+	}
+
+	/**
+	 * Runs the synchronous part of the branch on the current thread.
+	 * @param action starts the branch action and returns its future
+	 * @return the future of the action, or a cancelled future if the branch was
+	 * cancelled before it started
+	 */
+	CompletableFuture<Map<String, Object>> run(Supplier<CompletableFuture<Map<String, Object>>> action) {
+		synchronized (this) {
+			if (cancelled) {
+				return CompletableFuture.failedFuture(new CancellationException("Branch " + nodeId + " was cancelled"));
+			}
+			runner = Thread.currentThread();
+		}
+		CompletableFuture<Map<String, Object>> future;
+		try {
+			future = action.get();
+		}
+		finally {
+			synchronized (this) {
+				runner = null;
+				if (interrupted) {
+					interrupted = false;
+					// clear our interrupt so it does not leak into the next pooled task
+					Thread.interrupted();
+				}
+			}
+		}
+		synchronized (this) {
+			if (!cancelled) {
+				running = future;
+				return future;
+			}
+		}
+		future.cancel(true);
+		return future;
+	}
+
+	/**
+	 * Cancels the branch.
+	 * @return {@code true} if this call cancelled the branch
+	 */
+	boolean cancel() {
+		Future<?> scheduledFuture;
+		Future<?> runningFuture;
+		synchronized (this) {
+			if (cancelled) {
+				return false;
+			}
+			cancelled = true;
+			if (runner != null) {
+				interrupted = true;
+				runner.interrupt();
+			}
+			scheduledFuture = scheduled;
+			runningFuture = running;
+		}
+		if (scheduledFuture != null) {
+			scheduledFuture.cancel(false);
+		}
+		if (runningFuture != null) {
+			runningFuture.cancel(true);
+		}
+		return true;
+	}
+
+}
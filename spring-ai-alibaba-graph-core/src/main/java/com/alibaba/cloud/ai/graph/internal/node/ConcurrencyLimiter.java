@@ -0,0 +1,182 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.graph.internal.node;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Limits how many asynchronous tasks run at the same time without blocking a thread
+ * while a task waits for its turn.
+ * <p>
+ * Unlike a {@link java.util.concurrent.Semaphore} acquired inside the task, a task over
+ * the limit is queued here and only handed to the executor when a running task
+ * completes, so waiting branches hold no pool (or carrier) thread. A queued task whose
+ * future is completed or cancelled in the meantime is skipped.
+ * <p>
+ * The executor may run tasks on the calling thread, such as {@code Runnable::run} or a
+ * pool with {@link java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy}. A task that
+ * completes while it is being started then releases its slot to the loop already
+ * draining the queue on that thread instead of starting the next task recursively, so
+ * the stack depth does not grow with the queue length.
+ */
+public final class ConcurrencyLimiter {
+
+	private final int maxConcurrency;
+
+	private final Executor executor;
+
+	private final Queue<PendingTask> pending = new ArrayDeque<>();
+
+	private int running;
+
+	/** Slots released on a thread while it is already draining the queue. */
+	private final ThreadLocal<int[]> deferredReleases = new ThreadLocal<>();
+
+	/**
+	 * Creates a limiter.
+	 * @param maxConcurrency the maximum number of tasks running at the same time
+	 * @param executor the executor that runs the tasks
+	 */
+	public ConcurrencyLimiter(int maxConcurrency, Executor executor) {
+		if (maxConcurrency <= 0) {
+			throw new IllegalArgumentException("maxConcurrency must be positive, got " + maxConcurrency);
+		}
+		this.maxConcurrency = maxConcurrency;
+		this.executor = requireNonNull(executor, "executor cannot be null!");
+	}
+
+	/**
+	 * Submits a task. The task is started on the executor once a slot is free, and its
+	 * slot is released when the stage it returns completes.
+	 * @param task supplies the asynchronous work; called on an executor thread
+	 * @param <T> the result type
+	 * @return a future completed with the outcome of the task's stage
+	 */
+	public <T> CompletableFuture<T> submit(Supplier<? extends CompletionStage<T>> task) {
+		requireNonNull(task, "task cannot be null!");
+		CompletableFuture<T> result = new CompletableFuture<>();
+		synchronized (this) {
+			if (running >= maxConcurrency) {
+				pending.add(() -> start(task, result));
+				return result;
+			}
+			running++;
+		}
+		if (!start(task, result)) {
+			release();
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the number of tasks waiting for a free slot.
+	 * @return the number of queued tasks
+	 */
+	public synchronized int queued() {
+		return pending.size();
+	}
+
+	/**
+	 * Hands a task holding a slot to the executor.
+	 * @return {@code false} when the task was not started and its slot is free again
+	 */
+	private <T> boolean start(Supplier<? extends CompletionStage<T>> task, CompletableFuture<T> result) {
+		if (result.isDone()) {
+			return false;
+		}
+		try {
+			executor.execute(() -> run(task, result));
+			return true;
+		}
+		catch (RejectedExecutionException ex) {
+			result.completeExceptionally(ex);
+			return false;
+		}
+	}
+
+	private <T> void run(Supplier<? extends CompletionStage<T>> task, CompletableFuture<T> result) {
+		CompletionStage<T> stage;
+		try {
+			stage = result.isDone() ? CompletableFuture.completedFuture(null) : task.get();
+		}
+		catch (Throwable ex) {
+			stage = CompletableFuture.failedFuture(ex);
+		}
+		stage.whenComplete((value, ex) -> {
+			release();
+			if (ex != null) {
+				result.completeExceptionally(ex);
+			}
+			else {
+				result.complete(value);
+			}
+		});
+	}
+
+	private void release() {
+		int[] deferred = deferredReleases.get();
+		if (deferred != null) {
+			// a task started by the loop below completed on this thread, let the loop hand
+			// its slot on
+			deferred[0]++;
+			return;
+		}
+		deferred = new int[] { 1 };
+		deferredReleases.set(deferred);
+		try {
+			while (deferred[0] > 0) {
+				deferred[0]--;
+				releaseSlot();
+			}
+		}
+		finally {
+			deferredReleases.remove();
+		}
+	}
+
+	private void releaseSlot() {
+		// the slot passes to the next queued task that can still start
+		while (true) {
+			PendingTask next;
+			synchronized (this) {
+				next = pending.poll();
+				if (next == null) {
+					running--;
+					return;
+				}
+			}
+			if (next.start()) {
+				return;
+			}
+		}
+	}
+
+	@FunctionalInterface
+	private interface PendingTask {
+
+		boolean start();
+
+	}
+
+}
@@ -37,6 +37,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.alibaba.cloud.ai.graph.StateGraph.NODE_AFTER;
@@ -261,14 +262,13 @@ public class ConditionalParallelNode extends Node {
 
 			logger.debug("Submitting task for node {} to executor", actualNodeId);
 			return CompletableFuture.supplyAsync(() -> {
-				try {
-					logger.debug("Executing task for node {} in thread {}", actualNodeId, Thread.currentThread().getName());
-					return evalNodeActionSync(action, actualNodeId, state, config).join();
-				} catch (Exception e) {
-					logger.error("Error executing task for node {}", actualNodeId, e);
-					throw new RuntimeException(e);
+				logger.debug("Executing task for node {} in thread {}", actualNodeId, Thread.currentThread().getName());
+				return evalNodeActionSync(action, actualNodeId, state, config);
+			}, executor).thenCompose(Function.identity()).whenComplete((result, throwable) -> {
+				if (throwable != null) {
+					logger.error("Error executing task for node {}", actualNodeId, throwable);
 				}
-			}, executor);
+			});
 		}
 
 		/**
@@ -16,6 +16,7 @@
 package com.alibaba.cloud.ai.graph.internal.node;
 
 import com.alibaba.cloud.ai.graph.CompileConfig;
+import com.alibaba.cloud.ai.graph.HedgingPolicy;
 import com.alibaba.cloud.ai.graph.KeyStrategy;
 import com.alibaba.cloud.ai.graph.NodeAggregationStrategy;
 import com.alibaba.cloud.ai.graph.OverAllState;
@@ -29,21 +30,22 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.alibaba.cloud.ai.graph.StateGraph.NODE_AFTER;
@@ -58,6 +60,7 @@ public class ParallelNode extends Node {
 
 	public static final String PARALLEL_PREFIX = "__PARALLEL__";
 	public static final String PARALLEL_TARGET_PREFIX = "__PARALLEL_TARGET__";
+	public static final String PARALLEL_HEDGING_PREFIX = "__PARALLEL_HEDGING__";
 
 	public static final String MAX_CONCURRENCY_KEY = "__MAX_CONCURRENCY__";
 
@@ -93,6 +96,33 @@ public class ParallelNode extends Node {
 						.orElse(DEFAULT_EXECUTOR));
 	}
 
+	/**
+	 * Returns a shared executor that starts a virtual thread per task, for parallel
+	 * branches dominated by blocking model or HTTP calls. Thousands of such branches then
+	 * wait without occupying platform threads or falling back to caller-runs execution.
+	 * Use it through {@link RunnableConfig.Builder#defaultParallelExecutor(Executor)} or
+	 * {@link RunnableConfig.Builder#addParallelNodeExecutor(String, Executor)}.
+	 * <p>
+	 * Virtual threads need Java 21 or later; on older runtimes this logs a warning and
+	 * returns the default platform thread pool.
+	 * @return the virtual thread executor, or the default executor when unsupported
+	 */
+	public static Executor virtualThreadExecutor() {
+		if (VirtualThreads.EXECUTOR != null) {
+			return VirtualThreads.EXECUTOR;
+		}
+		logger.warn("Virtual threads require Java 21 or later, using the default parallel executor instead");
+		return DEFAULT_EXECUTOR;
+	}
+
+	/**
+	 * Whether the running JVM supports {@link #virtualThreadExecutor()}.
+	 * @return {@code true} on Java 21 or later
+	 */
+	public static boolean isVirtualThreadSupported() {
+		return VirtualThreads.EXECUTOR != null;
+	}
+
 	/**
 	 * Gets the aggregation strategy for a parallel node from the configuration.
 	 * First checks for node-specific strategy using formatted targetNodeId (the node right after parallel branches),
@@ -113,6 +143,25 @@ public class ParallelNode extends Node {
 						.orElse(NodeAggregationStrategy.ALL_OF));
 	}
 
+	/**
+	 * Gets the hedging policy for a parallel node from the configuration, first for the
+	 * target node and then the default one. Hedging only applies to
+	 * {@link NodeAggregationStrategy#ANY_OF} aggregation.
+	 *
+	 * @param config the RunnableConfig containing the hedging configuration
+	 * @param targetNodeId the ID of the target node that follows the parallel node
+	 * @return the HedgingPolicy to use, or {@code null} when hedging is disabled
+	 */
+	public static HedgingPolicy getHedgingPolicy(RunnableConfig config, String targetNodeId) {
+		return config.metadata(formatHedgingKey(targetNodeId))
+				.filter(value -> value instanceof HedgingPolicy)
+				.map(HedgingPolicy.class::cast)
+				.orElseGet(() -> config.metadata(RunnableConfig.DEFAULT_PARALLEL_HEDGING_KEY)
+						.filter(value -> value instanceof HedgingPolicy)
+						.map(HedgingPolicy.class::cast)
+						.orElse(null));
+	}
+
 	/**
 	 * Optimized default thread pool executor based on industry best practices.
 	 * Features:
@@ -169,6 +218,25 @@ public class ParallelNode extends Node {
 		}
 	};
 
+	/**
+	 * Lazily creates the virtual thread executor. The framework is compiled for Java 17,
+	 * so the Java 21 factory method is looked up reflectively.
+	 */
+	private static final class VirtualThreads {
+
+		private static final ExecutorService EXECUTOR = create();
+
+		private static ExecutorService create() {
+			try {
+				return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+			}
+			catch (ReflectiveOperationException | RuntimeException ex) {
+				return null;
+			}
+		}
+
+	}
+
 	/**
 	 * Calculate optimal core pool size based on system resources and workload characteristics.
 	 * For mixed IO/CPU workloads, 2x CPU cores is typically optimal.
@@ -254,6 +322,16 @@ public class ParallelNode extends Node {
 		return format("%s(%s)", PARALLEL_TARGET_PREFIX, requireNonNull(targetNodeId, "targetNodeId cannot be null!"));
 	}
 
+	/**
+	 * Formats the key of the hedging policy for the parallel branches merged into a target node.
+	 *
+	 * @param targetNodeId the ID of the target node that follows the parallel node
+	 * @return formatted hedging key
+	 */
+	public static String formatHedgingKey(String targetNodeId) {
+		return format("%s(%s)", PARALLEL_HEDGING_PREFIX, requireNonNull(targetNodeId, "targetNodeId cannot be null!"));
+	}
+
 	/**
 	 * Represents an asynchronous parallel node action that executes multiple branches concurrently.
 	 * This record encapsulates all the information needed to execute parallel branches and aggregate their results.
@@ -296,7 +374,8 @@ public class ParallelNode extends Node {
 		}
 
 		private CompletableFuture<Map<String, Object>> evalNodeActionAsync(AsyncNodeActionWithConfig action,
-				String actualNodeId, OverAllState state, RunnableConfig config, Executor executor) {
+				String actualNodeId, OverAllState state, RunnableConfig config, Executor executor,
+				BranchExecution branch) {
 			
 			// Log thread pool metrics if it's a ThreadPoolExecutor
 			if (executor instanceof ThreadPoolExecutor threadPoolExecutor) {
@@ -308,123 +387,58 @@ public class ParallelNode extends Node {
 			}
 			
 			logger.debug("Submitting task for node {} to executor", actualNodeId);
-			return CompletableFuture.supplyAsync(() -> {
-				try {
-					logger.debug("Executing task for node {} in thread {}", actualNodeId, Thread.currentThread().getName());
-					return evalNodeActionSync(action, actualNodeId, state, config).join();
-				} catch (Exception e) {
-					logger.error("Error executing task for node {}", actualNodeId, e);
-					throw new RuntimeException(e);
-				}
+			// compose rather than join the branch future so that an asynchronous action
+			// does not hold a pool thread while it waits
+			CompletableFuture<CompletableFuture<Map<String, Object>>> scheduled = CompletableFuture.supplyAsync(() -> {
+				logger.debug("Executing task for node {} in thread {}", actualNodeId, Thread.currentThread().getName());
+				return branch.run(() -> evalNodeActionSync(action, actualNodeId, state, config));
 			}, executor);
+			branch.scheduled(scheduled);
+			return scheduled.thenCompose(Function.identity())
+				.whenComplete((result, throwable) -> logFailure(branch, throwable));
 		}
 
-		/**
-		 * Wait for the first successful completion among multiple futures.
-		 * This method returns a CompletableFuture that completes with the result of the first
-		 * future that completes successfully (without exception). If all futures fail, the returned
-		 * future fails with a CompletionException containing details of all failures.
-		 *
-		 * Thread-safety: CompletableFuture.complete() is thread-safe and atomic. Only the first
-		 * successful completion will trigger the result future. Multiple concurrent calls to
-		 * complete() are safe - only the first one succeeds and triggers downstream processing.
-		 *
-		 * @param futures the list of futures to wait for
-		 * @return a CompletableFuture that completes with the first successful result
-		 */
-		private CompletableFuture<Map<String, Object>> waitForFirstSuccessful(
-				List<CompletableFuture<Map<String, Object>>> futures) {
-
-			CompletableFuture<Map<String, Object>> result = new CompletableFuture<>();
-			AtomicInteger completedCount = new AtomicInteger(0);
-			List<Throwable> failures = new CopyOnWriteArrayList<>();
-			int totalFutures = futures.size();
-
-			for (int i = 0; i < totalFutures; i++) {
-				final int index = i;
-				futures.get(i).whenComplete((value, throwable) -> {
-					if (throwable == null) {
-						if (result.complete(value)) {
-							logger.debug("ANY_OF strategy: Future {} completed successfully first", index);
-						}
-						completedCount.incrementAndGet();
-					} else {
-						// This future failed - record the failure
-						logger.debug("ANY_OF strategy: Future {} failed with exception", index, throwable);
-						failures.add(throwable);
-
-						// Check if all futures have completed (both successful and failed)
-						if (completedCount.incrementAndGet() == totalFutures) {
-							// All futures have completed, check if result is still not set
-							// This means ALL futures failed (no successful completion)
-							if (!result.isDone()) {
-								// Create a composite exception with all failures
-								RuntimeException compositeException = new RuntimeException(
-									String.format("ALL %d parallel branches failed in ANY_OF strategy", totalFutures)
-								);
-								for (Throwable failure : failures) {
-									compositeException.addSuppressed(failure);
-								}
-								result.completeExceptionally(compositeException);
-								logger.error("ANY_OF strategy: All {} futures failed", totalFutures, compositeException);
-							}
-						}
-					}
-				});
+		private void logFailure(BranchExecution branch, Throwable throwable) {
+			if (throwable == null) {
+				return;
+			}
+			if (branch.isCancelled()) {
+				logger.debug("Cancelled task for node {} ended with {}", branch.nodeId(), throwable.toString());
+			}
+			else {
+				logger.error("Error executing task for node {}", branch.nodeId(), throwable);
 			}
-
-			return result;
 		}
 
 		/**
-		 * Executes a node action asynchronously with semaphore-based concurrency control.
-		 * This method ensures that the number of concurrently executing tasks does not exceed
-		 * the specified limit by using a semaphore to acquire permits before execution.
+		 * Executes a node action asynchronously once the limiter grants it a slot. Branches
+		 * over the limit are queued by the limiter instead of blocking an executor thread.
 		 *
 		 * @param action the node action to execute
 		 * @param actualNodeId the ID of the node being executed
 		 * @param state the state snapshot for this execution
 		 * @param config the runnable configuration
-		 * @param executor the executor to use for async execution
-		 * @param semaphore the semaphore used to control concurrency
+		 * @param limiter the limiter bounding the number of running branches
+		 * @param branch tracks the branch for cancellation
 		 * @return a CompletableFuture containing the execution results
 		 */
-		private CompletableFuture<Map<String, Object>> evalNodeActionWithSemaphore(
+		private CompletableFuture<Map<String, Object>> evalNodeActionWithLimit(
 				AsyncNodeActionWithConfig action,
 				String actualNodeId,
 				OverAllState state,
 				RunnableConfig config,
-				Executor executor,
-				Semaphore semaphore) {
-
-			return CompletableFuture.supplyAsync(() -> {
-				try {
-					// Acquire semaphore permit (blocks if max concurrency reached)
-					logger.debug("Node {} waiting for semaphore permit. Available permits: {}",
-							actualNodeId, semaphore.availablePermits());
-					semaphore.acquire();
-					logger.debug("Node {} acquired semaphore permit. Remaining permits: {}",
-							actualNodeId, semaphore.availablePermits());
-
-					try {
-						logger.debug("Executing task for node {} in thread {} with concurrency control",
-								actualNodeId, Thread.currentThread().getName());
-						return evalNodeActionSync(action, actualNodeId, state, config).join();
-					} finally {
-						// Always release the semaphore permit
-						semaphore.release();
-						logger.debug("Node {} released semaphore permit. Available permits: {}",
-								actualNodeId, semaphore.availablePermits());
-					}
-				} catch (InterruptedException e) {
-					Thread.currentThread().interrupt();
-					logger.error("Node {} was interrupted while waiting for semaphore", actualNodeId, e);
-					throw new RuntimeException("Interrupted while waiting for execution slot", e);
-				} catch (Exception e) {
-					logger.error("Error executing task for node {}", actualNodeId, e);
-					throw new RuntimeException(e);
-				}
-			}, executor);
+				ConcurrencyLimiter limiter,
+				BranchExecution branch) {
+
+			logger.debug("Submitting task for node {} with concurrency control. Queued: {}", actualNodeId,
+					limiter.queued());
+			CompletableFuture<Map<String, Object>> scheduled = limiter.submit(() -> {
+				logger.debug("Executing task for node {} in thread {} with concurrency control",
+						actualNodeId, Thread.currentThread().getName());
+				return branch.run(() -> evalNodeActionSync(action, actualNodeId, state, config));
+			});
+			branch.scheduled(scheduled);
+			return scheduled.whenComplete((result, throwable) -> logFailure(branch, throwable));
 		}
 
 		@Override
@@ -435,79 +449,102 @@ public class ParallelNode extends Node {
 					.map(Integer.class::cast)
 					.orElse(null);
 
-			// Create semaphore for concurrency control if maxConcurrency is set
-			Semaphore semaphore = maxConcurrency != null ? new Semaphore(maxConcurrency) : null;
+			// First try to get node-specific executor, then default executor, finally use DEFAULT_EXECUTOR
+			Executor executor = getExecutor(config, nodeId);
+
+			// Create limiter for concurrency control if maxConcurrency is set
+			ConcurrencyLimiter limiter = maxConcurrency != null ? new ConcurrencyLimiter(maxConcurrency, executor) : null;
 
-			if (semaphore != null) {
+			if (limiter != null) {
 				logger.info("Parallel node {} will execute with max concurrency: {}", nodeId, maxConcurrency);
 			} else {
 				logger.debug("Parallel node {} will execute without concurrency limit", nodeId);
 			}
 
+			List<BranchExecution> branches = new ArrayList<>();
 			List<CompletableFuture<Map<String, Object>>> futures = new ArrayList<>();
 			for (int i = 0; i < actions.size(); i++) {
-				AsyncNodeActionWithConfig action = actions.get(i);
-				String actualNodeId = actionNodeIds.get(i);
-
-				// Create a defensive copy of the state for each parallel action
-				// This prevents race conditions if actions modify the state in-place
-				OverAllState stateSnapshot = state.snapShot().orElse(new OverAllState());
+				BranchExecution branch = new BranchExecution(actionNodeIds.get(i));
+				branches.add(branch);
+				futures.add(startBranch(i, branch, state, config, executor, limiter));
+			}
 
-				// First try to get node-specific executor, then default executor, finally use DEFAULT_EXECUTOR
-				Executor executor = getExecutor(config, nodeId);
+			// Get aggregation strategy from config
+			NodeAggregationStrategy strategy = getAggregationStrategy(config, targetNodeId);
 
-				// Use semaphore-controlled execution if maxConcurrency is set
-				CompletableFuture<Map<String, Object>> future;
-				if (semaphore != null) {
-					future = evalNodeActionWithSemaphore(action, actualNodeId, stateSnapshot, config, executor, semaphore);
-				} else {
-					future = evalNodeActionAsync(action, actualNodeId, stateSnapshot, config, executor);
+			if (strategy == NodeAggregationStrategy.ANY_OF) {
+				// Proceed with the first successful branch, skipping failures, and cancel the
+				// others. Only fails if ALL branches fail
+				FirstSuccessfulBranch race = new FirstSuccessfulBranch();
+				for (int i = 0; i < futures.size(); i++) {
+					race.add(branches.get(i), futures.get(i));
 				}
+				HedgingPolicy hedging = getHedgingPolicy(config, targetNodeId);
+				if (hedging != null) {
+					scheduleHedges(hedging, race, futures, state, config, executor, limiter);
+				}
+				return race.result().thenApply(firstSuccessfulResult -> {
+					List<Map<String, Object>> results = new ArrayList<>();
+					results.add(firstSuccessfulResult);
 
-				futures.add(future);
+					return processParallelResults(results, state, actions);
+				});
+			}
+			else {
+				// Wait for all tasks to complete (default behavior)
+				return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).thenApply(v -> {
+					// Collect all results
+					List<Map<String, Object>> results = futures.stream()
+							.map(CompletableFuture::join)
+							.collect(Collectors.toList());
+
+					return processParallelResults(results, state, actions);
+				});
 			}
+		}
 
-		// Get aggregation strategy from config
-		NodeAggregationStrategy strategy = getAggregationStrategy(config, targetNodeId);
-
-		if (strategy == NodeAggregationStrategy.ANY_OF) {
-			// Wait for the first successful task to complete
-			// This implementation returns the first successful result, skipping failures
-			// Only fails if ALL tasks fail
-			return waitForFirstSuccessful(futures).thenApply(firstSuccessfulResult -> {
-				// Cancel remaining futures to prevent unnecessary execution and resource waste
-				int cancelledCount = 0;
-				for (CompletableFuture<Map<String, Object>> future : futures) {
-					if (!future.isDone()) {
-						// mayInterruptIfRunning=true: Stop running tasks to save resources
-						// Tasks should handle InterruptedException gracefully, this might cause unexpected behavior if not handled properly
-						boolean cancelled = future.cancel(true);
-						if (cancelled) {
-							cancelledCount++;
-							logger.debug("Cancelled pending future in ANY_OF strategy");
-						}
-					}
-				}
-				if (cancelledCount > 0) {
-					logger.info("ANY_OF strategy: Cancelled {} remaining futures after first successful completion", cancelledCount);
-				}
+		private CompletableFuture<Map<String, Object>> startBranch(int index, BranchExecution branch,
+				OverAllState state, RunnableConfig config, Executor executor, ConcurrencyLimiter limiter) {
+			AsyncNodeActionWithConfig action = actions.get(index);
+			String actualNodeId = actionNodeIds.get(index);
 
-				List<Map<String, Object>> results = new ArrayList<>();
-				results.add(firstSuccessfulResult);
+			// Create a defensive copy of the state for each parallel action
+			// This prevents race conditions if actions modify the state in-place
+			OverAllState stateSnapshot = state.snapShot().orElse(new OverAllState());
 
-				return processParallelResults(results, state, actions);
-			});
-		} else {
-			// Wait for all tasks to complete (default behavior)
-			return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).thenApply(v -> {
-				// Collect all results
-				List<Map<String, Object>> results = futures.stream()
-						.map(CompletableFuture::join)
-						.collect(Collectors.toList());
-
-				return processParallelResults(results, state, actions);
-			});
+			// Use limiter-controlled execution if maxConcurrency is set
+			if (limiter != null) {
+				return evalNodeActionWithLimit(action, actualNodeId, stateSnapshot, config, limiter, branch);
+			}
+			return evalNodeActionAsync(action, actualNodeId, stateSnapshot, config, executor, branch);
 		}
+
+		/**
+		 * Starts duplicates of the branches still running once the hedge delay elapses
+		 * without a successful branch, and records the latency of the run.
+		 */
+		private void scheduleHedges(HedgingPolicy hedging, FirstSuccessfulBranch race,
+				List<CompletableFuture<Map<String, Object>>> futures, OverAllState state, RunnableConfig config,
+				Executor executor, ConcurrencyLimiter limiter) {
+			long startNanos = System.nanoTime();
+			race.result().thenRun(() -> hedging.recordLatency(Duration.ofNanos(System.nanoTime() - startNanos)));
+			long delayNanos = hedging.hedgeDelay().toNanos();
+			CompletableFuture.delayedExecutor(delayNanos, TimeUnit.NANOSECONDS, executor).execute(() -> {
+				int hedges = 0;
+				for (int i = 0; i < futures.size() && hedges < hedging.maxHedges(); i++) {
+					if (race.result().isDone()) {
+						return;
+					}
+					if (futures.get(i).isDone()) {
+						continue;
+					}
+					BranchExecution hedge = new BranchExecution(actionNodeIds.get(i));
+					logger.info("ANY_OF strategy: Hedging branch {} of parallel node {} after {}ms", hedge.nodeId(),
+							nodeId, TimeUnit.NANOSECONDS.toMillis(delayNanos));
+					race.add(hedge, startBranch(i, hedge, state, config, executor, limiter));
+					hedges++;
+				}
+			});
 		}
 
 		/**
@@ -591,6 +628,93 @@ public class ParallelNode extends Node {
 		}
 	}
 
+	/**
+	 * Races branches for {@link NodeAggregationStrategy#ANY_OF}: completes with the first
+	 * successful branch and cancels the others, or fails once every branch added so far
+	 * has failed.
+	 */
+	private static final class FirstSuccessfulBranch {
+
+		private final CompletableFuture<Map<String, Object>> result = new CompletableFuture<>();
+
+		private final List<BranchExecution> branches = new ArrayList<>();
+
+		private final List<Throwable> failures = new ArrayList<>();
+
+		private int pending;
+
+		CompletableFuture<Map<String, Object>> result() {
+			return result;
+		}
+
+		void add(BranchExecution branch, CompletableFuture<Map<String, Object>> future) {
+			synchronized (this) {
+				branches.add(branch);
+				pending++;
+			}
+			if (result.isDone()) {
+				branch.cancel();
+			}
+			future.whenComplete((value, throwable) -> {
+				if (throwable == null) {
+					succeeded(branch, value);
+				}
+				else {
+					failed(branch, throwable);
+				}
+			});
+		}
+
+		private void succeeded(BranchExecution winner, Map<String, Object> value) {
+			synchronized (this) {
+				pending--;
+			}
+			if (!result.complete(value)) {
+				return;
+			}
+			logger.debug("ANY_OF strategy: Branch {} completed successfully first", winner.nodeId());
+			List<BranchExecution> others;
+			synchronized (this) {
+				others = new ArrayList<>(branches);
+			}
+			int cancelledCount = 0;
+			for (BranchExecution branch : others) {
+				if (branch != winner && branch.cancel()) {
+					cancelledCount++;
+				}
+			}
+			if (cancelledCount > 0) {
+				logger.info("ANY_OF strategy: Cancelled {} remaining branches after first successful completion",
+						cancelledCount);
+			}
+		}
+
+		private void failed(BranchExecution branch, Throwable throwable) {
+			RuntimeException compositeException = null;
+			synchronized (this) {
+				pending--;
+				if (branch.isCancelled()) {
+					return;
+				}
+				logger.debug("ANY_OF strategy: Branch {} failed with exception", branch.nodeId(), throwable);
+				failures.add(throwable);
+				if (pending == 0 && !result.isDone()) {
+					// Create a composite exception with all failures
+					compositeException = new RuntimeException(
+							String.format("ALL %d parallel branches failed in ANY_OF strategy", failures.size()));
+					for (Throwable failure : failures) {
+						compositeException.addSuppressed(failure);
+					}
+				}
+			}
+			if (compositeException != null && result.completeExceptionally(compositeException)) {
+				logger.error("ANY_OF strategy: All {} branches failed", compositeException.getSuppressed().length,
+						compositeException);
+			}
+		}
+
+	}
+
 	/**
 	 * Constructs a new ParallelNode instance.
 	 *
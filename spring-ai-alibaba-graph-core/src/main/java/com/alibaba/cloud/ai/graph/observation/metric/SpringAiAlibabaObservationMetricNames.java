@@ -38,7 +38,12 @@ public enum SpringAiAlibabaObservationMetricNames {
 	/**
 	 * Metric name for graph edge operations.
 	 */
-	GRAPH_EDGE("spring.ai.alibaba.graph.edge");
+	GRAPH_EDGE("spring.ai.alibaba.graph.edge"),
+
+	/**
+	 * Metric name for time spent waiting on a checkpoint saver thread lock.
+	 */
+	CHECKPOINT_LOCK_WAIT("spring.ai.alibaba.graph.checkpoint.lock.wait");
 
 	private final String value;
 
@@ -64,7 +64,7 @@ public abstract class StateSerializer implements Serializer<OverAllState> {
 
 	public abstract Map<String, Object> readData(ObjectInput in) throws IOException, ClassNotFoundException;
 
-	public final byte[] dataToBytes(Map<String, Object> data) throws IOException {
+	public byte[] dataToBytes(Map<String, Object> data) throws IOException {
 		Objects.requireNonNull(data, "object cannot be null");
 		try (ByteArrayOutputStream stream = new ByteArrayOutputStream()) {
 			ObjectOutputStream oas = new ObjectOutputStream(stream);
@@ -74,7 +74,7 @@ public abstract class StateSerializer implements Serializer<OverAllState> {
 		}
 	}
 
-	public final Map<String, Object> dataFromBytes(byte[] bytes) throws IOException, ClassNotFoundException {
+	public Map<String, Object> dataFromBytes(byte[] bytes) throws IOException, ClassNotFoundException {
 		Objects.requireNonNull(bytes, "bytes cannot be null");
 		if (bytes.length == 0) {
 			throw new IllegalArgumentException("bytes cannot be empty");
@@ -15,6 +15,8 @@
  */
 package com.alibaba.cloud.ai.graph.serializer.plain_text.jackson;
 
+import com.alibaba.cloud.ai.graph.state.ChunkedAppendList;
+
 import java.io.IOException;
 import java.lang.reflect.Array;
 import java.util.LinkedHashMap;
@@ -74,6 +76,12 @@ public interface JacksonDeserializer<T> {
 			"java.math.BigDecimal"
 	);
 
+	/**
+	 * Type id written by default typing for lists produced by
+	 * {@link com.alibaba.cloud.ai.graph.state.strategy.AppendStrategy}.
+	 */
+	String CHUNKED_APPEND_LIST_CLASS_NAME = ChunkedAppendList.class.getName();
+
 	/**
 	 * Deserialization strategies in order of preference and capability
 	 */
@@ -397,6 +405,13 @@ public interface JacksonDeserializer<T> {
 				if (className.startsWith("[") || className.endsWith("[]")) {
 					return instantiateArray(className, payload, objectMapper, typeMapper);
 				}
+				if (CHUNKED_APPEND_LIST_CLASS_NAME.equals(className)) {
+					List<Object> list = new ChunkedAppendList<>();
+					for (JsonNode element : payload) {
+						list.add(valueFromNode(element, objectMapper, typeMapper));
+					}
+					return list;
+				}
 				if (className.startsWith("java.")) {
 					List<Object> list = new java.util.ArrayList<>(payload.size());
 					for (JsonNode element : payload) {
@@ -0,0 +1,315 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.graph.serializer.std;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.alibaba.cloud.ai.graph.serializer.std.CompactBinaryOutput.STRING_LITERAL;
+import static com.alibaba.cloud.ai.graph.serializer.std.CompactBinaryOutput.STRING_NEW;
+import static com.alibaba.cloud.ai.graph.serializer.std.CompactBinaryOutput.STRING_REF;
+import static com.alibaba.cloud.ai.graph.serializer.std.CompactBinaryStateSerializer.TAG_BYTES;
+import static com.alibaba.cloud.ai.graph.serializer.std.CompactBinaryStateSerializer.TAG_DOUBLE;
+import static com.alibaba.cloud.ai.graph.serializer.std.CompactBinaryStateSerializer.TAG_ENUM;
+import static com.alibaba.cloud.ai.graph.serializer.std.CompactBinaryStateSerializer.TAG_FALSE;
+import static com.alibaba.cloud.ai.graph.serializer.std.CompactBinaryStateSerializer.TAG_FLOAT;
+import static com.alibaba.cloud.ai.graph.serializer.std.CompactBinaryStateSerializer.TAG_INT;
+import static com.alibaba.cloud.ai.graph.serializer.std.CompactBinaryStateSerializer.TAG_JAVA;
+import static com.alibaba.cloud.ai.graph.serializer.std.CompactBinaryStateSerializer.TAG_LIST;
+import static com.alibaba.cloud.ai.graph.serializer.std.CompactBinaryStateSerializer.TAG_LONG;
+import static com.alibaba.cloud.ai.graph.serializer.std.CompactBinaryStateSerializer.TAG_MAP;
+import static com.alibaba.cloud.ai.graph.serializer.std.CompactBinaryStateSerializer.TAG_NULL;
+import static com.alibaba.cloud.ai.graph.serializer.std.CompactBinaryStateSerializer.TAG_REGISTERED;
+import static com.alibaba.cloud.ai.graph.serializer.std.CompactBinaryStateSerializer.TAG_STRING;
+import static com.alibaba.cloud.ai.graph.serializer.std.CompactBinaryStateSerializer.TAG_TRUE;
+
+/**
+ * {@link ObjectInput} reading the compact binary format written by
+ * {@link CompactBinaryOutput} from a byte array.
+ */
+class CompactBinaryInput implements ObjectInput {
+
+	private final CompactBinaryStateSerializer serializer;
+
+	private final List<String> strings = new ArrayList<>();
+
+	private final byte[] buffer;
+
+	private final int limit;
+
+	private int position;
+
+	CompactBinaryInput(CompactBinaryStateSerializer serializer, byte[] buffer, int offset, int length) {
+		this.serializer = serializer;
+		this.buffer = buffer;
+		this.position = offset;
+		this.limit = offset + length;
+	}
+
+	private void require(int bytes) throws EOFException {
+		if (limit - position < bytes) {
+			throw new EOFException("Unexpected end of compact state payload");
+		}
+	}
+
+	int readVarint() throws IOException {
+		int value = 0;
+		for (int shift = 0; shift < 32; shift += 7) {
+			require(1);
+			byte b = buffer[position++];
+			value |= (b & 0x7F) << shift;
+			if (b >= 0) {
+				return value;
+			}
+		}
+		throw new StreamCorruptedException("Malformed varint");
+	}
+
+	long readVarlong() throws IOException {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			require(1);
+			byte b = buffer[position++];
+			value |= (long) (b & 0x7F) << shift;
+			if (b >= 0) {
+				return value;
+			}
+		}
+		throw new StreamCorruptedException("Malformed varint");
+	}
+
+	String readString() throws IOException {
+		int header = readVarint();
+		if (header >= STRING_REF) {
+			int index = header - STRING_REF;
+			if (index >= strings.size()) {
+				throw new StreamCorruptedException("Unknown string reference " + index);
+			}
+			return strings.get(index);
+		}
+		int length = readVarint();
+		require(length);
+		String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+		position += length;
+		if (header == STRING_NEW) {
+			strings.add(value);
+		}
+		else if (header != STRING_LITERAL) {
+			throw new StreamCorruptedException("Unknown string header " + header);
+		}
+		return value;
+	}
+
+	@Override
+	public Object readObject() throws ClassNotFoundException, IOException {
+		byte tag = readByte();
+		switch (tag) {
+			case TAG_NULL:
+				return null;
+			case TAG_STRING:
+				return readString();
+			case TAG_INT:
+				return readInt();
+			case TAG_LONG:
+				return readLong();
+			case TAG_TRUE:
+				return Boolean.TRUE;
+			case TAG_FALSE:
+				return Boolean.FALSE;
+			case TAG_DOUBLE:
+				return readDouble();
+			case TAG_FLOAT:
+				return readFloat();
+			case TAG_BYTES: {
+				byte[] bytes = new byte[readVarint()];
+				readFully(bytes);
+				return bytes;
+			}
+			case TAG_ENUM:
+				return serializer.enumConstant(readString(), readString());
+			case TAG_LIST: {
+				int size = readVarint();
+				List<Object> list = new ArrayList<>(size);
+				for (int i = 0; i < size; i++) {
+					list.add(readObject());
+				}
+				return list;
+			}
+			case TAG_MAP:
+				return readMap();
+			case TAG_REGISTERED:
+				return serializer.registeredSerializer(readString()).read(this);
+			case TAG_JAVA: {
+				int length = readVarint();
+				require(length);
+				try (ObjectInputStream in = new ObjectInputStream(
+						new ByteArrayInputStream(buffer, position, length))) {
+					position += length;
+					return in.readObject();
+				}
+			}
+			default:
+				throw new StreamCorruptedException("Unknown value tag " + tag);
+		}
+	}
+
+	Map<String, Object> readMap() throws IOException, ClassNotFoundException {
+		int size = readVarint();
+		Map<String, Object> map = new HashMap<>(Math.max(16, (int) (size / 0.75f) + 1));
+		for (int i = 0; i < size; i++) {
+			String key = readString();
+			map.put(key, readObject());
+		}
+		return map;
+	}
+
+	@Override
+	public int read() {
+		return position < limit ? buffer[position++] & 0xFF : -1;
+	}
+
+	@Override
+	public int read(byte[] b) {
+		return read(b, 0, b.length);
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) {
+		if (position >= limit) {
+			return -1;
+		}
+		int count = Math.min(len, limit - position);
+		System.arraycopy(buffer, position, b, off, count);
+		position += count;
+		return count;
+	}
+
+	@Override
+	public long skip(long n) {
+		int skipped = (int) Math.max(0, Math.min(n, limit - position));
+		position += skipped;
+		return skipped;
+	}
+
+	@Override
+	public int available() {
+		return limit - position;
+	}
+
+	@Override
+	public void close() {
+	}
+
+	@Override
+	public void readFully(byte[] b) throws IOException {
+		readFully(b, 0, b.length);
+	}
+
+	@Override
+	public void readFully(byte[] b, int off, int len) throws IOException {
+		require(len);
+		System.arraycopy(buffer, position, b, off, len);
+		position += len;
+	}
+
+	@Override
+	public int skipBytes(int n) {
+		return (int) skip(n);
+	}
+
+	@Override
+	public boolean readBoolean() throws IOException {
+		return readByte() != 0;
+	}
+
+	@Override
+	public byte readByte() throws IOException {
+		require(1);
+		return buffer[position++];
+	}
+
+	@Override
+	public int readUnsignedByte() throws IOException {
+		return readByte() & 0xFF;
+	}
+
+	@Override
+	public short readShort() throws IOException {
+		return (short) readInt();
+	}
+
+	@Override
+	public int readUnsignedShort() throws IOException {
+		return readShort() & 0xFFFF;
+	}
+
+	@Override
+	public char readChar() throws IOException {
+		return (char) readVarint();
+	}
+
+	@Override
+	public int readInt() throws IOException {
+		int value = readVarint();
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	@Override
+	public long readLong() throws IOException {
+		long value = readVarlong();
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	@Override
+	public float readFloat() throws IOException {
+		require(4);
+		int bits = 0;
+		for (int i = 0; i < 4; i++) {
+			bits = (bits << 8) | (buffer[position++] & 0xFF);
+		}
+		return Float.intBitsToFloat(bits);
+	}
+
+	@Override
+	public double readDouble() throws IOException {
+		require(8);
+		long bits = 0;
+		for (int i = 0; i < 8; i++) {
+			bits = (bits << 8) | (buffer[position++] & 0xFF);
+		}
+		return Double.longBitsToDouble(bits);
+	}
+
+	@Override
+	public String readLine() throws IOException {
+		return readString();
+	}
+
+	@Override
+	public String readUTF() throws IOException {
+		return readString();
+	}
+
+}
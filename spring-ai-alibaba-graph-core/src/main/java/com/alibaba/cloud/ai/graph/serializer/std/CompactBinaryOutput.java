@@ -0,0 +1,310 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.graph.serializer.std;
+
+import com.alibaba.cloud.ai.graph.serializer.Serializer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.alibaba.cloud.ai.graph.serializer.std.CompactBinaryStateSerializer.TAG_BYTES;
+import static com.alibaba.cloud.ai.graph.serializer.std.CompactBinaryStateSerializer.TAG_DOUBLE;
+import static com.alibaba.cloud.ai.graph.serializer.std.CompactBinaryStateSerializer.TAG_ENUM;
+import static com.alibaba.cloud.ai.graph.serializer.std.CompactBinaryStateSerializer.TAG_FALSE;
+import static com.alibaba.cloud.ai.graph.serializer.std.CompactBinaryStateSerializer.TAG_FLOAT;
+import static com.alibaba.cloud.ai.graph.serializer.std.CompactBinaryStateSerializer.TAG_INT;
+import static com.alibaba.cloud.ai.graph.serializer.std.CompactBinaryStateSerializer.TAG_JAVA;
+import static com.alibaba.cloud.ai.graph.serializer.std.CompactBinaryStateSerializer.TAG_LIST;
+import static com.alibaba.cloud.ai.graph.serializer.std.CompactBinaryStateSerializer.TAG_LONG;
+import static com.alibaba.cloud.ai.graph.serializer.std.CompactBinaryStateSerializer.TAG_MAP;
+import static com.alibaba.cloud.ai.graph.serializer.std.CompactBinaryStateSerializer.TAG_NULL;
+import static com.alibaba.cloud.ai.graph.serializer.std.CompactBinaryStateSerializer.TAG_REGISTERED;
+import static com.alibaba.cloud.ai.graph.serializer.std.CompactBinaryStateSerializer.TAG_STRING;
+import static com.alibaba.cloud.ai.graph.serializer.std.CompactBinaryStateSerializer.TAG_TRUE;
+
+/**
+ * {@link ObjectOutput} writing the compact binary format of
+ * {@link CompactBinaryStateSerializer} into a growable byte array.
+ * <p>
+ * Integral values use zig-zag varints, class names and strings of up to
+ * {@value #MAX_INTERNED_LENGTH} characters are written once and referenced by index
+ * afterwards, and {@link #writeObject(Object)} writes a type tag followed by the value, so
+ * the per-type serializers registered in the {@link SerializerMapper} write through it
+ * unchanged.
+ */
+class CompactBinaryOutput implements ObjectOutput {
+
+	/** Strings longer than this, such as message texts, are not interned. */
+	static final int MAX_INTERNED_LENGTH = 64;
+
+	/** String header announcing a new interned string. */
+	static final int STRING_NEW = 0;
+
+	/** String header announcing a string that is not interned. */
+	static final int STRING_LITERAL = 1;
+
+	/** Headers from this value on reference the interned string at {@code header - STRING_REF}. */
+	static final int STRING_REF = 2;
+
+	private final CompactBinaryStateSerializer serializer;
+
+	private final Map<String, Integer> strings = new HashMap<>();
+
+	private byte[] buffer = new byte[256];
+
+	private int count;
+
+	CompactBinaryOutput(CompactBinaryStateSerializer serializer) {
+		this.serializer = serializer;
+	}
+
+	byte[] toByteArray() {
+		return Arrays.copyOf(buffer, count);
+	}
+
+	private void ensureCapacity(int extra) {
+		if (count + extra > buffer.length) {
+			buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, count + extra));
+		}
+	}
+
+	void writeVarint(int value) {
+		ensureCapacity(5);
+		while ((value & ~0x7F) != 0) {
+			buffer[count++] = (byte) ((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		buffer[count++] = (byte) value;
+	}
+
+	void writeVarlong(long value) {
+		ensureCapacity(10);
+		while ((value & ~0x7FL) != 0) {
+			buffer[count++] = (byte) ((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		buffer[count++] = (byte) value;
+	}
+
+	void writeString(String value) {
+		writeString(value, value.length() <= MAX_INTERNED_LENGTH);
+	}
+
+	/**
+	 * Writes a class name, interned whatever its length.
+	 */
+	void writeTypeName(Class<?> type) {
+		writeString(type.getName(), true);
+	}
+
+	private void writeString(String value, boolean intern) {
+		if (intern) {
+			Integer index = strings.get(value);
+			if (index != null) {
+				writeVarint(index + STRING_REF);
+				return;
+			}
+			strings.put(value, strings.size());
+			writeVarint(STRING_NEW);
+		}
+		else {
+			writeVarint(STRING_LITERAL);
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		writeVarint(bytes.length);
+		write(bytes);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void writeObject(Object obj) throws IOException {
+		if (obj == null) {
+			writeByte(TAG_NULL);
+		}
+		else if (obj instanceof String value) {
+			writeByte(TAG_STRING);
+			writeString(value);
+		}
+		else if (obj instanceof Integer value) {
+			writeByte(TAG_INT);
+			writeInt(value);
+		}
+		else if (obj instanceof Long value) {
+			writeByte(TAG_LONG);
+			writeLong(value);
+		}
+		else if (obj instanceof Boolean value) {
+			writeByte(value ? TAG_TRUE : TAG_FALSE);
+		}
+		else if (obj instanceof Double value) {
+			writeByte(TAG_DOUBLE);
+			writeDouble(value);
+		}
+		else if (obj instanceof Float value) {
+			writeByte(TAG_FLOAT);
+			writeFloat(value);
+		}
+		else if (obj instanceof byte[] value) {
+			writeByte(TAG_BYTES);
+			writeVarint(value.length);
+			write(value);
+		}
+		else if (obj instanceof Enum<?> value) {
+			writeByte(TAG_ENUM);
+			writeTypeName(value.getDeclaringClass());
+			writeString(value.name());
+		}
+		else if (obj instanceof Collection<?> values) {
+			writeByte(TAG_LIST);
+			writeVarint(values.size());
+			for (Object value : values) {
+				writeObject(value);
+			}
+		}
+		else if (obj instanceof Map<?, ?> map && hasStringKeys(map)) {
+			writeByte(TAG_MAP);
+			writeVarint(map.size());
+			for (Map.Entry<String, Object> entry : ((Map<String, Object>) map).entrySet()) {
+				writeString(entry.getKey());
+				writeObject(entry.getValue());
+			}
+		}
+		else {
+			Optional<Serializer<Object>> registered = serializer.registeredSerializer(obj.getClass());
+			if (registered.isPresent()) {
+				writeByte(TAG_REGISTERED);
+				writeTypeName(obj.getClass());
+				registered.get().write(obj, this);
+			}
+			else {
+				writeByte(TAG_JAVA);
+				ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+				try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+					out.writeObject(obj);
+				}
+				writeVarint(bytes.size());
+				write(bytes.toByteArray());
+			}
+		}
+	}
+
+	private static boolean hasStringKeys(Map<?, ?> map) {
+		for (Object key : map.keySet()) {
+			if (!(key instanceof String)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public void write(int b) {
+		ensureCapacity(1);
+		buffer[count++] = (byte) b;
+	}
+
+	@Override
+	public void write(byte[] b) {
+		write(b, 0, b.length);
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) {
+		ensureCapacity(len);
+		System.arraycopy(b, off, buffer, count, len);
+		count += len;
+	}
+
+	@Override
+	public void flush() {
+	}
+
+	@Override
+	public void close() {
+	}
+
+	@Override
+	public void writeBoolean(boolean v) {
+		write(v ? 1 : 0);
+	}
+
+	@Override
+	public void writeByte(int v) {
+		write(v);
+	}
+
+	@Override
+	public void writeShort(int v) {
+		writeInt(v);
+	}
+
+	@Override
+	public void writeChar(int v) {
+		writeVarint(v & 0xFFFF);
+	}
+
+	@Override
+	public void writeInt(int v) {
+		writeVarint((v << 1) ^ (v >> 31));
+	}
+
+	@Override
+	public void writeLong(long v) {
+		writeVarlong((v << 1) ^ (v >> 63));
+	}
+
+	@Override
+	public void writeFloat(float v) {
+		int bits = Float.floatToIntBits(v);
+		ensureCapacity(4);
+		for (int shift = 24; shift >= 0; shift -= 8) {
+			buffer[count++] = (byte) (bits >>> shift);
+		}
+	}
+
+	@Override
+	public void writeDouble(double v) {
+		long bits = Double.doubleToLongBits(v);
+		ensureCapacity(8);
+		for (int shift = 56; shift >= 0; shift -= 8) {
+			buffer[count++] = (byte) (bits >>> shift);
+		}
+	}
+
+	@Override
+	public void writeBytes(String s) {
+		writeString(s);
+	}
+
+	@Override
+	public void writeChars(String s) {
+		writeString(s);
+	}
+
+	@Override
+	public void writeUTF(String s) {
+		writeString(s);
+	}
+
+}
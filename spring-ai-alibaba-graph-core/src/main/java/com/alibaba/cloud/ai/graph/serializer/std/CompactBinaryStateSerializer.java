@@ -0,0 +1,234 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.graph.serializer.std;
+
+import com.alibaba.cloud.ai.graph.OverAllState;
+import com.alibaba.cloud.ai.graph.serializer.Serializer;
+import com.alibaba.cloud.ai.graph.serializer.StateSerializer;
+import com.alibaba.cloud.ai.graph.state.AgentStateFactory;
+
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.StreamCorruptedException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link StateSerializer} writing a compact binary format instead of Java object
+ * streams.
+ * <p>
+ * The payload starts with a version byte, followed by the state entries encoded with
+ * varint lengths, a per-payload string table so repeated keys, roles and tool names are
+ * written once, and one-byte type tags. Types registered in {@link #mapper()}, which
+ * holds the same Spring AI message serializers as {@link SpringAIStateSerializer}, are
+ * written by their registered {@link Serializer}; other values fall back to Java
+ * serialization.
+ * <p>
+ * Payloads written by {@link SpringAIStateSerializer}, either through
+ * {@link #writeData(Map, ObjectOutput)} or {@link #dataToBytes(Map)}, remain readable, so
+ * existing checkpoints can be read after switching serializers. Types must be registered
+ * before the serializer is first used.
+ */
+public class CompactBinaryStateSerializer extends StateSerializer {
+
+	/** Version byte of the current format. Legacy payloads start with {@code 0}. */
+	static final byte FORMAT_VERSION_1 = (byte) 0xC1;
+
+	static final byte TAG_NULL = 0;
+
+	static final byte TAG_STRING = 1;
+
+	static final byte TAG_INT = 2;
+
+	static final byte TAG_LONG = 3;
+
+	static final byte TAG_TRUE = 4;
+
+	static final byte TAG_FALSE = 5;
+
+	static final byte TAG_DOUBLE = 6;
+
+	static final byte TAG_FLOAT = 7;
+
+	static final byte TAG_BYTES = 8;
+
+	static final byte TAG_ENUM = 9;
+
+	static final byte TAG_LIST = 10;
+
+	static final byte TAG_MAP = 11;
+
+	static final byte TAG_REGISTERED = 12;
+
+	static final byte TAG_JAVA = 13;
+
+	private final SpringAIStateSerializer legacy;
+
+	private final Map<Class<?>, Optional<Serializer<Object>>> serializersByClass = new ConcurrentHashMap<>();
+
+	private final Map<String, Serializer<Object>> serializersByName = new ConcurrentHashMap<>();
+
+	private final Map<String, Class<?>> enumTypes = new ConcurrentHashMap<>();
+
+	public CompactBinaryStateSerializer() {
+		this(OverAllState::new);
+	}
+
+	public CompactBinaryStateSerializer(AgentStateFactory<OverAllState> stateFactory) {
+		super(stateFactory);
+		this.legacy = new SpringAIStateSerializer(stateFactory);
+	}
+
+	/**
+	 * Returns the type registry, shared with the reader of legacy payloads.
+	 */
+	public SerializerMapper mapper() {
+		return legacy.mapper();
+	}
+
+	@Override
+	public void writeData(Map<String, Object> data, ObjectOutput out) throws IOException {
+		byte[] bytes = encode(data);
+		out.writeByte(FORMAT_VERSION_1);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	@Override
+	public Map<String, Object> readData(ObjectInput in) throws IOException, ClassNotFoundException {
+		byte version = in.readByte();
+		if (version == FORMAT_VERSION_1) {
+			byte[] bytes = new byte[in.readInt()];
+			in.readFully(bytes);
+			return decode(bytes, 0, bytes.length);
+		}
+		if (version == 0) {
+			// a SpringAIStateSerializer payload, whose first field is the entry count
+			int size = (in.readUnsignedByte() << 16) | (in.readUnsignedByte() << 8) | in.readUnsignedByte();
+			return legacy.readData(in, size);
+		}
+		throw new StreamCorruptedException("Unsupported state format version " + version);
+	}
+
+	/**
+	 * Writes the version byte and the compact payload without an object stream around
+	 * them.
+	 */
+	@Override
+	public byte[] dataToBytes(Map<String, Object> data) throws IOException {
+		Objects.requireNonNull(data, "object cannot be null");
+		CompactBinaryOutput out = new CompactBinaryOutput(this);
+		out.writeByte(FORMAT_VERSION_1);
+		writeMap(data, out);
+		return out.toByteArray();
+	}
+
+	@Override
+	public Map<String, Object> dataFromBytes(byte[] bytes) throws IOException, ClassNotFoundException {
+		Objects.requireNonNull(bytes, "bytes cannot be null");
+		if (bytes.length > 0 && bytes[0] == FORMAT_VERSION_1) {
+			return decode(bytes, 1, bytes.length - 1);
+		}
+		return super.dataFromBytes(bytes);
+	}
+
+	@Override
+	public byte[] objectToBytes(OverAllState object) throws IOException {
+		Objects.requireNonNull(object, "object cannot be null");
+		return dataToBytes(object.data());
+	}
+
+	@Override
+	public OverAllState bytesToObject(byte[] bytes) throws IOException, ClassNotFoundException {
+		return stateOf(dataFromBytes(bytes));
+	}
+
+	private byte[] encode(Map<String, Object> data) throws IOException {
+		CompactBinaryOutput out = new CompactBinaryOutput(this);
+		writeMap(data, out);
+		return out.toByteArray();
+	}
+
+	private void writeMap(Map<String, Object> data, CompactBinaryOutput out) throws IOException {
+		out.writeVarint(data.size());
+		for (Map.Entry<String, Object> entry : data.entrySet()) {
+			out.writeString(entry.getKey());
+			out.writeObject(entry.getValue());
+		}
+	}
+
+	private Map<String, Object> decode(byte[] bytes, int offset, int length)
+			throws IOException, ClassNotFoundException {
+		return new CompactBinaryInput(this, bytes, offset, length).readMap();
+	}
+
+	Optional<Serializer<Object>> registeredSerializer(Class<?> type) {
+		return serializersByClass.computeIfAbsent(type, key -> {
+			Optional<Serializer<Object>> serializer = mapper().getSerializer(key);
+			// collections and maps are encoded natively, a registration only matches them
+			// when they were not encodable, e.g. maps with non-string keys
+			if (serializer.isPresent() && (Collection.class.isAssignableFrom(key) || Map.class.isAssignableFrom(key))) {
+				return Optional.empty();
+			}
+			return serializer;
+		});
+	}
+
+	Serializer<Object> registeredSerializer(String className) throws IOException {
+		Serializer<Object> serializer = serializersByName.get(className);
+		if (serializer != null) {
+			return serializer;
+		}
+		serializer = mapper().getSerializer(className).orElse(null);
+		if (serializer == null) {
+			try {
+				serializer = registeredSerializer(loadClass(className)).orElse(null);
+			}
+			catch (ClassNotFoundException ex) {
+				// fall through to the missing serializer error
+			}
+		}
+		if (serializer == null) {
+			throw new InvalidClassException(className, "no serializer registered");
+		}
+		serializersByName.put(className, serializer);
+		return serializer;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	Object enumConstant(String className, String name) throws ClassNotFoundException {
+		Class<?> type = enumTypes.get(className);
+		if (type == null) {
+			type = loadClass(className);
+			enumTypes.put(className, type);
+		}
+		return Enum.valueOf((Class<? extends Enum>) type, name);
+	}
+
+	private static Class<?> loadClass(String className) throws ClassNotFoundException {
+		ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+		if (classLoader == null) {
+			classLoader = CompactBinaryStateSerializer.class.getClassLoader();
+		}
+		return Class.forName(className, false, classLoader);
+	}
+
+}
@@ -57,6 +57,14 @@ public class ObjectStreamStateSerializer extends StateSerializer {
 		return mapSerializer.read(mapper.objectInputWithMapper(in));
 	}
 
+	/**
+	 * Reads the entries of a state whose entry count was already consumed from
+	 * {@code in}.
+	 */
+	final Map<String, Object> readData(ObjectInput in, int size) throws IOException, ClassNotFoundException {
+		return mapSerializer.readEntries(mapper.objectInputWithMapper(in), size);
+	}
+
 	static class ListSerializer implements NullableObjectSerializer<List<Object>> {
 
 		@Override
@@ -121,9 +129,11 @@ public class ObjectStreamStateSerializer extends StateSerializer {
 
 		@Override
 		public Map<String, Object> read(ObjectInput in) throws IOException, ClassNotFoundException {
-			Map<String, Object> result = new HashMap<>();
+			return readEntries(in, in.readInt());
+		}
 
-			int size = in.readInt();
+		Map<String, Object> readEntries(ObjectInput in, int size) throws IOException, ClassNotFoundException {
+			Map<String, Object> result = new HashMap<>();
 
 			for (int i = 0; i < size; i++) {
 				String key = Serializer.readUTF(in);
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.graph.state;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * An append-optimized {@link java.util.List} used by
+ * {@link com.alibaba.cloud.ai.graph.state.strategy.AppendStrategy} to hold appendable
+ * channels such as {@code messages}.
+ *
+ * <p>
+ * Elements are stored in fixed-size chunks that are never moved once written, so
+ * growing the list only copies the small chunk table instead of every element.
+ * {@link #appending(Collection)} derives a new list that shares the whole prefix with
+ * this one: each list only sees the elements below its own {@link #size()}, so appending
+ * to the most recent version never affects older ones and costs amortized O(1) per
+ * element. Any other mutation ({@code set}, {@code remove}, insertion in the middle,
+ * appending to an older version) first copies the elements into private storage, which
+ * keeps the usual {@link java.util.ArrayList} semantics for callers that still modify
+ * state lists in place.
+ * </p>
+ *
+ * <p>
+ * The list is serialized as a plain {@link ArrayList}, so persisted checkpoints are not
+ * tied to this class.
+ * </p>
+ *
+ * @param <E> the type of elements in this list
+ */
+public final class ChunkedAppendList<E> extends AbstractList<E> implements RandomAccess, Serializable {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	private static final int CHUNK_SHIFT = 5;
+
+	private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+
+	private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+	private static final int INITIAL_TABLE_SIZE = 4;
+
+	/**
+	 * Storage shared by every list derived from the same origin. {@code length} is the
+	 * number of slots written so far; only the list whose size equals it may append in
+	 * place.
+	 */
+	private static final class Chunks {
+
+		Object[][] table = new Object[INITIAL_TABLE_SIZE][];
+
+		int length;
+
+		boolean shared;
+
+	}
+
+	private transient Chunks chunks;
+
+	/**
+	 * Chunk table as seen by this list. Chunks are never replaced, so a table captured
+	 * earlier still holds every element below {@link #size}.
+	 */
+	private transient Object[][] table;
+
+	private transient int size;
+
+	public ChunkedAppendList() {
+		this.chunks = new Chunks();
+		this.table = chunks.table;
+	}
+
+	public ChunkedAppendList(Collection<? extends E> values) {
+		this();
+		addAll(values);
+	}
+
+	private ChunkedAppendList(ChunkedAppendList<E> prefix) {
+		synchronized (prefix.chunks) {
+			prefix.chunks.shared = true;
+			this.chunks = prefix.chunks;
+			this.table = prefix.table;
+			this.size = prefix.size;
+		}
+	}
+
+	/**
+	 * Returns a new list made of the elements of this list followed by the given values.
+	 * The returned list shares this list's elements instead of copying them, and this
+	 * list is left unchanged.
+	 * @param values the values to append
+	 * @return a new list containing this list's elements and then {@code values}
+	 */
+	public ChunkedAppendList<E> appending(Collection<? extends E> values) {
+		Objects.requireNonNull(values, "values cannot be null");
+		ChunkedAppendList<E> result = new ChunkedAppendList<>(this);
+		for (E value : values) {
+			result.append(value);
+		}
+		return result;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E get(int index) {
+		Objects.checkIndex(index, size);
+		return (E) table[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean add(E element) {
+		append(element);
+		return true;
+	}
+
+	@Override
+	public boolean addAll(Collection<? extends E> values) {
+		if (values.isEmpty()) {
+			return false;
+		}
+		for (E value : values) {
+			append(value);
+		}
+		return true;
+	}
+
+	@Override
+	public void add(int index, E element) {
+		if (index == size) {
+			append(element);
+			return;
+		}
+		Objects.checkIndex(index, size);
+		ensureExclusive();
+		append(null);
+		for (int i = size - 1; i > index; i--) {
+			slot(i, read(i - 1));
+		}
+		slot(index, element);
+	}
+
+	@Override
+	public E set(int index, E element) {
+		Objects.checkIndex(index, size);
+		ensureExclusive();
+		E previous = get(index);
+		slot(index, element);
+		return previous;
+	}
+
+	@Override
+	public E remove(int index) {
+		Objects.checkIndex(index, size);
+		ensureExclusive();
+		E removed = get(index);
+		for (int i = index; i < size - 1; i++) {
+			slot(i, read(i + 1));
+		}
+		slot(size - 1, null);
+		size--;
+		chunks.length = size;
+		modCount++;
+		return removed;
+	}
+
+	@Override
+	public void clear() {
+		if (size == 0) {
+			return;
+		}
+		chunks = new Chunks();
+		table = chunks.table;
+		size = 0;
+		modCount++;
+	}
+
+	private void append(Object element) {
+		Chunks current = chunks;
+		synchronized (current) {
+			if (current.length == size) {
+				writeTail(current, element);
+				return;
+			}
+		}
+		// another list derived from the same prefix has already appended: branch off
+		copyToPrivateStorage();
+		writeTail(chunks, element);
+	}
+
+	private void writeTail(Chunks target, Object element) {
+		int chunkIndex = size >>> CHUNK_SHIFT;
+		Object[][] currentTable = target.table;
+		if (chunkIndex == currentTable.length) {
+			currentTable = Arrays.copyOf(currentTable, currentTable.length << 1);
+		}
+		if (currentTable[chunkIndex] == null) {
+			currentTable[chunkIndex] = new Object[CHUNK_SIZE];
+		}
+		currentTable[chunkIndex][size & CHUNK_MASK] = element;
+		target.table = currentTable;
+		target.length = size + 1;
+		table = currentTable;
+		size++;
+		modCount++;
+	}
+
+	private void ensureExclusive() {
+		boolean shared;
+		synchronized (chunks) {
+			shared = chunks.shared;
+		}
+		if (shared) {
+			copyToPrivateStorage();
+		}
+	}
+
+	private void copyToPrivateStorage() {
+		Chunks copy = new Chunks();
+		int chunkCount = (size + CHUNK_MASK) >>> CHUNK_SHIFT;
+		copy.table = new Object[Math.max(INITIAL_TABLE_SIZE, Integer.highestOneBit(Math.max(chunkCount, 1)) << 1)][];
+		for (int i = 0; i < chunkCount; i++) {
+			copy.table[i] = Arrays.copyOf(table[i], CHUNK_SIZE);
+		}
+		int tail = size & CHUNK_MASK;
+		if (tail != 0) {
+			Arrays.fill(copy.table[chunkCount - 1], tail, CHUNK_SIZE, null);
+		}
+		copy.length = size;
+		chunks = copy;
+		table = copy.table;
+	}
+
+	private Object read(int index) {
+		return table[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+	}
+
+	private void slot(int index, Object element) {
+		table[index >>> CHUNK_SHIFT][index & CHUNK_MASK] = element;
+	}
+
+	@Serial
+	private Object writeReplace() {
+		return new ArrayList<>(this);
+	}
+
+}
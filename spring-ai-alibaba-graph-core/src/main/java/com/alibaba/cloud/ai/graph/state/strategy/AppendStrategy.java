@@ -17,6 +17,7 @@ package com.alibaba.cloud.ai.graph.state.strategy;
 
 import com.alibaba.cloud.ai.graph.KeyStrategy;
 import com.alibaba.cloud.ai.graph.state.AppenderChannel;
+import com.alibaba.cloud.ai.graph.state.ChunkedAppendList;
 import com.alibaba.cloud.ai.graph.state.ReplaceAllWith;
 
 import java.util.ArrayList;
@@ -24,7 +25,6 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 
@@ -46,7 +46,7 @@ public class AppendStrategy implements KeyStrategy {
 		}
 
 		if( newValue instanceof ReplaceAllWith<?> replaceAll ) {
-			return new ArrayList<>(replaceAll.newValues());
+			return new ChunkedAppendList<>(replaceAll.newValues());
 		}
 
 		if (oldValue instanceof Optional<?> oldValueOptional) {
@@ -56,9 +56,9 @@ public class AppendStrategy implements KeyStrategy {
 		boolean oldValueIsList = oldValue instanceof List<?>;
 
 		if (oldValueIsList && newValue instanceof AppenderChannel.RemoveIdentifier<?>) {
-			var result = new ArrayList<>((List<Object>) oldValue);
+			var result = new ChunkedAppendList<>((List<Object>) oldValue);
 			removeFromList(result, (AppenderChannel.RemoveIdentifier) newValue);
-			return new ArrayList<>(result);
+			return result;
 		}
 
 		List<Object> list = null;
@@ -74,44 +74,52 @@ public class AppendStrategy implements KeyStrategy {
 
 		if (oldValueIsList) {
 			List<Object> oldList = (List<Object>) oldValue;
-			if (list != null) {
-				if (list.isEmpty()) {
-					return oldValue;
-				}
-				if (oldValueIsList) {
-					var result = evaluateRemoval((List<Object>) oldValue, list);
-					if (allowDuplicate) {
-						return Stream.concat(result.oldValues().stream(), result.newValues()
-										.stream())
-								.collect(Collectors.toList());
-					} else {
-						return Stream.concat(result.oldValues().stream(), result.newValues()
-										.stream())
-								.distinct()
-								.collect(Collectors.toList());
-					}
+			if (list == null) {
+				return appending(oldList, List.of(newValue));
+			}
+			if (list.isEmpty()) {
+				return oldValue;
+			}
+			if (list.stream().noneMatch(value -> value instanceof AppenderChannel.RemoveIdentifier<?>)) {
+				if (allowDuplicate) {
+					return appending(oldList, list);
 				}
-				oldList.addAll(list);
+				return new ChunkedAppendList<>(Stream.concat(oldList.stream(), list.stream()).distinct().toList());
 			}
-			else {
-				var result = new ArrayList<>(oldList);
-				result.add(newValue);
-				return result;
+			var result = evaluateRemoval(oldList, list);
+			var values = new ChunkedAppendList<>(result.oldValues());
+			values.addAll(result.newValues());
+			if (allowDuplicate) {
+				return values;
 			}
-			return oldList;
+			return new ChunkedAppendList<>(values.stream().distinct().toList());
 		}
 		else {
-			ArrayList<Object> arrayResult = new ArrayList<>();
+			ChunkedAppendList<Object> result = new ChunkedAppendList<>();
 			if (list != null) {
-				arrayResult.addAll(list);
+				result.addAll(list);
 			}
 			else {
-				arrayResult.add(newValue);
+				result.add(newValue);
 			}
-			return arrayResult;
+			return result;
 		}
 	}
 
+	/**
+	 * Appends values to an existing list without modifying it. When the list was
+	 * produced by this strategy the result shares its elements, otherwise they are copied
+	 * once into a {@link ChunkedAppendList}.
+	 */
+	private static Object appending(List<Object> oldList, Collection<?> values) {
+		if (oldList instanceof ChunkedAppendList<Object> chunked) {
+			return chunked.appending(values);
+		}
+		var result = new ChunkedAppendList<>(oldList);
+		result.addAll(values);
+		return result;
+	}
+
 	private static void removeFromList(List<Object> result, AppenderChannel.RemoveIdentifier<Object> removeIdentifier) {
 		for (int i = 0; i < result.size(); i++) {
 			if (removeIdentifier.compareTo(result.get(i), i) == 0) {
@@ -16,6 +16,7 @@
 package com.alibaba.cloud.ai.graph.store;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -93,6 +94,32 @@ public interface Store {
 	 */
 	boolean deleteItem(List<String> namespace, String key);
 
+	/**
+	 * Store several items, as {@link #putItem(StoreItem)} does for each of them, in as
+	 * few round trips to the backing storage as the implementation allows.
+	 * @param items the items to store
+	 * @throws IllegalArgumentException if items is null or contains an invalid item
+	 */
+	void putItems(List<StoreItem> items);
+
+	/**
+	 * Retrieve several items of the same namespace.
+	 * @param namespace the hierarchical namespace path
+	 * @param keys the item keys
+	 * @return the items found, by key, in the order of the given keys
+	 * @throws IllegalArgumentException if namespace or keys is null/invalid
+	 */
+	Map<String, StoreItem> getItems(List<String> namespace, List<String> keys);
+
+	/**
+	 * Delete several items of the same namespace.
+	 * @param namespace the hierarchical namespace path
+	 * @param keys the item keys
+	 * @return the number of items deleted
+	 * @throws IllegalArgumentException if namespace or keys is null/invalid
+	 */
+	int deleteItems(List<String> namespace, List<String> keys);
+
 	/**
 	 * Search for items based on the provided search criteria.
 	 * @param searchRequest the search parameters
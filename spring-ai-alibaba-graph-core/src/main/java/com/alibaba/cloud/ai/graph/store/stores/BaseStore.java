@@ -24,6 +24,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.Base64;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -41,6 +42,55 @@ import java.util.Objects;
  */
 public abstract class BaseStore implements Store {
 
+	/**
+	 * Stores the items one by one. Implementations override this to write them in
+	 * batches.
+	 * @param items the items to store
+	 */
+	@Override
+	public void putItems(List<StoreItem> items) {
+		validatePutItems(items);
+		for (StoreItem item : items) {
+			putItem(item);
+		}
+	}
+
+	/**
+	 * Retrieves the items one by one. Implementations override this to read them in
+	 * batches.
+	 * @param namespace namespace
+	 * @param keys keys
+	 * @return the items found, by key
+	 */
+	@Override
+	public Map<String, StoreItem> getItems(List<String> namespace, List<String> keys) {
+		validateGetItems(namespace, keys);
+		Map<String, StoreItem> items = new LinkedHashMap<>();
+		for (String key : keys) {
+			getItem(namespace, key).ifPresent(item -> items.put(key, item));
+		}
+		return items;
+	}
+
+	/**
+	 * Deletes the items one by one. Implementations override this to delete them in
+	 * batches.
+	 * @param namespace namespace
+	 * @param keys keys
+	 * @return the number of items deleted
+	 */
+	@Override
+	public int deleteItems(List<String> namespace, List<String> keys) {
+		validateDeleteItems(namespace, keys);
+		int deleted = 0;
+		for (String key : keys) {
+			if (deleteItem(namespace, key)) {
+				deleted++;
+			}
+		}
+		return deleted;
+	}
+
 	/**
 	 * Validates the putItem parameters.
 	 * @param item the item to validate
@@ -91,6 +141,47 @@ public abstract class BaseStore implements Store {
 		}
 	}
 
+	/**
+	 * Validates the putItems parameters.
+	 * @param items the items to validate
+	 */
+	protected void validatePutItems(List<StoreItem> items) {
+		if (items == null) {
+			throw new IllegalArgumentException("items cannot be null");
+		}
+		items.forEach(this::validatePutItem);
+	}
+
+	/**
+	 * Validates the getItems parameters.
+	 * @param namespace namespace
+	 * @param keys keys
+	 */
+	protected void validateGetItems(List<String> namespace, List<String> keys) {
+		if (namespace == null) {
+			throw new IllegalArgumentException("namespace cannot be null");
+		}
+		if (keys == null) {
+			throw new IllegalArgumentException("keys cannot be null");
+		}
+		keys.forEach(key -> validateGetItem(namespace, key));
+	}
+
+	/**
+	 * Validates the deleteItems parameters.
+	 * @param namespace namespace
+	 * @param keys keys
+	 */
+	protected void validateDeleteItems(List<String> namespace, List<String> keys) {
+		if (namespace == null) {
+			throw new IllegalArgumentException("namespace cannot be null");
+		}
+		if (keys == null) {
+			throw new IllegalArgumentException("keys cannot be null");
+		}
+		keys.forEach(key -> validateDeleteItem(namespace, key));
+	}
+
 	/**
 	 * Validates the searchItems parameters.
 	 * @param searchRequest search request
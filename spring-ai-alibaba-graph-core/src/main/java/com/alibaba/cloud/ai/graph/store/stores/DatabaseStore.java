@@ -21,6 +21,7 @@ import com.alibaba.cloud.ai.graph.store.StoreSearchRequest;
 import com.alibaba.cloud.ai.graph.store.StoreSearchResult;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.LoggerFactory;
 
 import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
@@ -36,16 +37,20 @@ import java.sql.Statement;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
+import java.util.regex.Pattern;
 import javax.sql.DataSource;
 
 /**
@@ -55,14 +60,46 @@ import javax.sql.DataSource;
  * and other JDBC-compatible databases. It provides ACID compliance and enterprise-grade
  * reliability.
  * </p>
+ * <p>
+ * Searches are translated into SQL: the namespace prefix, the text query and equality
+ * filters on scalar values narrow the rows in the database, and sorting by timestamps and
+ * pagination run there as well. Criteria that SQL cannot evaluate exactly are checked
+ * again on the streamed rows, so results match the in-memory stores.
+ * </p>
  *
  * @author Spring AI Alibaba
  * @since 1.0.0.3
  */
 public class DatabaseStore extends BaseStore {
 
+    private static final org.slf4j.Logger log = LoggerFactory.getLogger(DatabaseStore.class);
+
     private static final String DEFAULT_TABLE_NAME = "spring_ai_store";
 
+    private static final String SELECT_ITEM_COLUMNS = "SELECT namespace, key_name, value_json, created_at, updated_at";
+
+    /**
+     * Escape character of the LIKE patterns built for searches.
+     */
+    private static final char LIKE_ESCAPE = '!';
+
+    /**
+     * Rows fetched per round trip when search results are streamed.
+     */
+    private static final int SEARCH_FETCH_SIZE = 500;
+
+    /**
+     * Text queries made of these characters look the same in the stored JSON and in the
+     * value's string form used by {@link #matchesSearchCriteria}, so a LIKE on the JSON
+     * never drops a match.
+     */
+    private static final Pattern PUSHDOWN_QUERY_PATTERN = Pattern.compile("[A-Za-z0-9_\\-.@/#]+");
+
+    /**
+     * Keys per IN list of batch reads and deletes, below Oracle's limit of 1000.
+     */
+    private static final int KEY_BATCH_SIZE = 500;
+
     private final DataSource dataSource;
 
     private final ObjectMapper objectMapper;
@@ -368,17 +405,45 @@ public class DatabaseStore extends BaseStore {
     @Override
     public void putItem(StoreItem item) {
         validatePutItem(item);
+        writeItems(List.of(item));
+    }
 
-        lock.writeLock().lock();
-        try {
-            String itemId = createItemId(item.getNamespace(), item.getKey());
-            String itemHash = createItemHash(itemId);
-            String namespaceJson = objectMapper.writeValueAsString(item.getNamespace());
-            String valueJson = objectMapper.writeValueAsString(item.getValue());
+    /**
+     * Upserts all items with one JDBC batch in a single transaction.
+     */
+    @Override
+    public void putItems(List<StoreItem> items) {
+        validatePutItems(items);
+        if (!items.isEmpty()) {
+            writeItems(items);
+        }
+    }
 
-            try (Connection conn = dataSource.getConnection()) {
-                executeUpsert(conn, itemId, itemHash, namespaceJson, item.getKey(), valueJson,
-                        new Timestamp(item.getCreatedAt()), new Timestamp(item.getUpdatedAt()));
+    private void writeItems(List<StoreItem> items) {
+        lock.writeLock().lock();
+        try (Connection conn = dataSource.getConnection()) {
+            DatabaseDialect dialect = getDatabaseDialect(conn);
+            try (PreparedStatement stmt = conn.prepareStatement(upsertSql(dialect))) {
+                if (items.size() == 1) {
+                    bindUpsert(stmt, dialect, items.get(0));
+                    stmt.executeUpdate();
+                    return;
+                }
+                boolean autoCommit = conn.getAutoCommit();
+                conn.setAutoCommit(false);
+                try {
+                    for (StoreItem item : items) {
+                        bindUpsert(stmt, dialect, item);
+                        stmt.addBatch();
+                    }
+                    stmt.executeBatch();
+                    conn.commit();
+                } catch (Exception e) {
+                    conn.rollback();
+                    throw e;
+                } finally {
+                    conn.setAutoCommit(autoCommit);
+                }
             }
         } catch (Exception e) {
             throw new RuntimeException("Failed to store item in database", e);
@@ -388,159 +453,67 @@ public class DatabaseStore extends BaseStore {
     }
 
     /**
-     * Execute UPSERT using dialect-specific SQL for mainstream databases. Falls back to
-     * a generic UPDATE-then-INSERT path for unsupported dialects.
+     * UPSERT statement using dialect-specific SQL for mainstream databases: MERGE INTO
+     * ... KEY for H2, ON DUPLICATE KEY UPDATE for MySQL, ON CONFLICT DO UPDATE for
+     * PostgreSQL and MERGE INTO ... USING DUAL for Oracle. Rows are matched by id_hash
+     * to avoid long-key index limitations across dialects.
      *
-     * @param conn          database connection
-     * @param itemId        item id
-     * @param namespaceJson serialized namespace
-     * @param key           key name
-     * @param valueJson     serialized value
-     * @param createdAt     created timestamp
-     * @param updatedAt     updated timestamp
-     * @throws SQLException if SQL execution fails
-     */
-    private void executeUpsert(Connection conn, String itemId, String itemHash, String namespaceJson, String key, String valueJson,
-                               Timestamp createdAt, Timestamp updatedAt) throws SQLException {
-        DatabaseDialect dialect = getDatabaseDialect(conn);
-        switch (dialect) {
-            case H2 -> executeH2Merge(conn, itemId, itemHash, namespaceJson, key, valueJson, createdAt, updatedAt);
-            case MYSQL -> executeMysqlUpsert(conn, itemId, itemHash, namespaceJson, key, valueJson, createdAt, updatedAt);
-            case POSTGRESQL -> executePostgresqlUpsert(conn, itemId, itemHash, namespaceJson, key, valueJson, createdAt,
-                    updatedAt);
-            case ORACLE -> executeOracleUpsert(conn, itemId, itemHash, namespaceJson, key, valueJson, createdAt, updatedAt);
+     * @param dialect database dialect
+     * @return UPSERT statement, bound with {@link #bindUpsert}
+     */
+    private String upsertSql(DatabaseDialect dialect) {
+        return switch (dialect) {
+            case H2 -> "MERGE INTO " + tableName + " (id, id_hash, namespace, key_name, value_json, created_at, updated_at) "
+                    + "KEY(id_hash) VALUES (?, ?, ?, ?, ?, ?, ?)";
+            case MYSQL -> "INSERT INTO " + tableName + " (id, id_hash, namespace, key_name, value_json, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE id = VALUES(id), namespace = VALUES(namespace), key_name = VALUES(key_name), "
+                    + "value_json = VALUES(value_json), updated_at = VALUES(updated_at)";
+            case POSTGRESQL -> "INSERT INTO " + tableName + " (id, id_hash, namespace, key_name, value_json, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?) "
+                    + "ON CONFLICT (id_hash) DO UPDATE SET id = EXCLUDED.id, namespace = EXCLUDED.namespace, "
+                    + "key_name = EXCLUDED.key_name, value_json = EXCLUDED.value_json, "
+                    + "updated_at = EXCLUDED.updated_at";
+            case ORACLE -> "MERGE INTO " + tableName + " USING DUAL ON (id_hash = ?) " + "WHEN MATCHED THEN UPDATE SET "
+                    + "id = ?, namespace = ?, key_name = ?, value_json = ?, updated_at = ? "
+                    + "WHEN NOT MATCHED THEN INSERT (id, id_hash, namespace, key_name, value_json, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?)";
             case OTHER -> throw new UnsupportedOperationException(
                     "Unsupported database dialect: " + dialect + ". Supported dialects: H2, MySQL, PostgreSQL, Oracle");
-        }
-    }
-
-    /**
-     * H2 database UPSERT implementation using MERGE INTO syntax.
-     *
-     * @param conn          database connection
-     * @param itemId        unique primary key
-     * @param namespaceJson serialized namespace
-     * @param key           business key
-     * @param valueJson     serialized value
-     * @param createdAt     created timestamp
-     * @param updatedAt     updated timestamp
-     * @throws SQLException if SQL execution fails
-     */
-    private void executeH2Merge(Connection conn, String itemId, String itemHash, String namespaceJson, String key, String valueJson,
-                                Timestamp createdAt, Timestamp updatedAt) throws SQLException {
-        // MERGE by id_hash to avoid long-key index limitations across dialects.
-        String sql = "MERGE INTO " + tableName + " (id, id_hash, namespace, key_name, value_json, created_at, updated_at) "
-                + "KEY(id_hash) VALUES (?, ?, ?, ?, ?, ?, ?)";
-        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setString(1, itemId);
-            stmt.setString(2, itemHash);
-            stmt.setString(3, namespaceJson);
-            stmt.setString(4, key);
-            stmt.setString(5, valueJson);
-            stmt.setTimestamp(6, createdAt);
-            stmt.setTimestamp(7, updatedAt);
-            stmt.executeUpdate();
-        }
-    }
-
-    /**
-     * MySQL database UPSERT implementation using ON DUPLICATE KEY UPDATE syntax.
-     *
-     * @param conn          database connection
-     * @param itemId        unique primary key
-     * @param namespaceJson serialized namespace
-     * @param key           business key
-     * @param valueJson     serialized value
-     * @param createdAt     created timestamp
-     * @param updatedAt     updated timestamp
-     * @throws SQLException if SQL execution fails
-     */
-    private void executeMysqlUpsert(Connection conn, String itemId, String itemHash, String namespaceJson, String key, String valueJson,
-                                    Timestamp createdAt, Timestamp updatedAt) throws SQLException {
-        // INSERT ... ON DUPLICATE KEY UPDATE ... VALUES(...)
-        String sql = "INSERT INTO " + tableName + " (id, id_hash, namespace, key_name, value_json, created_at, updated_at) "
-                + "VALUES (?, ?, ?, ?, ?, ?, ?) "
-                + "ON DUPLICATE KEY UPDATE id = VALUES(id), namespace = VALUES(namespace), key_name = VALUES(key_name), "
-                + "value_json = VALUES(value_json), updated_at = VALUES(updated_at)";
-        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setString(1, itemId);
-            stmt.setString(2, itemHash);
-            stmt.setString(3, namespaceJson);
-            stmt.setString(4, key);
-            stmt.setString(5, valueJson);
-            stmt.setTimestamp(6, createdAt);
-            stmt.setTimestamp(7, updatedAt);
-            stmt.executeUpdate();
-        }
-    }
-
-    /**
-     * PostgreSQL database UPSERT implementation using ON CONFLICT DO UPDATE syntax.
-     *
-     * @param conn          database connection
-     * @param itemId        unique primary key
-     * @param namespaceJson serialized namespace
-     * @param key           business key
-     * @param valueJson     serialized value
-     * @param createdAt     created timestamp
-     * @param updatedAt     updated timestamp
-     * @throws SQLException if SQL execution fails
-     */
-    private void executePostgresqlUpsert(Connection conn, String itemId, String itemHash, String namespaceJson, String key,
-                                         String valueJson, Timestamp createdAt, Timestamp updatedAt) throws SQLException {
-        // INSERT ... ON CONFLICT (id_hash) DO UPDATE SET ... = EXCLUDED....
-        String sql = "INSERT INTO " + tableName + " (id, id_hash, namespace, key_name, value_json, created_at, updated_at) "
-                + "VALUES (?, ?, ?, ?, ?, ?, ?) "
-                + "ON CONFLICT (id_hash) DO UPDATE SET id = EXCLUDED.id, namespace = EXCLUDED.namespace, "
-                + "key_name = EXCLUDED.key_name, value_json = EXCLUDED.value_json, "
-                + "updated_at = EXCLUDED.updated_at";
-        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setString(1, itemId);
-            stmt.setString(2, itemHash);
-            stmt.setString(3, namespaceJson);
-            stmt.setString(4, key);
-            stmt.setString(5, valueJson);
-            stmt.setTimestamp(6, createdAt);
-            stmt.setTimestamp(7, updatedAt);
-            stmt.executeUpdate();
-        }
+        };
     }
 
     /**
-     * Oracle database UPSERT implementation using MERGE INTO syntax.
+     * Bind an item to the parameters of the UPSERT statement of a dialect.
      *
-     * @param conn          database connection
-     * @param itemId        unique primary key
-     * @param namespaceJson serialized namespace
-     * @param key           business key
-     * @param valueJson     serialized value
-     * @param createdAt     created timestamp
-     * @param updatedAt     updated timestamp
-     * @throws SQLException if SQL execution fails
-     */
-    private void executeOracleUpsert(Connection conn, String itemId, String itemHash, String namespaceJson, String key, String valueJson,
-                                     Timestamp createdAt, Timestamp updatedAt) throws SQLException {
-        // MERGE by id_hash to avoid oversized unique-key issues.
-        String sql = "MERGE INTO " + tableName + " USING DUAL ON (id_hash = ?) " + "WHEN MATCHED THEN UPDATE SET "
-                + "id = ?, namespace = ?, key_name = ?, value_json = ?, updated_at = ? "
-                + "WHEN NOT MATCHED THEN INSERT (id, id_hash, namespace, key_name, value_json, created_at, updated_at) "
-                + "VALUES (?, ?, ?, ?, ?, ?, ?)";
-        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setString(1, itemHash);
-            stmt.setString(2, itemId);
-            stmt.setString(3, namespaceJson);
-            stmt.setString(4, key);
-            stmt.setString(5, valueJson);
-            stmt.setTimestamp(6, updatedAt);
-            stmt.setString(7, itemId);
-            stmt.setString(8, itemHash);
-            stmt.setString(9, namespaceJson);
-            stmt.setString(10, key);
-            stmt.setString(11, valueJson);
-            stmt.setTimestamp(12, createdAt);
-            stmt.setTimestamp(13, updatedAt);
-            stmt.executeUpdate();
+     * @param stmt    UPSERT statement
+     * @param dialect database dialect
+     * @param item    item to store
+     * @throws Exception if the item cannot be serialized or bound
+     */
+    private void bindUpsert(PreparedStatement stmt, DatabaseDialect dialect, StoreItem item) throws Exception {
+        String itemId = createItemId(item.getNamespace(), item.getKey());
+        String itemHash = createItemHash(itemId);
+        String namespaceJson = objectMapper.writeValueAsString(item.getNamespace());
+        String valueJson = objectMapper.writeValueAsString(item.getValue());
+        Timestamp createdAt = new Timestamp(item.getCreatedAt());
+        Timestamp updatedAt = new Timestamp(item.getUpdatedAt());
+        int index = 1;
+        if (dialect == DatabaseDialect.ORACLE) {
+            stmt.setString(index++, itemHash);
+            stmt.setString(index++, itemId);
+            stmt.setString(index++, namespaceJson);
+            stmt.setString(index++, item.getKey());
+            stmt.setString(index++, valueJson);
+            stmt.setTimestamp(index++, updatedAt);
         }
+        stmt.setString(index++, itemId);
+        stmt.setString(index++, itemHash);
+        stmt.setString(index++, namespaceJson);
+        stmt.setString(index++, item.getKey());
+        stmt.setString(index++, valueJson);
+        stmt.setTimestamp(index++, createdAt);
+        stmt.setTimestamp(index, updatedAt);
     }
 
     /**
@@ -626,41 +599,282 @@ public class DatabaseStore extends BaseStore {
         }
     }
 
+    /**
+     * Reads the items with one {@code id_hash IN (...)} query per {@value #KEY_BATCH_SIZE}
+     * keys.
+     */
+    @Override
+    public Map<String, StoreItem> getItems(List<String> namespace, List<String> keys) {
+        validateGetItems(namespace, keys);
+
+        Map<String, StoreItem> found = new HashMap<>();
+        lock.readLock().lock();
+        try (Connection conn = dataSource.getConnection()) {
+            for (List<String> hashes : itemHashBatches(namespace, keys)) {
+                String sql = SELECT_ITEM_COLUMNS + " FROM " + tableName + " WHERE id_hash IN (" + placeholders(hashes.size())
+                        + ")";
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    for (int i = 0; i < hashes.size(); i++) {
+                        stmt.setString(i + 1, hashes.get(i));
+                    }
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            StoreItem item = resultSetToStoreItem(rs);
+                            found.put(item.getKey(), item);
+                        }
+                    }
+                }
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to retrieve items from database", e);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Map<String, StoreItem> items = new LinkedHashMap<>();
+        for (String key : keys) {
+            if (found.containsKey(key)) {
+                items.put(key, found.get(key));
+            }
+        }
+        return items;
+    }
+
+    /**
+     * Deletes the items with one {@code id_hash IN (...)} statement per
+     * {@value #KEY_BATCH_SIZE} keys.
+     */
+    @Override
+    public int deleteItems(List<String> namespace, List<String> keys) {
+        validateDeleteItems(namespace, keys);
+
+        lock.writeLock().lock();
+        try (Connection conn = dataSource.getConnection()) {
+            int deleted = 0;
+            for (List<String> hashes : itemHashBatches(namespace, keys)) {
+                String sql = "DELETE FROM " + tableName + " WHERE id_hash IN (" + placeholders(hashes.size()) + ")";
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    for (int i = 0; i < hashes.size(); i++) {
+                        stmt.setString(i + 1, hashes.get(i));
+                    }
+                    deleted += stmt.executeUpdate();
+                }
+            }
+            return deleted;
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to delete items from database", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private List<List<String>> itemHashBatches(List<String> namespace, List<String> keys) {
+        List<String> hashes = keys.stream().distinct().map(key -> createItemHash(createItemId(namespace, key))).toList();
+        List<List<String>> batches = new ArrayList<>();
+        for (int from = 0; from < hashes.size(); from += KEY_BATCH_SIZE) {
+            batches.add(hashes.subList(from, Math.min(from + KEY_BATCH_SIZE, hashes.size())));
+        }
+        return batches;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
     @Override
     public StoreSearchResult searchItems(StoreSearchRequest searchRequest) {
         validateSearchItems(searchRequest);
 
         lock.readLock().lock();
-        try {
-            List<StoreItem> allItems = getAllItems();
+        try (Connection conn = dataSource.getConnection()) {
+            DatabaseDialect dialect = getDatabaseDialect(conn);
+            SearchQuery query = planSearch(searchRequest);
+            if (query.exact() && query.sortedInDatabase()) {
+                return searchPage(conn, dialect, query, searchRequest);
+            }
+            return searchStreaming(conn, dialect, query, searchRequest);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to search items in database", e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
 
-            // Apply filters
-            List<StoreItem> filteredItems = allItems.stream()
-                    .filter(item -> matchesSearchCriteria(item, searchRequest))
-                    .collect(Collectors.toList());
+    /**
+     * Translate a search request into SQL conditions and ordering.
+     *
+     * @param searchRequest search request
+     * @return planned query
+     */
+    private SearchQuery planSearch(StoreSearchRequest searchRequest) {
+        List<String> conditions = new ArrayList<>();
+        List<Object> parameters = new ArrayList<>();
+        boolean exact = true;
+
+        List<String> namespace = searchRequest.getNamespace();
+        if (!namespace.isEmpty()) {
+            conditions.add(namespacePrefixCondition());
+            addNamespacePrefixParameters(namespace, parameters);
+        }
 
-            // Sort items
-            if (!searchRequest.getSortFields().isEmpty()) {
-                filteredItems.sort(createComparator(searchRequest));
+        String text = searchRequest.getQuery();
+        if (text != null && !text.trim().isEmpty()) {
+            exact = false;
+            if (PUSHDOWN_QUERY_PATTERN.matcher(text).matches()) {
+                String pattern = "%" + escapeLike(text.toLowerCase(Locale.ROOT)) + "%";
+                conditions.add("(LOWER(key_name) LIKE ? ESCAPE '" + LIKE_ESCAPE + "' OR LOWER(value_json) LIKE ? ESCAPE '"
+                        + LIKE_ESCAPE + "')");
+                parameters.add(pattern);
+                parameters.add(pattern);
             }
+        }
 
-            long totalCount = filteredItems.size();
+        for (Map.Entry<String, Object> filter : searchRequest.getFilter().entrySet()) {
+            exact = false;
+            Object expected = filter.getValue();
+            // Only scalars are written the same way whatever the original value type was
+            if (expected instanceof String || expected instanceof Integer || expected instanceof Long
+                    || expected instanceof Boolean) {
+                conditions.add("value_json LIKE ? ESCAPE '" + LIKE_ESCAPE + "'");
+                parameters.add("%" + escapeLike(toJson(filter.getKey()) + ":" + toJson(expected)) + "%");
+            }
+        }
 
-            // Apply pagination
-            int offset = searchRequest.getOffset();
-            int limit = searchRequest.getLimit();
+        List<String> orderBy = new ArrayList<>();
+        boolean sortedInDatabase = true;
+        for (String field : searchRequest.getSortFields()) {
+            String column = switch (field) {
+                case "createdAt" -> "created_at";
+                case "updatedAt" -> "updated_at";
+                default -> null;
+            };
+            if (column == null) {
+                // Keys, namespaces and value fields follow Java ordering, which SQL collations do not
+                sortedInDatabase = false;
+                orderBy.clear();
+                break;
+            }
+            orderBy.add(column + (searchRequest.isAscending() ? " ASC" : " DESC"));
+        }
+        // Ties keep insertion order, like the stable sort of the in-memory stores
+        orderBy.add("pk_id ASC");
+
+        String where = conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+        return new SearchQuery(where, " ORDER BY " + String.join(", ", orderBy), parameters, exact, sortedInDatabase);
+    }
 
-            if (offset >= filteredItems.size()) {
-                return StoreSearchResult.of(Collections.emptyList(), totalCount, offset, limit);
+    /**
+     * Count and fetch one page in the database when every criterion is evaluated by SQL.
+     */
+    private StoreSearchResult searchPage(Connection conn, DatabaseDialect dialect, SearchQuery query,
+                                         StoreSearchRequest searchRequest) throws SQLException {
+        int offset = searchRequest.getOffset();
+        int limit = searchRequest.getLimit();
+
+        long totalCount;
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT COUNT(*) FROM " + tableName + query.where())) {
+            query.bind(stmt);
+            try (ResultSet rs = stmt.executeQuery()) {
+                rs.next();
+                totalCount = rs.getLong(1);
             }
+        }
+        if (offset >= totalCount) {
+            return StoreSearchResult.of(Collections.emptyList(), totalCount, offset, limit);
+        }
 
-            int endIndex = Math.min(offset + limit, filteredItems.size());
-            List<StoreItem> resultItems = filteredItems.subList(offset, endIndex);
+        String pagination = dialect == DatabaseDialect.ORACLE ? " OFFSET ? ROWS FETCH NEXT ? ROWS ONLY"
+                : " LIMIT ? OFFSET ?";
+        List<StoreItem> items = new ArrayList<>();
+        try (PreparedStatement stmt = conn.prepareStatement(
+                SELECT_ITEM_COLUMNS + " FROM " + tableName + query.where() + query.orderBy() + pagination)) {
+            int index = query.bind(stmt);
+            stmt.setInt(index, dialect == DatabaseDialect.ORACLE ? offset : limit);
+            stmt.setInt(index + 1, dialect == DatabaseDialect.ORACLE ? limit : offset);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    try {
+                        items.add(resultSetToStoreItem(rs));
+                    } catch (Exception e) {
+                        // Skip invalid items
+                    }
+                }
+            }
+        }
+        return StoreSearchResult.of(items, totalCount, offset, limit);
+    }
 
-            return StoreSearchResult.of(resultItems, totalCount, offset, limit);
+    /**
+     * Stream the rows narrowed by SQL, check them against the full criteria and keep only
+     * the requested page, or the best {@code offset + limit} items when sorting in Java.
+     */
+    private StoreSearchResult searchStreaming(Connection conn, DatabaseDialect dialect, SearchQuery query,
+                                              StoreSearchRequest searchRequest) throws SQLException {
+        int offset = searchRequest.getOffset();
+        int limit = searchRequest.getLimit();
+        long window = (long) offset + limit;
+
+        Comparator<StoreItem> itemComparator = createComparator(searchRequest);
+        Comparator<RankedItem> comparator = (a, b) -> {
+            int comparison = itemComparator.compare(a.item(), b.item());
+            return comparison != 0 ? comparison : Long.compare(a.sequence(), b.sequence());
+        };
+        PriorityQueue<RankedItem> best = new PriorityQueue<>(comparator.reversed());
+        List<StoreItem> page = new ArrayList<>();
+        long totalCount = 0;
+
+        String sql = SELECT_ITEM_COLUMNS + " FROM " + tableName + query.where() + query.orderBy();
+        boolean autoCommit = conn.getAutoCommit();
+        if (dialect == DatabaseDialect.POSTGRESQL && autoCommit) {
+            // PostgreSQL only honours the fetch size inside a transaction
+            conn.setAutoCommit(false);
+        }
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            // MySQL streams rows one by one only with this sentinel fetch size
+            stmt.setFetchSize(dialect == DatabaseDialect.MYSQL ? Integer.MIN_VALUE : SEARCH_FETCH_SIZE);
+            query.bind(stmt);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    StoreItem item;
+                    try {
+                        item = resultSetToStoreItem(rs);
+                    } catch (Exception e) {
+                        // Skip invalid items
+                        continue;
+                    }
+                    if (!matchesSearchCriteria(item, searchRequest)) {
+                        continue;
+                    }
+                    if (query.sortedInDatabase()) {
+                        if (totalCount >= offset && totalCount < window) {
+                            page.add(item);
+                        }
+                    } else {
+                        RankedItem ranked = new RankedItem(item, totalCount);
+                        if (best.size() < window) {
+                            best.add(ranked);
+                        } else if (comparator.compare(ranked, best.peek()) < 0) {
+                            best.poll();
+                            best.add(ranked);
+                        }
+                    }
+                    totalCount++;
+                }
+            }
         } finally {
-            lock.readLock().unlock();
+            if (conn.getAutoCommit() != autoCommit) {
+                conn.setAutoCommit(autoCommit);
+            }
         }
+
+        if (!query.sortedInDatabase()) {
+            List<RankedItem> ranked = new ArrayList<>(best);
+            ranked.sort(comparator);
+            for (int i = offset; i < ranked.size(); i++) {
+                page.add(ranked.get(i).item());
+            }
+        }
+        return StoreSearchResult.of(page, totalCount, offset, limit);
     }
 
     @Override
@@ -671,25 +885,45 @@ public class DatabaseStore extends BaseStore {
         try {
             Set<String> namespaceSet = new HashSet<>();
             List<String> prefixFilter = namespaceRequest.getNamespace();
+            List<Object> parameters = new ArrayList<>();
+            String sql = "SELECT DISTINCT namespace FROM " + tableName;
+            if (!prefixFilter.isEmpty()) {
+                sql += " WHERE " + namespacePrefixCondition();
+                addNamespacePrefixParameters(prefixFilter, parameters);
+            }
 
-            List<StoreItem> allItems = getAllItems();
-
-            for (StoreItem item : allItems) {
-                List<String> itemNamespace = item.getNamespace();
-
-                // Check if namespace starts with prefix filter
-                if (!prefixFilter.isEmpty() && !startsWithPrefix(itemNamespace, prefixFilter)) {
-                    continue;
+            JavaType namespaceType = objectMapper.getTypeFactory().constructCollectionType(List.class, String.class);
+            try (Connection conn = dataSource.getConnection(); PreparedStatement stmt = conn.prepareStatement(sql)) {
+                for (int i = 0; i < parameters.size(); i++) {
+                    stmt.setObject(i + 1, parameters.get(i));
                 }
-
-                // Generate all possible namespace paths up to maxDepth
-                int maxDepth = namespaceRequest.getMaxDepth();
-                int depth = (maxDepth == -1) ? itemNamespace.size() : Math.min(maxDepth, itemNamespace.size());
-
-                for (int i = 1; i <= depth; i++) {
-                    String namespacePath = String.join("/", itemNamespace.subList(0, i));
-                    namespaceSet.add(namespacePath);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        List<String> itemNamespace;
+                        try {
+                            itemNamespace = objectMapper.readValue(rs.getString("namespace"), namespaceType);
+                        } catch (Exception e) {
+                            // Skip invalid items
+                            continue;
+                        }
+
+                        // Check if namespace starts with prefix filter
+                        if (!prefixFilter.isEmpty() && !startsWithPrefix(itemNamespace, prefixFilter)) {
+                            continue;
+                        }
+
+                        // Generate all possible namespace paths up to maxDepth
+                        int maxDepth = namespaceRequest.getMaxDepth();
+                        int depth = (maxDepth == -1) ? itemNamespace.size() : Math.min(maxDepth, itemNamespace.size());
+
+                        for (int i = 1; i <= depth; i++) {
+                            String namespacePath = String.join("/", itemNamespace.subList(0, i));
+                            namespaceSet.add(namespacePath);
+                        }
+                    }
                 }
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to list namespaces from database", e);
             }
 
             List<String> namespaces = new ArrayList<>(namespaceSet);
@@ -710,6 +944,75 @@ public class DatabaseStore extends BaseStore {
         }
     }
 
+    /**
+     * SQL condition matching namespaces equal to or below a prefix. Namespaces are stored
+     * as compact JSON arrays, so {@code ["a","b"]} is matched by itself and by values
+     * starting with {@code ["a","b",}.
+     *
+     * @return SQL condition with two parameters
+     */
+    private String namespacePrefixCondition() {
+        return "(namespace = ? OR namespace LIKE ? ESCAPE '" + LIKE_ESCAPE + "')";
+    }
+
+    private void addNamespacePrefixParameters(List<String> prefix, List<Object> parameters) {
+        String prefixJson = toJson(prefix);
+        parameters.add(prefixJson);
+        parameters.add(escapeLike(prefixJson.substring(0, prefixJson.length() - 1)) + ",%");
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to serialize search parameter", e);
+        }
+    }
+
+    private static String escapeLike(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if (ch == LIKE_ESCAPE || ch == '%' || ch == '_') {
+                sb.append(LIKE_ESCAPE);
+            }
+            sb.append(ch);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * A search translated into SQL.
+     *
+     * @param where            WHERE clause, or an empty string
+     * @param orderBy          ORDER BY clause
+     * @param parameters       parameters of the WHERE clause
+     * @param exact            whether the WHERE clause alone decides which items match
+     * @param sortedInDatabase whether the ORDER BY clause yields the requested order
+     */
+    private record SearchQuery(String where, String orderBy, List<Object> parameters, boolean exact,
+                               boolean sortedInDatabase) {
+
+        /**
+         * Bind the WHERE clause parameters.
+         *
+         * @return index of the next parameter
+         */
+        int bind(PreparedStatement stmt) throws SQLException {
+            for (int i = 0; i < parameters.size(); i++) {
+                stmt.setObject(i + 1, parameters.get(i));
+            }
+            return parameters.size() + 1;
+        }
+
+    }
+
+    /**
+     * A matching item with its position in the scan, used to keep sorting stable.
+     */
+    private record RankedItem(StoreItem item, long sequence) {
+    }
+
     @Override
     public void clear() {
         String sql = "DELETE FROM " + tableName;
@@ -778,7 +1081,8 @@ public class DatabaseStore extends BaseStore {
                         + "pk_id BIGINT AUTO_INCREMENT PRIMARY KEY, "
                         + "id TEXT NOT NULL, "
                         + "id_hash CHAR(64) NOT NULL UNIQUE, "
-                        + "namespace TEXT, " + "key_name VARCHAR(500), " + "value_json TEXT, "
+                        // H2 1.x maps TEXT to CLOB, which cannot be indexed
+                        + "namespace VARCHAR(4000), " + "key_name VARCHAR(500), " + "value_json TEXT, "
                         + "created_at TIMESTAMP, " + "updated_at TIMESTAMP" + ")";
                 case OTHER -> throw new UnsupportedOperationException(
                         "Unsupported database dialect: " + dialect + ". Supported dialects: H2, MySQL, PostgreSQL, Oracle");
@@ -787,14 +1091,48 @@ public class DatabaseStore extends BaseStore {
             throw new RuntimeException("Failed to initialize table", e);
         }
 
-        if (!shouldCreate) {
-            return;
+        if (shouldCreate) {
+            try (Connection conn = dataSource.getConnection(); Statement stmt = conn.createStatement()) {
+                stmt.executeUpdate(sql);
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to initialize table", e);
+            }
         }
+        createSearchIndexes();
+    }
+
+    /**
+     * Create the indexes used by searches: the namespace column for prefix lookups and
+     * the timestamps for sorting. Existing tables get them on the next start.
+     */
+    private void createSearchIndexes() {
+        DatabaseDialect dialect = databaseDialect;
+        String namespaceColumn = switch (dialect) {
+            // MySQL indexes TEXT columns only by prefix
+            case MYSQL -> "namespace(255)";
+            // LIKE 'prefix%' only uses an index with pattern ops under non-C collations
+            case POSTGRESQL -> "namespace text_pattern_ops";
+            default -> "namespace";
+        };
+        // MySQL and Oracle have no CREATE INDEX IF NOT EXISTS, re-creating fails instead
+        String create = (dialect == DatabaseDialect.MYSQL || dialect == DatabaseDialect.ORACLE) ? "CREATE INDEX "
+                : "CREATE INDEX IF NOT EXISTS ";
+        List<String> statements = List.of(
+                create + tableName + "_ns_idx ON " + tableName + " (" + namespaceColumn + ")",
+                create + tableName + "_cat_idx ON " + tableName + " (created_at, pk_id)",
+                create + tableName + "_uat_idx ON " + tableName + " (updated_at, pk_id)");
 
         try (Connection conn = dataSource.getConnection(); Statement stmt = conn.createStatement()) {
-            stmt.executeUpdate(sql);
+            for (String statement : statements) {
+                try {
+                    stmt.executeUpdate(statement);
+                } catch (SQLException e) {
+                    // The index exists already or cannot be created, searches work without it
+                    log.debug("Skipped search index on {}: {}", tableName, e.getMessage());
+                }
+            }
         } catch (SQLException e) {
-            throw new RuntimeException("Failed to initialize table", e);
+            throw new RuntimeException("Failed to initialize table indexes", e);
         }
     }
 
@@ -851,33 +1189,6 @@ public class DatabaseStore extends BaseStore {
         }
     }
 
-    /**
-     * Get all items from database.
-     *
-     * @return list of all items
-     */
-    private List<StoreItem> getAllItems() {
-        List<StoreItem> items = new ArrayList<>();
-        String sql = "SELECT namespace, key_name, value_json, created_at, updated_at FROM " + tableName;
-
-        try (Connection conn = dataSource.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
-
-            while (rs.next()) {
-                try {
-                    items.add(resultSetToStoreItem(rs));
-                } catch (Exception e) {
-                    // Skip invalid items
-                }
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to retrieve all items from database", e);
-        }
-
-        return items;
-    }
-
     /**
      * Convert ResultSet to StoreItem.
      *
@@ -22,15 +22,21 @@ import com.alibaba.cloud.ai.graph.store.StoreSearchResult;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.io.IOException;
+import java.nio.channels.FileChannel;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -44,6 +50,15 @@ import java.util.stream.Collectors;
  * the hierarchical namespace organization. It's suitable for single-node deployments
  * where local file system persistence is sufficient.
  * </p>
+ * <p>
+ * Single and batch puts follow the same durability contract. Each item is written to a
+ * temporary file that is atomically renamed over the item file, so a crash never leaves
+ * a partially written item. File contents are not synced individually; instead every
+ * directory whose entries changed is synced once per call, which makes the renames of
+ * the whole call durable at the cost of one sync per directory rather than one per item.
+ * Whether the contents of a renamed file survive a power loss then depends on the file
+ * system's rename ordering guarantees (for example ext4's replace-via-rename handling).
+ * </p>
  *
  * @author Spring AI Alibaba
  * @since 1.0.0.3
@@ -81,11 +96,7 @@ public class FileSystemStore extends BaseStore {
 
 		lock.writeLock().lock();
 		try {
-			Path itemPath = createItemPath(item.getNamespace(), item.getKey());
-			ensureDirectoryExists(itemPath.getParent());
-
-			String itemJson = objectMapper.writeValueAsString(item);
-			Files.write(itemPath, itemJson.getBytes());
+			writeItems(List.of(item));
 		}
 		catch (Exception e) {
 			throw new RuntimeException("Failed to store item to file system", e);
@@ -141,6 +152,78 @@ public class FileSystemStore extends BaseStore {
 		}
 	}
 
+	/**
+	 * Writes the whole batch with one directory sync per affected directory instead of
+	 * one per item, see the class documentation for the durability contract.
+	 */
+	@Override
+	public void putItems(List<StoreItem> items) {
+		validatePutItems(items);
+
+		lock.writeLock().lock();
+		try {
+			writeItems(items);
+		}
+		catch (Exception e) {
+			throw new RuntimeException("Failed to store items to file system", e);
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public Map<String, StoreItem> getItems(List<String> namespace, List<String> keys) {
+		validateGetItems(namespace, keys);
+
+		lock.readLock().lock();
+		try {
+			Map<String, StoreItem> items = new LinkedHashMap<>();
+			for (String key : keys) {
+				Path itemPath = createItemPath(namespace, key);
+				if (Files.exists(itemPath)) {
+					items.put(key, objectMapper.readValue(Files.readString(itemPath), StoreItem.class));
+				}
+			}
+			return items;
+		}
+		catch (Exception e) {
+			throw new RuntimeException("Failed to retrieve items from file system", e);
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public int deleteItems(List<String> namespace, List<String> keys) {
+		validateDeleteItems(namespace, keys);
+
+		lock.writeLock().lock();
+		try {
+			int deleted = 0;
+			Path directory = null;
+			for (String key : keys) {
+				Path itemPath = createItemPath(namespace, key);
+				if (Files.deleteIfExists(itemPath)) {
+					directory = itemPath.getParent();
+					deleted++;
+				}
+			}
+			// all items share the namespace directory, cleaned up once
+			if (directory != null) {
+				cleanupEmptyDirectories(directory);
+			}
+			return deleted;
+		}
+		catch (Exception e) {
+			throw new RuntimeException("Failed to delete items from file system", e);
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+	}
+
 	@Override
 	public StoreSearchResult searchItems(StoreSearchRequest searchRequest) {
 		validateSearchItems(searchRequest);
@@ -277,12 +360,52 @@ public class FileSystemStore extends BaseStore {
 	}
 
 	/**
-	 * Ensure directory exists.
+	 * Write items through temporary files renamed over the item files, then sync each
+	 * directory whose entries changed once. Must be called with the write lock held.
+	 * @param items items to write
+	 */
+	private void writeItems(List<StoreItem> items) throws IOException {
+		Set<Path> directoriesToSync = new LinkedHashSet<>();
+		for (StoreItem item : items) {
+			Path itemPath = createItemPath(item.getNamespace(), item.getKey());
+			createDirectories(itemPath.getParent(), directoriesToSync);
+
+			Path tempPath = itemPath.resolveSibling(itemPath.getFileName() + ".tmp");
+			Files.write(tempPath, objectMapper.writeValueAsBytes(item));
+			Files.move(tempPath, itemPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			directoriesToSync.add(itemPath.getParent());
+		}
+		for (Path directory : directoriesToSync) {
+			syncDirectory(directory);
+		}
+	}
+
+	/**
+	 * Create a directory and its missing parents, collecting the directories whose
+	 * entries changed and must be synced.
 	 * @param directory directory to create
+	 * @param directoriesToSync directories to sync
 	 */
-	private void ensureDirectoryExists(Path directory) throws IOException {
-		if (!Files.exists(directory)) {
-			Files.createDirectories(directory);
+	private void createDirectories(Path directory, Set<Path> directoriesToSync) throws IOException {
+		Path missing = directory;
+		while (missing.getParent() != null && !Files.exists(missing)) {
+			directoriesToSync.add(missing.getParent());
+			missing = missing.getParent();
+		}
+		Files.createDirectories(directory);
+	}
+
+	/**
+	 * Sync a directory so that the files created or renamed in it survive a crash. Not
+	 * supported on every platform, e.g. Windows, where this is a no-op.
+	 * @param directory directory to sync
+	 */
+	private void syncDirectory(Path directory) {
+		try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+			channel.force(true);
+		}
+		catch (IOException e) {
+			// Directories cannot be opened for syncing on this platform
 		}
 	}
 
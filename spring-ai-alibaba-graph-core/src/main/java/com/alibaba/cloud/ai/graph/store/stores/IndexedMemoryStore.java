@@ -0,0 +1,469 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.graph.store.stores;
+
+import com.alibaba.cloud.ai.graph.store.NamespaceListRequest;
+import com.alibaba.cloud.ai.graph.store.StoreItem;
+import com.alibaba.cloud.ai.graph.store.StoreSearchRequest;
+import com.alibaba.cloud.ai.graph.store.StoreSearchResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory implementation of the Store interface with search indexes.
+ * <p>
+ * Returns the same results as {@link MemoryStore}, but searches only look at the items
+ * selected by the most selective of these indexes, all maintained on
+ * {@link #putItem(StoreItem)} and {@link #deleteItem(List, String)}:
+ * </p>
+ * <ul>
+ * <li>a namespace trie, which also answers {@link #listNamespaces} without scanning
+ * items;</li>
+ * <li>a trigram index over the lower-cased key and value text, so text queries of three
+ * characters or more only check items containing every trigram of the query;</li>
+ * <li>per-field indexes of the top-level values, for equality filters.</li>
+ * </ul>
+ * <p>
+ * Candidates are then checked against the full search criteria. Replaced and deleted
+ * items leave stale index entries behind, which are skipped and dropped by rebuilding the
+ * indexes once they outnumber the live items. Item values must not be modified after they
+ * are stored.
+ * </p>
+ * <p>
+ * <strong>Note:</strong> All data is lost when the application restarts.
+ * </p>
+ *
+ * @author Spring AI Alibaba
+ * @since 1.0.0.3
+ */
+public class IndexedMemoryStore extends BaseStore {
+
+	/**
+	 * Rebuilds never run for fewer stale entries than this.
+	 */
+	private static final int MIN_STALE_ENTRIES_FOR_REBUILD = 1024;
+
+	private static final char TEXT_SEPARATOR = '\u0000';
+
+	/**
+	 * Items by ordinal, {@code null} once replaced or deleted.
+	 */
+	private final List<StoreItem> entries = new ArrayList<>();
+
+	private final NamespaceNode root = new NamespaceNode();
+
+	private final Map<Long, OrdinalList> trigramIndex = new HashMap<>();
+
+	private final Map<String, Map<Object, OrdinalList>> fieldIndex = new HashMap<>();
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private int staleEntries;
+
+	@Override
+	public void putItem(StoreItem item) {
+		validatePutItem(item);
+
+		lock.writeLock().lock();
+		try {
+			index(item);
+			rebuildIfStale();
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public Optional<StoreItem> getItem(List<String> namespace, String key) {
+		validateGetItem(namespace, key);
+
+		lock.readLock().lock();
+		try {
+			NamespaceNode node = root.find(namespace);
+			Integer ordinal = node != null ? node.items.get(key) : null;
+			return Optional.ofNullable(ordinal != null ? entries.get(ordinal) : null);
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public boolean deleteItem(List<String> namespace, String key) {
+		validateDeleteItem(namespace, key);
+
+		lock.writeLock().lock();
+		try {
+			Integer ordinal = root.remove(namespace, 0, key);
+			if (ordinal == null) {
+				return false;
+			}
+			entries.set(ordinal, null);
+			staleEntries++;
+			rebuildIfStale();
+			return true;
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public StoreSearchResult searchItems(StoreSearchRequest searchRequest) {
+		validateSearchItems(searchRequest);
+
+		lock.readLock().lock();
+		try {
+			List<StoreItem> filteredItems = new ArrayList<>();
+			for (StoreItem item : candidates(searchRequest)) {
+				if (matchesSearchCriteria(item, searchRequest)) {
+					filteredItems.add(item);
+				}
+			}
+
+			// Sort items
+			if (!searchRequest.getSortFields().isEmpty()) {
+				filteredItems.sort(createComparator(searchRequest));
+			}
+
+			long totalCount = filteredItems.size();
+
+			// Apply pagination
+			int offset = searchRequest.getOffset();
+			int limit = searchRequest.getLimit();
+
+			if (offset >= filteredItems.size()) {
+				return StoreSearchResult.of(Collections.emptyList(), totalCount, offset, limit);
+			}
+
+			int endIndex = Math.min(offset + limit, filteredItems.size());
+			return StoreSearchResult.of(filteredItems.subList(offset, endIndex), totalCount, offset, limit);
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public List<String> listNamespaces(NamespaceListRequest namespaceRequest) {
+		validateListNamespaces(namespaceRequest);
+
+		lock.readLock().lock();
+		try {
+			List<String> prefixFilter = namespaceRequest.getNamespace();
+			int maxDepth = namespaceRequest.getMaxDepth() == -1 ? Integer.MAX_VALUE : namespaceRequest.getMaxDepth();
+			// a set, as namespace parts may themselves contain '/'
+			Set<String> namespaceSet = new HashSet<>();
+
+			NamespaceNode node = root.find(prefixFilter);
+			if (node != null && node.size > 0) {
+				// the prefix itself and its ancestors, then every namespace below it
+				for (int i = 1; i <= Math.min(maxDepth, prefixFilter.size()); i++) {
+					namespaceSet.add(String.join("/", prefixFilter.subList(0, i)));
+				}
+				node.collectPaths(String.join("/", prefixFilter), prefixFilter.size(), maxDepth, namespaceSet);
+			}
+
+			List<String> namespaces = new ArrayList<>(namespaceSet);
+			Collections.sort(namespaces);
+
+			// Apply pagination
+			int offset = namespaceRequest.getOffset();
+			int limit = namespaceRequest.getLimit();
+
+			if (offset >= namespaces.size()) {
+				return Collections.emptyList();
+			}
+
+			int endIndex = Math.min(offset + limit, namespaces.size());
+			return namespaces.subList(offset, endIndex);
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public void clear() {
+		lock.writeLock().lock();
+		try {
+			clearIndexes();
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public long size() {
+		lock.readLock().lock();
+		try {
+			return root.size;
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * Returns the live items of the smallest index selection among the namespace, the
+	 * text query and the filters, or all items when the request has no criteria.
+	 */
+	private List<StoreItem> candidates(StoreSearchRequest searchRequest) {
+		NamespaceNode namespaceNode = null;
+		OrdinalList smallest = null;
+
+		if (!searchRequest.getNamespace().isEmpty()) {
+			namespaceNode = root.find(searchRequest.getNamespace());
+			if (namespaceNode == null) {
+				return Collections.emptyList();
+			}
+		}
+
+		String query = searchRequest.getQuery();
+		if (query != null && !query.trim().isEmpty()) {
+			long[] trigrams = trigrams(query.toLowerCase());
+			for (long trigram : trigrams) {
+				OrdinalList ordinals = trigramIndex.get(trigram);
+				if (ordinals == null) {
+					return Collections.emptyList();
+				}
+				smallest = smaller(smallest, ordinals);
+			}
+		}
+
+		for (Map.Entry<String, Object> filter : searchRequest.getFilter().entrySet()) {
+			// a null filter also matches items without the field, which are not indexed
+			if (filter.getValue() != null) {
+				Map<Object, OrdinalList> values = fieldIndex.get(filter.getKey());
+				OrdinalList ordinals = values != null ? values.get(filter.getValue()) : null;
+				if (ordinals == null) {
+					return Collections.emptyList();
+				}
+				smallest = smaller(smallest, ordinals);
+			}
+		}
+
+		List<StoreItem> candidates = new ArrayList<>();
+		if (smallest != null && (namespaceNode == null || smallest.size < namespaceNode.size)) {
+			for (int i = 0; i < smallest.size; i++) {
+				StoreItem item = entries.get(smallest.ordinals[i]);
+				if (item != null) {
+					candidates.add(item);
+				}
+			}
+		}
+		else {
+			(namespaceNode != null ? namespaceNode : root).collectItems(entries, candidates);
+		}
+		return candidates;
+	}
+
+	private static OrdinalList smaller(OrdinalList current, OrdinalList candidate) {
+		return current == null || candidate.size < current.size ? candidate : current;
+	}
+
+	private void index(StoreItem item) {
+		int ordinal = entries.size();
+		entries.add(item);
+		Integer replaced = root.put(item.getNamespace(), 0, item.getKey(), ordinal);
+		if (replaced != null) {
+			entries.set(replaced, null);
+			staleEntries++;
+		}
+
+		String lowerKey = item.getKey().toLowerCase();
+		String lowerValue = item.getValue().toString().toLowerCase();
+		for (long trigram : trigrams(lowerKey + TEXT_SEPARATOR + lowerValue)) {
+			trigramIndex.computeIfAbsent(trigram, k -> new OrdinalList()).add(ordinal);
+		}
+
+		for (Map.Entry<String, Object> field : item.getValue().entrySet()) {
+			if (field.getValue() != null) {
+				fieldIndex.computeIfAbsent(field.getKey(), k -> new HashMap<>())
+					.computeIfAbsent(field.getValue(), k -> new OrdinalList())
+					.add(ordinal);
+			}
+		}
+	}
+
+	private void rebuildIfStale() {
+		if (staleEntries < MIN_STALE_ENTRIES_FOR_REBUILD || staleEntries < root.size) {
+			return;
+		}
+		List<StoreItem> live = new ArrayList<>(root.size);
+		for (StoreItem item : entries) {
+			if (item != null) {
+				live.add(item);
+			}
+		}
+		clearIndexes();
+		live.forEach(this::index);
+	}
+
+	private void clearIndexes() {
+		entries.clear();
+		root.children.clear();
+		root.items.clear();
+		root.size = 0;
+		trigramIndex.clear();
+		fieldIndex.clear();
+		staleEntries = 0;
+	}
+
+	/**
+	 * Distinct trigrams of a text, each packed into a long.
+	 */
+	private static long[] trigrams(String text) {
+		if (text.length() < 3) {
+			return new long[0];
+		}
+		long[] trigrams = new long[text.length() - 2];
+		for (int i = 0; i < trigrams.length; i++) {
+			trigrams[i] = ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+		}
+		Arrays.sort(trigrams);
+		int distinct = 0;
+		for (int i = 0; i < trigrams.length; i++) {
+			if (i == 0 || trigrams[i] != trigrams[i - 1]) {
+				trigrams[distinct++] = trigrams[i];
+			}
+		}
+		return Arrays.copyOf(trigrams, distinct);
+	}
+
+	/**
+	 * Growable list of item ordinals, in insertion order.
+	 */
+	private static final class OrdinalList {
+
+		private int[] ordinals = new int[4];
+
+		private int size;
+
+		void add(int ordinal) {
+			if (size == ordinals.length) {
+				ordinals = Arrays.copyOf(ordinals, size << 1);
+			}
+			ordinals[size++] = ordinal;
+		}
+
+	}
+
+	/**
+	 * Node of the namespace trie, holding the items of one namespace and the number of
+	 * items in its subtree.
+	 */
+	private static final class NamespaceNode {
+
+		private final Map<String, NamespaceNode> children = new HashMap<>();
+
+		private final Map<String, Integer> items = new HashMap<>();
+
+		private int size;
+
+		NamespaceNode find(List<String> namespace) {
+			NamespaceNode node = this;
+			for (String part : namespace) {
+				node = node.children.get(part);
+				if (node == null) {
+					return null;
+				}
+			}
+			return node;
+		}
+
+		/**
+		 * Stores an item ordinal, returning the ordinal it replaces if any.
+		 */
+		Integer put(List<String> namespace, int depth, String key, int ordinal) {
+			Integer replaced;
+			if (depth == namespace.size()) {
+				replaced = items.put(key, ordinal);
+			}
+			else {
+				replaced = children.computeIfAbsent(namespace.get(depth), k -> new NamespaceNode())
+					.put(namespace, depth + 1, key, ordinal);
+			}
+			if (replaced == null) {
+				size++;
+			}
+			return replaced;
+		}
+
+		/**
+		 * Removes an item, pruning emptied nodes, and returns its ordinal if it existed.
+		 */
+		Integer remove(List<String> namespace, int depth, String key) {
+			Integer removed;
+			if (depth == namespace.size()) {
+				removed = items.remove(key);
+			}
+			else {
+				NamespaceNode child = children.get(namespace.get(depth));
+				if (child == null) {
+					return null;
+				}
+				removed = child.remove(namespace, depth + 1, key);
+				if (child.size == 0) {
+					children.remove(namespace.get(depth));
+				}
+			}
+			if (removed != null) {
+				size--;
+			}
+			return removed;
+		}
+
+		void collectItems(List<StoreItem> entries, List<StoreItem> result) {
+			for (Integer ordinal : items.values()) {
+				result.add(entries.get(ordinal));
+			}
+			for (NamespaceNode child : children.values()) {
+				child.collectItems(entries, result);
+			}
+		}
+
+		void collectPaths(String path, int depth, int maxDepth, Set<String> result) {
+			if (depth >= maxDepth) {
+				return;
+			}
+			for (Map.Entry<String, NamespaceNode> child : children.entrySet()) {
+				String childPath = depth == 0 ? child.getKey() : path + "/" + child.getKey();
+				result.add(childPath);
+				child.getValue().collectPaths(childPath, depth + 1, maxDepth, result);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,388 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.graph.store.stores;
+
+import com.alibaba.cloud.ai.graph.store.NamespaceListRequest;
+import com.alibaba.cloud.ai.graph.store.StoreItem;
+import com.alibaba.cloud.ai.graph.store.StoreSearchRequest;
+import com.alibaba.cloud.ai.graph.store.StoreSearchResult;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.Sorts;
+import org.bson.BsonType;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+/**
+ * Stores {@link MongoStore} items in a MongoDB collection and evaluates searches on the
+ * server.
+ * <p>
+ * Besides the item fields, each document carries fields that make searches indexable:
+ * {@code namespacePrefixes} holds every prefix of the namespace, so a namespace prefix
+ * filter is an equality match on a multikey index, {@code namespacePath} orders
+ * namespaces like the in-memory stores, and {@code searchText} holds the lower-cased key
+ * and value text matched by the text query. Values are converted to plain maps, lists and
+ * scalars with Jackson before they are stored, so that values holding POJOs can be
+ * encoded.
+ * </p>
+ * <p>
+ * Value filters keep the exact {@link Objects#equals} semantics of the other stores. A
+ * filter on a string, boolean, int, long, double or null value is pushed down with a type
+ * check, since a plain MongoDB equality would also match array elements and numbers of
+ * other types. Filters on other values, and on keys that MongoDB would read as a path
+ * (containing {@code .} or starting with {@code $}), are evaluated on the items returned
+ * by the pushed-down part of the query.
+ * </p>
+ * <p>
+ * Kept apart from {@link MongoStore} so that the in-memory store works without the
+ * MongoDB driver on the classpath.
+ * </p>
+ */
+final class MongoDocumentCollection {
+
+	static final String FIELD_ID = "_id";
+
+	static final String FIELD_NAMESPACE = "namespace";
+
+	static final String FIELD_NAMESPACE_PREFIXES = "namespacePrefixes";
+
+	static final String FIELD_NAMESPACE_PATH = "namespacePath";
+
+	static final String FIELD_KEY = "key";
+
+	static final String FIELD_VALUE = "value";
+
+	static final String FIELD_CREATED_AT = "createdAt";
+
+	static final String FIELD_UPDATED_AT = "updatedAt";
+
+	static final String FIELD_SEARCH_TEXT = "searchText";
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().findAndRegisterModules();
+
+	private static final TypeReference<List<String>> NAMESPACE_TYPE = new TypeReference<>() {
+	};
+
+	private static final TypeReference<Map<String, Object>> VALUE_TYPE = new TypeReference<>() {
+	};
+
+	private final MongoCollection<Document> collection;
+
+	MongoDocumentCollection(MongoCollection<Document> collection) {
+		this.collection = collection;
+		collection.createIndex(Indexes.ascending(FIELD_NAMESPACE_PREFIXES, FIELD_CREATED_AT),
+				new IndexOptions().name("namespace_prefix_created_at"));
+		collection.createIndex(Indexes.ascending(FIELD_NAMESPACE_PREFIXES, FIELD_UPDATED_AT),
+				new IndexOptions().name("namespace_prefix_updated_at"));
+	}
+
+	void put(String documentId, StoreItem item) {
+		collection.replaceOne(Filters.eq(FIELD_ID, documentId), toDocument(documentId, item),
+				new ReplaceOptions().upsert(true));
+	}
+
+	Optional<StoreItem> get(String documentId) {
+		return Optional.ofNullable(collection.find(Filters.eq(FIELD_ID, documentId)).first())
+			.map(MongoDocumentCollection::toStoreItem);
+	}
+
+	boolean delete(String documentId) {
+		return collection.deleteOne(Filters.eq(FIELD_ID, documentId)).getDeletedCount() > 0;
+	}
+
+	void putAll(Map<String, StoreItem> itemsByDocumentId) {
+		if (itemsByDocumentId.isEmpty()) {
+			return;
+		}
+		List<ReplaceOneModel<Document>> writes = new ArrayList<>(itemsByDocumentId.size());
+		ReplaceOptions upsert = new ReplaceOptions().upsert(true);
+		itemsByDocumentId.forEach((documentId, item) -> writes
+			.add(new ReplaceOneModel<>(Filters.eq(FIELD_ID, documentId), toDocument(documentId, item), upsert)));
+		collection.bulkWrite(writes);
+	}
+
+	List<StoreItem> getAll(List<String> documentIds) {
+		List<StoreItem> items = new ArrayList<>(documentIds.size());
+		if (!documentIds.isEmpty()) {
+			for (Document document : collection.find(Filters.in(FIELD_ID, documentIds))) {
+				items.add(toStoreItem(document));
+			}
+		}
+		return items;
+	}
+
+	long deleteAll(List<String> documentIds) {
+		if (documentIds.isEmpty()) {
+			return 0;
+		}
+		return collection.deleteMany(Filters.in(FIELD_ID, documentIds)).getDeletedCount();
+	}
+
+	StoreSearchResult search(StoreSearchRequest searchRequest) {
+		int offset = searchRequest.getOffset();
+		int limit = searchRequest.getLimit();
+		Bson filter = searchFilter(searchRequest);
+		Map<String, Object> residualFilters = residualFilters(searchRequest);
+		if (!residualFilters.isEmpty()) {
+			return searchWithResidualFilters(filter, residualFilters, searchRequest);
+		}
+
+		long totalCount = collection.countDocuments(filter);
+		if (offset >= totalCount) {
+			return StoreSearchResult.of(Collections.emptyList(), totalCount, offset, limit);
+		}
+		List<StoreItem> items = new ArrayList<>();
+		for (Document document : collection.find(filter).sort(searchSort(searchRequest)).skip(offset).limit(limit)) {
+			items.add(toStoreItem(document));
+		}
+		return StoreSearchResult.of(items, totalCount, offset, limit);
+	}
+
+	/**
+	 * Runs the pushed-down part of a search, then applies the filters that could not be
+	 * pushed down and pages the result on the client.
+	 */
+	private StoreSearchResult searchWithResidualFilters(Bson filter, Map<String, Object> residualFilters,
+			StoreSearchRequest searchRequest) {
+		int offset = searchRequest.getOffset();
+		int limit = searchRequest.getLimit();
+		List<StoreItem> matched = new ArrayList<>();
+		for (Document document : collection.find(filter).sort(searchSort(searchRequest))) {
+			StoreItem item = toStoreItem(document);
+			if (matchesFilters(item, residualFilters)) {
+				matched.add(item);
+			}
+		}
+		if (offset >= matched.size()) {
+			return StoreSearchResult.of(Collections.emptyList(), matched.size(), offset, limit);
+		}
+		return StoreSearchResult.of(matched.subList(offset, Math.min(offset + limit, matched.size())),
+				matched.size(), offset, limit);
+	}
+
+	List<String> listNamespaces(NamespaceListRequest namespaceRequest) {
+		List<String> prefixFilter = namespaceRequest.getNamespace();
+		Bson filter = prefixFilter.isEmpty() ? Filters.empty()
+				: Filters.eq(FIELD_NAMESPACE_PREFIXES, namespacePrefix(prefixFilter));
+		int maxDepth = namespaceRequest.getMaxDepth();
+
+		List<String> namespaces = new ArrayList<>();
+		// every prefix of every matching namespace, which is what the namespace listing is made of
+		for (String prefix : collection.distinct(FIELD_NAMESPACE_PREFIXES, filter, String.class)) {
+			List<String> namespace = readNamespacePrefix(prefix);
+			if (maxDepth == -1 || namespace.size() <= maxDepth) {
+				namespaces.add(String.join("/", namespace));
+			}
+		}
+		Collections.sort(namespaces);
+
+		int offset = namespaceRequest.getOffset();
+		if (offset >= namespaces.size()) {
+			return Collections.emptyList();
+		}
+		return namespaces.subList(offset, Math.min(offset + namespaceRequest.getLimit(), namespaces.size()));
+	}
+
+	void clear() {
+		collection.deleteMany(Filters.empty());
+	}
+
+	long size() {
+		return collection.countDocuments();
+	}
+
+	/**
+	 * Compile the criteria of a search request into a MongoDB filter.
+	 * @param searchRequest search request
+	 * @return filter document
+	 */
+	static Bson searchFilter(StoreSearchRequest searchRequest) {
+		List<Bson> filters = new ArrayList<>();
+		if (!searchRequest.getNamespace().isEmpty()) {
+			filters.add(Filters.eq(FIELD_NAMESPACE_PREFIXES, namespacePrefix(searchRequest.getNamespace())));
+		}
+		String query = searchRequest.getQuery();
+		if (query != null && !query.trim().isEmpty()) {
+			filters.add(Filters.regex(FIELD_SEARCH_TEXT, Pattern.quote(query.toLowerCase())));
+		}
+		for (Map.Entry<String, Object> filter : searchRequest.getFilter().entrySet()) {
+			Bson valueFilter = valueFilter(filter.getKey(), filter.getValue());
+			if (valueFilter != null) {
+				filters.add(valueFilter);
+			}
+		}
+		if (filters.isEmpty()) {
+			return Filters.empty();
+		}
+		return filters.size() == 1 ? filters.get(0) : Filters.and(filters);
+	}
+
+	/**
+	 * Returns the value filters of a search request that {@link #searchFilter} cannot
+	 * push down.
+	 * @param searchRequest search request
+	 * @return the filters to apply to the returned items
+	 */
+	static Map<String, Object> residualFilters(StoreSearchRequest searchRequest) {
+		Map<String, Object> residual = new LinkedHashMap<>();
+		searchRequest.getFilter().forEach((key, value) -> {
+			if (valueFilter(key, value) == null) {
+				residual.put(key, value);
+			}
+		});
+		return residual;
+	}
+
+	/**
+	 * Compile one value filter into an exact match: the field must not be an array and,
+	 * for numbers, must have the BSON type the value is stored with.
+	 * @return the filter, or {@code null} if it cannot be pushed down
+	 */
+	private static Bson valueFilter(String key, Object value) {
+		if (key.contains(".") || key.startsWith("$")) {
+			return null;
+		}
+		String field = FIELD_VALUE + "." + key;
+		BsonType type;
+		if (value == null || value instanceof String || value instanceof Boolean) {
+			type = null;
+		}
+		else if (value instanceof Integer) {
+			type = BsonType.INT32;
+		}
+		else if (value instanceof Long) {
+			type = BsonType.INT64;
+		}
+		else if (value instanceof Double) {
+			type = BsonType.DOUBLE;
+		}
+		else {
+			return null;
+		}
+		Bson notArray = Filters.not(Filters.type(field, BsonType.ARRAY));
+		return type == null ? Filters.and(Filters.eq(field, value), notArray)
+				: Filters.and(Filters.eq(field, value), Filters.type(field, type), notArray);
+	}
+
+	private static boolean matchesFilters(StoreItem item, Map<String, Object> filters) {
+		for (Map.Entry<String, Object> filter : filters.entrySet()) {
+			if (!Objects.equals(item.getValue().get(filter.getKey()), filter.getValue())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Compile the sort fields of a search request into a MongoDB sort, with the document
+	 * id as tiebreak so that pages do not overlap.
+	 * @param searchRequest search request
+	 * @return sort document
+	 */
+	static Bson searchSort(StoreSearchRequest searchRequest) {
+		List<String> fields = new ArrayList<>();
+		for (String field : searchRequest.getSortFields()) {
+			fields.add(switch (field) {
+				case "createdAt" -> FIELD_CREATED_AT;
+				case "updatedAt" -> FIELD_UPDATED_AT;
+				case "key" -> FIELD_KEY;
+				case "namespace" -> FIELD_NAMESPACE_PATH;
+				default -> FIELD_VALUE + "." + field;
+			});
+		}
+		Bson order = searchRequest.isAscending() ? Sorts.ascending(fields) : Sorts.descending(fields);
+		return fields.isEmpty() ? Sorts.ascending(FIELD_ID) : Sorts.orderBy(order, Sorts.ascending(FIELD_ID));
+	}
+
+	static Document toDocument(String documentId, StoreItem item) {
+		List<String> namespace = item.getNamespace();
+		Map<String, Object> value = OBJECT_MAPPER.convertValue(item.getValue(), VALUE_TYPE);
+		List<String> prefixes = new ArrayList<>(namespace.size());
+		for (int i = 1; i <= namespace.size(); i++) {
+			prefixes.add(namespacePrefix(namespace.subList(0, i)));
+		}
+		return new Document(FIELD_ID, documentId).append(FIELD_NAMESPACE, namespace)
+			.append(FIELD_NAMESPACE_PREFIXES, prefixes)
+			.append(FIELD_NAMESPACE_PATH, String.join("/", namespace))
+			.append(FIELD_KEY, item.getKey())
+			.append(FIELD_VALUE, value)
+			.append(FIELD_CREATED_AT, item.getCreatedAt())
+			.append(FIELD_UPDATED_AT, item.getUpdatedAt())
+			// the same text the in-memory stores match the query against
+			.append(FIELD_SEARCH_TEXT, (item.getKey() + "\n" + value).toLowerCase());
+	}
+
+	@SuppressWarnings("unchecked")
+	static StoreItem toStoreItem(Document document) {
+		List<String> namespace = new ArrayList<>(document.getList(FIELD_NAMESPACE, String.class));
+		Map<String, Object> value = (Map<String, Object>) toPlainValue(document.get(FIELD_VALUE));
+		return new StoreItem(namespace, document.getString(FIELD_KEY), value,
+				((Number) document.get(FIELD_CREATED_AT)).longValue(),
+				((Number) document.get(FIELD_UPDATED_AT)).longValue());
+	}
+
+	private static Object toPlainValue(Object value) {
+		if (value instanceof Map<?, ?> document) {
+			Map<String, Object> map = new LinkedHashMap<>();
+			document.forEach((key, nested) -> map.put(String.valueOf(key), toPlainValue(nested)));
+			return map;
+		}
+		if (value instanceof List<?> list) {
+			List<Object> plain = new ArrayList<>(list.size());
+			list.forEach(nested -> plain.add(toPlainValue(nested)));
+			return plain;
+		}
+		return value;
+	}
+
+	/**
+	 * Encode a namespace prefix unambiguously, whatever characters its parts contain.
+	 */
+	private static String namespacePrefix(List<String> namespace) {
+		try {
+			return OBJECT_MAPPER.writeValueAsString(namespace);
+		}
+		catch (Exception e) {
+			throw new IllegalArgumentException("Failed to encode namespace " + namespace, e);
+		}
+	}
+
+	private static List<String> readNamespacePrefix(String prefix) {
+		try {
+			return OBJECT_MAPPER.readValue(prefix, NAMESPACE_TYPE);
+		}
+		catch (Exception e) {
+			throw new IllegalStateException("Failed to decode namespace prefix " + prefix, e);
+		}
+	}
+
+}
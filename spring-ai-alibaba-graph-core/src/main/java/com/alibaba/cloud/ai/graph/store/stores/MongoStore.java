@@ -25,6 +25,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -33,12 +34,21 @@ import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
 
+import com.mongodb.client.MongoCollection;
+import org.bson.Document;
+
 /**
- * MongoDB-like implementation of the Store interface using in-memory storage.
+ * MongoDB implementation of the Store interface.
+ * <p>
+ * Created with a {@link MongoCollection}, items are stored as documents and searches run
+ * on the server: the namespace prefix, text query and value filters are compiled into a
+ * query filter backed by a namespace index, sorting and pagination into sort, skip and
+ * limit, and totals come from {@code countDocuments}. Value filters follow MongoDB
+ * equality, e.g. numbers of different types compare by value.
+ * </p>
  * <p>
- * This implementation simulates MongoDB behavior using a ConcurrentHashMap for
- * environments where actual MongoDB dependencies are not available. For production use
- * with actual MongoDB, replace this with a proper MongoDB client implementation.
+ * Created without a collection, this implementation simulates MongoDB behavior using an
+ * in-memory map for environments where actual MongoDB dependencies are not available.
  * </p>
  *
  * @author Spring AI Alibaba
@@ -54,6 +64,8 @@ public class MongoStore extends BaseStore {
 
 	private final String collectionName;
 
+	private final MongoDocumentCollection documents;
+
 	/**
 	 * Constructor with default collection name.
 	 */
@@ -70,11 +82,32 @@ public class MongoStore extends BaseStore {
 		this.collectionName = collectionName;
 		this.objectMapper = new ObjectMapper();
 		this.objectMapper.findAndRegisterModules();
+		this.documents = null;
+	}
+
+	/**
+	 * Constructor storing items in a MongoDB collection. The indexes used by searches are
+	 * created if missing.
+	 * @param collection MongoDB collection
+	 */
+	public MongoStore(MongoCollection<Document> collection) {
+		if (collection == null) {
+			throw new IllegalArgumentException("collection cannot be null");
+		}
+		this.mongoLikeCollection = Collections.emptyMap();
+		this.collectionName = collection.getNamespace().getCollectionName();
+		this.objectMapper = new ObjectMapper();
+		this.objectMapper.findAndRegisterModules();
+		this.documents = new MongoDocumentCollection(collection);
 	}
 
 	@Override
 	public void putItem(StoreItem item) {
 		validatePutItem(item);
+		if (documents != null) {
+			documents.put(createDocumentId(item.getNamespace(), item.getKey()), item);
+			return;
+		}
 
 		lock.writeLock().lock();
 		try {
@@ -101,6 +134,9 @@ public class MongoStore extends BaseStore {
 	@Override
 	public Optional<StoreItem> getItem(List<String> namespace, String key) {
 		validateGetItem(namespace, key);
+		if (documents != null) {
+			return documents.get(createDocumentId(namespace, key));
+		}
 
 		lock.readLock().lock();
 		try {
@@ -124,6 +160,9 @@ public class MongoStore extends BaseStore {
 	@Override
 	public boolean deleteItem(List<String> namespace, String key) {
 		validateDeleteItem(namespace, key);
+		if (documents != null) {
+			return documents.delete(createDocumentId(namespace, key));
+		}
 
 		lock.writeLock().lock();
 		try {
@@ -138,9 +177,67 @@ public class MongoStore extends BaseStore {
 		}
 	}
 
+	/**
+	 * Writes all items with one {@code bulkWrite} when backed by a collection.
+	 */
+	@Override
+	public void putItems(List<StoreItem> items) {
+		if (documents == null) {
+			super.putItems(items);
+			return;
+		}
+		validatePutItems(items);
+		Map<String, StoreItem> byDocumentId = new LinkedHashMap<>();
+		for (StoreItem item : items) {
+			byDocumentId.put(createDocumentId(item.getNamespace(), item.getKey()), item);
+		}
+		documents.putAll(byDocumentId);
+	}
+
+	/**
+	 * Reads all items with one {@code $in} query when backed by a collection.
+	 */
+	@Override
+	public Map<String, StoreItem> getItems(List<String> namespace, List<String> keys) {
+		if (documents == null) {
+			return super.getItems(namespace, keys);
+		}
+		validateGetItems(namespace, keys);
+		Map<String, StoreItem> found = new HashMap<>();
+		for (StoreItem item : documents.getAll(documentIds(namespace, keys))) {
+			found.put(item.getKey(), item);
+		}
+		Map<String, StoreItem> items = new LinkedHashMap<>();
+		for (String key : keys) {
+			if (found.containsKey(key)) {
+				items.put(key, found.get(key));
+			}
+		}
+		return items;
+	}
+
+	/**
+	 * Deletes all items with one {@code deleteMany} when backed by a collection.
+	 */
+	@Override
+	public int deleteItems(List<String> namespace, List<String> keys) {
+		if (documents == null) {
+			return super.deleteItems(namespace, keys);
+		}
+		validateDeleteItems(namespace, keys);
+		return (int) documents.deleteAll(documentIds(namespace, keys));
+	}
+
+	private List<String> documentIds(List<String> namespace, List<String> keys) {
+		return keys.stream().distinct().map(key -> createDocumentId(namespace, key)).toList();
+	}
+
 	@Override
 	public StoreSearchResult searchItems(StoreSearchRequest searchRequest) {
 		validateSearchItems(searchRequest);
+		if (documents != null) {
+			return documents.search(searchRequest);
+		}
 
 		lock.readLock().lock();
 		try {
@@ -179,6 +276,9 @@ public class MongoStore extends BaseStore {
 	@Override
 	public List<String> listNamespaces(NamespaceListRequest namespaceRequest) {
 		validateListNamespaces(namespaceRequest);
+		if (documents != null) {
+			return documents.listNamespaces(namespaceRequest);
+		}
 
 		lock.readLock().lock();
 		try {
@@ -226,6 +326,10 @@ public class MongoStore extends BaseStore {
 
 	@Override
 	public void clear() {
+		if (documents != null) {
+			documents.clear();
+			return;
+		}
 		lock.writeLock().lock();
 		try {
 			mongoLikeCollection.clear();
@@ -237,6 +341,9 @@ public class MongoStore extends BaseStore {
 
 	@Override
 	public long size() {
+		if (documents != null) {
+			return documents.size();
+		}
 		lock.readLock().lock();
 		try {
 			return mongoLikeCollection.size();
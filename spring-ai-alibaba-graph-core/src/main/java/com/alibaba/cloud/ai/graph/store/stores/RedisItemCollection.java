@@ -0,0 +1,360 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.graph.store.stores;
+
+import com.alibaba.cloud.ai.graph.store.StoreItem;
+import com.alibaba.cloud.ai.graph.store.StoreSearchRequest;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.redisson.api.BatchResult;
+import org.redisson.api.RBatch;
+import org.redisson.api.RMapAsync;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+/**
+ * Stores {@link RedisStore} items in Redis through Redisson.
+ * <p>
+ * Each item is a hash holding its namespace, key, value JSON and timestamps. Set indexes
+ * are maintained next to the items: one set of item ids per namespace prefix, one per
+ * scalar top-level value field and value for equality filters, and a registry of the
+ * non-empty namespace sets that {@link #listNamespaces()} reads. Each item also records
+ * the index sets it belongs to, so that puts and deletes update all of them atomically
+ * in a Lua script.
+ * </p>
+ * <p>
+ * All keys start with the store key prefix. On Redis Cluster, include a hash tag in the
+ * prefix, e.g. {@code store:{agents}:}, so that the scripts find all keys in one slot.
+ * Kept apart from {@link RedisStore} so that the in-memory store works without Redisson on
+ * the classpath.
+ * </p>
+ */
+final class RedisItemCollection {
+
+	static final String FIELD_NAMESPACE = "namespace";
+
+	static final String FIELD_KEY = "key";
+
+	static final String FIELD_VALUE = "value";
+
+	static final String FIELD_CREATED_AT = "createdAt";
+
+	static final String FIELD_UPDATED_AT = "updatedAt";
+
+	/**
+	 * Number of items read or written per pipelined batch.
+	 */
+	private static final int BATCH_SIZE = 500;
+
+	/**
+	 * Drops an item from the index sets it was recorded in, unregistering namespace sets
+	 * that become empty. Expects the item index set in {@code KEYS[2]}, the namespace
+	 * registry in {@code KEYS[4]} and the item id in {@code ARGV[1]}.
+	 */
+	private static final String UNINDEX = """
+			for _, index in ipairs(redis.call('SMEMBERS', KEYS[2])) do
+			  redis.call('SREM', index, ARGV[1])
+			  if redis.call('SCARD', index) == 0 then
+			    redis.call('SREM', KEYS[4], index)
+			  end
+			end
+			redis.call('DEL', KEYS[2])
+			""";
+
+	/**
+	 * Stores an item and replaces its index entries.
+	 * KEYS: item hash, item index set, item id set, namespace registry. ARGV: item id,
+	 * namespace, key, value, created at, updated at, number of namespace sets, then the
+	 * namespace sets followed by the field sets.
+	 */
+	private static final String PUT_SCRIPT = UNINDEX + """
+			redis.call('HSET', KEYS[1], 'namespace', ARGV[2], 'key', ARGV[3], 'value', ARGV[4],
+			  'createdAt', ARGV[5], 'updatedAt', ARGV[6])
+			redis.call('SADD', KEYS[3], ARGV[1])
+			local namespaces = tonumber(ARGV[7])
+			for i = 8, #ARGV do
+			  redis.call('SADD', ARGV[i], ARGV[1])
+			  redis.call('SADD', KEYS[2], ARGV[i])
+			  if i - 7 <= namespaces then
+			    redis.call('SADD', KEYS[4], ARGV[i])
+			  end
+			end
+			return 1
+			""";
+
+	/**
+	 * Deletes an item and its index entries.
+	 * KEYS: item hash, item index set, item id set, namespace registry. ARGV: item id.
+	 * Returns 0 when the item does not exist.
+	 */
+	private static final String DELETE_SCRIPT = """
+			if redis.call('DEL', KEYS[1]) == 0 then
+			  return 0
+			end
+			""" + UNINDEX + """
+			redis.call('SREM', KEYS[3], ARGV[1])
+			return 1
+			""";
+
+	private static final TypeReference<List<String>> NAMESPACE_TYPE = new TypeReference<>() {
+	};
+
+	private static final TypeReference<Map<String, Object>> VALUE_TYPE = new TypeReference<>() {
+	};
+
+	private final RedissonClient redisson;
+
+	private final ObjectMapper objectMapper;
+
+	private final String keyPrefix;
+
+	RedisItemCollection(RedissonClient redisson, ObjectMapper objectMapper, String keyPrefix) {
+		this.redisson = redisson;
+		this.objectMapper = objectMapper;
+		this.keyPrefix = keyPrefix;
+	}
+
+	void put(String itemId, StoreItem item) {
+		eval(itemId, PUT_SCRIPT, putArgs(itemId, item));
+	}
+
+	/**
+	 * Stores items with their put scripts pipelined in batches.
+	 */
+	void putAll(Map<String, StoreItem> itemsById) {
+		List<String> ids = new ArrayList<>(itemsById.keySet());
+		for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+			RBatch batch = redisson.createBatch();
+			for (String itemId : ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()))) {
+				evalAsync(batch, itemId, PUT_SCRIPT, putArgs(itemId, itemsById.get(itemId)));
+			}
+			batch.execute();
+		}
+	}
+
+	private List<Object> putArgs(String itemId, StoreItem item) {
+		List<String> namespace = item.getNamespace();
+		List<Object> args = new ArrayList<>();
+		args.add(itemId);
+		args.add(toJson(namespace));
+		args.add(item.getKey());
+		args.add(toJson(item.getValue()));
+		args.add(String.valueOf(item.getCreatedAt()));
+		args.add(String.valueOf(item.getUpdatedAt()));
+		args.add(String.valueOf(namespace.size()));
+		for (int i = 1; i <= namespace.size(); i++) {
+			args.add(namespaceKey(namespace.subList(0, i)));
+		}
+		for (Map.Entry<String, Object> field : item.getValue().entrySet()) {
+			if (isIndexable(field.getValue())) {
+				args.add(fieldKey(field.getKey(), field.getValue()));
+			}
+		}
+		return args;
+	}
+
+	Optional<StoreItem> get(String itemId) {
+		Map<String, String> hash = redisson.<String, String>getMap(itemKey(itemId), StringCodec.INSTANCE)
+			.readAllMap();
+		return hash.isEmpty() ? Optional.empty() : Optional.of(toStoreItem(hash));
+	}
+
+	boolean delete(String itemId) {
+		return eval(itemId, DELETE_SCRIPT, List.of(itemId)) > 0;
+	}
+
+	/**
+	 * Reads items with their hashes pipelined in batches, skipping missing ones.
+	 */
+	List<StoreItem> getAll(List<String> itemIds) {
+		return read(itemIds);
+	}
+
+	/**
+	 * Deletes items with their delete scripts pipelined in batches.
+	 * @return number of items deleted
+	 */
+	int deleteAll(List<String> itemIds) {
+		int deleted = 0;
+		for (int from = 0; from < itemIds.size(); from += BATCH_SIZE) {
+			RBatch batch = redisson.createBatch();
+			for (String itemId : itemIds.subList(from, Math.min(from + BATCH_SIZE, itemIds.size()))) {
+				evalAsync(batch, itemId, DELETE_SCRIPT, List.of(itemId));
+			}
+			for (Object result : batch.execute().getResponses()) {
+				deleted += ((Number) result).intValue();
+			}
+		}
+		return deleted;
+	}
+
+	/**
+	 * Returns the items in the intersection of the index sets selected by the namespace
+	 * and the scalar filters of a search request, or all items when it selects none. The
+	 * text query and the remaining filters are left to the caller.
+	 * @param searchRequest search request
+	 * @return candidate items
+	 */
+	List<StoreItem> candidates(StoreSearchRequest searchRequest) {
+		List<String> indexKeys = new ArrayList<>();
+		if (!searchRequest.getNamespace().isEmpty()) {
+			indexKeys.add(namespaceKey(searchRequest.getNamespace()));
+		}
+		for (Map.Entry<String, Object> filter : searchRequest.getFilter().entrySet()) {
+			if (isIndexable(filter.getValue())) {
+				indexKeys.add(fieldKey(filter.getKey(), filter.getValue()));
+			}
+		}
+
+		Collection<String> itemIds;
+		if (indexKeys.isEmpty()) {
+			itemIds = redisson.<String>getSet(itemsKey(), StringCodec.INSTANCE).readAll();
+		}
+		else {
+			itemIds = redisson.<String>getSet(indexKeys.get(0), StringCodec.INSTANCE)
+				.readIntersection(indexKeys.subList(1, indexKeys.size()).toArray(new String[0]));
+		}
+		return read(itemIds);
+	}
+
+	/**
+	 * Returns every namespace prefix that holds at least one item.
+	 */
+	List<List<String>> listNamespaces() {
+		String namespacePrefix = namespaceKeyPrefix();
+		List<List<String>> namespaces = new ArrayList<>();
+		for (String namespaceKey : redisson.<String>getSet(namespacesKey(), StringCodec.INSTANCE).readAll()) {
+			namespaces.add(fromJson(namespaceKey.substring(namespacePrefix.length()), NAMESPACE_TYPE));
+		}
+		return namespaces;
+	}
+
+	void clear() {
+		redisson.getKeys().deleteByPattern(escapePattern(keyPrefix) + "*");
+	}
+
+	long size() {
+		return redisson.getSet(itemsKey(), StringCodec.INSTANCE).size();
+	}
+
+	/**
+	 * Reads item hashes in pipelined batches, skipping items deleted in the meantime.
+	 */
+	@SuppressWarnings("unchecked")
+	private List<StoreItem> read(Collection<String> itemIds) {
+		List<StoreItem> items = new ArrayList<>(itemIds.size());
+		List<String> ids = new ArrayList<>(itemIds);
+		for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+			RBatch batch = redisson.createBatch();
+			for (String itemId : ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()))) {
+				RMapAsync<String, String> hash = batch.getMap(itemKey(itemId), StringCodec.INSTANCE);
+				hash.readAllMapAsync();
+			}
+			BatchResult<?> result = batch.execute();
+			for (Object hash : result.getResponses()) {
+				if (!((Map<String, String>) hash).isEmpty()) {
+					items.add(toStoreItem((Map<String, String>) hash));
+				}
+			}
+		}
+		return items;
+	}
+
+	private long eval(String itemId, String script, List<Object> args) {
+		Long result = redisson.getScript(StringCodec.INSTANCE)
+			.eval(itemKey(itemId), RScript.Mode.READ_WRITE, script, RScript.ReturnType.INTEGER,
+					List.of(itemKey(itemId), itemIndexesKey(itemId), itemsKey(), namespacesKey()), args.toArray());
+		return result != null ? result : 0;
+	}
+
+	private void evalAsync(RBatch batch, String itemId, String script, List<Object> args) {
+		batch.getScript(StringCodec.INSTANCE)
+			.evalAsync(itemKey(itemId), RScript.Mode.READ_WRITE, script, RScript.ReturnType.INTEGER,
+					List.of(itemKey(itemId), itemIndexesKey(itemId), itemsKey(), namespacesKey()), args.toArray());
+	}
+
+	private StoreItem toStoreItem(Map<String, String> hash) {
+		return new StoreItem(fromJson(hash.get(FIELD_NAMESPACE), NAMESPACE_TYPE), hash.get(FIELD_KEY),
+				fromJson(hash.get(FIELD_VALUE), VALUE_TYPE), Long.parseLong(hash.get(FIELD_CREATED_AT)),
+				Long.parseLong(hash.get(FIELD_UPDATED_AT)));
+	}
+
+	/**
+	 * Only scalar values are indexed; other filters are checked on the candidates.
+	 */
+	private static boolean isIndexable(Object value) {
+		return value instanceof String || value instanceof Number || value instanceof Boolean;
+	}
+
+	private String itemsKey() {
+		return keyPrefix + "items";
+	}
+
+	private String itemKey(String itemId) {
+		return keyPrefix + "item:" + itemId;
+	}
+
+	private String itemIndexesKey(String itemId) {
+		return keyPrefix + "item-indexes:" + itemId;
+	}
+
+	private String namespacesKey() {
+		return keyPrefix + "namespaces";
+	}
+
+	private String namespaceKeyPrefix() {
+		return keyPrefix + "ns:";
+	}
+
+	private String namespaceKey(List<String> namespace) {
+		return namespaceKeyPrefix() + toJson(namespace);
+	}
+
+	private String fieldKey(String field, Object value) {
+		return keyPrefix + "field:" + toJson(List.of(field, value));
+	}
+
+	private String toJson(Object value) {
+		try {
+			return objectMapper.writeValueAsString(value);
+		}
+		catch (Exception e) {
+			throw new IllegalArgumentException("Failed to encode " + value, e);
+		}
+	}
+
+	private <T> T fromJson(String json, TypeReference<T> type) {
+		try {
+			return objectMapper.readValue(json, type);
+		}
+		catch (Exception e) {
+			throw new IllegalStateException("Failed to decode " + json, e);
+		}
+	}
+
+	private static String escapePattern(String prefix) {
+		return prefix.replaceAll("([*?\\[\\]\\\\])", "\\\\$1");
+	}
+
+}
@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -34,12 +35,20 @@ import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
 
+import org.redisson.api.RedissonClient;
+
 /**
- * Redis-like implementation of the Store interface using in-memory storage.
+ * Redis implementation of the Store interface.
+ * <p>
+ * Created with a {@link RedissonClient}, items are stored as Redis hashes shared by all
+ * store instances using the same key prefix. Namespace prefixes and scalar value fields
+ * are indexed in Redis sets, so namespace searches, equality filters and
+ * {@link #listNamespaces} read only the matching items; the text query is evaluated on
+ * those items, which are fetched in pipelined batches.
+ * </p>
  * <p>
- * This implementation simulates Redis behavior using a ConcurrentHashMap for environments
- * where actual Redis dependencies are not available. For production use with actual
- * Redis, replace this with a proper Redis client implementation.
+ * Created without a client, this implementation simulates Redis behavior using an
+ * in-memory map for environments where actual Redis dependencies are not available.
  * </p>
  *
  * @author Spring AI Alibaba
@@ -55,6 +64,8 @@ public class RedisStore extends BaseStore {
 
 	private final ReadWriteLock lock = new ReentrantReadWriteLock();
 
+	private final RedisItemCollection items;
+
 	/**
 	 * Constructor with default key prefix.
 	 */
@@ -71,12 +82,42 @@ public class RedisStore extends BaseStore {
 		this.keyPrefix = keyPrefix;
 		this.objectMapper = new ObjectMapper();
 		this.objectMapper.findAndRegisterModules();
+		this.items = null;
+	}
+
+	/**
+	 * Constructor storing items in Redis with the default key prefix.
+	 * @param redisson Redisson client
+	 */
+	public RedisStore(RedissonClient redisson) {
+		this(redisson, StoreConstant.REDIS_KEY_PREFIX);
+	}
+
+	/**
+	 * Constructor storing items in Redis with a custom key prefix.
+	 * @param redisson Redisson client
+	 * @param keyPrefix Redis key prefix
+	 */
+	public RedisStore(RedissonClient redisson, String keyPrefix) {
+		if (redisson == null) {
+			throw new IllegalArgumentException("redisson cannot be null");
+		}
+		this.redisLikeStorage = null;
+		this.keyPrefix = keyPrefix;
+		this.objectMapper = new ObjectMapper();
+		this.objectMapper.findAndRegisterModules();
+		this.items = new RedisItemCollection(redisson, objectMapper, keyPrefix);
 	}
 
 	@Override
 	public void putItem(StoreItem item) {
 		validatePutItem(item);
 
+		if (items != null) {
+			items.put(createStoreKey(item.getNamespace(), item.getKey()), item);
+			return;
+		}
+
 		lock.writeLock().lock();
 		try {
 			String redisKey = createRedisKey(item.getNamespace(), item.getKey());
@@ -95,6 +136,10 @@ public class RedisStore extends BaseStore {
 	public Optional<StoreItem> getItem(List<String> namespace, String key) {
 		validateGetItem(namespace, key);
 
+		if (items != null) {
+			return items.get(createStoreKey(namespace, key));
+		}
+
 		lock.readLock().lock();
 		try {
 			String redisKey = createRedisKey(namespace, key);
@@ -119,6 +164,10 @@ public class RedisStore extends BaseStore {
 	public boolean deleteItem(List<String> namespace, String key) {
 		validateDeleteItem(namespace, key);
 
+		if (items != null) {
+			return items.delete(createStoreKey(namespace, key));
+		}
+
 		lock.writeLock().lock();
 		try {
 			String redisKey = createRedisKey(namespace, key);
@@ -129,38 +178,72 @@ public class RedisStore extends BaseStore {
 		}
 	}
 
+	/**
+	 * Pipelines the writes when backed by Redis.
+	 */
 	@Override
-	public StoreSearchResult searchItems(StoreSearchRequest searchRequest) {
-		validateSearchItems(searchRequest);
-
-		lock.readLock().lock();
-		try {
-			List<StoreItem> allItems = getAllItems();
-
-			// Apply filters
-			List<StoreItem> filteredItems = allItems.stream()
-				.filter(item -> matchesSearchCriteria(item, searchRequest))
-				.collect(Collectors.toList());
+	public void putItems(List<StoreItem> items) {
+		if (this.items == null) {
+			super.putItems(items);
+			return;
+		}
+		validatePutItems(items);
+		Map<String, StoreItem> byStoreKey = new LinkedHashMap<>();
+		for (StoreItem item : items) {
+			byStoreKey.put(createStoreKey(item.getNamespace(), item.getKey()), item);
+		}
+		this.items.putAll(byStoreKey);
+	}
 
-			// Sort items
-			if (!searchRequest.getSortFields().isEmpty()) {
-				filteredItems.sort(createComparator(searchRequest));
+	/**
+	 * Pipelines the reads when backed by Redis.
+	 */
+	@Override
+	public Map<String, StoreItem> getItems(List<String> namespace, List<String> keys) {
+		if (items == null) {
+			return super.getItems(namespace, keys);
+		}
+		validateGetItems(namespace, keys);
+		Map<String, StoreItem> found = new HashMap<>();
+		for (StoreItem item : items.getAll(storeKeys(namespace, keys))) {
+			found.put(item.getKey(), item);
+		}
+		Map<String, StoreItem> result = new LinkedHashMap<>();
+		for (String key : keys) {
+			if (found.containsKey(key)) {
+				result.put(key, found.get(key));
 			}
+		}
+		return result;
+	}
 
-			long totalCount = filteredItems.size();
+	/**
+	 * Pipelines the deletes when backed by Redis.
+	 */
+	@Override
+	public int deleteItems(List<String> namespace, List<String> keys) {
+		if (items == null) {
+			return super.deleteItems(namespace, keys);
+		}
+		validateDeleteItems(namespace, keys);
+		return items.deleteAll(storeKeys(namespace, keys));
+	}
 
-			// Apply pagination
-			int offset = searchRequest.getOffset();
-			int limit = searchRequest.getLimit();
+	private List<String> storeKeys(List<String> namespace, List<String> keys) {
+		return keys.stream().distinct().map(key -> createStoreKey(namespace, key)).toList();
+	}
 
-			if (offset >= filteredItems.size()) {
-				return StoreSearchResult.of(Collections.emptyList(), totalCount, offset, limit);
-			}
+	@Override
+	public StoreSearchResult searchItems(StoreSearchRequest searchRequest) {
+		validateSearchItems(searchRequest);
 
-			int endIndex = Math.min(offset + limit, filteredItems.size());
-			List<StoreItem> resultItems = filteredItems.subList(offset, endIndex);
+		if (items != null) {
+			return searchItems(items.candidates(searchRequest), searchRequest);
+		}
 
-			return StoreSearchResult.of(resultItems, totalCount, offset, limit);
+		lock.readLock().lock();
+		try {
+			return searchItems(getAllItems(), searchRequest);
 		}
 		finally {
 			lock.readLock().unlock();
@@ -171,44 +254,13 @@ public class RedisStore extends BaseStore {
 	public List<String> listNamespaces(NamespaceListRequest namespaceRequest) {
 		validateListNamespaces(namespaceRequest);
 
+		if (items != null) {
+			return listNamespaces(items.listNamespaces(), namespaceRequest);
+		}
+
 		lock.readLock().lock();
 		try {
-			Set<String> namespaceSet = new HashSet<>();
-			List<String> prefixFilter = namespaceRequest.getNamespace();
-
-			List<StoreItem> allItems = getAllItems();
-
-			for (StoreItem item : allItems) {
-				List<String> itemNamespace = item.getNamespace();
-
-				// Check if namespace starts with prefix filter
-				if (!prefixFilter.isEmpty() && !startsWithPrefix(itemNamespace, prefixFilter)) {
-					continue;
-				}
-
-				// Generate all possible namespace paths up to maxDepth
-				int maxDepth = namespaceRequest.getMaxDepth();
-				int depth = (maxDepth == -1) ? itemNamespace.size() : Math.min(maxDepth, itemNamespace.size());
-
-				for (int i = 1; i <= depth; i++) {
-					String namespacePath = String.join("/", itemNamespace.subList(0, i));
-					namespaceSet.add(namespacePath);
-				}
-			}
-
-			List<String> namespaces = new ArrayList<>(namespaceSet);
-			Collections.sort(namespaces);
-
-			// Apply pagination
-			int offset = namespaceRequest.getOffset();
-			int limit = namespaceRequest.getLimit();
-
-			if (offset >= namespaces.size()) {
-				return Collections.emptyList();
-			}
-
-			int endIndex = Math.min(offset + limit, namespaces.size());
-			return namespaces.subList(offset, endIndex);
+			return listNamespaces(getAllItems().stream().map(StoreItem::getNamespace).toList(), namespaceRequest);
 		}
 		finally {
 			lock.readLock().unlock();
@@ -217,6 +269,11 @@ public class RedisStore extends BaseStore {
 
 	@Override
 	public void clear() {
+		if (items != null) {
+			items.clear();
+			return;
+		}
+
 		lock.writeLock().lock();
 		try {
 			Set<String> keysToRemove = redisLikeStorage.keySet()
@@ -232,6 +289,10 @@ public class RedisStore extends BaseStore {
 
 	@Override
 	public long size() {
+		if (items != null) {
+			return items.size();
+		}
+
 		lock.readLock().lock();
 		try {
 			return redisLikeStorage.keySet().stream().filter(key -> key.startsWith(keyPrefix)).count();
@@ -246,6 +307,80 @@ public class RedisStore extends BaseStore {
 		return size() == 0;
 	}
 
+	/**
+	 * Filter, sort and paginate candidate items.
+	 * @param candidates candidate items
+	 * @param searchRequest search parameters
+	 * @return search result
+	 */
+	private StoreSearchResult searchItems(List<StoreItem> candidates, StoreSearchRequest searchRequest) {
+		// Apply filters
+		List<StoreItem> filteredItems = candidates.stream()
+			.filter(item -> matchesSearchCriteria(item, searchRequest))
+			.collect(Collectors.toList());
+
+		// Sort items
+		if (!searchRequest.getSortFields().isEmpty()) {
+			filteredItems.sort(createComparator(searchRequest));
+		}
+
+		long totalCount = filteredItems.size();
+
+		// Apply pagination
+		int offset = searchRequest.getOffset();
+		int limit = searchRequest.getLimit();
+
+		if (offset >= filteredItems.size()) {
+			return StoreSearchResult.of(Collections.emptyList(), totalCount, offset, limit);
+		}
+
+		int endIndex = Math.min(offset + limit, filteredItems.size());
+		List<StoreItem> resultItems = filteredItems.subList(offset, endIndex);
+
+		return StoreSearchResult.of(resultItems, totalCount, offset, limit);
+	}
+
+	/**
+	 * List the namespace paths made of the given namespaces.
+	 * @param itemNamespaces namespaces holding items
+	 * @param namespaceRequest namespace listing parameters
+	 * @return namespace paths
+	 */
+	private List<String> listNamespaces(List<List<String>> itemNamespaces, NamespaceListRequest namespaceRequest) {
+		Set<String> namespaceSet = new HashSet<>();
+		List<String> prefixFilter = namespaceRequest.getNamespace();
+
+		for (List<String> itemNamespace : itemNamespaces) {
+			// Check if namespace starts with prefix filter
+			if (!prefixFilter.isEmpty() && !startsWithPrefix(itemNamespace, prefixFilter)) {
+				continue;
+			}
+
+			// Generate all possible namespace paths up to maxDepth
+			int maxDepth = namespaceRequest.getMaxDepth();
+			int depth = (maxDepth == -1) ? itemNamespace.size() : Math.min(maxDepth, itemNamespace.size());
+
+			for (int i = 1; i <= depth; i++) {
+				String namespacePath = String.join("/", itemNamespace.subList(0, i));
+				namespaceSet.add(namespacePath);
+			}
+		}
+
+		List<String> namespaces = new ArrayList<>(namespaceSet);
+		Collections.sort(namespaces);
+
+		// Apply pagination
+		int offset = namespaceRequest.getOffset();
+		int limit = namespaceRequest.getLimit();
+
+		if (offset >= namespaces.size()) {
+			return Collections.emptyList();
+		}
+
+		int endIndex = Math.min(offset + limit, namespaces.size());
+		return namespaces.subList(offset, endIndex);
+	}
+
 	/**
 	 * Create Redis key from namespace and key.
 	 * @param namespace namespace
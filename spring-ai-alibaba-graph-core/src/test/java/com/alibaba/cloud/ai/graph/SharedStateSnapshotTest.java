@@ -0,0 +1,120 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.graph;
+
+import com.alibaba.cloud.ai.graph.checkpoint.config.SaverConfig;
+import com.alibaba.cloud.ai.graph.checkpoint.savers.MemorySaver;
+import com.alibaba.cloud.ai.graph.state.ChunkedAppendList;
+import com.alibaba.cloud.ai.graph.state.StateSnapshot;
+import com.alibaba.cloud.ai.graph.state.strategy.AppendStrategy;
+import com.alibaba.cloud.ai.graph.state.strategy.ReplaceStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.alibaba.cloud.ai.graph.StateGraph.END;
+import static com.alibaba.cloud.ai.graph.StateGraph.START;
+import static com.alibaba.cloud.ai.graph.action.AsyncNodeAction.node_async;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SharedStateSnapshotTest {
+
+	private static StateGraph workflow() throws Exception {
+		KeyStrategyFactory keyStrategyFactory = () -> {
+			Map<String, KeyStrategy> keyStrategyMap = new HashMap<>();
+			keyStrategyMap.put("messages", new AppendStrategy());
+			keyStrategyMap.put("step", new ReplaceStrategy());
+			return keyStrategyMap;
+		};
+		return new StateGraph(keyStrategyFactory)
+			.addNode("agent_1", node_async(state -> Map.of("messages", "agent_1", "step", 1)))
+			.addNode("agent_2", node_async(state -> Map.of("messages", "agent_2", "step", 2)))
+			.addEdge(START, "agent_1")
+			.addEdge("agent_1", "agent_2")
+			.addEdge("agent_2", END);
+	}
+
+	@Test
+	void sharedSnapshotsAreIsolatedFromLaterUpdates() throws Exception {
+		var saver = MemorySaver.builder().build();
+		var app = workflow().compile(CompileConfig.builder()
+			.saverConfig(SaverConfig.builder().register(saver).build())
+			.shareStateSnapshots(true)
+			.build());
+		var config = RunnableConfig.builder().threadId("shared").build();
+
+		List<NodeOutput> outputs = app.stream(Map.of("messages", "start"), config).collectList().block();
+
+		NodeOutput afterAgent1 = outputs.stream().filter(o -> "agent_1".equals(o.node())).findFirst().orElseThrow();
+		NodeOutput afterAgent2 = outputs.stream().filter(o -> "agent_2".equals(o.node())).findFirst().orElseThrow();
+
+		assertEquals(List.of("start", "agent_1"), afterAgent1.state().value("messages").orElseThrow());
+		assertEquals(1, afterAgent1.state().value("step").orElseThrow());
+		assertEquals(List.of("start", "agent_1", "agent_2"), afterAgent2.state().value("messages").orElseThrow());
+
+		List<StateSnapshot> history = new ArrayList<>(app.getStateHistory(config));
+		assertEquals(List.of("start", "agent_1", "agent_2"), history.get(0).state().value("messages").orElseThrow());
+		assertEquals(List.of("start", "agent_1"), history.get(1).state().value("messages").orElseThrow());
+	}
+
+	@Test
+	void sharedSnapshotKeepsAppendListsCopyOnWrite() throws Exception {
+		var app = workflow().compile(CompileConfig.builder().shareStateSnapshots(true).build());
+		ChunkedAppendList<String> messages = new ChunkedAppendList<>(List.of("start"));
+
+		OverAllState snapshot = app.cloneState(Map.of("messages", messages));
+		messages.add("in place");
+		messages.set(0, "replaced");
+
+		assertEquals(List.of("start"), snapshot.value("messages").orElseThrow());
+	}
+
+	@Test
+	void sharedSnapshotCopiesOtherContainersAndSharesElements() throws Exception {
+		var app = workflow().compile(CompileConfig.builder().shareStateSnapshots(true).build());
+		StringBuilder element = new StringBuilder("a");
+		List<Object> list = new ArrayList<>(List.of(element));
+		Map<String, Object> map = new HashMap<>(Map.of("k", "v"));
+
+		OverAllState snapshot = app.cloneState(Map.of("list", list, "map", map));
+		list.add("b");
+		map.put("k2", "v2");
+		element.append("!");
+
+		List<?> snapshotList = (List<?>) snapshot.value("list").orElseThrow();
+		assertEquals(1, snapshotList.size());
+		// elements are shared, so in-place changes to them are visible
+		assertSame(element, snapshotList.get(0));
+		assertEquals(Map.of("k", "v"), snapshot.value("map").orElseThrow());
+	}
+
+	@Test
+	void defaultSnapshotDeepCopiesValues() throws Exception {
+		var app = workflow().compile();
+		List<String> messages = new ArrayList<>(List.of("start"));
+
+		OverAllState snapshot = app.cloneState(Map.of("messages", messages));
+
+		assertNotSame(messages, snapshot.value("messages").orElseThrow());
+		assertEquals(messages, snapshot.value("messages").orElseThrow());
+	}
+
+}
@@ -27,11 +27,16 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.alibaba.cloud.ai.graph.StateGraph.END;
 import static com.alibaba.cloud.ai.graph.StateGraph.START;
 import static com.alibaba.cloud.ai.graph.action.AsyncNodeAction.node_async;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -591,4 +596,117 @@ public class StateGraphParallelTest {
 				"Result should contain data from both parallel branches");
 	}
 
+	/**
+	 * Tests that ANY_OF cancels the losing branches: their threads are interrupted
+	 * instead of sleeping until they finish.
+	 */
+	@Test
+	void testParallelNodeAnyOfCancelsLosingBranches() throws Exception {
+		CountDownLatch interrupted = new CountDownLatch(2);
+		AtomicInteger finished = new AtomicInteger();
+		AsyncNodeAction slowNode = node_async(state -> {
+			try {
+				Thread.sleep(5000);
+				finished.incrementAndGet();
+			}
+			catch (InterruptedException e) {
+				interrupted.countDown();
+				Thread.currentThread().interrupt();
+				throw new RuntimeException(e);
+			}
+			return Map.of("messages", "slow");
+		});
+		var app = new StateGraph(createKeyStrategyFactory())
+				.addNode("fastNode", makeNodeWithDelay("fastNode", 50))
+				.addNode("slowNode1", slowNode)
+				.addNode("slowNode2", slowNode)
+				.addNode("merge", makeNode("merge"))
+				.addEdge(START, "fastNode")
+				.addEdge(START, "slowNode1")
+				.addEdge(START, "slowNode2")
+				.addEdge("fastNode", "merge")
+				.addEdge("slowNode1", "merge")
+				.addEdge("slowNode2", "merge")
+				.addEdge("merge", END)
+				.compile();
+
+		OverAllState state = app.invoke(Map.of(),
+				RunnableConfig.builder()
+						.addParallelNodeAggregationStrategy("merge", NodeAggregationStrategy.ANY_OF)
+						.build())
+				.orElseThrow();
+
+		assertEquals(List.of("fastNode", "merge"), state.value("messages").orElseThrow());
+		assertTrue(interrupted.await(2, TimeUnit.SECONDS), "Losing branches should be interrupted");
+		assertEquals(0, finished.get());
+	}
+
+	/**
+	 * Tests hedged ANY_OF execution: a duplicate of the slow first attempt is started after
+	 * the hedge delay and wins.
+	 */
+	@Test
+	void testParallelNodeAnyOfHedging() throws Exception {
+		AtomicInteger attempts = new AtomicInteger();
+		AsyncNodeAction flakyNode = node_async(state -> {
+			if (attempts.incrementAndGet() == 1) {
+				try {
+					Thread.sleep(5000);
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new RuntimeException(e);
+				}
+			}
+			return Map.of("messages", "flakyNode");
+		});
+		var app = new StateGraph(createKeyStrategyFactory())
+				.addNode("flakyNode", flakyNode)
+				.addNode("slowNode", makeNodeWithDelay("slowNode", 3000))
+				.addNode("merge", makeNode("merge"))
+				.addEdge(START, "flakyNode")
+				.addEdge(START, "slowNode")
+				.addEdge("flakyNode", "merge")
+				.addEdge("slowNode", "merge")
+				.addEdge("merge", END)
+				.compile();
+		HedgingPolicy hedging = HedgingPolicy.builder().delay(Duration.ofMillis(100)).build();
+
+		long start = System.currentTimeMillis();
+		OverAllState state = app.invoke(Map.of(),
+				RunnableConfig.builder()
+						.addParallelNodeAggregationStrategy("merge", NodeAggregationStrategy.ANY_OF)
+						.addParallelNodeHedging("merge", hedging)
+						.build())
+				.orElseThrow();
+		long duration = System.currentTimeMillis() - start;
+
+		assertEquals(List.of("flakyNode", "merge"), state.value("messages").orElseThrow());
+		assertEquals(2, attempts.get());
+		assertTrue(duration < 2500, "Hedged run should not wait for the first attempt, took " + duration + "ms");
+	}
+
+	@Test
+	void testHedgingPolicyUsesLatencyPercentile() {
+		HedgingPolicy hedging = HedgingPolicy.builder()
+				.delay(Duration.ofSeconds(1))
+				.percentile(0.9)
+				.minSamples(10)
+				.window(10)
+				.build();
+		for (int i = 1; i <= 9; i++) {
+			hedging.recordLatency(Duration.ofMillis(i * 10));
+		}
+		assertEquals(Duration.ofSeconds(1), hedging.hedgeDelay());
+
+		hedging.recordLatency(Duration.ofMillis(100));
+		assertEquals(Duration.ofMillis(90), hedging.hedgeDelay());
+
+		// the window keeps the latest ten samples
+		for (int i = 0; i < 10; i++) {
+			hedging.recordLatency(Duration.ofMillis(500));
+		}
+		assertEquals(Duration.ofMillis(500), hedging.hedgeDelay());
+	}
+
 }
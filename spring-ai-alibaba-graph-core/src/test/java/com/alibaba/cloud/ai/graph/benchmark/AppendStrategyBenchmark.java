@@ -0,0 +1,96 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.graph.benchmark;
+
+import com.alibaba.cloud.ai.graph.state.strategy.AppendStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.UserMessage;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Measures the cost of growing a {@code messages} history one turn at a time, as a ReAct
+ * loop does. {@code appendStrategy} uses {@link AppendStrategy}, {@code copyingAppend}
+ * reproduces the previous behaviour of copying the whole history on every append. The
+ * per-append cost is the reported score divided by {@code messages}.
+ *
+ * <p>
+ * Run with {@code main} from the IDE, or through the JMH runner on the test classpath.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AppendStrategyBenchmark {
+
+	@Param({ "10", "100", "1000" })
+	public int messages;
+
+	private final AppendStrategy strategy = new AppendStrategy();
+
+	private Message[] turns;
+
+	@Setup
+	public void setUp() {
+		turns = new Message[messages];
+		for (int i = 0; i < messages; i++) {
+			turns[i] = i % 2 == 0 ? new UserMessage("question " + i) : new AssistantMessage("answer " + i);
+		}
+	}
+
+	@Benchmark
+	public Object appendStrategy() {
+		Object history = null;
+		for (Message turn : turns) {
+			history = strategy.apply(history, turn);
+		}
+		return history;
+	}
+
+	@Benchmark
+	public Object copyingAppend() {
+		List<Object> history = List.of();
+		for (Message turn : turns) {
+			history = Stream.concat(history.stream(), Stream.of(turn)).collect(Collectors.toList());
+		}
+		return history;
+	}
+
+	public static void main(String[] args) throws Exception {
+		new Runner(new OptionsBuilder().include(AppendStrategyBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.graph.benchmark;
+
+import com.alibaba.cloud.ai.graph.store.NamespaceListRequest;
+import com.alibaba.cloud.ai.graph.store.Store;
+import com.alibaba.cloud.ai.graph.store.StoreItem;
+import com.alibaba.cloud.ai.graph.store.StoreSearchRequest;
+import com.alibaba.cloud.ai.graph.store.StoreSearchResult;
+import com.alibaba.cloud.ai.graph.store.stores.IndexedMemoryStore;
+import com.alibaba.cloud.ai.graph.store.stores.MemoryStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares searches on {@link MemoryStore} with {@link IndexedMemoryStore} holding
+ * {@code items} items spread over 100 users of 10 tenants: a namespace search for one
+ * user, a text query matching one item in a thousand, an equality filter and the
+ * namespace listing of one tenant.
+ *
+ * <p>
+ * Run with {@code main} from the IDE, or through the JMH runner on the test classpath.
+ * The million item stores need a few gigabytes of heap.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx8g")
+public class MemoryStoreSearchBenchmark {
+
+	private static final String[] TOPICS = { "travel", "billing", "weather", "music", "sports" };
+
+	@Param({ "10000", "100000", "1000000" })
+	public int items;
+
+	@Param({ "memory", "indexed" })
+	public String store;
+
+	private Store target;
+
+	private final StoreSearchRequest byNamespace = StoreSearchRequest.builder()
+		.namespace("tenant3", "user37")
+		.build();
+
+	private final StoreSearchRequest byQuery = StoreSearchRequest.builder().query("order #42 placed").build();
+
+	private final StoreSearchRequest byFilter = StoreSearchRequest.builder()
+		.filter(Map.of("topic", "weather", "bucket", 17))
+		.build();
+
+	private final NamespaceListRequest namespaces = NamespaceListRequest.builder().namespace("tenant3").build();
+
+	@Setup
+	public void setUp() {
+		target = "indexed".equals(store) ? new IndexedMemoryStore() : new MemoryStore();
+		for (int i = 0; i < items; i++) {
+			int user = i % 100;
+			target.putItem(StoreItem.of(List.of("tenant" + user / 10, "user" + user), "memory-" + i,
+					Map.of("topic", TOPICS[i % TOPICS.length], "bucket", i % 1000, "text",
+							"Customer asked about order #" + (i % 1000) + " placed last week")));
+		}
+	}
+
+	@Benchmark
+	public StoreSearchResult searchByNamespace() {
+		return target.searchItems(byNamespace);
+	}
+
+	@Benchmark
+	public StoreSearchResult searchByQuery() {
+		return target.searchItems(byQuery);
+	}
+
+	@Benchmark
+	public StoreSearchResult searchByFilter() {
+		return target.searchItems(byFilter);
+	}
+
+	@Benchmark
+	public List<String> listNamespaces() {
+		return target.listNamespaces(namespaces);
+	}
+
+	public static void main(String[] args) throws Exception {
+		new Runner(new OptionsBuilder().include(MemoryStoreSearchBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
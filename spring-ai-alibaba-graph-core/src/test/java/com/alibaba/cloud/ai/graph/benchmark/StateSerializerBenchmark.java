@@ -0,0 +1,143 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.graph.benchmark;
+
+import com.alibaba.cloud.ai.graph.OverAllState;
+import com.alibaba.cloud.ai.graph.serializer.StateSerializer;
+import com.alibaba.cloud.ai.graph.serializer.plain_text.jackson.SpringAIJacksonStateSerializer;
+import com.alibaba.cloud.ai.graph.serializer.std.CompactBinaryStateSerializer;
+import com.alibaba.cloud.ai.graph.serializer.std.SpringAIStateSerializer;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.SystemMessage;
+import org.springframework.ai.chat.messages.ToolResponseMessage;
+import org.springframework.ai.chat.messages.UserMessage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link CompactBinaryStateSerializer} with {@link SpringAIStateSerializer} and
+ * the Jackson based {@link SpringAIJacksonStateSerializer} on the state of a ReAct agent
+ * after {@code turns} tool-calling turns. Each benchmark writes the state to bytes and
+ * reads it back; the {@code payloadBytes} counter reports the serialized size.
+ *
+ * <p>
+ * Run with {@code main} from the IDE, or through the JMH runner on the test classpath.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StateSerializerBenchmark {
+
+	@Param({ "5", "50" })
+	public int turns;
+
+	private final StateSerializer compact = new CompactBinaryStateSerializer();
+
+	private final StateSerializer objectStream = new SpringAIStateSerializer();
+
+	private final StateSerializer jackson = new SpringAIJacksonStateSerializer(OverAllState::new);
+
+	private Map<String, Object> state;
+
+	@Setup
+	public void setUp() {
+		List<Message> messages = new ArrayList<>();
+		messages.add(new SystemMessage("You are a travel assistant. Use the tools to answer precisely."));
+		for (int turn = 0; turn < turns; turn++) {
+			String callId = "call_" + turn;
+			messages.add(new UserMessage("What is the weather like in city number " + turn + " tomorrow?"));
+			messages.add(AssistantMessage.builder()
+				.content("")
+				.toolCalls(List.of(new AssistantMessage.ToolCall(callId, "function", "get_weather",
+						"{\"city\":\"city " + turn + "\",\"day\":\"tomorrow\"}")))
+				.build());
+			messages.add(ToolResponseMessage.builder()
+				.responses(List.of(new ToolResponseMessage.ToolResponse(callId, "get_weather",
+						"{\"temperature\":" + (15 + turn % 10) + ",\"condition\":\"sunny\"}")))
+				.build());
+			messages.add(new AssistantMessage("Tomorrow in city number " + turn + " it will be sunny with "
+					+ (15 + turn % 10) + " degrees, a good day to spend outside."));
+		}
+		state = new HashMap<>();
+		state.put("messages", messages);
+		state.put("input", "What is the weather like tomorrow?");
+		state.put("iterations", turns);
+		state.put("jump_to", "model");
+	}
+
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	@State(Scope.Thread)
+	public static class Payload {
+
+		public long payloadBytes;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			payloadBytes = 0;
+		}
+
+	}
+
+	private Map<String, Object> roundTrip(StateSerializer serializer, Payload payload) throws Exception {
+		byte[] bytes = serializer.dataToBytes(state);
+		payload.payloadBytes = bytes.length;
+		return serializer.dataFromBytes(bytes);
+	}
+
+	@Benchmark
+	public Map<String, Object> compact(Payload payload) throws Exception {
+		return roundTrip(compact, payload);
+	}
+
+	@Benchmark
+	public Map<String, Object> objectStream(Payload payload) throws Exception {
+		return roundTrip(objectStream, payload);
+	}
+
+	@Benchmark
+	public Map<String, Object> jackson(Payload payload) throws Exception {
+		return roundTrip(jackson, payload);
+	}
+
+	public static void main(String[] args) throws Exception {
+		new Runner(new OptionsBuilder().include(StateSerializerBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
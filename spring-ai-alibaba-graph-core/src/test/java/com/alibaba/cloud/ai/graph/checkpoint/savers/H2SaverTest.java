@@ -24,7 +24,9 @@ import com.alibaba.cloud.ai.graph.checkpoint.savers.h2.H2Saver;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
@@ -35,6 +37,8 @@ import javax.sql.DataSource;
 
 import org.h2.jdbcx.JdbcDataSource;
 import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.UserMessage;
 
 import static com.alibaba.cloud.ai.graph.StateGraph.END;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -159,6 +163,42 @@ class H2SaverTest {
 		assertEquals(2, rowCount(dataSource, "GRAPH_CHECKPOINT"));
 	}
 
+	@Test
+	void shouldRebuildDeltaCheckpointsFromH2() throws Exception {
+		DataSource dataSource = dataSource();
+		var saver = H2Saver.builder()
+				.dataSource(dataSource)
+				.stateSerializer(StateGraph.DEFAULT_JACKSON_SERIALIZER)
+				.createOption(CreateOption.CREATE_OR_REPLACE)
+				.fullCheckpointInterval(3)
+				.build();
+		String threadId = "h2-delta-thread";
+		List<Object> messages = new ArrayList<>();
+		List<Checkpoint> written = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			messages.add(i % 2 == 0 ? new UserMessage("question " + i) : new AssistantMessage("answer " + i));
+			var checkpoint = Checkpoint.builder()
+					.nodeId("agent_" + i)
+					.nextNodeId(END)
+					.state(Map.of("messages", new ArrayList<>(messages), "step", "step-" + i))
+					.build();
+			saver.put(config(threadId), checkpoint);
+			written.add(checkpoint);
+		}
+
+		var reloadedSaver = saver(dataSource, CreateOption.CREATE_IF_NOT_EXISTS);
+		var history = new ArrayList<>(reloadedSaver.list(config(threadId)));
+		assertEquals(5, history.size());
+		for (int i = 0; i < 5; i++) {
+			Checkpoint expected = written.get(4 - i);
+			assertEquals(expected.getId(), history.get(i).getId());
+			assertEquals(expected.getState(), history.get(i).getState());
+		}
+		assertEquals(written.get(4).getState(), reloadedSaver.get(config(threadId)).orElseThrow().getState());
+		assertEquals(written.get(1).getState(),
+				reloadedSaver.get(config(threadId, written.get(1).getId())).orElseThrow().getState());
+	}
+
 	@Test
 	void shouldRejectNegativeMaxCachedThreads() {
 		var builder = H2Saver.builder()
@@ -907,7 +907,9 @@ class RedisSaverTest {
 				.build();
 		redisSaver.put(config, currentCheckpoint);
 
-		byte[] migratedPayload = redisson.<byte[]>getBucket(contentKey, ByteArrayCodec.INSTANCE).get();
+		assertFalse(redisson.getBucket(contentKey, ByteArrayCodec.INSTANCE).isExists());
+		byte[] migratedPayload = redisson.<byte[]>getBucket(
+				"graph:checkpoint:item:{" + storedThreadId + "}:legacy", ByteArrayCodec.INSTANCE).get();
 		assertNotNull(migratedPayload);
 		assertEquals('S', migratedPayload[0]);
 		assertEquals('A', migratedPayload[1]);
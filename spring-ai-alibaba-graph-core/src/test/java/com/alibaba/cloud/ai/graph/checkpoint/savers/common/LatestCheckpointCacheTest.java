@@ -18,6 +18,7 @@ package com.alibaba.cloud.ai.graph.checkpoint.savers.common;
 import com.alibaba.cloud.ai.graph.checkpoint.Checkpoint;
 
 import java.util.Map;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
@@ -58,6 +59,20 @@ class LatestCheckpointCacheTest {
 		assertEquals(secondCheckpoint.getId(), cache.get("thread-2").orElseThrow().getId());
 	}
 
+	@Test
+	void shouldBoundSegmentedCacheToMaxCachedThreads() {
+		LatestCheckpointCache cache = new LatestCheckpointCache(1024);
+		Checkpoint checkpoint = checkpoint("v1");
+
+		for (int i = 0; i < 10_000; i++) {
+			cache.put("thread-" + i, checkpoint);
+		}
+
+		long cached = IntStream.range(0, 10_000).filter(i -> cache.get("thread-" + i).isPresent()).count();
+		assertTrue(cached > 0 && cached <= 1024, "cached threads: " + cached);
+		assertTrue(cache.get("thread-9999").isPresent());
+	}
+
 	@Test
 	void shouldRejectNegativeMaxCachedThreads() {
 		assertThrows(IllegalArgumentException.class, () -> new LatestCheckpointCache(-1));
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.graph.checkpoint.savers.file;
+
+import com.alibaba.cloud.ai.graph.RunnableConfig;
+import com.alibaba.cloud.ai.graph.StateGraph;
+import com.alibaba.cloud.ai.graph.checkpoint.Checkpoint;
+import com.alibaba.cloud.ai.graph.serializer.check_point.CheckPointSerializer;
+
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FileSystemSaverLogTest {
+
+	@TempDir
+	Path tempDir;
+
+	private FileSystemSaver saver(boolean memoryMappedReads) {
+		return FileSystemSaver.builder()
+				.targetFolder(tempDir)
+				.memoryMappedReads(memoryMappedReads)
+				.compactionExecutor(Runnable::run)
+				.build();
+	}
+
+	private static Checkpoint checkpoint(String id, String value) {
+		return Checkpoint.builder().id(id).nodeId("node").nextNodeId("next").state(Map.of("value", value)).build();
+	}
+
+	private static List<String> ids(FileSystemSaver saver, RunnableConfig config) {
+		return saver.list(config).stream().map(Checkpoint::getId).toList();
+	}
+
+	@Test
+	public void shouldAppendCheckpointsAndReadThemFromNewInstance() throws Exception {
+		RunnableConfig config = RunnableConfig.builder().threadId("t1").build();
+		FileSystemSaver writer = saver(true);
+		Path file = tempDir.resolve("thread-t1.saver");
+
+		writer.put(config, checkpoint("cp1", "v1"));
+		long firstSize = Files.size(file);
+		writer.put(config, checkpoint("cp2", "v2"));
+		byte[] afterSecond = Files.readAllBytes(file);
+		writer.put(config, checkpoint("cp3", "v3"));
+		byte[] afterThird = Files.readAllBytes(file);
+
+		// earlier records are never rewritten
+		assertTrue(afterThird.length > afterSecond.length && afterSecond.length > firstSize);
+		assertArrayEquals(afterSecond, Arrays.copyOf(afterThird, afterSecond.length));
+
+		for (boolean memoryMapped : new boolean[] { true, false }) {
+			FileSystemSaver reader = saver(memoryMapped);
+			assertEquals(List.of("cp3", "cp2", "cp1"), ids(reader, config));
+			assertEquals("v3", reader.get(config).orElseThrow().getState().get("value"));
+			assertEquals("v1", reader.get(RunnableConfig.builder(config).checkPointId("cp1").build())
+					.orElseThrow()
+					.getState()
+					.get("value"));
+		}
+	}
+
+	@Test
+	public void shouldReadCheckpointsAppendedAfterEarlierReadsWithoutCache() throws Exception {
+		RunnableConfig config = RunnableConfig.builder().threadId("t1").build();
+		for (boolean memoryMapped : new boolean[] { true, false }) {
+			FileSystemSaver saver = FileSystemSaver.builder()
+					.targetFolder(tempDir.resolve(memoryMapped ? "mapped" : "positional"))
+					.memoryMappedReads(memoryMapped)
+					.maxCachedThreads(0)
+					.build();
+
+			// every read happens after the file has grown past what was read before
+			for (int i = 1; i <= 5; i++) {
+				saver.put(config, checkpoint("cp" + i, "v" + i));
+				assertEquals("v" + i, saver.get(config).orElseThrow().getState().get("value"));
+				assertEquals(i, ids(saver, config).size());
+			}
+			assertEquals("v2",
+					saver.get(RunnableConfig.builder(config).checkPointId("cp2").build())
+						.orElseThrow()
+						.getState()
+						.get("value"));
+		}
+	}
+
+	@Test
+	public void shouldReplaceCheckpointInPlace() throws Exception {
+		RunnableConfig config = RunnableConfig.builder().threadId("t1").build();
+		FileSystemSaver saver = saver(true);
+		saver.put(config, checkpoint("cp1", "v1"));
+		saver.put(config, checkpoint("cp2", "v2"));
+
+		saver.put(RunnableConfig.builder(config).checkPointId("cp1").build(), checkpoint("cp1-new", "updated"));
+
+		assertEquals(List.of("cp2", "cp1-new"), ids(saver, config));
+		assertEquals(List.of("cp2", "cp1-new"), ids(saver(false), config));
+		assertThrows(NoSuchElementException.class,
+				() -> saver.put(RunnableConfig.builder(config).checkPointId("missing").build(),
+						checkpoint("cp3", "v3")));
+	}
+
+	@Test
+	public void shouldCompactRecordsDroppedByRetention() throws Exception {
+		RunnableConfig config = RunnableConfig.builder().threadId("t1").checkpointsNumRetained(2).build();
+		FileSystemSaver saver = saver(true);
+		Path file = tempDir.resolve("thread-t1.saver");
+
+		saver.put(config, checkpoint("cp1", "v1"));
+		saver.put(config, checkpoint("cp2", "v2"));
+		long retainedSize = Files.size(file);
+		for (int i = 3; i <= 50; i++) {
+			saver.put(config, checkpoint("cp" + i, "v" + i));
+		}
+
+		assertTrue(Files.size(file) < retainedSize * 3, "file should be compacted, size " + Files.size(file));
+		assertEquals(List.of("cp50", "cp49"), ids(saver, config));
+		assertEquals(List.of("cp50", "cp49"), ids(saver(true), config));
+	}
+
+	@Test
+	public void shouldIgnoreTornRecordAndTruncateItOnNextWrite() throws Exception {
+		RunnableConfig config = RunnableConfig.builder().threadId("t1").build();
+		saver(true).put(config, checkpoint("cp1", "v1"));
+		Path file = tempDir.resolve("thread-t1.saver");
+		// a record header announcing more bytes than were written
+		Files.write(file, new byte[] { 0, 0, 1, 0, 1, 2, 3, 4, 1 }, StandardOpenOption.APPEND);
+
+		FileSystemSaver saver = saver(true);
+		assertEquals(List.of("cp1"), ids(saver, config));
+
+		// a torn record left in the middle of the file would hide cp2 from a new reader
+		saver.put(config, checkpoint("cp2", "v2"));
+		assertEquals(List.of("cp2", "cp1"), ids(saver(true), config));
+	}
+
+	@Test
+	public void shouldReadAndConvertLegacyFile() throws Exception {
+		RunnableConfig config = RunnableConfig.builder().threadId("t1").build();
+		Path file = tempDir.resolve("thread-t1.saver");
+		CheckPointSerializer serializer = new CheckPointSerializer(StateGraph.DEFAULT_JACKSON_SERIALIZER);
+		try (ObjectOutputStream out = new ObjectOutputStream(Files.newOutputStream(file))) {
+			out.writeInt(2);
+			serializer.write(checkpoint("cp2", "v2"), out);
+			serializer.write(checkpoint("cp1", "v1"), out);
+		}
+
+		FileSystemSaver saver = saver(true);
+		assertEquals(List.of("cp2", "cp1"), ids(saver, config));
+		assertEquals("v2", saver.get(config).orElseThrow().getState().get("value"));
+
+		saver.put(config, checkpoint("cp3", "v3"));
+
+		assertEquals('S', Files.readAllBytes(file)[0]);
+		assertEquals(List.of("cp3", "cp2", "cp1"), ids(saver(false), config));
+	}
+
+}
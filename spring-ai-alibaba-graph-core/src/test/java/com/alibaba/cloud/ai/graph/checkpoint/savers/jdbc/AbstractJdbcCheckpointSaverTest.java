@@ -19,14 +19,20 @@ import com.alibaba.cloud.ai.graph.RunnableConfig;
 import com.alibaba.cloud.ai.graph.checkpoint.Checkpoint;
 import com.alibaba.cloud.ai.graph.checkpoint.config.SaverConfig;
 
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import org.junit.jupiter.api.Test;
 
@@ -185,6 +191,156 @@ class AbstractJdbcCheckpointSaverTest {
 		assertTrue(saver.get(config("thread-retained", firstCheckpoint.getId())).isEmpty());
 	}
 
+	@Test
+	void shouldStoreDeltasBetweenFullCheckpoints() throws Exception {
+		var saver = new FakeJdbcCheckpointSaver(16, 3);
+		String threadId = "thread-delta";
+		var first = checkpoint(Map.of("messages", List.of("m1"), "step", "a", "draft", "x"));
+		var second = checkpoint(Map.of("messages", List.of("m1", "m2"), "step", "b", "draft", "x"));
+		var third = checkpoint(Map.of("messages", List.of("m1", "m2", "m3"), "step", "b"));
+		var fourth = checkpoint(Map.of("messages", List.of("m4"), "step", "c"));
+
+		saver.put(config(threadId), first);
+		saver.put(config(threadId), second);
+		saver.put(config(threadId), third);
+		saver.put(config(threadId), fourth);
+
+		var stored = saver.checkpoints.get(threadId);
+		assertEquals(first.getState(), stored.get(3).getState());
+		assertEquals(Map.of("__checkpoint_delta_base__", second.getId(),
+				"__checkpoint_delta_chain__", List.of(first.getId(), second.getId()),
+				"__checkpoint_delta_append__:messages", List.of("m3"),
+				"__checkpoint_delta_removed__", List.of("draft")), stored.get(1).getState());
+		assertEquals(fourth.getState(), stored.get(0).getState());
+
+		var history = List.copyOf(saver.list(config(threadId)));
+		assertEquals(List.of(fourth.getState(), third.getState(), second.getState(), first.getState()),
+				history.stream().map(Checkpoint::getState).toList());
+		assertEquals(third.getState(), saver.get(config(threadId, third.getId())).orElseThrow().getState());
+	}
+
+	@Test
+	void shouldKeepDeltaCheckpointsReadableAfterRetentionAndUpdate() throws Exception {
+		var saver = new FakeJdbcCheckpointSaver(16, 10);
+		var config = RunnableConfig.builder()
+				.threadId("thread-delta-retained")
+				.checkpointsNumRetained(2)
+				.build();
+		var first = checkpoint(Map.of("messages", List.of("m1")));
+		var second = checkpoint(Map.of("messages", List.of("m1", "m2")));
+		var third = checkpoint(Map.of("messages", List.of("m1", "m2", "m3")));
+
+		saver.put(config, first);
+		var secondConfig = saver.put(config, second);
+		saver.put(config, third);
+
+		assertEquals(second.getState(), saver.get(config("thread-delta-retained", second.getId())).orElseThrow().getState());
+		assertEquals(third.getState(), saver.get(config("thread-delta-retained")).orElseThrow().getState());
+
+		var replacement = checkpoint(Map.of("messages", List.of("other")));
+		saver.put(RunnableConfig.builder(secondConfig).checkPointId(second.getId()).build(), replacement);
+
+		assertEquals(third.getState(), saver.get(config("thread-delta-retained")).orElseThrow().getState());
+		assertEquals(replacement.getState(),
+				saver.get(config("thread-delta-retained", replacement.getId())).orElseThrow().getState());
+	}
+
+	@Test
+	void shouldWriteFullCheckpointWhenLatestStoredCheckpointIsNotTheLastWritten() throws Exception {
+		var saver = new FakeJdbcCheckpointSaver(16, 10);
+		String threadId = "thread-delta-shared";
+		var first = checkpoint(Map.of("messages", List.of("m1")));
+		var other = checkpoint(Map.of("messages", List.of("m1", "other")));
+		var third = checkpoint(Map.of("messages", List.of("m1", "other", "m3")));
+
+		saver.put(config(threadId), first);
+		// another instance writes to the same thread
+		saver.insertCheckpoint(threadId, other);
+		saver.put(config(threadId), third);
+
+		assertEquals(third.getState(), saver.checkpoints.get(threadId).get(0).getState());
+		assertEquals(third.getState(), saver.get(config(threadId)).orElseThrow().getState());
+	}
+
+	@Test
+	void shouldLoadDeltaChainWithOneQuery() throws Exception {
+		var saver = new FakeJdbcCheckpointSaver(16, 5);
+		String threadId = "thread-delta-chain";
+		List<Checkpoint> written = new java.util.ArrayList<>();
+		for (int i = 1; i <= 5; i++) {
+			var checkpoint = checkpoint(Map.of("step", i));
+			saver.put(config(threadId), checkpoint);
+			written.add(checkpoint);
+		}
+
+		var latest = written.get(4);
+		assertEquals(latest.getState(), saver.get(config(threadId, latest.getId())).orElseThrow().getState());
+		assertEquals(1, saver.checkpointByIdSelects);
+		assertEquals(1, saver.checkpointsByIdsSelects);
+	}
+
+	@Test
+	void shouldRejectInvalidFullCheckpointInterval() {
+		assertThrows(IllegalArgumentException.class, () -> new FakeJdbcCheckpointSaver(16, 0));
+	}
+
+	@Test
+	void shouldNotBlockOtherThreadsWhileOneThreadIsBusy() throws Exception {
+		var saver = new FakeJdbcCheckpointSaver(0);
+		saver.put(config("thread-a"), checkpoint("a"));
+		var entered = new CountDownLatch(1);
+		var release = new CountDownLatch(1);
+		saver.blockLatestSelect("thread-a", entered, release);
+		var executor = Executors.newSingleThreadExecutor();
+		try {
+			var busy = executor.submit(() -> saver.get(config("thread-a")));
+			assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+			var other = checkpoint("b");
+			saver.put(config("thread-b"), other);
+
+			assertEquals(other.getId(), saver.get(config("thread-b")).orElseThrow().getId());
+			release.countDown();
+			assertTrue(busy.get(5, TimeUnit.SECONDS).isPresent());
+		}
+		finally {
+			release.countDown();
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void shouldRecordLockWaitWhenSameThreadIsContended() throws Exception {
+		var meterRegistry = new SimpleMeterRegistry();
+		var saver = new FakeJdbcCheckpointSaver(0, 1, meterRegistry);
+		saver.put(config("thread-contended"), checkpoint("a"));
+		var entered = new CountDownLatch(1);
+		var release = new CountDownLatch(1);
+		saver.blockLatestSelect("thread-contended", entered, release);
+		var executor = Executors.newSingleThreadExecutor();
+		try {
+			var first = executor.submit(() -> saver.get(config("thread-contended")));
+			assertTrue(entered.await(5, TimeUnit.SECONDS));
+			var second = new Thread(() -> saver.list(config("thread-contended")));
+			second.start();
+			while (second.getState() != Thread.State.WAITING) {
+				Thread.onSpinWait();
+			}
+			release.countDown();
+			first.get(5, TimeUnit.SECONDS);
+			second.join(5000);
+		}
+		finally {
+			release.countDown();
+			executor.shutdownNow();
+		}
+
+		var timer = meterRegistry.get("spring.ai.alibaba.graph.checkpoint.lock.wait")
+				.tag("saver", "FakeJdbcCheckpointSaver")
+				.timer();
+		assertEquals(1, timer.count());
+	}
+
 	@Test
 	void shouldRejectNegativeMaxCachedThreads() {
 		assertThrows(IllegalArgumentException.class, () -> new FakeJdbcCheckpointSaver(-1));
@@ -199,28 +355,55 @@ class AbstractJdbcCheckpointSaverTest {
 	}
 
 	private static Checkpoint checkpoint(String value) {
+		return checkpoint(Map.of("value", value));
+	}
+
+	private static Checkpoint checkpoint(Map<String, Object> state) {
 		return Checkpoint.builder()
 				.id(UUID.randomUUID().toString())
 				.nodeId("node")
 				.nextNodeId("next")
-				.state(Map.of("value", value))
+				.state(state)
 				.build();
 	}
 
 	private static final class FakeJdbcCheckpointSaver extends AbstractJdbcCheckpointSaver {
 
-		private final Map<String, LinkedList<Checkpoint>> checkpoints = new HashMap<>();
+		private final Map<String, LinkedList<Checkpoint>> checkpoints = new ConcurrentHashMap<>();
 
-		private final Set<String> releasedThreads = new HashSet<>();
+		private final Set<String> releasedThreads = ConcurrentHashMap.newKeySet();
 
 		private int latestCheckpointSelects;
 
 		private int checkpointByIdSelects;
 
+		private int checkpointsByIdsSelects;
+
+		private volatile String blockedThreadId;
+
+		private CountDownLatch entered;
+
+		private CountDownLatch release;
+
 		private FakeJdbcCheckpointSaver(int maxCachedThreads) {
 			super(maxCachedThreads);
 		}
 
+		private FakeJdbcCheckpointSaver(int maxCachedThreads, int fullCheckpointInterval) {
+			super(maxCachedThreads, fullCheckpointInterval);
+		}
+
+		private FakeJdbcCheckpointSaver(int maxCachedThreads, int fullCheckpointInterval,
+				MeterRegistry meterRegistry) {
+			super(maxCachedThreads, fullCheckpointInterval, meterRegistry);
+		}
+
+		private void blockLatestSelect(String threadId, CountDownLatch entered, CountDownLatch release) {
+			this.blockedThreadId = threadId;
+			this.entered = entered;
+			this.release = release;
+		}
+
 		@Override
 		protected LinkedList<Checkpoint> selectCheckpoints(String threadId) {
 			if (releasedThreads.contains(threadId)) {
@@ -232,6 +415,15 @@ class AbstractJdbcCheckpointSaverTest {
 		@Override
 		protected Optional<Checkpoint> selectLatestCheckpoint(String threadId) {
 			latestCheckpointSelects++;
+			if (threadId.equals(blockedThreadId)) {
+				entered.countDown();
+				try {
+					release.await(5, TimeUnit.SECONDS);
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+			}
 			return selectCheckpoints(threadId).stream().findFirst();
 		}
 
@@ -243,6 +435,15 @@ class AbstractJdbcCheckpointSaverTest {
 					.findFirst();
 		}
 
+		@Override
+		protected java.util.Collection<Checkpoint> selectCheckpointsByIds(String threadId,
+				java.util.Collection<String> checkpointIds) {
+			checkpointsByIdsSelects++;
+			return selectCheckpoints(threadId).stream()
+					.filter(checkpoint -> checkpointIds.contains(checkpoint.getId()))
+					.toList();
+		}
+
 		@Override
 		protected void insertCheckpoint(String threadId, Checkpoint checkpoint) {
 			checkpoints.computeIfAbsent(threadId, key -> new LinkedList<>()).addFirst(checkpoint);
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.graph.checkpoint.savers.redis;
+
+import com.alibaba.cloud.ai.graph.RunnableConfig;
+import com.alibaba.cloud.ai.graph.StateGraph;
+import com.alibaba.cloud.ai.graph.checkpoint.Checkpoint;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.config.Config;
+import redis.embedded.RedisServer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the per-checkpoint key layout of {@link RedisSaver} against an embedded Redis
+ * server.
+ */
+@EnabledOnOs({ OS.LINUX, OS.MAC })
+class RedisSaverKeyLayoutTest {
+
+	private static RedisServer redisServer;
+
+	private static RedissonClient redisson;
+
+	private static RedisSaver saver;
+
+	@BeforeAll
+	static void setUp() throws IOException {
+		int port;
+		try (ServerSocket socket = new ServerSocket(0)) {
+			port = socket.getLocalPort();
+		}
+		redisServer = new RedisServer(port);
+		redisServer.start();
+		Config config = new Config();
+		config.useSingleServer().setAddress("redis://127.0.0.1:" + port);
+		redisson = Redisson.create(config);
+		saver = RedisSaver.builder().redisson(redisson).stateSerializer(StateGraph.DEFAULT_JACKSON_SERIALIZER).build();
+	}
+
+	@AfterAll
+	static void tearDown() throws IOException {
+		if (redisson != null) {
+			redisson.shutdown();
+		}
+		if (redisServer != null) {
+			redisServer.stop();
+		}
+	}
+
+	@Test
+	void shouldStoreEachCheckpointUnderItsOwnKey() throws Exception {
+		String threadName = "layout-" + UUID.randomUUID();
+		var config = RunnableConfig.builder().threadId(threadName).build();
+
+		for (int i = 1; i <= 3; i++) {
+			saver.put(config, checkpoint("cp" + i, "value" + i));
+		}
+
+		String threadId = threadId(threadName);
+		assertEquals(List.of("cp1", "cp2", "cp3"), List.copyOf(
+				redisson.<String>getScoredSortedSet("graph:checkpoint:index:{" + threadId + "}", StringCodec.INSTANCE)
+					.readAll()));
+		for (int i = 1; i <= 3; i++) {
+			assertTrue(redisson.getBucket("graph:checkpoint:item:{" + threadId + "}:cp" + i, ByteArrayCodec.INSTANCE)
+				.isExists());
+		}
+		assertFalse(redisson.getBucket("graph:checkpoint:content:" + threadId).isExists());
+
+		assertEquals(List.of("cp3", "cp2", "cp1"), saver.list(config).stream().map(Checkpoint::getId).toList());
+		assertEquals("value3", saver.get(config).orElseThrow().getState().get("data"));
+		assertEquals("value1", saver.get(RunnableConfig.builder(config).checkPointId("cp1").build())
+			.orElseThrow()
+			.getState()
+			.get("data"));
+	}
+
+	@Test
+	void shouldReplaceCheckpointInPlace() throws Exception {
+		String threadName = "replace-" + UUID.randomUUID();
+		var config = RunnableConfig.builder().threadId(threadName).build();
+		saver.put(config, checkpoint("cp1", "first"));
+		saver.put(config, checkpoint("cp2", "second"));
+
+		saver.put(RunnableConfig.builder(config).checkPointId("cp1").build(), checkpoint("cp1-new", "replaced"));
+
+		assertEquals(List.of("cp2", "cp1-new"), saver.list(config).stream().map(Checkpoint::getId).toList());
+		assertTrue(saver.get(RunnableConfig.builder(config).checkPointId("cp1").build()).isEmpty());
+		assertEquals("replaced", saver.get(RunnableConfig.builder(config).checkPointId("cp1-new").build())
+			.orElseThrow()
+			.getState()
+			.get("data"));
+		assertThrows(NoSuchElementException.class,
+				() -> saver.put(RunnableConfig.builder(config).checkPointId("missing").build(),
+						checkpoint("cp3", "third")));
+	}
+
+	@Test
+	void shouldAppendConcurrentlyWithoutLosingCheckpoints() throws Exception {
+		String threadName = "concurrent-" + UUID.randomUUID();
+		var config = RunnableConfig.builder().threadId(threadName).build();
+		saver.put(config, checkpoint("cp-0", "0"));
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 1; i <= 40; i++) {
+				String id = "cp-" + i;
+				futures.add(executor.submit(() -> saver.put(config, checkpoint(id, id))));
+			}
+			for (Future<?> future : futures) {
+				future.get(10, TimeUnit.SECONDS);
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals(41, saver.list(config).size());
+	}
+
+	@Test
+	void shouldMigrateSingleValueHistory() throws Exception {
+		String threadName = "migrate-" + UUID.randomUUID();
+		var config = RunnableConfig.builder().threadId(threadName).build();
+		saver.put(config, checkpoint("current", "current"));
+		String threadId = threadId(threadName);
+		// simulate a history written by the previous layout for another thread version
+		String legacyThreadName = "legacy-" + UUID.randomUUID();
+		var legacyConfig = RunnableConfig.builder().threadId(legacyThreadName).build();
+		redisson.<String, String>getMap("graph:thread:meta:" + legacyThreadName).put("thread_id", threadId + "-legacy");
+		redisson.<String, String>getMap("graph:thread:meta:" + legacyThreadName).put("is_released", "false");
+		byte[] payload = redisson.<byte[]>getBucket("graph:checkpoint:item:{" + threadId + "}:current",
+				ByteArrayCodec.INSTANCE)
+			.get();
+		redisson.<byte[]>getBucket("graph:checkpoint:content:" + threadId + "-legacy", ByteArrayCodec.INSTANCE)
+			.set(payload);
+
+		saver.put(legacyConfig, checkpoint("next", "next"));
+
+		assertEquals(List.of("next", "current"),
+				saver.list(legacyConfig).stream().map(Checkpoint::getId).toList());
+		assertFalse(redisson.getBucket("graph:checkpoint:content:" + threadId + "-legacy").isExists());
+	}
+
+	private static String threadId(String threadName) {
+		return redisson.<String, String>getMap("graph:thread:meta:" + threadName).get("thread_id");
+	}
+
+	private static Checkpoint checkpoint(String id, String value) {
+		return Checkpoint.builder().id(id).nodeId("node").nextNodeId("next").state(Map.of("data", value)).build();
+	}
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.cloud.ai.graph.executor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.AssistantMessage.ToolCall;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aggregates a stream of {@code chunks} {@link ChatResponse} deltas of a few characters
+ * each, carrying either text with reasoning content or the arguments of one tool call.
+ * {@code rebuild} merges every chunk into a new message the way {@link NodeExecutor} did
+ * before {@link StreamingChatResponseAggregator}; {@code aggregator} appends to builders
+ * and builds the message once.
+ *
+ * <p>
+ * Run with {@code main} from the IDE, which adds the GC profiler so that
+ * {@code gc.alloc.rate.norm} reports the bytes allocated per stream, or through the JMH
+ * runner on the test classpath with {@code -prof gc}.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StreamingAggregationBenchmark {
+
+	@Param({ "100", "1000", "5000" })
+	public int chunks;
+
+	@Param({ "text", "toolCall" })
+	public String payload;
+
+	private List<ChatResponse> stream;
+
+	@Setup
+	public void setUp() {
+		stream = new ArrayList<>(chunks);
+		for (int i = 0; i < chunks; i++) {
+			AssistantMessage.Builder message = AssistantMessage.builder();
+			if ("toolCall".equals(payload)) {
+				String arguments = i == 0 ? "{\"items\":[" : (i == chunks - 1 ? i + "]}" : i + ",");
+				message.content("").toolCalls(List.of(new ToolCall(i == 0 ? "call_1" : "", "function", "lookup", arguments)));
+			}
+			else {
+				message.content("token" + i + " ").properties(Map.of("reasoningContent", "step" + i + " "));
+			}
+			stream.add(new ChatResponse(List.of(new Generation(message.build()))));
+		}
+	}
+
+	@Benchmark
+	public ChatResponse aggregator() {
+		StreamingChatResponseAggregator aggregator = new StreamingChatResponseAggregator(true);
+		for (ChatResponse chunk : stream) {
+			aggregator.add(chunk);
+		}
+		return aggregator.toChatResponse();
+	}
+
+	@Benchmark
+	public ChatResponse rebuild() {
+		ChatResponse last = null;
+		for (ChatResponse chunk : stream) {
+			last = last == null ? chunk : rebuild(last, chunk);
+		}
+		return last;
+	}
+
+	private static ChatResponse rebuild(ChatResponse last, ChatResponse response) {
+		AssistantMessage lastOutput = last.getResult().getOutput();
+		AssistantMessage current = response.getResult().getOutput();
+		String lastText = lastOutput.getText() != null ? lastOutput.getText() : "";
+		Map<String, Object> metadata = new LinkedHashMap<>(lastOutput.getMetadata());
+		metadata.putAll(current.getMetadata());
+		Object lastReasoning = lastOutput.getMetadata().get("reasoningContent");
+		Object currentReasoning = current.getMetadata().get("reasoningContent");
+		if (lastReasoning != null || currentReasoning != null) {
+			metadata.put("reasoningContent", String.valueOf(lastReasoning != null ? lastReasoning : "")
+					+ (currentReasoning != null ? currentReasoning : ""));
+		}
+		List<ToolCall> toolCalls = lastOutput.getToolCalls();
+		if (toolCalls.isEmpty()) {
+			toolCalls = current.getToolCalls();
+		}
+		else if (!current.getToolCalls().isEmpty()) {
+			ToolCall previous = toolCalls.get(0);
+			String arguments = current.getToolCalls().get(0).arguments();
+			String merged = previous.arguments().contains(arguments) ? previous.arguments()
+					: previous.arguments() + arguments;
+			toolCalls = List.of(new ToolCall(previous.id(), previous.type(), previous.name(), merged));
+		}
+		AssistantMessage message = AssistantMessage.builder()
+			.content(current.getText() != null ? lastText.concat(current.getText()) : lastText)
+			.properties(metadata)
+			.toolCalls(toolCalls)
+			.media(current.getMedia())
+			.build();
+		return new ChatResponse(List.of(new Generation(message, response.getResult().getMetadata())),
+				response.getMetadata());
+	}
+
+	public static void main(String[] args) throws Exception {
+		new Runner(new OptionsBuilder().include(StreamingAggregationBenchmark.class.getSimpleName())
+			.addProfiler(GCProfiler.class)
+			.build()).run();
+	}
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.cloud.ai.graph.executor;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.AssistantMessage.ToolCall;
+import org.springframework.ai.chat.metadata.ChatGenerationMetadata;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreamingChatResponseAggregatorTest {
+
+	@Test
+	void shouldReturnSingleChunkUnchanged() {
+		StreamingChatResponseAggregator aggregator = new StreamingChatResponseAggregator(true);
+		assertThat(aggregator.isEmpty()).isTrue();
+		assertThat(aggregator.toChatResponse()).isNull();
+
+		ChatResponse chunk = chunk(AssistantMessage.builder().content("hello").build(), null);
+		aggregator.add(chunk);
+
+		assertThat(aggregator.isEmpty()).isFalse();
+		assertThat(aggregator.toChatResponse()).isSameAs(chunk);
+	}
+
+	@Test
+	void shouldConcatenateTextAndKeepLastChunkMetadata() {
+		StreamingChatResponseAggregator aggregator = new StreamingChatResponseAggregator(false);
+		aggregator.add(chunk(AssistantMessage.builder().content("Hel").properties(Map.of("seq", 1)).build(), null));
+		aggregator.add(chunk(AssistantMessage.builder().properties(Map.of("seq", 2)).build(), null));
+		ChatResponse last = chunk(AssistantMessage.builder().content("lo").properties(Map.of("seq", 3)).build(),
+				ChatGenerationMetadata.builder().finishReason("STOP").build());
+		aggregator.add(last);
+
+		ChatResponse response = aggregator.toChatResponse();
+
+		assertThat(response.getResult().getOutput().getText()).isEqualTo("Hello");
+		assertThat(response.getResult().getOutput().getMetadata()).containsEntry("seq", 3);
+		assertThat(response.getResult().getMetadata().getFinishReason()).isEqualTo("STOP");
+		assertThat(response.getMetadata()).isSameAs(last.getMetadata());
+	}
+
+	@Test
+	void shouldConcatenateReasoningContent() {
+		StreamingChatResponseAggregator aggregator = new StreamingChatResponseAggregator(true);
+		aggregator.add(chunk(AssistantMessage.builder()
+			.content("")
+			.properties(Map.of("reasoningContent", "Let me ", "id", "a"))
+			.build(), null));
+		aggregator.add(chunk(AssistantMessage.builder()
+			.content("")
+			.properties(Map.of("reasoningContent", "think.", "role", "assistant"))
+			.build(), null));
+		aggregator.add(chunk(AssistantMessage.builder().content("Done").properties(Map.of("id", "b")).build(), null));
+
+		Map<String, Object> metadata = aggregator.toChatResponse().getResult().getOutput().getMetadata();
+
+		assertThat(metadata).containsEntry("reasoningContent", "Let me think.")
+			.containsEntry("id", "b")
+			.containsEntry("role", "assistant");
+	}
+
+	@Test
+	void shouldMergeToolCallFragments() {
+		StreamingChatResponseAggregator aggregator = new StreamingChatResponseAggregator(false);
+		aggregator.add(toolCallChunk(new ToolCall("call_1", "function", "get_weather", ""),
+				new ToolCall("call_2", "function", "get_time", "{\"zone\":")));
+		aggregator.add(toolCallChunk(new ToolCall("", "", "", "{\"city\":")));
+		aggregator.add(toolCallChunk(new ToolCall("call_1", null, null, "\"Beijing\"}")));
+		// a provider resending the arguments so far replaces the fragments
+		aggregator.add(toolCallChunk(new ToolCall("call_2", null, null, "{\"zone\":\"UTC\"}")));
+		// a repeated fragment already contained in the arguments is dropped
+		aggregator.add(toolCallChunk(new ToolCall("call_2", null, null, "\"UTC\"")));
+
+		List<ToolCall> toolCalls = aggregator.toChatResponse().getResult().getOutput().getToolCalls();
+
+		assertThat(toolCalls).containsExactly(new ToolCall("call_1", "function", "get_weather", "{\"city\":\"Beijing\"}"),
+				new ToolCall("call_2", "function", "get_time", "{\"zone\":\"UTC\"}"));
+	}
+
+	private static ChatResponse toolCallChunk(ToolCall... toolCalls) {
+		return chunk(AssistantMessage.builder().content("").toolCalls(List.of(toolCalls)).build(), null);
+	}
+
+	private static ChatResponse chunk(AssistantMessage message, ChatGenerationMetadata metadata) {
+		Generation generation = metadata != null ? new Generation(message, metadata) : new Generation(message);
+		return new ChatResponse(List.of(generation));
+	}
+
+}
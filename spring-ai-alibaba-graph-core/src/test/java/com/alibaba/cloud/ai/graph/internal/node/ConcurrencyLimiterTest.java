@@ -0,0 +1,161 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.graph.internal.node;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrencyLimiterTest {
+
+	private ExecutorService executor;
+
+	@BeforeEach
+	void setUp() {
+		executor = Executors.newSingleThreadExecutor();
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void shouldQueueTasksOverTheLimitWithoutHoldingThreads() throws Exception {
+		ConcurrencyLimiter limiter = new ConcurrencyLimiter(2, executor);
+		List<CompletableFuture<String>> pending = new ArrayList<>();
+		AtomicInteger started = new AtomicInteger();
+		List<CompletableFuture<String>> results = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			CompletableFuture<String> work = new CompletableFuture<>();
+			pending.add(work);
+			results.add(limiter.submit(() -> {
+				started.incrementAndGet();
+				return work;
+			}));
+		}
+
+		// a single executor thread starts both permitted tasks, none of them blocks it
+		executor.submit(() -> null).get(5, TimeUnit.SECONDS);
+		assertThat(started).hasValue(2);
+		assertThat(limiter.queued()).isEqualTo(3);
+
+		pending.get(0).complete("a");
+		executor.submit(() -> null).get(5, TimeUnit.SECONDS);
+		assertThat(started).hasValue(3);
+		assertThat(results.get(0)).isCompletedWithValue("a");
+
+		for (int i = 1; i < pending.size(); i++) {
+			pending.get(i).complete(String.valueOf(i));
+		}
+		CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+		assertThat(started).hasValue(5);
+		assertThat(limiter.queued()).isZero();
+	}
+
+	@Test
+	void shouldDrainQueueWithoutRecursionWhenTasksRunOnCallingThread() {
+		ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, Runnable::run);
+		CompletableFuture<String> first = new CompletableFuture<>();
+		limiter.submit(() -> first);
+		List<CompletableFuture<String>> results = new ArrayList<>();
+		for (int i = 0; i < 100_000; i++) {
+			String value = String.valueOf(i);
+			results.add(limiter.submit(() -> CompletableFuture.completedFuture(value)));
+		}
+
+		// every queued task completes while being started, on this thread
+		first.complete("first");
+
+		assertThat(results).allMatch(CompletableFuture::isDone);
+		assertThat(results.get(results.size() - 1)).isCompletedWithValue("99999");
+		assertThat(limiter.queued()).isZero();
+		// the slot is free again
+		assertThat(limiter.submit(() -> CompletableFuture.completedFuture("next"))).isCompletedWithValue("next");
+	}
+
+	@Test
+	void shouldSkipQueuedTasksThatWereCancelled() throws Exception {
+		ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, executor);
+		CompletableFuture<String> work = new CompletableFuture<>();
+		AtomicInteger started = new AtomicInteger();
+		CompletableFuture<String> first = limiter.submit(() -> {
+			started.incrementAndGet();
+			return work;
+		});
+		CompletableFuture<String> second = limiter.submit(() -> {
+			started.incrementAndGet();
+			return CompletableFuture.completedFuture("second");
+		});
+		CompletableFuture<String> third = limiter.submit(() -> {
+			started.incrementAndGet();
+			return CompletableFuture.completedFuture("third");
+		});
+
+		second.cancel(true);
+		work.complete("first");
+
+		assertThat(third.get(5, TimeUnit.SECONDS)).isEqualTo("third");
+		assertThat(first).isCompletedWithValue("first");
+		assertThat(started).hasValue(2);
+	}
+
+	@Test
+	void shouldReleaseSlotWhenTaskFails() throws Exception {
+		ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, executor);
+		CompletableFuture<String> failed = limiter.submit(() -> {
+			throw new IllegalStateException("boom");
+		});
+		CompletableFuture<String> next = limiter.submit(() -> CompletableFuture.completedFuture("next"));
+
+		assertThat(next.get(5, TimeUnit.SECONDS)).isEqualTo("next");
+		assertThatThrownBy(failed::join).hasCauseInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void shouldRunTasksOnVirtualThreadExecutorOrFallback() throws Exception {
+		ConcurrencyLimiter limiter = new ConcurrencyLimiter(4, ParallelNode.virtualThreadExecutor());
+		List<CompletableFuture<Boolean>> results = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			results.add(limiter.submit(() -> CompletableFuture.completedFuture(isVirtual(Thread.currentThread()))));
+		}
+
+		for (CompletableFuture<Boolean> result : results) {
+			assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(ParallelNode.isVirtualThreadSupported());
+		}
+	}
+
+	private static boolean isVirtual(Thread thread) {
+		try {
+			return (Boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+		}
+		catch (ReflectiveOperationException ex) {
+			return false;
+		}
+	}
+
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.graph.serializer.std;
+
+import com.alibaba.cloud.ai.graph.OverAllState;
+
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.MessageType;
+import org.springframework.ai.chat.messages.SystemMessage;
+import org.springframework.ai.chat.messages.ToolResponseMessage;
+import org.springframework.ai.chat.messages.UserMessage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactBinaryStateSerializerTest {
+
+	private final CompactBinaryStateSerializer serializer = new CompactBinaryStateSerializer();
+
+	private static Map<String, Object> agentState() {
+		List<Message> messages = new ArrayList<>();
+		messages.add(new SystemMessage("You are a helpful assistant."));
+		for (int turn = 0; turn < 5; turn++) {
+			messages.add(new UserMessage("What is the weather in city " + turn + "?"));
+			messages.add(AssistantMessage.builder()
+				.content("")
+				.toolCalls(List.of(new AssistantMessage.ToolCall("call-" + turn, "function", "get_weather",
+						"{\"city\":\"city " + turn + "\"}")))
+				.build());
+			messages.add(ToolResponseMessage.builder()
+				.responses(List.of(new ToolResponseMessage.ToolResponse("call-" + turn, "get_weather",
+						"{\"temperature\":" + (20 + turn) + "}")))
+				.build());
+			messages.add(new AssistantMessage("It is " + (20 + turn) + " degrees in city " + turn
+					+ ", a pleasant day for a walk along the river and a coffee downtown."));
+		}
+		Map<String, Object> state = new HashMap<>();
+		state.put("messages", messages);
+		state.put("input", "What is the weather?");
+		state.put("iterations", 5);
+		state.put("startedAt", 1_700_000_000_000L);
+		state.put("score", 0.75d);
+		state.put("done", true);
+		state.put("role", MessageType.ASSISTANT);
+		state.put("missing", null);
+		state.put("payload", new byte[] { 1, 2, 3 });
+		state.put("nested", Map.of("tags", List.of("a", "b"), "depth", -3));
+		state.put("numbered", new HashMap<>(Map.of(1, "one")));
+		return state;
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldRoundTripAgentState() throws Exception {
+		Map<String, Object> state = agentState();
+
+		byte[] bytes = serializer.dataToBytes(state);
+		Map<String, Object> read = serializer.dataFromBytes(bytes);
+
+		assertEquals(CompactBinaryStateSerializer.FORMAT_VERSION_1, bytes[0]);
+		assertEquals(state.keySet(), read.keySet());
+		assertEquals("What is the weather?", read.get("input"));
+		assertEquals(5, read.get("iterations"));
+		assertEquals(1_700_000_000_000L, read.get("startedAt"));
+		assertEquals(0.75d, read.get("score"));
+		assertEquals(true, read.get("done"));
+		assertEquals(MessageType.ASSISTANT, read.get("role"));
+		assertNull(read.get("missing"));
+		assertArrayEquals(new byte[] { 1, 2, 3 }, (byte[]) read.get("payload"));
+		assertEquals(state.get("nested"), read.get("nested"));
+		assertEquals(Map.of(1, "one"), read.get("numbered"));
+
+		List<Message> expected = (List<Message>) state.get("messages");
+		List<Message> messages = (List<Message>) read.get("messages");
+		assertEquals(expected.size(), messages.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.get(i).getMessageType(), messages.get(i).getMessageType());
+			assertEquals(expected.get(i).getText(), messages.get(i).getText());
+		}
+		assertEquals(((AssistantMessage) expected.get(2)).getToolCalls(),
+				((AssistantMessage) messages.get(2)).getToolCalls());
+		assertEquals(((ToolResponseMessage) expected.get(3)).getResponses(),
+				((ToolResponseMessage) messages.get(3)).getResponses());
+	}
+
+	@Test
+	void shouldBeSmallerThanObjectStreamFormat() throws Exception {
+		Map<String, Object> state = agentState();
+		state.remove("numbered");
+
+		byte[] compact = serializer.dataToBytes(state);
+		byte[] objectStream = new SpringAIStateSerializer().dataToBytes(state);
+
+		assertTrue(compact.length * 2 < objectStream.length,
+				"compact " + compact.length + " bytes, object stream " + objectStream.length + " bytes");
+	}
+
+	@Test
+	void shouldReadPayloadsWrittenBySpringAIStateSerializer() throws Exception {
+		SpringAIStateSerializer legacy = new SpringAIStateSerializer();
+		Map<String, Object> state = Map.of("messages", List.of(new UserMessage("hello")), "count", 2);
+
+		Map<String, Object> fromBytes = serializer.dataFromBytes(legacy.dataToBytes(state));
+
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(stream)) {
+			legacy.writeData(state, out);
+		}
+		Map<String, Object> fromStream;
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(stream.toByteArray()))) {
+			fromStream = serializer.readData(in);
+		}
+
+		for (Map<String, Object> read : List.of(fromBytes, fromStream)) {
+			assertEquals(2, read.get("count"));
+			assertEquals("hello", ((List<?>) read.get("messages")).get(0) instanceof UserMessage message
+					? message.getText() : null);
+		}
+	}
+
+	@Test
+	void shouldWriteThroughObjectStreams() throws Exception {
+		Map<String, Object> state = Map.of("items", new LinkedHashSet<>(List.of("x", "y")), "text", "x");
+
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(stream)) {
+			serializer.writeData(state, out);
+		}
+		Map<String, Object> read;
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(stream.toByteArray()))) {
+			read = serializer.readData(in);
+		}
+
+		assertEquals(List.of("x", "y"), read.get("items"));
+		assertEquals("x", read.get("text"));
+	}
+
+	@Test
+	void shouldCloneState() throws Exception {
+		OverAllState state = new OverAllState(agentState());
+
+		OverAllState clone = serializer.cloneObject(state);
+
+		assertInstanceOf(List.class, clone.data().get("messages"));
+		assertEquals(state.data().get("input"), clone.data().get("input"));
+	}
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.graph.state;
+
+import com.alibaba.cloud.ai.graph.state.strategy.AppendStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+class ChunkedAppendListTest {
+
+	private static List<Integer> range(int from, int to) {
+		return IntStream.range(from, to).boxed().toList();
+	}
+
+	@Test
+	void appendingSharesPrefixAndLeavesSourceUnchanged() {
+		ChunkedAppendList<Integer> first = new ChunkedAppendList<>(range(0, 40));
+
+		ChunkedAppendList<Integer> second = first.appending(range(40, 100));
+
+		assertEquals(range(0, 40), first);
+		assertEquals(range(0, 100), second);
+	}
+
+	@Test
+	void appendingToOlderVersionBranchesOff() {
+		ChunkedAppendList<Integer> base = new ChunkedAppendList<>(range(0, 10));
+		ChunkedAppendList<Integer> left = base.appending(List.of(100));
+
+		ChunkedAppendList<Integer> right = base.appending(List.of(200));
+		base.add(300);
+
+		assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 100), left);
+		assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 200), right);
+		assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 300), base);
+	}
+
+	@Test
+	void inPlaceMutationDoesNotLeakIntoSharedVersions() {
+		ChunkedAppendList<Integer> base = new ChunkedAppendList<>(range(0, 5));
+		ChunkedAppendList<Integer> next = base.appending(List.of(5));
+
+		base.set(0, -1);
+		next.remove(1);
+		next.add(0, 42);
+
+		assertEquals(List.of(-1, 1, 2, 3, 4), base);
+		assertEquals(List.of(42, 0, 2, 3, 4, 5), next);
+	}
+
+	@Test
+	void serializesAsArrayList() throws Exception {
+		ChunkedAppendList<String> list = new ChunkedAppendList<>(List.of("a", "b"));
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(list);
+		}
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			Object read = in.readObject();
+			assertInstanceOf(ArrayList.class, read);
+			assertEquals(list, read);
+		}
+	}
+
+	@Test
+	void appendStrategyProducesAndReusesChunkedList() {
+		AppendStrategy strategy = new AppendStrategy();
+
+		Object first = strategy.apply(null, List.of("system", "user"));
+		Object second = strategy.apply(first, "assistant");
+		Object third = strategy.apply(second, List.of(RemoveByHash.of("user"), "tool"));
+		Object fourth = strategy.apply(third, ReplaceAllWith.of("summary"));
+
+		assertInstanceOf(ChunkedAppendList.class, first);
+		assertInstanceOf(ChunkedAppendList.class, second);
+		assertEquals(List.of("system", "user"), first);
+		assertEquals(List.of("system", "user", "assistant"), second);
+		assertEquals(List.of("system", "assistant", "tool"), third);
+		assertEquals(List.of("summary"), fourth);
+	}
+
+}
@@ -208,30 +208,96 @@ class DatabaseStoreAllDialectTest {
 
 	@Test
 	/**
-	 * Verifies searchItems and listNamespaces both use the full table SELECT query.
+	 * Verifies searchItems pushes the namespace prefix and pagination down into SQL and
+	 * listNamespaces selects distinct namespaces only.
 	 */
-	void shouldUseSelectAllSqlForSearchAndNamespaces() throws Exception {
+	void shouldPushSearchDownIntoSql() throws Exception {
 		TestFixture fixture = fixture("MySQL");
-		when(fixture.statement.executeQuery(contains("SELECT namespace, key_name, value_json, created_at, updated_at FROM mock_store")))
-			.thenReturn(fixture.resultSet);
-		when(fixture.resultSet.next()).thenReturn(true, true, false, true, true, false);
-		when(fixture.resultSet.getString("namespace")).thenReturn("[\"users\",\"u1\"]", "[\"products\",\"p1\"]",
-				"[\"users\",\"u1\"]", "[\"products\",\"p1\"]");
-		when(fixture.resultSet.getString("key_name")).thenReturn("k1", "k2", "k1", "k2");
-		when(fixture.resultSet.getString("value_json")).thenReturn("{\"name\":\"Alice\"}", "{\"name\":\"Book\"}",
-				"{\"name\":\"Alice\"}", "{\"name\":\"Book\"}");
+		when(fixture.resultSet.next()).thenReturn(true, true, true, false, true, true, false);
+		when(fixture.resultSet.getLong(1)).thenReturn(2L);
+		when(fixture.resultSet.getString("namespace")).thenReturn("[\"users\",\"u1\"]", "[\"users\",\"u2\"]",
+				"[\"users\",\"u1\"]", "[\"users\",\"u2\"]");
+		when(fixture.resultSet.getString("key_name")).thenReturn("k1", "k2");
+		when(fixture.resultSet.getString("value_json")).thenReturn("{\"name\":\"Alice\"}", "{\"name\":\"Bob\"}");
 		when(fixture.resultSet.getTimestamp("created_at")).thenReturn(new java.sql.Timestamp(1000L),
-				new java.sql.Timestamp(1000L), new java.sql.Timestamp(1000L), new java.sql.Timestamp(1000L));
+				new java.sql.Timestamp(1000L));
 		when(fixture.resultSet.getTimestamp("updated_at")).thenReturn(new java.sql.Timestamp(2000L),
-				new java.sql.Timestamp(2000L), new java.sql.Timestamp(2000L), new java.sql.Timestamp(2000L));
+				new java.sql.Timestamp(2000L));
 
-		StoreSearchResult result = fixture.store.searchItems(StoreSearchRequest.builder().offset(0).limit(10).build());
+		StoreSearchResult result = fixture.store
+			.searchItems(StoreSearchRequest.builder().namespace("users").offset(0).limit(10).build());
 		List<String> namespaces = fixture.store.listNamespaces(NamespaceListRequest.builder().build());
 
 		assertThat(result.getItems()).hasSize(2);
-		assertThat(namespaces).contains("users", "products");
-		verify(fixture.statement, times(2))
-			.executeQuery("SELECT namespace, key_name, value_json, created_at, updated_at FROM mock_store");
+		assertThat(result.getTotalCount()).isEqualTo(2L);
+		assertThat(namespaces).contains("users", "users/u1", "users/u2");
+		verify(fixture.connection).prepareStatement(
+				"SELECT COUNT(*) FROM mock_store WHERE (namespace = ? OR namespace LIKE ? ESCAPE '!')");
+		verify(fixture.connection).prepareStatement(contains("ORDER BY pk_id ASC LIMIT ? OFFSET ?"));
+		// bound for the count and for the page
+		verify(fixture.preparedStatement, times(2)).setObject(1, "[\"users\"]");
+		verify(fixture.preparedStatement, times(2)).setObject(2, "[\"users\",%");
+		verify(fixture.connection).prepareStatement("SELECT DISTINCT namespace FROM mock_store");
+		verify(fixture.statement, times(0)).executeQuery(contains("value_json"));
+	}
+
+	@Test
+	/**
+	 * Verifies Oracle pages with OFFSET ... FETCH NEXT and sorts by timestamp in SQL.
+	 */
+	void shouldUseOraclePaginationSql() throws Exception {
+		TestFixture fixture = fixture("Oracle");
+		when(fixture.resultSet.next()).thenReturn(true, false);
+		when(fixture.resultSet.getLong(1)).thenReturn(5L);
+
+		fixture.store.searchItems(StoreSearchRequest.builder()
+			.sortFields(List.of("updatedAt"))
+			.ascending(false)
+			.offset(2)
+			.limit(3)
+			.build());
+
+		verify(fixture.connection)
+			.prepareStatement(contains("ORDER BY updated_at DESC, pk_id ASC OFFSET ? ROWS FETCH NEXT ? ROWS ONLY"));
+		verify(fixture.preparedStatement).setInt(1, 2);
+		verify(fixture.preparedStatement).setInt(2, 3);
+	}
+
+	@Test
+	/**
+	 * Verifies text queries and filters narrow rows in SQL and stream the rest.
+	 */
+	void shouldStreamRowsNarrowedByQueryAndFilter() throws Exception {
+		TestFixture fixture = fixture("MySQL");
+		when(fixture.resultSet.next()).thenReturn(false);
+
+		fixture.store.searchItems(StoreSearchRequest.builder()
+			.query("Dark_mode")
+			.filter(Map.of("theme", "dark"))
+			.build());
+
+		verify(fixture.connection).prepareStatement(contains(
+				"WHERE (LOWER(key_name) LIKE ? ESCAPE '!' OR LOWER(value_json) LIKE ? ESCAPE '!') AND value_json LIKE ? ESCAPE '!'"));
+		verify(fixture.preparedStatement, times(2)).setObject(org.mockito.ArgumentMatchers.anyInt(),
+				org.mockito.ArgumentMatchers.eq("%dark!_mode%"));
+		verify(fixture.preparedStatement).setObject(3, "%\"theme\":\"dark\"%");
+		verify(fixture.preparedStatement).setFetchSize(Integer.MIN_VALUE);
+	}
+
+	@Test
+	/**
+	 * Verifies search indexes are created with the table.
+	 */
+	void shouldCreateSearchIndexes() throws Exception {
+		TestFixture mysql = fixture("MySQL");
+		TestFixture postgresql = fixture("PostgreSQL");
+
+		verify(mysql.statement).executeUpdate("CREATE INDEX mock_store_ns_idx ON mock_store (namespace(255))");
+		verify(mysql.statement).executeUpdate("CREATE INDEX mock_store_cat_idx ON mock_store (created_at, pk_id)");
+		verify(postgresql.statement)
+			.executeUpdate("CREATE INDEX IF NOT EXISTS mock_store_ns_idx ON mock_store (namespace text_pattern_ops)");
+		verify(postgresql.statement)
+			.executeUpdate("CREATE INDEX IF NOT EXISTS mock_store_uat_idx ON mock_store (updated_at, pk_id)");
 	}
 
 	@Test
@@ -20,9 +20,15 @@ import com.alibaba.cloud.ai.graph.store.StoreItem;
 import com.alibaba.cloud.ai.graph.store.StoreSearchRequest;
 import com.alibaba.cloud.ai.graph.store.StoreSearchResult;
 
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 
 import javax.sql.DataSource;
 
@@ -41,6 +47,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
  */
 class DatabaseStoreTest {
 
+	private DataSource dataSource;
+
 	private DatabaseStore databaseStore;
 
 	@BeforeEach
@@ -53,7 +61,7 @@ class DatabaseStoreTest {
 		config.setPassword("");
 		config.setDriverClassName("org.h2.Driver");
 
-		DataSource dataSource = new HikariDataSource(config);
+		dataSource = new HikariDataSource(config);
 		databaseStore = new DatabaseStore(dataSource, "test_store");
 	}
 
@@ -187,6 +195,96 @@ class DatabaseStoreTest {
 		assertThat(databaseStore.size()).isEqualTo(1); // Should still be 1 item
 	}
 
+	@Test
+	void testSearchWithNamespacePrefixAndPagination() {
+		setupTestData();
+		databaseStore.putItem(StoreItem.of(List.of("users_archive"), "old", Map.of("theme", "dark")));
+		databaseStore.putItem(StoreItem.of(List.of("users%"), "odd", Map.of("theme", "dark")));
+
+		StoreSearchResult users = databaseStore.searchItems(StoreSearchRequest.builder().namespace("users").build());
+		StoreSearchResult user1 = databaseStore
+			.searchItems(StoreSearchRequest.builder().namespace("users", "user1").build());
+		StoreSearchResult page = databaseStore
+			.searchItems(StoreSearchRequest.builder().namespace("users").offset(1).limit(1).build());
+		StoreSearchResult beyond = databaseStore
+			.searchItems(StoreSearchRequest.builder().namespace("users").offset(5).build());
+
+		assertThat(users.getTotalCount()).isEqualTo(3);
+		assertThat(users.getItems()).allMatch(item -> item.getNamespace().get(0).equals("users"));
+		assertThat(user1.getItems()).extracting(StoreItem::getNamespace)
+			.containsExactly(List.of("users", "user1", "preferences"));
+		assertThat(page.getTotalCount()).isEqualTo(3);
+		assertThat(page.getItems()).hasSize(1);
+		assertThat(page.getItems().get(0).getNamespace()).isEqualTo(users.getItems().get(1).getNamespace());
+		assertThat(beyond.getItems()).isEmpty();
+		assertThat(beyond.getTotalCount()).isEqualTo(3);
+	}
+
+	@Test
+	void testSearchWithQueryAndFilter() {
+		setupTestData();
+		databaseStore.putItem(StoreItem.of(List.of("users", "user3"), "counters", Map.of("theme", "dark", "count", 3)));
+
+		StoreSearchResult dark = databaseStore
+			.searchItems(StoreSearchRequest.builder().filter(Map.of("theme", "dark")).build());
+		StoreSearchResult counted = databaseStore
+			.searchItems(StoreSearchRequest.builder().filter(Map.of("theme", "dark", "count", 3)).build());
+		StoreSearchResult byKey = databaseStore.searchItems(StoreSearchRequest.builder().query("UI_set").build());
+		StoreSearchResult byValue = databaseStore.searchItems(StoreSearchRequest.builder().query("zh-cn").build());
+		// not pushed down, matched against the value's string form
+		StoreSearchResult byValueString = databaseStore
+			.searchItems(StoreSearchRequest.builder().query("theme=light").build());
+		Map<String, Object> spaced = new LinkedHashMap<>();
+		spaced.put("first", 1);
+		spaced.put("second", 2);
+		databaseStore.putItem(StoreItem.of(List.of("users", "user4"), "ordered", spaced));
+		// the space only exists in the string form "{first=1, second=2}", not in the JSON
+		StoreSearchResult bySpacedString = databaseStore
+			.searchItems(StoreSearchRequest.builder().query(" second").build());
+
+		assertThat(dark.getTotalCount()).isEqualTo(2);
+		assertThat(counted.getItems()).extracting(StoreItem::getKey).containsExactly("counters");
+		assertThat(byKey.getTotalCount()).isEqualTo(2);
+		assertThat(byValue.getItems()).extracting(StoreItem::getNamespace)
+			.containsExactly(List.of("users", "user2", "preferences"));
+		assertThat(byValueString.getTotalCount()).isEqualTo(1);
+		assertThat(bySpacedString.getItems()).extracting(StoreItem::getKey).containsExactly("ordered");
+	}
+
+	@Test
+	void testSearchSortedByTimestampAndValue() {
+		for (int i = 0; i < 5; i++) {
+			databaseStore.putItem(new StoreItem(List.of("events"), "event" + i, Map.of("rank", (i * 3) % 5), 1000L + i,
+					1000L + i));
+		}
+
+		StoreSearchResult newest = databaseStore.searchItems(StoreSearchRequest.builder()
+			.sortFields(List.of("createdAt"))
+			.ascending(false)
+			.limit(2)
+			.build());
+		StoreSearchResult byRank = databaseStore.searchItems(StoreSearchRequest.builder()
+			.sortFields(List.of("rank"))
+			.offset(1)
+			.limit(3)
+			.build());
+
+		assertThat(newest.getItems()).extracting(StoreItem::getKey).containsExactly("event4", "event3");
+		assertThat(newest.getTotalCount()).isEqualTo(5);
+		assertThat(byRank.getItems()).extracting(item -> item.getValue().get("rank")).containsExactly(1, 2, 3);
+		assertThat(byRank.getTotalCount()).isEqualTo(5);
+	}
+
+	@Test
+	void testListNamespacesWithPrefix() {
+		setupTestData();
+
+		List<String> namespaces = databaseStore
+			.listNamespaces(NamespaceListRequest.builder().namespace("users", "user1").build());
+
+		assertThat(namespaces).containsExactly("users", "users/user1", "users/user1/preferences");
+	}
+
 	private void setupTestData() {
 		// User admin data
 		databaseStore.putItem(
@@ -201,4 +299,40 @@ class DatabaseStoreTest {
 				Map.of("theme", "light", "language", "zh-CN")));
 	}
 
+	@Test
+	void testBatchPutGetAndDelete() {
+		List<StoreItem> items = new ArrayList<>();
+		for (int i = 0; i < 1200; i++) {
+			items.add(StoreItem.of(List.of("facts", "turn1"), "fact" + i, Map.of("index", i)));
+		}
+		databaseStore.putItems(items);
+		databaseStore.putItems(List.of(StoreItem.of(List.of("facts", "turn1"), "fact0", Map.of("index", -1))));
+
+		List<String> keys = new ArrayList<>();
+		for (int i = 1199; i >= 0; i--) {
+			keys.add("fact" + i);
+		}
+		keys.add("missing");
+		Map<String, StoreItem> found = databaseStore.getItems(List.of("facts", "turn1"), keys);
+
+		assertThat(databaseStore.size()).isEqualTo(1200);
+		assertThat(found).hasSize(1200);
+		assertThat(found.keySet().iterator().next()).isEqualTo("fact1199");
+		assertThat(found.get("fact0").getValue()).containsEntry("index", -1);
+		assertThat(databaseStore.deleteItems(List.of("facts", "turn1"), keys)).isEqualTo(1200);
+		assertThat(databaseStore.isEmpty()).isTrue();
+	}
+
+	@Test
+	void testSearchIndexesCreated() throws Exception {
+		Set<String> indexes = new TreeSet<>();
+		try (Connection conn = dataSource.getConnection();
+				ResultSet rs = conn.getMetaData().getIndexInfo(null, null, "TEST_STORE", false, false)) {
+			while (rs.next()) {
+				indexes.add(rs.getString("INDEX_NAME"));
+			}
+		}
+
+		assertThat(indexes).contains("TEST_STORE_NS_IDX", "TEST_STORE_CAT_IDX", "TEST_STORE_UAT_IDX");
+	}
 }
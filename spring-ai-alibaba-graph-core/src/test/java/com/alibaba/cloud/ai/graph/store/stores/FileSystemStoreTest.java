@@ -26,6 +26,7 @@ import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -213,4 +214,22 @@ class FileSystemStoreTest {
 				Map.of("theme", "light", "language", "zh-CN")));
 	}
 
+	@Test
+	void testBatchPutGetAndDelete() throws IOException {
+		store.putItems(List.of(StoreItem.of(List.of("facts", "turn1"), "a", Map.of("n", 1)),
+				StoreItem.of(List.of("facts", "turn1"), "b", Map.of("n", 2)),
+				StoreItem.of(List.of("facts", "turn2"), "c", Map.of("n", 3))));
+
+		Map<String, StoreItem> found = store.getItems(List.of("facts", "turn1"), List.of("b", "missing", "a"));
+
+		assertThat(found.keySet()).containsExactly("b", "a");
+		assertThat(found.get("a").getValue()).containsEntry("n", 1);
+		try (Stream<Path> files = Files.walk(tempDir)) {
+			assertThat(files.filter(path -> path.toString().endsWith(".tmp"))).isEmpty();
+		}
+
+		assertThat(store.deleteItems(List.of("facts", "turn1"), List.of("a", "b", "missing"))).isEqualTo(2);
+		assertThat(Files.exists(tempDir.resolve("facts").resolve("turn1"))).isFalse();
+		assertThat(store.size()).isEqualTo(1);
+	}
 }
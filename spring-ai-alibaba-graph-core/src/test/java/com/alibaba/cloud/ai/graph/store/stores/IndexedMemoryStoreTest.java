@@ -0,0 +1,160 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.graph.store.stores;
+
+import com.alibaba.cloud.ai.graph.store.NamespaceListRequest;
+import com.alibaba.cloud.ai.graph.store.StoreItem;
+import com.alibaba.cloud.ai.graph.store.StoreSearchRequest;
+import com.alibaba.cloud.ai.graph.store.StoreSearchResult;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for IndexedMemoryStore implementation.
+ *
+ * @author Spring AI Alibaba
+ */
+class IndexedMemoryStoreTest {
+
+	private IndexedMemoryStore store;
+
+	@BeforeEach
+	void setUp() {
+		store = new IndexedMemoryStore();
+		store.putItem(
+				StoreItem.of(List.of("users", "admin"), "profile", Map.of("name", "Administrator", "role", "admin")));
+		store.putItem(StoreItem.of(List.of("users", "user1", "preferences"), "ui_settings",
+				Map.of("theme", "dark", "language", "en-US")));
+		store.putItem(StoreItem.of(List.of("users", "user2", "preferences"), "ui_settings",
+				Map.of("theme", "light", "language", "zh-CN")));
+	}
+
+	@Test
+	void testSearchByNamespaceQueryAndFilter() {
+		assertThat(keys(StoreSearchRequest.builder().namespace(List.of("users", "user1")).build()))
+			.containsExactly("ui_settings");
+		assertThat(keys(StoreSearchRequest.builder().query("ADMINISTRATOR").build())).containsExactly("profile");
+		assertThat(keys(StoreSearchRequest.builder().query("ui").build())).hasSize(2);
+		assertThat(keys(StoreSearchRequest.builder().query("no such text").build())).isEmpty();
+		assertThat(keys(StoreSearchRequest.builder().filter(Map.of("theme", "dark")).build()))
+			.containsExactly("ui_settings");
+		assertThat(keys(StoreSearchRequest.builder().filter(Map.of("theme", "blue")).build())).isEmpty();
+		assertThat(keys(StoreSearchRequest.builder().namespace(List.of("users", "admin")).query("dark").build()))
+			.isEmpty();
+	}
+
+	@Test
+	void testNullFilterMatchesItemsWithoutTheField() {
+		Map<String, Object> filter = new HashMap<>();
+		filter.put("theme", null);
+
+		assertThat(keys(StoreSearchRequest.builder().filter(filter).build())).containsExactly("profile");
+	}
+
+	@Test
+	void testUpdateAndDeleteMaintainIndexes() {
+		store.putItem(StoreItem.of(List.of("users", "user1", "preferences"), "ui_settings",
+				Map.of("theme", "light", "language", "fr-FR")));
+
+		assertThat(store.size()).isEqualTo(3);
+		assertThat(keys(StoreSearchRequest.builder().filter(Map.of("theme", "dark")).build())).isEmpty();
+		assertThat(keys(StoreSearchRequest.builder().query("fr-fr").build())).containsExactly("ui_settings");
+
+		assertThat(store.deleteItem(List.of("users", "admin"), "profile")).isTrue();
+		assertThat(store.deleteItem(List.of("users", "admin"), "profile")).isFalse();
+		assertThat(keys(StoreSearchRequest.builder().query("administrator").build())).isEmpty();
+		assertThat(store.listNamespaces(NamespaceListRequest.builder().build())).containsExactly("users",
+				"users/user1", "users/user1/preferences", "users/user2", "users/user2/preferences");
+	}
+
+	@Test
+	void testListNamespacesUnderPrefix() {
+		NamespaceListRequest request = NamespaceListRequest.builder()
+			.namespace(List.of("users", "user1"))
+			.build();
+		assertThat(store.listNamespaces(request)).containsExactly("users", "users/user1",
+				"users/user1/preferences");
+
+		NamespaceListRequest shallow = NamespaceListRequest.builder().maxDepth(1).build();
+		assertThat(store.listNamespaces(shallow)).containsExactly("users");
+
+		NamespaceListRequest missing = NamespaceListRequest.builder().namespace(List.of("groups")).build();
+		assertThat(store.listNamespaces(missing)).isEmpty();
+	}
+
+	@Test
+	void testMatchesMemoryStoreAcrossUpdatesAndRebuilds() {
+		IndexedMemoryStore indexed = new IndexedMemoryStore();
+		MemoryStore reference = new MemoryStore();
+		Random random = new Random(42);
+		String[] words = { "alpha", "beta", "gamma", "delta", "Epsilon", "zeta" };
+
+		// enough replacements and deletions to trigger index rebuilds
+		for (int i = 0; i < 6000; i++) {
+			List<String> namespace = List.of("tenant" + random.nextInt(3), "user" + random.nextInt(5));
+			String key = "item" + random.nextInt(400);
+			if (random.nextInt(4) == 0) {
+				assertThat(indexed.deleteItem(namespace, key)).isEqualTo(reference.deleteItem(namespace, key));
+				continue;
+			}
+			StoreItem item = StoreItem.of(namespace, key, Map.of("topic", words[random.nextInt(words.length)],
+					"rank", random.nextInt(10), "text", words[random.nextInt(words.length)] + " note " + i));
+			indexed.putItem(item);
+			reference.putItem(item);
+		}
+
+		assertThat(indexed.size()).isEqualTo(reference.size());
+		List<StoreSearchRequest> requests = List.of(StoreSearchRequest.builder().build(),
+				StoreSearchRequest.builder().namespace(List.of("tenant1")).build(),
+				StoreSearchRequest.builder().namespace(List.of("tenant2", "user4")).query("ps").build(),
+				StoreSearchRequest.builder().query("epsilon").build(),
+				StoreSearchRequest.builder().query("note 59").filter(Map.of("rank", 3)).build(),
+				StoreSearchRequest.builder().filter(Map.of("topic", "gamma", "rank", 7)).build());
+		for (StoreSearchRequest request : requests) {
+			request.setSortFields(List.of("namespace", "key"));
+			request.setLimit(10000);
+			StoreSearchResult expected = reference.searchItems(request);
+			StoreSearchResult actual = indexed.searchItems(request);
+			assertThat(actual.getTotalCount()).isEqualTo(expected.getTotalCount());
+			assertThat(ids(actual.getItems())).isEqualTo(ids(expected.getItems()));
+		}
+
+		NamespaceListRequest namespaces = NamespaceListRequest.builder().build();
+		assertThat(indexed.listNamespaces(namespaces)).isEqualTo(reference.listNamespaces(namespaces));
+	}
+
+	private List<String> keys(StoreSearchRequest request) {
+		return store.searchItems(request).getItems().stream().map(StoreItem::getKey).toList();
+	}
+
+	private static List<String> ids(List<StoreItem> items) {
+		List<String> ids = new ArrayList<>();
+		for (StoreItem item : items) {
+			ids.add(String.join("/", item.getNamespace()) + ":" + item.getKey());
+		}
+		return ids;
+	}
+
+}
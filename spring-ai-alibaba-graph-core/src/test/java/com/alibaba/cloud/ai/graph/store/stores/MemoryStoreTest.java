@@ -250,4 +250,18 @@ class MemoryStoreTest {
 				Map.of("theme", "light", "language", "zh-CN")));
 	}
 
+	@Test
+	void testBatchOperationsFallBackToSingleItemOperations() {
+		setupTestData();
+
+		memoryStore.putItems(List.of(StoreItem.of(List.of("facts"), "a", Map.of("n", 1)),
+				StoreItem.of(List.of("facts"), "b", Map.of("n", 2))));
+
+		assertThat(memoryStore.getItems(List.of("facts"), List.of("b", "missing", "a")).keySet())
+			.containsExactly("b", "a");
+		assertThat(memoryStore.deleteItems(List.of("facts"), List.of("a", "missing"))).isEqualTo(1);
+		assertThat(memoryStore.size()).isEqualTo(4);
+		assertThrows(IllegalArgumentException.class, () -> memoryStore.putItems(null));
+		assertThrows(IllegalArgumentException.class, () -> memoryStore.getItems(List.of("facts"), List.of("")));
+	}
 }
@@ -24,11 +24,30 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoNamespace;
+import com.mongodb.client.DistinctIterable;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.client.result.DeleteResult;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.conversions.Bson;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * Unit tests for MongoStore implementation.
@@ -250,4 +269,188 @@ class MongoStoreTest {
 				Map.of("theme", "light", "language", "zh-CN")));
 	}
 
+	@Test
+	void testSearchRequestCompilesToMongoQuery() {
+		StoreSearchRequest request = StoreSearchRequest.builder()
+			.namespace("users", "user1")
+			.query("Dark.Mode")
+			.filter(Map.of("theme", "dark"))
+			.sortFields(List.of("updatedAt", "namespace", "rank"))
+			.ascending(false)
+			.build();
+
+		assertThat(toBson(MongoDocumentCollection.searchFilter(request))).isEqualTo(BsonDocument.parse("""
+				{"$and": [
+				  {"namespacePrefixes": "[\\"users\\",\\"user1\\"]"},
+				  {"searchText": {"$regularExpression": {"pattern": "\\\\Qdark.mode\\\\E", "options": ""}}},
+				  {"$and": [{"value.theme": "dark"}, {"value.theme": {"$not": {"$type": 4}}}]}
+				]}
+				"""));
+		assertThat(toBson(MongoDocumentCollection.searchSort(request)))
+			.isEqualTo(BsonDocument.parse("{updatedAt: -1, namespacePath: -1, 'value.rank': -1, _id: 1}"));
+		assertThat(toBson(MongoDocumentCollection.searchFilter(StoreSearchRequest.builder().build())))
+			.isEqualTo(new BsonDocument());
+	}
+
+	@Test
+	void testValueFiltersMatchExactly() {
+		StoreSearchRequest request = StoreSearchRequest.builder()
+			.filter(Map.of("rank", 1L, "tags", List.of("a"), "a.b", "c"))
+			.build();
+
+		assertThat(toBson(MongoDocumentCollection.searchFilter(request))).isEqualTo(BsonDocument.parse("""
+				{"$and": [
+				  {"value.rank": {"$numberLong": "1"}},
+				  {"value.rank": {"$type": 18}},
+				  {"value.rank": {"$not": {"$type": 4}}}
+				]}
+				"""));
+		// lists and dotted keys are matched on the returned items
+		assertThat(MongoDocumentCollection.residualFilters(request)).containsOnlyKeys("tags", "a.b");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void testSearchAppliesResidualFiltersToReturnedItems() {
+		MongoCollection<Document> collection = mock(MongoCollection.class);
+		FindIterable<Document> found = mock(FindIterable.class);
+		MongoCursor<Document> cursor = mock(MongoCursor.class);
+		when(collection.getNamespace()).thenReturn(new MongoNamespace("store_db", "items"));
+		when(collection.find(any(Bson.class))).thenReturn(found);
+		when(found.sort(any())).thenReturn(found);
+		when(found.iterator()).thenReturn(cursor);
+		when(cursor.hasNext()).thenReturn(true, true, true, false);
+		when(cursor.next()).thenReturn(
+				MongoDocumentCollection.toDocument("id-1",
+						new StoreItem(List.of("users"), "a", Map.of("a.b", "c"), 1L, 2L)),
+				MongoDocumentCollection.toDocument("id-2",
+						new StoreItem(List.of("users"), "b", Map.of("a", Map.of("b", "c")), 1L, 2L)),
+				MongoDocumentCollection.toDocument("id-3",
+						new StoreItem(List.of("users"), "c", Map.of("a.b", "c", "n", 1), 1L, 2L)));
+		MongoStore store = new MongoStore(collection);
+
+		StoreSearchResult result = store
+			.searchItems(StoreSearchRequest.builder().filter(Map.of("a.b", "c")).offset(1).limit(5).build());
+
+		assertThat(result.getTotalCount()).isEqualTo(2L);
+		assertThat(result.getItems()).extracting(StoreItem::getKey).containsExactly("c");
+	}
+
+	@Test
+	void testDocumentConvertsPojoValues() {
+		StoreItem item = new StoreItem(List.of("users"), "profile", Map.of("pref", new Preference("dark", 2)), 1L,
+				2L);
+
+		Document document = MongoDocumentCollection.toDocument("id-1", item);
+
+		assertThat(document.get("value")).isEqualTo(Map.of("pref", Map.of("theme", "dark", "level", 2)));
+		// the converted value encodes with the default codecs
+		assertThat(toBson(document).getDocument("value").getDocument("pref").getString("theme").getValue())
+			.isEqualTo("dark");
+	}
+
+	public record Preference(String theme, int level) {
+	}
+
+	@Test
+	void testDocumentRoundTrip() {
+		StoreItem item = new StoreItem(List.of("users", "user1"), "profile",
+				Map.of("name", "Alice", "tags", List.of(Map.of("id", 1))), 1000L, 2000L);
+
+		Document document = MongoDocumentCollection.toDocument("id-1", item);
+		// nested maps come back from the driver as documents
+		document.put("value", Document.parse(new Document(item.getValue()).toJson()));
+		StoreItem read = MongoDocumentCollection.toStoreItem(document);
+
+		assertThat(document.getList("namespacePrefixes", String.class)).containsExactly("[\"users\"]",
+				"[\"users\",\"user1\"]");
+		assertThat(document.getString("namespacePath")).isEqualTo("users/user1");
+		assertThat(document.getString("searchText")).startsWith("profile\n").contains("alice");
+		assertThat(read.getNamespace()).isEqualTo(item.getNamespace());
+		assertThat(read.getValue()).isEqualTo(item.getValue());
+		assertThat(read.getCreatedAt()).isEqualTo(1000L);
+		assertThat(read.getUpdatedAt()).isEqualTo(2000L);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void testSearchRunsOnServer() {
+		MongoCollection<Document> collection = mock(MongoCollection.class);
+		FindIterable<Document> found = mock(FindIterable.class);
+		MongoCursor<Document> cursor = mock(MongoCursor.class);
+		when(collection.getNamespace()).thenReturn(new MongoNamespace("store_db", "items"));
+		when(collection.countDocuments(any(Bson.class))).thenReturn(3L);
+		when(collection.find(any(Bson.class))).thenReturn(found);
+		when(found.sort(any())).thenReturn(found);
+		when(found.skip(anyInt())).thenReturn(found);
+		when(found.limit(anyInt())).thenReturn(found);
+		when(found.iterator()).thenReturn(cursor);
+		when(cursor.hasNext()).thenReturn(true, false);
+		when(cursor.next()).thenReturn(MongoDocumentCollection.toDocument("id-2",
+				new StoreItem(List.of("users", "user2"), "profile", Map.of("theme", "dark"), 1L, 2L)));
+		MongoStore store = new MongoStore(collection);
+
+		StoreSearchResult result = store
+			.searchItems(StoreSearchRequest.builder().namespace("users").offset(1).limit(1).build());
+		StoreSearchResult beyond = store.searchItems(StoreSearchRequest.builder().offset(3).build());
+
+		ArgumentCaptor<Bson> filter = ArgumentCaptor.forClass(Bson.class);
+		verify(collection).find(filter.capture());
+		assertThat(toBson(filter.getValue())).isEqualTo(BsonDocument.parse("{namespacePrefixes: '[\"users\"]'}"));
+		verify(found).skip(1);
+		verify(found).limit(1);
+		assertThat(result.getTotalCount()).isEqualTo(3L);
+		assertThat(result.getItems()).extracting(StoreItem::getKey).containsExactly("profile");
+		assertThat(beyond.getItems()).isEmpty();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void testListNamespacesFromPrefixes() {
+		MongoCollection<Document> collection = mock(MongoCollection.class);
+		DistinctIterable<String> prefixes = mock(DistinctIterable.class);
+		MongoCursor<String> cursor = mock(MongoCursor.class);
+		when(collection.getNamespace()).thenReturn(new MongoNamespace("store_db", "items"));
+		when(collection.distinct(eq("namespacePrefixes"), any(Bson.class), eq(String.class))).thenReturn(prefixes);
+		when(prefixes.iterator()).thenReturn(cursor);
+		when(cursor.hasNext()).thenReturn(true, true, true, false);
+		when(cursor.next()).thenReturn("[\"users\",\"user1\"]", "[\"users\"]", "[\"users\",\"user1\",\"prefs\"]");
+		MongoStore store = new MongoStore(collection);
+
+		List<String> namespaces = store
+			.listNamespaces(NamespaceListRequest.builder().namespace("users").maxDepth(2).build());
+
+		assertThat(namespaces).containsExactly("users", "users/user1");
+	}
+
+	private static BsonDocument toBson(Bson bson) {
+		return bson.toBsonDocument(BsonDocument.class, MongoClientSettings.getDefaultCodecRegistry());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void testBatchOperationsUseBulkRequests() {
+		MongoCollection<Document> collection = mock(MongoCollection.class);
+		FindIterable<Document> found = mock(FindIterable.class);
+		MongoCursor<Document> cursor = mock(MongoCursor.class);
+		when(collection.getNamespace()).thenReturn(new MongoNamespace("store_db", "items"));
+		when(collection.find(any(Bson.class))).thenReturn(found);
+		when(found.iterator()).thenReturn(cursor);
+		when(cursor.hasNext()).thenReturn(true, false);
+		when(cursor.next()).thenReturn(MongoDocumentCollection.toDocument("id-b",
+				new StoreItem(List.of("users"), "b", Map.of("n", 2), 1L, 2L)));
+		when(collection.deleteMany(any(Bson.class))).thenReturn(DeleteResult.acknowledged(2));
+		MongoStore store = new MongoStore(collection);
+
+		store.putItems(List.of(StoreItem.of(List.of("users"), "a", Map.of("n", 1)),
+				StoreItem.of(List.of("users"), "b", Map.of("n", 2))));
+		Map<String, StoreItem> items = store.getItems(List.of("users"), List.of("a", "b"));
+		int deleted = store.deleteItems(List.of("users"), List.of("a", "b"));
+
+		ArgumentCaptor<List<WriteModel<Document>>> writes = ArgumentCaptor.forClass(List.class);
+		verify(collection).bulkWrite(writes.capture());
+		assertThat(writes.getValue()).hasSize(2).allMatch(ReplaceOneModel.class::isInstance);
+		assertThat(items).containsOnlyKeys("b");
+		assertThat(deleted).isEqualTo(2);
+	}
 }
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.graph.store.stores;
+
+import com.alibaba.cloud.ai.graph.store.NamespaceListRequest;
+import com.alibaba.cloud.ai.graph.store.StoreItem;
+import com.alibaba.cloud.ai.graph.store.StoreSearchRequest;
+import com.alibaba.cloud.ai.graph.store.StoreSearchResult;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.config.Config;
+import redis.embedded.RedisServer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests {@link RedisStore} backed by Redisson against an embedded Redis server.
+ */
+@EnabledOnOs({ OS.LINUX, OS.MAC })
+class RedisStoreRedissonTest {
+
+	private static RedisServer redisServer;
+
+	private static RedissonClient redisson;
+
+	private String keyPrefix;
+
+	private RedisStore store;
+
+	@BeforeAll
+	static void startRedis() throws IOException {
+		int port;
+		try (ServerSocket socket = new ServerSocket(0)) {
+			port = socket.getLocalPort();
+		}
+		redisServer = new RedisServer(port);
+		redisServer.start();
+		Config config = new Config();
+		config.useSingleServer().setAddress("redis://127.0.0.1:" + port);
+		redisson = Redisson.create(config);
+	}
+
+	@AfterAll
+	static void stopRedis() throws IOException {
+		if (redisson != null) {
+			redisson.shutdown();
+		}
+		if (redisServer != null) {
+			redisServer.stop();
+		}
+	}
+
+	@BeforeEach
+	void setUp() {
+		keyPrefix = "store-test:" + UUID.randomUUID() + ":";
+		store = new RedisStore(redisson, keyPrefix);
+		store.putItem(
+				StoreItem.of(List.of("users", "admin"), "profile", Map.of("name", "Administrator", "role", "admin")));
+		store.putItem(StoreItem.of(List.of("users", "user1", "preferences"), "ui_settings",
+				Map.of("theme", "dark", "language", "en-US", "fontSize", 14)));
+		store.putItem(StoreItem.of(List.of("users", "user2", "preferences"), "ui_settings",
+				Map.of("theme", "light", "language", "zh-CN", "fontSize", 12)));
+	}
+
+	@Test
+	void shouldShareItemsBetweenStoreInstances() {
+		RedisStore replica = new RedisStore(redisson, keyPrefix);
+
+		StoreItem item = replica.getItem(List.of("users", "user1", "preferences"), "ui_settings").orElseThrow();
+
+		assertThat(item.getValue()).containsEntry("theme", "dark").containsEntry("fontSize", 14);
+		assertThat(item.getCreatedAt()).isPositive();
+		assertThat(replica.size()).isEqualTo(3);
+		assertThat(replica.getItem(List.of("users"), "ui_settings")).isEmpty();
+	}
+
+	@Test
+	void shouldSearchThroughIndexes() {
+		assertThat(keys(StoreSearchRequest.builder().namespace("users", "user1").build()))
+			.containsExactly("ui_settings");
+		assertThat(keys(StoreSearchRequest.builder().filter(Map.of("theme", "dark", "fontSize", 14)).build()))
+			.containsExactly("ui_settings");
+		assertThat(keys(StoreSearchRequest.builder().namespace("users").filter(Map.of("role", "admin")).build()))
+			.containsExactly("profile");
+		assertThat(keys(StoreSearchRequest.builder().filter(Map.of("theme", "blue")).build())).isEmpty();
+		assertThat(keys(StoreSearchRequest.builder().query("administrator").build())).containsExactly("profile");
+
+		StoreSearchResult page = store.searchItems(StoreSearchRequest.builder()
+			.sortFields(List.of("namespace"))
+			.ascending(false)
+			.offset(1)
+			.limit(1)
+			.build());
+		assertThat(page.getTotalCount()).isEqualTo(3);
+		assertThat(page.getItems()).extracting(StoreItem::getNamespace)
+			.containsExactly(List.of("users", "user1", "preferences"));
+	}
+
+	@Test
+	void shouldMaintainIndexesOnUpdateAndDelete() {
+		List<String> namespace = List.of("users", "user1", "preferences");
+		store.putItem(StoreItem.of(namespace, "ui_settings", Map.of("theme", "light")));
+
+		assertThat(keys(StoreSearchRequest.builder().filter(Map.of("theme", "dark")).build())).isEmpty();
+		assertThat(keys(StoreSearchRequest.builder().filter(Map.of("theme", "light")).build())).hasSize(2);
+		assertThat(store.size()).isEqualTo(3);
+
+		assertThat(store.deleteItem(namespace, "ui_settings")).isTrue();
+		assertThat(store.deleteItem(namespace, "ui_settings")).isFalse();
+		assertThat(keys(StoreSearchRequest.builder().filter(Map.of("theme", "light")).build())).hasSize(1);
+		assertThat(store.listNamespaces(NamespaceListRequest.builder().build())).containsExactly("users",
+				"users/admin", "users/user2", "users/user2/preferences");
+		assertThat(redisson.getKeys().getKeysByPattern(keyPrefix + "*user1*")).isEmpty();
+	}
+
+	@Test
+	void shouldListNamespacesFromRegistry() {
+		assertThat(store.listNamespaces(NamespaceListRequest.builder().namespace("users", "user2").build()))
+			.containsExactly("users", "users/user2", "users/user2/preferences");
+		assertThat(store.listNamespaces(NamespaceListRequest.builder().maxDepth(2).build())).containsExactly("users",
+				"users/admin", "users/user1", "users/user2");
+		assertThat(redisson.getSet(keyPrefix + "namespaces", StringCodec.INSTANCE).size()).isEqualTo(6);
+	}
+
+	@Test
+	void shouldClearOnlyItsOwnKeys() {
+		RedisStore other = new RedisStore(redisson, "store-test:" + UUID.randomUUID() + ":");
+		other.putItem(StoreItem.of(List.of("users"), "kept", Map.of("x", 1)));
+
+		store.clear();
+
+		assertThat(store.isEmpty()).isTrue();
+		assertThat(store.listNamespaces(NamespaceListRequest.builder().build())).isEmpty();
+		assertThat(other.size()).isEqualTo(1);
+		assertThat(other.getItem(List.of("users"), "kept")).isPresent();
+	}
+
+	private List<String> keys(StoreSearchRequest request) {
+		return store.searchItems(request).getItems().stream().map(StoreItem::getKey).toList();
+	}
+
+	@Test
+	void shouldPipelineBatchOperations() {
+		List<StoreItem> facts = new ArrayList<>();
+		for (int i = 0; i < 1200; i++) {
+			facts.add(StoreItem.of(List.of("facts", "turn1"), "fact" + i, Map.of("parity", i % 2)));
+		}
+		store.putItems(facts);
+
+		assertThat(store.size()).isEqualTo(1203);
+		assertThat(store.searchItems(StoreSearchRequest.builder().filter(Map.of("parity", 1)).build())
+			.getTotalCount()).isEqualTo(600);
+		assertThat(store.getItems(List.of("facts", "turn1"), List.of("fact7", "missing", "fact3")).keySet())
+			.containsExactly("fact7", "fact3");
+		assertThat(store.deleteItems(List.of("facts", "turn1"), facts.stream().map(StoreItem::getKey).toList()))
+			.isEqualTo(1200);
+		assertThat(store.listNamespaces(NamespaceListRequest.builder().maxDepth(1).build())).containsExactly("users");
+	}
+}
@@ -31,6 +31,8 @@ import com.alibaba.nacos.api.ai.A2aService;
 import com.alibaba.nacos.api.ai.AiFactory;
 import com.alibaba.nacos.api.exception.NacosException;
 
+import java.util.function.UnaryOperator;
+
 /**
  * The AutoConfiguration for A2A Nacos discovery.
  *
@@ -49,9 +51,13 @@ public class NacosA2aDiscoveryAutoConfiguration {
 		return AiFactory.createAiService(nacosA2aProperties.getNacosProperties());
 	}
 
+	/**
+	 * Agent cards discovered from Nacos are cached with background refresh; Nacos pushes
+	 * refresh them immediately.
+	 */
 	@Bean
 	public NacosAgentCardProvider nacosAgentCardProvider(A2aService a2aService) throws Exception {
-		return new NacosAgentCardProvider(a2aService);
+		return new NacosAgentCardProvider(a2aService, UnaryOperator.identity());
 	}
 
 }
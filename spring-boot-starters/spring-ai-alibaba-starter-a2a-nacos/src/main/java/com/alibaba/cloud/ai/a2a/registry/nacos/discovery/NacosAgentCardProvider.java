@@ -19,6 +19,14 @@ package com.alibaba.cloud.ai.a2a.registry.nacos.discovery;
 import com.alibaba.cloud.ai.a2a.registry.nacos.utils.AgentCardConverterUtil;
 import com.alibaba.cloud.ai.graph.agent.a2a.AgentCardProvider;
 import com.alibaba.cloud.ai.graph.agent.a2a.AgentCardWrapper;
+import com.alibaba.cloud.ai.graph.agent.a2a.CachingAgentCardProvider;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 
 import com.alibaba.nacos.api.ai.A2aService;
 import com.alibaba.nacos.api.ai.listener.AbstractNacosAgentCardListener;
@@ -34,6 +42,14 @@ import org.slf4j.LoggerFactory;
  * Implementation of AgentCardProvider for getting agent card from nacos a2a
  * registry.
  *
+ * <p>
+ * Each agent is subscribed once; pushed changes update its {@link NacosAgentCardWrapper}
+ * in place and are forwarded to the registered change listeners, so that caches such as
+ * {@link CachingAgentCardProvider} pick them up. Lookups can also go through such a
+ * cache built by the provider itself, see
+ * {@link #NacosAgentCardProvider(A2aService, UnaryOperator)}.
+ * </p>
+ *
  * @author xiweng.yy
  */
 public class NacosAgentCardProvider implements AgentCardProvider {
@@ -42,10 +58,52 @@ public class NacosAgentCardProvider implements AgentCardProvider {
 
 	private final A2aService a2aService;
 
-	private AgentCardWrapper agentCard;
+	private final Map<String, NacosAgentCardWrapper> agentCards = new ConcurrentHashMap<>();
+
+	private final Map<String, AbstractNacosAgentCardListener> subscriptions = new ConcurrentHashMap<>();
+
+	private final List<Consumer<String>> changeListeners = new CopyOnWriteArrayList<>();
+
+	private final AgentCardProvider lookup;
+
+	private volatile AgentCardWrapper agentCard;
 
 	public NacosAgentCardProvider(A2aService a2aService) {
+		this(a2aService, null);
+	}
+
+	/**
+	 * Creates a provider whose lookups by name are cached by a
+	 * {@link CachingAgentCardProvider}, refreshed in the background and on Nacos pushes.
+	 * @param a2aService the Nacos A2A service
+	 * @param cacheSettings customizes the cache settings, or {@code null} to look every
+	 * card up in Nacos
+	 */
+	public NacosAgentCardProvider(A2aService a2aService, UnaryOperator<CachingAgentCardProvider.Builder> cacheSettings) {
 		this.a2aService = a2aService;
+		AgentCardProvider registry = new AgentCardProvider() {
+			@Override
+			public AgentCardWrapper getAgentCard() {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public AgentCardWrapper getAgentCard(String agentName) {
+				return fetchAgentCard(agentName);
+			}
+
+			@Override
+			public boolean supportGetAgentCardByName() {
+				return true;
+			}
+
+			@Override
+			public void addAgentCardChangeListener(Consumer<String> listener) {
+				changeListeners.add(listener);
+			}
+		};
+		this.lookup = cacheSettings == null ? registry
+				: cacheSettings.apply(CachingAgentCardProvider.builder(registry)).build();
 	}
 
 	@Override
@@ -58,20 +116,24 @@ public class NacosAgentCardProvider implements AgentCardProvider {
 
 	@Override
 	public AgentCardWrapper getAgentCard(String agentName) {
+		AgentCardWrapper wrapper = lookup.getAgentCard(agentName);
+		agentCard = wrapper;
+		return wrapper;
+	}
+
+	private AgentCardWrapper fetchAgentCard(String agentName) {
 		try {
 			AgentCard nacosAgentCard = a2aService.getAgentCard(agentName);
-			agentCard = new NacosAgentCardWrapper(AgentCardConverterUtil.convertToA2aAgentCard(nacosAgentCard));
-			a2aService.subscribeAgentCard(agentName, new AbstractNacosAgentCardListener() {
-				@Override
-				public void onEvent(NacosAgentCardEvent event) {
-					AgentCard newAgentCard = event.getAgentCard();
-					if (LOGGER.isDebugEnabled()) {
-						LOGGER.debug("Received new Agent Card: {}", JacksonUtils.toJson(newAgentCard));
-					}
-					agentCard.setAgentCard(AgentCardConverterUtil.convertToA2aAgentCard(newAgentCard));
+			io.a2a.spec.AgentCard a2aAgentCard = AgentCardConverterUtil.convertToA2aAgentCard(nacosAgentCard);
+			NacosAgentCardWrapper wrapper = agentCards.compute(agentName, (name, existing) -> {
+				if (existing == null) {
+					return new NacosAgentCardWrapper(a2aAgentCard);
 				}
+				existing.setAgentCard(a2aAgentCard);
+				return existing;
 			});
-			return agentCard;
+			subscribe(agentName);
+			return wrapper;
 		}
 		catch (NacosException e) {
 			throw new NacosRuntimeException(e.getErrCode(), e.getErrMsg());
@@ -83,4 +145,50 @@ public class NacosAgentCardProvider implements AgentCardProvider {
 		return true;
 	}
 
+	@Override
+	public void addAgentCardChangeListener(Consumer<String> listener) {
+		changeListeners.add(listener);
+	}
+
+	private void subscribe(String agentName) throws NacosException {
+		if (subscriptions.containsKey(agentName)) {
+			return;
+		}
+		AbstractNacosAgentCardListener listener = new AbstractNacosAgentCardListener() {
+			@Override
+			public void onEvent(NacosAgentCardEvent event) {
+				onAgentCardChanged(agentName, event.getAgentCard());
+			}
+		};
+		if (subscriptions.putIfAbsent(agentName, listener) == null) {
+			try {
+				a2aService.subscribeAgentCard(agentName, listener);
+			}
+			catch (NacosException e) {
+				subscriptions.remove(agentName, listener);
+				throw e;
+			}
+		}
+	}
+
+	private void onAgentCardChanged(String agentName, AgentCard newAgentCard) {
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("Received new Agent Card: {}", JacksonUtils.toJson(newAgentCard));
+		}
+		if (newAgentCard != null) {
+			NacosAgentCardWrapper wrapper = agentCards.get(agentName);
+			if (wrapper != null) {
+				wrapper.setAgentCard(AgentCardConverterUtil.convertToA2aAgentCard(newAgentCard));
+			}
+		}
+		for (Consumer<String> listener : changeListeners) {
+			try {
+				listener.accept(agentName);
+			}
+			catch (RuntimeException e) {
+				LOGGER.warn("Agent card change listener failed for {}", agentName, e);
+			}
+		}
+	}
+
 }
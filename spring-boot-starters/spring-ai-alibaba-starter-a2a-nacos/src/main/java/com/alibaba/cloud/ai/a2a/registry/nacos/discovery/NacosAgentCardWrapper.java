@@ -16,62 +16,20 @@
 
 package com.alibaba.cloud.ai.a2a.registry.nacos.discovery;
 
-import com.alibaba.cloud.ai.graph.agent.a2a.AgentCardWrapper;
+import com.alibaba.cloud.ai.graph.agent.a2a.LoadBalancedAgentCardWrapper;
 
-import java.util.List;
-import java.util.Objects;
-import java.util.concurrent.ThreadLocalRandom;
-import java.util.concurrent.atomic.AtomicInteger;
-
-import com.alibaba.nacos.common.utils.CollectionUtils;
 import io.a2a.spec.AgentCard;
-import io.a2a.spec.AgentInterface;
 
 /**
- * Spring AI Alibaba Agent Card Wrapper for Nacos.
+ * Spring AI Alibaba Agent Card Wrapper for Nacos. Calls are balanced across the endpoints
+ * registered for the agent's preferred transport.
  *
  * @author xiweng.yy
  */
-public class NacosAgentCardWrapper extends AgentCardWrapper {
-
-	private final AtomicInteger pollingIndex;
+public class NacosAgentCardWrapper extends LoadBalancedAgentCardWrapper {
 
 	public NacosAgentCardWrapper(AgentCard agentCard) {
 		super(agentCard);
-		this.pollingIndex = new AtomicInteger(0);
-		shuffleStartIndex();
-	}
-
-	private void shuffleStartIndex() {
-		if (CollectionUtils.isNotEmpty(getAgentCard().additionalInterfaces())) {
-			int shuffleIndex = ThreadLocalRandom.current().nextInt(getAgentCard().additionalInterfaces().size());
-			pollingIndex.set(shuffleIndex);
-		}
 	}
 
-	@Override
-	public String url() {
-		if (CollectionUtils.isEmpty(getAgentCard().additionalInterfaces())) {
-			return super.url();
-		}
-		List<AgentInterface> agentInterfaces = getAgentCard().additionalInterfaces()
-			.stream()
-			.filter(agentInterface -> agentInterface != null
-					&& Objects.equals(getAgentCard().preferredTransport(), agentInterface.transport()))
-			.toList();
-		if (CollectionUtils.isEmpty(agentInterfaces)) {
-			return super.url();
-		}
-		if (1 == agentInterfaces.size()) {
-			return agentInterfaces.get(0).url();
-		}
-		int index = pollingIndex.incrementAndGet() % agentInterfaces.size();
-		return agentInterfaces.get(index).url();
-	}
-
-	@Override
-	public void setAgentCard(AgentCard agentCard) {
-		super.setAgentCard(agentCard);
-		shuffleStartIndex();
-	}
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.cloud.ai.a2a.registry.nacos.discovery;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import com.alibaba.cloud.ai.graph.agent.a2a.AgentCardWrapper;
+import com.alibaba.nacos.api.ai.A2aService;
+import com.alibaba.nacos.api.ai.listener.AbstractNacosAgentCardListener;
+import com.alibaba.nacos.api.ai.listener.NacosAgentCardEvent;
+import com.alibaba.nacos.api.ai.model.a2a.AgentCapabilities;
+import com.alibaba.nacos.api.ai.model.a2a.AgentCardDetailInfo;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NacosAgentCardProviderTest {
+
+	@Test
+	void shouldSubscribeOnceAndApplyPushedCards() throws Exception {
+		A2aService a2aService = mock(A2aService.class);
+		when(a2aService.getAgentCard("agent")).thenReturn(createAgentCard("http://localhost:8080"));
+		NacosAgentCardProvider provider = new NacosAgentCardProvider(a2aService);
+		List<String> changes = new ArrayList<>();
+		provider.addAgentCardChangeListener(changes::add);
+
+		AgentCardWrapper first = provider.getAgentCard("agent");
+		AgentCardWrapper second = provider.getAgentCard("agent");
+
+		assertThat(second).isSameAs(first);
+		ArgumentCaptor<AbstractNacosAgentCardListener> listener = ArgumentCaptor
+			.forClass(AbstractNacosAgentCardListener.class);
+		verify(a2aService, times(1)).subscribeAgentCard(eq("agent"), listener.capture());
+
+		listener.getValue().onEvent(new NacosAgentCardEvent(createAgentCard("http://localhost:9090")));
+
+		assertThat(first.url()).isEqualTo("http://localhost:9090");
+		assertThat(changes).containsExactly("agent");
+		verify(a2aService, times(1)).subscribeAgentCard(eq("agent"), any());
+	}
+
+	@Test
+	void shouldServeCachedCardsWhenCacheIsEnabled() throws Exception {
+		A2aService a2aService = mock(A2aService.class);
+		when(a2aService.getAgentCard("agent")).thenReturn(createAgentCard("http://localhost:8080"));
+		NacosAgentCardProvider provider = new NacosAgentCardProvider(a2aService, UnaryOperator.identity());
+
+		AgentCardWrapper first = provider.getAgentCard("agent");
+		AgentCardWrapper second = provider.getAgentCard("agent");
+
+		assertThat(second).isSameAs(first);
+		assertThat(provider.getAgentCard()).isSameAs(first);
+		verify(a2aService, times(1)).getAgentCard("agent");
+	}
+
+	private AgentCardDetailInfo createAgentCard(String url) {
+		AgentCardDetailInfo agentCard = new AgentCardDetailInfo();
+		agentCard.setProtocolVersion("0.3.0");
+		agentCard.setName("agent");
+		agentCard.setDescription("Test agent");
+		agentCard.setVersion("1.0.0");
+		agentCard.setUrl(url);
+		agentCard.setPreferredTransport("JSONRPC");
+		agentCard.setCapabilities(createCapabilities());
+		agentCard.setSkills(List.of());
+		agentCard.setDefaultInputModes(List.of("text/plain"));
+		agentCard.setDefaultOutputModes(List.of("text/plain"));
+		return agentCard;
+	}
+
+	private AgentCapabilities createCapabilities() {
+		AgentCapabilities capabilities = new AgentCapabilities();
+		capabilities.setStreaming(false);
+		capabilities.setPushNotifications(false);
+		capabilities.setStateTransitionHistory(false);
+		return capabilities;
+	}
+
+}
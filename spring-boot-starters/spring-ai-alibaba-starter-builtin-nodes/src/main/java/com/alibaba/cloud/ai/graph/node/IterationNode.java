@@ -15,30 +15,46 @@
  */
 package com.alibaba.cloud.ai.graph.node;
 
+import com.alibaba.cloud.ai.graph.CompileConfig;
+import com.alibaba.cloud.ai.graph.CompiledGraph;
+import com.alibaba.cloud.ai.graph.GraphResponse;
 import com.alibaba.cloud.ai.graph.KeyStrategy;
 import com.alibaba.cloud.ai.graph.KeyStrategyFactory;
+import com.alibaba.cloud.ai.graph.NodeOutput;
 import com.alibaba.cloud.ai.graph.OverAllState;
+import com.alibaba.cloud.ai.graph.RunnableConfig;
 import com.alibaba.cloud.ai.graph.StateGraph;
+import com.alibaba.cloud.ai.graph.action.AsyncNodeActionWithConfig;
 import com.alibaba.cloud.ai.graph.action.NodeAction;
+import com.alibaba.cloud.ai.graph.checkpoint.config.SaverConfig;
 import com.alibaba.cloud.ai.graph.exception.GraphStateException;
+import com.alibaba.cloud.ai.graph.internal.node.ConcurrencyLimiter;
+import com.alibaba.cloud.ai.graph.internal.node.ParallelNode;
 import com.alibaba.cloud.ai.graph.state.strategy.ReplaceStrategy;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import static com.alibaba.cloud.ai.graph.action.AsyncEdgeAction.edge_async;
 import static com.alibaba.cloud.ai.graph.action.AsyncNodeAction.node_async;
 
 /**
  * Iteration node that performs the same operation on all elements of a JSON array and saves the results in a JSON array. Both input and output JSON arrays are represented as JSON strings.
- * Node usage: IterationNode.Start -> SubStateGraphNode -> IterationNode.End
+ * Node usage: IterationNode.Start -> SubStateGraphNode -> IterationNode.End, or a single IterationNode.Parallel
+ * node that runs the subgraph for several elements at once
  *
  * @author vlsmb
  * @since 2025/7/19
@@ -101,16 +117,7 @@ public class IterationNode {
 					if (inputs == null) {
 						return Map.of(this.outputStartIterationKey, false);
 					}
-					// User input can be either List or JSON string
-
-					if (inputs instanceof List) {
-						list = List.copyOf((List<ElementInput>) inputs);
-					}
-					else {
-						list = List
-							.copyOf(OBJECT_MAPPER.readValue(inputs.toString(), new TypeReference<List<ElementInput>>() {
-							}));
-					}
+					list = toList(inputs);
 					if (list.isEmpty()) {
 						return Map.of(this.outputStartIterationKey, false);
 					}
@@ -312,6 +319,222 @@ public class IterationNode {
 
 	}
 
+	/**
+	 * Iteration node that runs the subgraph for several elements at once, each element in its own
+	 * compiled subgraph run, instead of looping through Start and End. At most {@code maxConcurrency}
+	 * elements run at a time on the executor configured for this node, or the default parallel executor
+	 * of the {@link RunnableConfig}.
+	 * <p>
+	 * The node streams an {@link ElementResult} for each element as soon as it completes, and then saves
+	 * all results as a JSON array in input order. A failing element stops the iteration: elements still
+	 * waiting for a slot are skipped and the node fails.
+	 *
+	 * @param <ElementInput> type of input element
+	 * @param <ElementOutput> type of output element
+	 */
+	public static class Parallel<ElementInput, ElementOutput> implements AsyncNodeActionWithConfig {
+
+		/**
+		 * Name of this node, used to look up its executor
+		 */
+		private final String nodeId;
+
+		/**
+		 * Key of input JSON array, element type should be JSON string or List
+		 */
+		private final String inputArrayJsonKey;
+
+		/**
+		 * JSON result array output from entire iteration node processing, should be replace strategy
+		 */
+		private final String outputArrayJsonKey;
+
+		/**
+		 * Key of current iteration element in iteration subgraph
+		 */
+		private final String iteratorItemKey;
+
+		/**
+		 * Key of processing result in iteration subgraph
+		 */
+		private final String iteratorResultKey;
+
+		/**
+		 * Subgraph for single element operation, compiled without a checkpoint saver
+		 */
+		private final CompiledGraph subGraph;
+
+		private final int maxConcurrency;
+
+		public Parallel(String nodeId, String inputArrayJsonKey, String outputArrayJsonKey, String iteratorItemKey,
+				String iteratorResultKey, CompiledGraph subGraph, int maxConcurrency) {
+			if (maxConcurrency <= 0) {
+				throw new IllegalArgumentException("maxConcurrency must be positive");
+			}
+			this.nodeId = nodeId;
+			this.inputArrayJsonKey = inputArrayJsonKey;
+			this.outputArrayJsonKey = outputArrayJsonKey;
+			this.iteratorItemKey = iteratorItemKey;
+			this.iteratorResultKey = iteratorResultKey;
+			this.subGraph = subGraph;
+			this.maxConcurrency = maxConcurrency;
+		}
+
+		@Override
+		public CompletableFuture<Map<String, Object>> apply(OverAllState state, RunnableConfig config) {
+			try {
+				Object inputs = state.value(this.inputArrayJsonKey).orElse(null);
+				List<ElementInput> list = inputs == null ? List.of() : toList(inputs);
+				if (list.isEmpty()) {
+					return CompletableFuture.completedFuture(Map.of(this.outputArrayJsonKey, "[]"));
+				}
+				Map<String, Object> sharedState = new HashMap<>(state.data());
+				sharedState.remove(this.outputArrayJsonKey);
+				RunnableConfig elementConfig = RunnableConfig.builder(config)
+					.checkPointId(null)
+					.nextNode(null)
+					.clearContext()
+					.build();
+				Flux<Object> results = Flux.defer(() -> iterate(list, sharedState, elementConfig));
+				return CompletableFuture.completedFuture(Map.of(this.outputArrayJsonKey, results));
+			}
+			catch (Exception e) {
+				log.error("Iteration Parallel node error: {}", e.getMessage(), e);
+				return CompletableFuture.failedFuture(e);
+			}
+		}
+
+		private Flux<Object> iterate(List<ElementInput> list, Map<String, Object> sharedState,
+				RunnableConfig elementConfig) {
+			Executor executor = ParallelNode.getExecutor(elementConfig, this.nodeId);
+			ConcurrencyLimiter limiter = new ConcurrencyLimiter(this.maxConcurrency, executor);
+			log.debug("Iteration node {} will process {} elements with max concurrency: {}", this.nodeId,
+					list.size(), this.maxConcurrency);
+			Object[] outputs = new Object[list.size()];
+			List<Mono<ElementResult<ElementOutput>>> elements = new ArrayList<>(list.size());
+			for (int i = 0; i < list.size(); i++) {
+				int index = i;
+				ElementInput item = list.get(i);
+				Map<String, Object> elementState = new HashMap<>(sharedState);
+				elementState.put(this.iteratorItemKey, item);
+				// cancelling the Mono cancels the future, so that a waiting element is skipped by the limiter
+				elements.add(Mono
+					.fromFuture(limiter.submit(() -> this.subGraph.stream(elementState, elementConfig)
+						.last()
+						.map(NodeOutput::state)
+						.toFuture()))
+					.map(finalState -> {
+						ElementOutput result = (ElementOutput) finalState.value(this.iteratorResultKey)
+							.orElseThrow(() -> new IllegalStateException(
+									"Iteration subgraph returned no value for key " + this.iteratorResultKey));
+						outputs[index] = result;
+						return new ElementResult<>(index, item, result);
+					})
+					.onErrorMap(ex -> new IllegalStateException(
+							String.format("Iteration element %d of %s failed", index, this.nodeId), unwrap(ex))));
+			}
+			return Flux.merge(elements)
+				.<Object>map(result -> result)
+				.concatWith(Mono.fromCallable(() -> GraphResponse.done(Map.of(this.outputArrayJsonKey,
+						OBJECT_MAPPER.writeValueAsString(Arrays.asList(outputs))))));
+		}
+
+		private static Throwable unwrap(Throwable ex) {
+			return ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+		}
+
+		public static class Builder<ElementInput, ElementOutput> {
+
+			private String nodeId;
+
+			private String inputArrayJsonKey;
+
+			private String outputArrayJsonKey;
+
+			private String iteratorItemKey;
+
+			private String iteratorResultKey;
+
+			private CompiledGraph subGraph;
+
+			private int maxConcurrency;
+
+			private Builder() {
+				this.nodeId = null;
+				this.inputArrayJsonKey = null;
+				this.outputArrayJsonKey = null;
+				this.iteratorItemKey = null;
+				this.iteratorResultKey = null;
+				this.subGraph = null;
+				this.maxConcurrency = 0;
+			}
+
+			public Parallel<ElementInput, ElementOutput> build() {
+				return new Parallel<>(nodeId, inputArrayJsonKey, outputArrayJsonKey, iteratorItemKey,
+						iteratorResultKey, subGraph, maxConcurrency);
+			}
+
+			public Builder<ElementInput, ElementOutput> nodeId(String nodeId) {
+				this.nodeId = nodeId;
+				return this;
+			}
+
+			public Builder<ElementInput, ElementOutput> inputArrayJsonKey(String inputArrayJsonKey) {
+				this.inputArrayJsonKey = inputArrayJsonKey;
+				return this;
+			}
+
+			public Builder<ElementInput, ElementOutput> outputArrayJsonKey(String outputArrayJsonKey) {
+				this.outputArrayJsonKey = outputArrayJsonKey;
+				return this;
+			}
+
+			public Builder<ElementInput, ElementOutput> iteratorItemKey(String iteratorItemKey) {
+				this.iteratorItemKey = iteratorItemKey;
+				return this;
+			}
+
+			public Builder<ElementInput, ElementOutput> iteratorResultKey(String iteratorResultKey) {
+				this.iteratorResultKey = iteratorResultKey;
+				return this;
+			}
+
+			public Builder<ElementInput, ElementOutput> subGraph(CompiledGraph subGraph) {
+				this.subGraph = subGraph;
+				return this;
+			}
+
+			public Builder<ElementInput, ElementOutput> maxConcurrency(int maxConcurrency) {
+				this.maxConcurrency = maxConcurrency;
+				return this;
+			}
+
+		}
+
+	}
+
+	/**
+	 * Result of one element, streamed by {@link Parallel} as soon as the element completes
+	 *
+	 * @param index position of the element in the input array
+	 * @param item the element
+	 * @param result the value of the iterator result key after the subgraph run
+	 * @param <ElementOutput> type of output element
+	 */
+	public record ElementResult<ElementOutput>(int index, Object item, ElementOutput result) {
+	}
+
+	/**
+	 * Convert the input of the iteration node, which can be either a List or a JSON array string, to a List
+	 */
+	private static <ElementInput> List<ElementInput> toList(Object inputs) throws Exception {
+		if (inputs instanceof List) {
+			return List.copyOf((List<ElementInput>) inputs);
+		}
+		return List.copyOf(OBJECT_MAPPER.readValue(inputs.toString(), new TypeReference<List<ElementInput>>() {
+		}));
+	}
+
 	public static <ElementInput> Start.Builder<ElementInput> start() {
 		return new Start.Builder<ElementInput>();
 	}
@@ -320,6 +543,10 @@ public class IterationNode {
 		return new End.Builder<ElementInput, ElementInput>();
 	}
 
+	public static <ElementInput, ElementOutput> Parallel.Builder<ElementInput, ElementOutput> parallel() {
+		return new Parallel.Builder<ElementInput, ElementOutput>();
+	}
+
 	/**
 	 * Wrap iteration node as StateGraph, or add iteration node and conditional edges to existing StateGraph
 	 *
@@ -367,6 +594,11 @@ public class IterationNode {
 
 		private String tempEndFlagKey;
 
+		/**
+		 * Maximum number of elements processed at once, 0 iterates one element at a time
+		 */
+		private int maxConcurrency = 0;
+
 		public Converter<ElementInput, ElementOutput> inputArrayJsonKey(String inputArrayJsonKey) {
 			this.inputArrayJsonKey = inputArrayJsonKey;
 			return this;
@@ -422,6 +654,19 @@ public class IterationNode {
 			return this;
 		}
 
+		/**
+		 * Process up to {@code maxConcurrency} elements at once with {@link Parallel}, each in its own run of
+		 * the subgraph. The temporary keys are not used in this mode.
+		 * @param maxConcurrency the maximum number of elements processed at once
+		 */
+		public Converter<ElementInput, ElementOutput> parallel(int maxConcurrency) {
+			if (maxConcurrency <= 0) {
+				throw new IllegalArgumentException("maxConcurrency must be positive");
+			}
+			this.maxConcurrency = maxConcurrency;
+			return this;
+		}
+
 		/**
 		 * Create a complete iteration graph (IterationNode.Start -> SubStateGraphNode -> IterationNode.End ->
 		 * TempClear (clear temporary variable values during iteration) -> END) as a subgraph that can be nested by other graphs.
@@ -432,6 +677,18 @@ public class IterationNode {
 					|| this.subGraph == null) {
 				throw new IllegalArgumentException("There are some empty fields");
 			}
+			if (this.maxConcurrency > 0) {
+				KeyStrategyFactory strategyFactory = () -> {
+					Map<String, KeyStrategy> map = new HashMap<>();
+					map.put(this.inputArrayJsonKey, new ReplaceStrategy());
+					map.put(this.outputArrayJsonKey, new ReplaceStrategy());
+					return map;
+				};
+				return new StateGraph("iteration_node", strategyFactory)
+					.addNode("iteration_parallel", buildParallel("iteration_parallel"))
+					.addEdge(StateGraph.START, "iteration_parallel")
+					.addEdge("iteration_parallel", StateGraph.END);
+			}
 			if (!StringUtils.hasText(this.tempArrayKey)) {
 				this.tempArrayKey = "input_array";
 			}
@@ -489,12 +746,26 @@ public class IterationNode {
 
 		/**
 		 * Add iteration Start and End nodes directly to existing StateGraph, only provide start and end node names of the subgraph for processing single element
+		 * In parallel mode a single IterationNode.Parallel node running the subgraph is added instead
 		 * @param stateGraph the original stateGraph
 		 * @param iterationName the name of iteration node
 		 * @param iterationOutName the name of iteration node outgoing edge
 		 */
 		public void appendToStateGraph(StateGraph stateGraph, String iterationName, String iterationOutName)
 				throws GraphStateException {
+			if (this.maxConcurrency > 0) {
+				if (!StringUtils.hasText(this.inputArrayJsonKey) || !StringUtils.hasText(this.outputArrayJsonKey)
+						|| !StringUtils.hasText(this.iteratorItemKey) || !StringUtils.hasText(this.iteratorResultKey)
+						|| this.subGraph == null || stateGraph == null || !StringUtils.hasText(iterationName)
+						|| !StringUtils.hasText(iterationOutName)) {
+					throw new IllegalArgumentException("There are some empty fields");
+				}
+				// Elements run in their own subgraph instances, so the subgraph cannot be part of the original graph
+				stateGraph.addNode(iterationName, buildParallel(iterationName))
+					.addNode(iterationOutName, node_async((OverAllState state) -> Map.of()))
+					.addEdge(iterationName, iterationOutName);
+				return;
+			}
 			if (!StringUtils.hasText(this.inputArrayJsonKey) || !StringUtils.hasText(this.outputArrayJsonKey)
 					|| !StringUtils.hasText(this.iteratorItemKey) || !StringUtils.hasText(this.iteratorResultKey)
 					|| !StringUtils.hasText(this.tempArrayKey) || !StringUtils.hasText(this.subGraphStartNodeName)
@@ -535,6 +806,23 @@ public class IterationNode {
 						Map.of("true", iterationName, "false", iterationOutName));
 		}
 
+
+		private Parallel<ElementInput, ElementOutput> buildParallel(String nodeId) throws GraphStateException {
+			// Element runs are independent and never resumed, so they are not checkpointed
+			CompiledGraph compiledSubGraph = this.subGraph.compile(CompileConfig.builder()
+				.saverConfig(SaverConfig.builder().build())
+				.build());
+			return IterationNode.<ElementInput, ElementOutput>parallel()
+				.nodeId(nodeId)
+				.inputArrayJsonKey(this.inputArrayJsonKey)
+				.outputArrayJsonKey(this.outputArrayJsonKey)
+				.iteratorItemKey(this.iteratorItemKey)
+				.iteratorResultKey(this.iteratorResultKey)
+				.subGraph(compiledSubGraph)
+				.maxConcurrency(this.maxConcurrency)
+				.build();
+		}
+
 	}
 
 	public static <ElementInput, ElementOutput> Converter<ElementInput, ElementOutput> converter() {
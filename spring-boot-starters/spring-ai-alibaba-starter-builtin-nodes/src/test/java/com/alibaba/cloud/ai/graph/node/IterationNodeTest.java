@@ -19,14 +19,17 @@ import com.alibaba.cloud.ai.graph.CompiledGraph;
 import com.alibaba.cloud.ai.graph.GraphRepresentation;
 import com.alibaba.cloud.ai.graph.KeyStrategy;
 import com.alibaba.cloud.ai.graph.KeyStrategyFactory;
+import com.alibaba.cloud.ai.graph.NodeOutput;
 import com.alibaba.cloud.ai.graph.OverAllState;
 import com.alibaba.cloud.ai.graph.StateGraph;
 import com.alibaba.cloud.ai.graph.action.NodeAction;
 import com.alibaba.cloud.ai.graph.state.strategy.ReplaceStrategy;
+import com.alibaba.cloud.ai.graph.streaming.StreamingOutput;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -45,6 +48,10 @@ public class IterationNodeTest {
 	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
 	private String runGraph(String input, NodeAction action) throws Exception {
+		return buildGraph(input, action, 0).invoke(Map.of()).orElseThrow().value("result").orElseThrow().toString();
+	}
+
+	private CompiledGraph buildGraph(String input, NodeAction action, int maxConcurrency) throws Exception {
 		// 配置子图：START -> iterator -> END
 		KeyStrategyFactory subFactory = () -> {
 			Map<String, KeyStrategy> map = new HashMap<>();
@@ -69,23 +76,23 @@ public class IterationNodeTest {
 			map.put("iteration_index", new ReplaceStrategy());
 			return map;
 		};
-		CompiledGraph graph = new StateGraph("main", mainFactory)
+		IterationNode.Converter<Object, Object> converter = IterationNode.converter()
+			.inputArrayJsonKey("input_json_array")
+			.tempIndexKey("iteration_index")
+			.outputArrayJsonKey("result")
+			.iteratorItemKey("iterator_item")
+			.iteratorResultKey("iterator_item_result")
+			.subGraph(subGraph);
+		if (maxConcurrency > 0) {
+			converter.parallel(maxConcurrency);
+		}
+		return new StateGraph("main", mainFactory)
 			.addNode("generate_array", node_async((OverAllState state) -> Map.of("input_json_array", input)))
-			.addNode("iteration_node",
-					IterationNode.converter()
-						.inputArrayJsonKey("input_json_array")
-						.tempIndexKey("iteration_index")
-						.outputArrayJsonKey("result")
-						.iteratorItemKey("iterator_item")
-						.iteratorResultKey("iterator_item_result")
-						.subGraph(subGraph)
-						.convertToStateGraph())
+			.addNode("iteration_node", converter.convertToStateGraph())
 			.addEdge(StateGraph.START, "generate_array")
 			.addEdge("generate_array", "iteration_node")
 			.addEdge("iteration_node", StateGraph.END)
 			.compile();
-		OverAllState state = graph.invoke(Map.of()).orElseThrow();
-		return state.value("result").orElseThrow().toString();
 	}
 
 	@Test
@@ -137,6 +144,70 @@ public class IterationNodeTest {
 		Assertions.assertEquals(OBJECT_MAPPER.readValue(res, List.class), List.of());
 	}
 
+	@Test
+	@DisplayName("Test Parallel Iteration keeps input order")
+	public void testParallelOrder() throws Exception {
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		CompiledGraph graph = this.buildGraph("[1, 2, 3, 4, 5, 6]", (OverAllState state) -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			int x = state.value("iterator_item", Integer.class).orElseThrow();
+			// later elements complete first
+			Thread.sleep(20L * (7 - x));
+			running.decrementAndGet();
+			return Map.of("iterator_item_result", x * x);
+		}, 3);
+		String res = graph.invoke(Map.of()).orElseThrow().value("result", String.class).orElseThrow();
+		log.info("result: {}", res);
+		Assertions.assertEquals(List.of(1, 4, 9, 16, 25, 36),
+				OBJECT_MAPPER.readValue(res, new TypeReference<List<Integer>>() {
+				}));
+		Assertions.assertTrue(maxRunning.get() > 1, "elements should run concurrently");
+		Assertions.assertTrue(maxRunning.get() <= 3, "at most 3 elements should run at once");
+	}
+
+	@Test
+	@DisplayName("Test Parallel Iteration streams element results")
+	public void testParallelStreaming() throws Exception {
+		CompiledGraph graph = this.buildGraph("[\"a\", \"aa\", \"aaa\"]", (OverAllState state) -> {
+			int len = state.value("iterator_item", String.class).orElseThrow().length();
+			return Map.of("iterator_item_result", len);
+		}, 2);
+		List<NodeOutput> outputs = graph.stream(Map.of()).collectList().block();
+		List<IterationNode.ElementResult<?>> results = outputs.stream()
+			.filter(output -> output instanceof StreamingOutput<?> streamingOutput
+					&& streamingOutput.getOriginData() instanceof IterationNode.ElementResult<?>)
+			.<IterationNode.ElementResult<?>>map(
+					output -> (IterationNode.ElementResult<?>) ((StreamingOutput<?>) output).getOriginData())
+			.toList();
+		Assertions.assertEquals(3, results.size());
+		results.forEach(result -> Assertions.assertEquals(result.index() + 1, result.result()));
+		String res = outputs.get(outputs.size() - 1).state().value("result", String.class).orElseThrow();
+		Assertions.assertEquals(List.of(1, 2, 3), OBJECT_MAPPER.readValue(res, new TypeReference<List<Integer>>() {
+		}));
+	}
+
+	@Test
+	@DisplayName("Test Parallel Iteration fails on a failing element")
+	public void testParallelFailure() throws Exception {
+		CompiledGraph graph = this.buildGraph("[1, 2, 3]", (OverAllState state) -> {
+			int x = state.value("iterator_item", Integer.class).orElseThrow();
+			if (x == 2) {
+				throw new IllegalArgumentException("bad element");
+			}
+			return Map.of("iterator_item_result", x);
+		}, 2);
+		Assertions.assertThrows(Exception.class, () -> graph.invoke(Map.of()));
+	}
+
+	@Test
+	@DisplayName("Test Parallel Empty Iteration")
+	public void testParallelEmpty() throws Exception {
+		CompiledGraph graph = this.buildGraph("[]", (OverAllState state) -> Map.of(), 2);
+		String res = graph.invoke(Map.of()).orElseThrow().value("result", String.class).orElseThrow();
+		Assertions.assertEquals(List.of(), OBJECT_MAPPER.readValue(res, List.class));
+	}
+
 	@Test
 	@DisplayName("Test two IterationNodes")
 	public void testTwoIterationNodes() throws Exception {